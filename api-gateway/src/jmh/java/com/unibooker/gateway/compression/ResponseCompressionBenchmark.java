@@ -0,0 +1,118 @@
+package com.unibooker.gateway.compression;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import io.netty.channel.ChannelHandler;
+import io.netty.channel.embedded.EmbeddedChannel;
+import io.netty.handler.codec.compression.Brotli;
+import io.netty.handler.codec.compression.BrotliEncoder;
+import io.netty.handler.codec.compression.StandardCompressionOptions;
+import io.netty.handler.codec.compression.ZlibCodecFactory;
+import io.netty.handler.codec.compression.ZlibWrapper;
+import io.netty.handler.codec.compression.ZstdEncoder;
+import org.openjdk.jmh.annotations.*;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * 리소스 목록 응답(List<ResourceDto.Response> JSON) 압축 비용 / 전송 크기 비교
+ * - 게이트웨이 HttpContentCompressor와 같은 Netty 인코더 사용 (gzip 수준별, br quality 4, zstd 3)
+ * - 시간: 응답 1건 압축 CPU 시간, 크기: 시작 시 "[압축 크기]" 줄로 출력 (원문 대비 비율)
+ * - 실행: ./gradlew jmh -Pjmh.includes=ResponseCompressionBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ResponseCompressionBenchmark {
+
+    private static final int ZSTD_BLOCK_SIZE = 64 * 1024;
+    private static final int ZSTD_MAX_ENCODE_SIZE = 32 * 1024 * 1024;
+
+    /** 목록 항목 수 (그룹별 리소스 목록) */
+    @Param({"10", "50", "200"})
+    public int items;
+
+    @Param({"gzip-1", "gzip-6", "gzip-9", "br-4", "zstd-3"})
+    public String encoding;
+
+    private byte[] json;
+    private Supplier<ChannelHandler> encoder;
+
+    @Setup
+    public void setUp() {
+        json = resourceListJson(items).getBytes(StandardCharsets.UTF_8);
+        encoder = encoder(encoding);
+        int compressed = compress();
+        System.out.printf("%n[압축 크기] items=%d %s: %d → %d bytes (%.1f%%)%n",
+                items, encoding, json.length, compressed, 100.0 * compressed / json.length);
+    }
+
+    @Benchmark
+    public int compress() {
+        EmbeddedChannel channel = new EmbeddedChannel(encoder.get());
+        channel.writeOutbound(Unpooled.wrappedBuffer(json));
+        channel.finish();
+        int bytes = 0;
+        ByteBuf out;
+        while ((out = channel.readOutbound()) != null) {
+            bytes += out.readableBytes();
+            out.release();
+        }
+        return bytes;
+    }
+
+    private static Supplier<ChannelHandler> encoder(String encoding) {
+        String[] parts = encoding.split("-");
+        int level = Integer.parseInt(parts[1]);
+        return switch (parts[0]) {
+            case "gzip" -> () -> ZlibCodecFactory.newZlibEncoder(ZlibWrapper.GZIP, level, 15, 8);
+            case "br" -> {
+                if (!Brotli.isAvailable()) {
+                    throw new IllegalStateException("brotli4j 네이티브 라이브러리 없음", Brotli.cause());
+                }
+                yield () -> new BrotliEncoder(StandardCompressionOptions.brotli().parameters());
+            }
+            case "zstd" -> () -> new ZstdEncoder(level, ZSTD_BLOCK_SIZE, ZSTD_MAX_ENCODE_SIZE);
+            default -> throw new IllegalArgumentException(encoding);
+        };
+    }
+
+    /**
+     * Jackson 기본 직렬화 형태의 ResourceDto.Response 목록
+     */
+    private static String resourceListJson(int items) {
+        Random random = new Random(42);
+        String[] statuses = {"PROGRESS_BEFORE", "IN_PROGRESS", "PROGRESS_AFTER"};
+        LocalDateTime created = LocalDateTime.of(2026, 3, 2, 9, 30, 15);
+        StringBuilder out = new StringBuilder("[");
+        for (int i = 0; i < items; i++) {
+            if (i > 0) {
+                out.append(',');
+            }
+            long id = 1000 + i;
+            LocalDate start = LocalDate.of(2026, 4, 1).plusDays(random.nextInt(30));
+            out.append("{\"id\":").append(id)
+                    .append(",\"name\":\"").append(i % 2 == 0 ? "세미나실 " : "스터디룸 ").append((char) ('A' + i % 26)).append('-').append(random.nextInt(500)).append('"')
+                    .append(",\"description\":\"최대 ").append(4 + random.nextInt(20)).append("인 수용, 빔프로젝터·화이트보드 구비. 예약 후 10분 이내 미입실 시 자동 취소됩니다.\"")
+                    .append(",\"resourceImage\":\"https://cdn.unibooker.com/resources/").append(Long.toHexString(random.nextLong())).append(".jpg\"")
+                    .append(",\"isActive\":").append(random.nextInt(10) > 0)
+                    .append(",\"startDate\":\"").append(start).append('"')
+                    .append(",\"endDate\":\"").append(start.plusMonths(3)).append('"')
+                    .append(",\"timeInterval\":").append(new int[]{30, 60, 90}[random.nextInt(3)])
+                    .append(",\"capacity\":").append(1 + random.nextInt(40))
+                    .append(",\"row\":").append(random.nextInt(3) == 0 ? "null" : String.valueOf(5 + random.nextInt(10)))
+                    .append(",\"col\":").append(random.nextInt(3) == 0 ? "null" : String.valueOf(5 + random.nextInt(20)))
+                    .append(",\"status\":\"").append(statuses[random.nextInt(statuses.length)]).append('"')
+                    .append(",\"resourceGroupId\":").append(17)
+                    .append(",\"createdAt\":\"").append(created.plusMinutes(random.nextInt(100_000))).append('"')
+                    .append(",\"updatedAt\":\"").append(created.plusMinutes(100_000 + random.nextInt(100_000))).append('"')
+                    .append('}');
+        }
+        return out.append(']').toString();
+    }
+}
@@ -0,0 +1,88 @@
+package com.unibooker.gateway.cookie;
+
+import com.unibooker.common.enums.UserRole;
+import com.unibooker.common.util.CookieUtil;
+import io.netty.handler.codec.http.cookie.Cookie;
+import io.netty.handler.codec.http.cookie.ServerCookieDecoder;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.http.HttpCookie;
+import org.springframework.util.LinkedMultiValueMap;
+import org.springframework.util.MultiValueMap;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 쿠키 토큰 추출 비용 (쿠키가 많은 요청)
+ * - decoder: 기존 방식 (ReactorServerHttpRequest.initCookies와 같은 전체 디코딩 + MultiValueMap, 권한마다 쿠키 이름 계산)
+ * - scanner: AccessTokenCookieScanner 단일 패스
+ * - position: 토큰 쿠키가 헤더 앞/뒤 어디에 있는지
+ * - hint: 경로 권한 힌트 유무 (없으면 모든 권한 쿠키 확인)
+ * - 실행: ./gradlew jmh -Pjmh.includes=AccessTokenCookieBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class AccessTokenCookieBenchmark {
+
+    private static final String TOKEN = "eyJhbGciOiJIUzI1NiJ9.eyJzdWIiOiIxIiwicm9sZSI6IlVTRVIiLCJjb21wYW55SWQiOjd9."
+            + "c2lnbmF0dXJlLXNpZ25hdHVyZS1zaWduYXR1cmUtc2lnbmF0dXJl";
+
+    @Param({"1", "20", "40"})
+    public int cookies;
+
+    @Param({"first", "last"})
+    public String position;
+
+    @Param({"true", "false"})
+    public boolean hint;
+
+    private List<String> headers;
+    private UserRole role;
+
+    @Setup
+    public void setUp() {
+        StringBuilder builder = new StringBuilder();
+        String token = CookieUtil.getAccessTokenCookieName(UserRole.USER) + "=" + TOKEN;
+        if (position.equals("first")) {
+            builder.append(token);
+        }
+        for (int i = 1; i < cookies; i++) {
+            if (!builder.isEmpty()) {
+                builder.append("; ");
+            }
+            builder.append("_ga_").append(i).append("=GA1.1.").append(1_000_000 + i).append('.').append(1_700_000_000 + i);
+        }
+        if (position.equals("last")) {
+            builder.append(builder.isEmpty() ? "" : "; ").append(token);
+        }
+        headers = List.of(builder.toString());
+        role = hint ? UserRole.USER : null;
+    }
+
+    @Benchmark
+    public String decoder() {
+        MultiValueMap<String, HttpCookie> map = new LinkedMultiValueMap<>();
+        for (String header : headers) {
+            for (Cookie cookie : ServerCookieDecoder.LAX.decodeAll(header)) {
+                map.add(cookie.name(), new HttpCookie(cookie.name(), cookie.value()));
+            }
+        }
+        if (role != null) {
+            HttpCookie cookie = map.getFirst(CookieUtil.getAccessTokenCookieName(role));
+            return cookie != null ? cookie.getValue() : null;
+        }
+        for (UserRole candidate : UserRole.values()) {
+            HttpCookie cookie = map.getFirst(CookieUtil.getAccessTokenCookieName(candidate));
+            if (cookie != null) {
+                return cookie.getValue();
+            }
+        }
+        return null;
+    }
+
+    @Benchmark
+    public String scanner() {
+        return AccessTokenCookieScanner.find(headers, role);
+    }
+}
@@ -0,0 +1,49 @@
+package com.unibooker.gateway.error;
+
+import io.netty.buffer.PooledByteBufAllocator;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferFactory;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.core.io.buffer.NettyDataBufferFactory;
+import org.springframework.http.HttpStatus;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 401 응답 본문 생성 비용 비교 (Netty 버퍼 팩토리 기준)
+ * - legacy: 변경 전 onError (String.format + getBytes + wrap)
+ * - precomputed: GatewayError의 미리 인코딩된 읽기 전용 버퍼 wrap
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class GatewayErrorBenchmark {
+
+    private DataBufferFactory bufferFactory;
+
+    @Setup
+    public void setUp() {
+        bufferFactory = new NettyDataBufferFactory(PooledByteBufAllocator.DEFAULT);
+    }
+
+    @Benchmark
+    public void legacy(Blackhole bh) {
+        String errorResponse = String.format(
+                "{\"success\":false,\"code\":\"%s\",\"message\":\"%s\"}",
+                HttpStatus.UNAUTHORIZED.value(),
+                "유효하지 않은 토큰입니다."
+        );
+        DataBuffer buffer = bufferFactory.wrap(errorResponse.getBytes());
+        bh.consume(buffer.readableByteCount());
+        DataBufferUtils.release(buffer);
+    }
+
+    @Benchmark
+    public void precomputed(Blackhole bh) {
+        DataBuffer buffer = bufferFactory.wrap(GatewayError.TOKEN_INVALID.body());
+        bh.consume(buffer.readableByteCount());
+        DataBufferUtils.release(buffer);
+    }
+}
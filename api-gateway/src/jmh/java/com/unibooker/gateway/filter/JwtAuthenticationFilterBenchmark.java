@@ -0,0 +1,111 @@
+package com.unibooker.gateway.filter;
+
+import com.unibooker.common.enums.UserRole;
+import com.unibooker.common.util.CookieUtil;
+import com.unibooker.common.util.JwtUtil;
+import com.unibooker.gateway.cache.VerifiedTokenCache;
+import com.unibooker.gateway.config.GatewayConfig;
+import com.unibooker.gateway.metrics.GatewayMetrics;
+import com.unibooker.gateway.revocation.TokenRevocationRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+import org.springframework.cloud.gateway.filter.GatewayFilter;
+import org.springframework.cloud.gateway.filter.GatewayFilterChain;
+import org.springframework.http.HttpCookie;
+import org.springframework.http.codec.ServerCodecConfigurer;
+import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
+import org.springframework.mock.http.server.reactive.MockServerHttpResponse;
+import org.springframework.web.server.ServerWebExchange;
+import org.springframework.web.server.adapter.DefaultServerWebExchange;
+import org.springframework.web.server.i18n.AcceptHeaderLocaleContextResolver;
+import org.springframework.web.server.session.DefaultWebSessionManager;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JwtAuthenticationFilter 요청 1건 처리 비용
+ * - header: Authorization Bearer 토큰 (관리자 API)
+ * - cookie: 경로 권한 힌트로 찾는 쿠키 토큰 (사용자 API)
+ * - excluded: 공개 경로 (토큰 검사 없이 통과)
+ * - invalid: 서명이 맞지 않는 토큰 (401 본문 작성까지)
+ * - tokenCache: VerifiedTokenCache 사용 여부 (false면 매 요청 서명 검증 + 파싱)
+ * - baseline: 요청/exchange 생성만 (다른 항목에서 빼고 볼 기준값)
+ * - 실행: ./gradlew jmh -Pjmh.includes=JwtAuthenticationFilterBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class JwtAuthenticationFilterBenchmark {
+
+    private static final String SECRET = "benchmark-secret-benchmark-secret-benchmark";
+    private static final long VALIDITY = 3_600_000L;
+    private static final GatewayFilterChain CHAIN = exchange -> Mono.empty();
+
+    /** exchange 생성 비용을 줄이기 위해 코덱/세션/로케일 처리기는 공유 (MockServerWebExchange는 요청마다 코덱 생성) */
+    private static final ServerCodecConfigurer CODECS = ServerCodecConfigurer.create();
+    private static final DefaultWebSessionManager SESSIONS = new DefaultWebSessionManager();
+    private static final AcceptHeaderLocaleContextResolver LOCALE = new AcceptHeaderLocaleContextResolver();
+
+    @Param({"header", "cookie", "excluded", "invalid"})
+    public String scenario;
+
+    @Param({"true", "false"})
+    public boolean tokenCache;
+
+    private GatewayFilter filter;
+    private String adminToken;
+    private String userToken;
+    private String invalidToken;
+
+    @Setup
+    public void setUp() {
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        JwtUtil jwtUtil = new JwtUtil(SECRET, VALIDITY, VALIDITY);
+        JwtUtil otherKey = new JwtUtil(SECRET.replace('b', 'c'), VALIDITY, VALIDITY);
+
+        filter = new JwtAuthenticationFilter(
+                new VerifiedTokenCache(jwtUtil, meterRegistry, tokenCache, 100_000, Duration.ofMinutes(10)),
+                GatewayConfig.pathAccessMatcher(),
+                new TokenRevocationRegistry(true, 100_000, 0.001, VALIDITY, meterRegistry),
+                new GatewayMetrics(meterRegistry)
+        ).apply(new JwtAuthenticationFilter.Config());
+
+        adminToken = jwtUtil.createAccessToken(1L, "admin@unibooker.com", "ADMIN", 7L);
+        userToken = jwtUtil.createAccessToken(2L, "user@unibooker.com", "USER", 7L);
+        invalidToken = otherKey.createAccessToken(1L, "admin@unibooker.com", "ADMIN", 7L);
+    }
+
+    @Benchmark
+    public void filter(Blackhole bh) {
+        ServerWebExchange exchange = exchange();
+        filter.filter(exchange, CHAIN).block();
+        bh.consume(exchange.getResponse().getStatusCode());
+    }
+
+    @Benchmark
+    public ServerWebExchange baseline() {
+        return exchange();
+    }
+
+    private ServerWebExchange exchange() {
+        MockServerHttpRequest request = switch (scenario) {
+            case "header" -> MockServerHttpRequest.get("/api/admins/me")
+                    .header("Authorization", "Bearer " + adminToken)
+                    .build();
+            case "cookie" -> MockServerHttpRequest.get("/api/users/me")
+                    .cookie(new HttpCookie(CookieUtil.getAccessTokenCookieName(UserRole.USER), userToken))
+                    .build();
+            case "excluded" -> MockServerHttpRequest.get("/api/users/check-email")
+                    .queryParam("email", "user@unibooker.com")
+                    .build();
+            case "invalid" -> MockServerHttpRequest.get("/api/admins/me")
+                    .header("Authorization", "Bearer " + invalidToken)
+                    .build();
+            default -> throw new IllegalArgumentException(scenario);
+        };
+        return new DefaultServerWebExchange(request, new MockServerHttpResponse(), SESSIONS, CODECS, LOCALE);
+    }
+}
@@ -0,0 +1,332 @@
+package com.unibooker.gateway.load;
+
+import com.unibooker.common.enums.UserRole;
+import com.unibooker.common.util.CookieUtil;
+import com.unibooker.common.util.JwtUtil;
+import com.unibooker.gateway.ApiGatewayApplication;
+import io.netty.handler.codec.http.HttpMethod;
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.Recorder;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.netty.ByteBufFlux;
+import reactor.netty.DisposableServer;
+import reactor.netty.http.HttpProtocol;
+import reactor.netty.http.client.HttpClient;
+import reactor.netty.http.server.HttpServer;
+import reactor.netty.resources.ConnectionProvider;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 로컬 부하 시나리오 (배포 전 회귀 확인용)
+ * - 스텁 업스트림(main-service / resource-service, 서비스별 instances개)을 고정 지연으로 띄우고
+ *   실제 게이트웨이(application.yml 그대로, Eureka/Kafka 대신 고정 인스턴스 목록)를 기동
+ * - 동시 사용자 concurrency명이 요청 구성(MIX)을 쉬지 않고 반복 (closed-loop), 요청 순서는 seed로 고정
+ * - warmup 후 duration 동안 처리량 / 지연 백분위 / 상태 코드 분포 출력
+ * - max-p99, min-throughput을 지정하면 기준 미달 시 종료 코드 1
+ * - 같은 장비에서 같은 설정으로 실행한 결과끼리 비교 (절대값은 장비에 따라 다름)
+ * - 실행: ./gradlew loadTest -Pload.duration=PT30S -Pload.concurrency=64 -Pload.max-p99=PT0.05S
+ */
+public final class GatewayLoadScenario {
+
+    private static final String SECRET = "load-scenario-secret-load-scenario-secret";
+    private static final long TOKEN_VALIDITY = Duration.ofHours(1).toMillis();
+
+    /** 요청 구성 {가중치, 이름} (이름별 요청 생성은 Driver.request) */
+    private static final Object[][] MIX = {
+            {30, "resource-list"},      // 응답 캐시 + 합치기 + 헤지 경로
+            {20, "resource-detail"},    // 헤지 경로
+            {15, "user-me-cookie"},     // 쿠키 토큰
+            {10, "company-slug"},       // 응답 캐시
+            {10, "notifications"},
+            {10, "resource-create"},    // POST 본문 전달
+            {5, "invalid-token"},       // 401
+    };
+
+    private GatewayLoadScenario() {
+    }
+
+    public static void main(String[] args) {
+        Settings settings = Settings.fromSystemProperties();
+        System.out.println("[부하 시나리오] " + settings);
+
+        List<DisposableServer> upstreams = new ArrayList<>();
+        ConfigurableApplicationContext gateway = null;
+        boolean passed;
+        try {
+            Map<String, Object> properties = new LinkedHashMap<>();
+            for (String service : List.of("main-service", "resource-service")) {
+                for (int i = 0; i < settings.instances(); i++) {
+                    DisposableServer server = StubUpstream.start(settings.upstreamLatency());
+                    upstreams.add(server);
+                    properties.put("spring.cloud.discovery.client.simple.instances." + service + "[" + i + "].uri",
+                            "http://localhost:" + server.port());
+                }
+            }
+            gateway = startGateway(properties);
+            int port = ((WebServerApplicationContext) gateway).getWebServer().getPort();
+
+            Driver driver = new Driver(port, settings);
+            driver.run(settings.warmup());
+            Result result = driver.run(settings.duration());
+            driver.close();
+
+            result.print();
+            passed = result.check(settings);
+        } finally {
+            if (gateway != null) {
+                gateway.close();
+            }
+            upstreams.forEach(DisposableServer::disposeNow);
+        }
+        System.exit(passed ? 0 : 1);
+    }
+
+    private static ConfigurableApplicationContext startGateway(Map<String, Object> properties) {
+        properties.put("server.port", 0);
+        properties.put("jwt.secret", SECRET);
+        properties.put("eureka.client.enabled", false);
+        properties.put("gateway.revocation.feed", "local");
+        properties.put("gateway.response-cache.invalidation-source", "local");
+        properties.put("gateway.access-log.file", "build/load/access.log");
+        properties.put("logging.level.root", "WARN");
+        // 기본 속성(properties)은 application.yml보다 우선순위가 낮으므로 명령행 인자로 전달
+        String[] args = properties.entrySet().stream()
+                .map(entry -> "--" + entry.getKey() + "=" + entry.getValue())
+                .toArray(String[]::new);
+        return new SpringApplicationBuilder(ApiGatewayApplication.class).run(args);
+    }
+
+    /**
+     * 실행 설정 (시스템 속성 load.*)
+     */
+    record Settings(Duration warmup, Duration duration, int concurrency, int users, int companies, int instances,
+                    Duration upstreamLatency, long seed, Duration maxP99, double minThroughput) {
+
+        static Settings fromSystemProperties() {
+            String maxP99 = System.getProperty("load.max-p99");
+            return new Settings(
+                    Duration.parse(System.getProperty("load.warmup", "PT10S")),
+                    Duration.parse(System.getProperty("load.duration", "PT30S")),
+                    Integer.getInteger("load.concurrency", 64),
+                    Integer.getInteger("load.users", 2_000),
+                    Integer.getInteger("load.companies", 50),
+                    Integer.getInteger("load.instances", 2),
+                    Duration.parse(System.getProperty("load.upstream-latency", "PT0.005S")),
+                    Long.getLong("load.seed", 42L),
+                    maxP99 != null ? Duration.parse(maxP99) : null,
+                    Double.parseDouble(System.getProperty("load.min-throughput", "0")));
+        }
+    }
+
+    /**
+     * 스텁 업스트림 (경로와 무관하게 고정 지연 후 JSON 응답, 게이트웨이 → 서비스 구간과 같이 h2c 지원)
+     */
+    private static final class StubUpstream {
+
+        private static final String LIST_BODY = listBody(20);
+        private static final String ITEM_BODY = "{\"success\":true,\"code\":\"200\",\"message\":\"요청에 성공하였습니다.\","
+                + "\"result\":{\"id\":42,\"name\":\"세미나실 A-101\",\"capacity\":12,\"status\":\"IN_PROGRESS\"}}";
+
+        static DisposableServer start(Duration latency) {
+            return HttpServer.create()
+                    .port(0)
+                    .protocol(HttpProtocol.HTTP11, HttpProtocol.H2C)
+                    .handle((request, response) -> request.receive().then()
+                            .then(Mono.delay(latency))
+                            .then(response.header("Content-Type", "application/json")
+                                    .sendString(Mono.just(request.uri().contains("/group/") ? LIST_BODY : ITEM_BODY))
+                                    .then()))
+                    .bindNow();
+        }
+
+        private static String listBody(int items) {
+            StringBuilder out = new StringBuilder("[");
+            for (int i = 0; i < items; i++) {
+                out.append(i > 0 ? "," : "")
+                        .append("{\"id\":").append(1000 + i)
+                        .append(",\"name\":\"스터디룸 ").append(i).append('"')
+                        .append(",\"description\":\"최대 8인 수용, 화이트보드 구비\"")
+                        .append(",\"isActive\":true,\"timeInterval\":60,\"capacity\":8")
+                        .append(",\"status\":\"IN_PROGRESS\",\"resourceGroupId\":17}");
+            }
+            return out.append(']').toString();
+        }
+    }
+
+    /**
+     * 부하 발생기 (동시 사용자마다 요청 → 응답 → 다음 요청 반복)
+     */
+    private static final class Driver {
+
+        private static final String CREATE_BODY = "{\"name\":\"회의실 B-204\",\"description\":\"프로젝터 구비\","
+                + "\"capacity\":10,\"timeInterval\":30,\"resourceGroupId\":17,\"isActive\":true}";
+
+        private final HttpClient client;
+        private final ConnectionProvider connections;
+        private final Settings settings;
+        private final String[] adminTokens;
+        private final String[] userTokens;
+        private final String invalidToken;
+        private final String[] mixNames;
+        private int runs;
+
+        Driver(int port, Settings settings) {
+            this.settings = settings;
+            this.connections = ConnectionProvider.builder("load-driver")
+                    .maxConnections(settings.concurrency())
+                    .build();
+            this.client = HttpClient.create(connections).baseUrl("http://localhost:" + port);
+
+            JwtUtil jwtUtil = new JwtUtil(SECRET, TOKEN_VALIDITY, TOKEN_VALIDITY);
+            this.adminTokens = new String[settings.users()];
+            this.userTokens = new String[settings.users()];
+            for (int i = 0; i < settings.users(); i++) {
+                long companyId = 1 + i % settings.companies();
+                adminTokens[i] = jwtUtil.createAccessToken(10_000L + i, "admin" + i + "@load.test", "ADMIN", companyId);
+                userTokens[i] = jwtUtil.createAccessToken(20_000L + i, "user" + i + "@load.test", "USER", companyId);
+            }
+            this.invalidToken = new JwtUtil(SECRET.replace('l', 'x'), TOKEN_VALIDITY, TOKEN_VALIDITY)
+                    .createAccessToken(1L, "admin@load.test", "ADMIN", 1L);
+
+            List<String> names = new ArrayList<>();
+            for (Object[] entry : MIX) {
+                for (int i = 0; i < (int) entry[0]; i++) {
+                    names.add((String) entry[1]);
+                }
+            }
+            this.mixNames = names.toArray(new String[0]);
+        }
+
+        Result run(Duration duration) {
+            Recorder recorder = new Recorder(3);
+            Map<Integer, LongAdder> statuses = new ConcurrentHashMap<>();
+            LongAdder errors = new LongAdder();
+            long seed = settings.seed() + 1_000L * runs++;
+            long start = System.nanoTime();
+            long end = start + duration.toNanos();
+
+            Flux.range(0, settings.concurrency())
+                    .flatMap(worker -> {
+                        Random random = new Random(seed + worker);
+                        return Mono.defer(() -> send(random, recorder, statuses, errors))
+                                .repeat(() -> System.nanoTime() < end);
+                    }, settings.concurrency())
+                    .blockLast();
+
+            return new Result(recorder.getIntervalHistogram(), statuses, errors.sum(), System.nanoTime() - start);
+        }
+
+        void close() {
+            connections.disposeLater().block();
+        }
+
+        private Mono<Void> send(Random random, Recorder recorder, Map<Integer, LongAdder> statuses, LongAdder errors) {
+            int user = random.nextInt(adminTokens.length);
+            long companyId = 1 + user % settings.companies();
+            String name = mixNames[random.nextInt(mixNames.length)];
+            long started = System.nanoTime();
+            return request(name, random, user, companyId)
+                    .doOnNext(status -> {
+                        recorder.recordValue((System.nanoTime() - started) / 1_000);
+                        statuses.computeIfAbsent(status, s -> new LongAdder()).increment();
+                    })
+                    .onErrorResume(e -> {
+                        errors.increment();
+                        return Mono.empty();
+                    })
+                    .then();
+        }
+
+        private Mono<Integer> request(String name, Random random, int user, long companyId) {
+            String admin = "Bearer " + adminTokens[user];
+            return switch (name) {
+                case "resource-list" -> get(admin, null, "/api/resources/group/" + (companyId * 10 + random.nextInt(5)));
+                case "resource-detail" -> get(admin, null, "/api/resources/" + random.nextInt(5_000));
+                case "user-me-cookie" -> get(null, userTokens[user], "/api/users/me");
+                case "company-slug" -> get(admin, null, "/api/companies/slug/company-" + companyId);
+                case "notifications" -> get(admin, null, "/api/notifications?page=" + random.nextInt(3));
+                case "resource-create" -> client
+                        .headers(h -> h.set("Authorization", admin).set("Content-Type", "application/json"))
+                        .post()
+                        .uri("/api/resources")
+                        .send(ByteBufFlux.fromString(Mono.just(CREATE_BODY)))
+                        .responseSingle((response, body) -> body.asByteArray().thenReturn(response.status().code())
+                                .defaultIfEmpty(response.status().code()));
+                case "invalid-token" -> get("Bearer " + invalidToken, null, "/api/admins/me");
+                default -> throw new IllegalArgumentException(name);
+            };
+        }
+
+        private Mono<Integer> get(String authorization, String userCookie, String uri) {
+            return client
+                    .headers(h -> {
+                        if (authorization != null) {
+                            h.set("Authorization", authorization);
+                        }
+                        if (userCookie != null) {
+                            h.set("Cookie", CookieUtil.getAccessTokenCookieName(UserRole.USER) + "=" + userCookie);
+                        }
+                        h.set("Accept-Encoding", "gzip");
+                    })
+                    .request(HttpMethod.GET)
+                    .uri(uri)
+                    .responseSingle((response, body) -> body.asByteArray().thenReturn(response.status().code())
+                            .defaultIfEmpty(response.status().code()));
+        }
+    }
+
+    /**
+     * 측정 결과
+     */
+    private record Result(Histogram latencyMicros, Map<Integer, LongAdder> statuses, long errors, long elapsedNanos) {
+
+        double throughput() {
+            return latencyMicros.getTotalCount() / (elapsedNanos / 1e9);
+        }
+
+        void print() {
+            System.out.printf("%n[부하 결과] 요청 %d건, %.0f req/s, 연결 오류 %d건%n",
+                    latencyMicros.getTotalCount(), throughput(), errors);
+            System.out.printf("[지연] p50 %.2fms, p90 %.2fms, p99 %.2fms, p99.9 %.2fms, max %.2fms%n",
+                    percentile(50), percentile(90), percentile(99), percentile(99.9),
+                    latencyMicros.getMaxValue() / 1000.0);
+            Map<Integer, Long> sorted = new TreeMap<>();
+            statuses.forEach((status, count) -> sorted.put(status, count.sum()));
+            System.out.println("[상태 코드] " + sorted);
+        }
+
+        boolean check(Settings settings) {
+            boolean passed = true;
+            if (settings.maxP99() != null && percentile(99) > settings.maxP99().toNanos() / 1e6) {
+                System.out.printf("[기준 미달] p99 %.2fms > %s%n", percentile(99), settings.maxP99());
+                passed = false;
+            }
+            if (throughput() < settings.minThroughput()) {
+                System.out.printf("[기준 미달] %.0f req/s < %.0f req/s%n", throughput(), settings.minThroughput());
+                passed = false;
+            }
+            if (errors > 0) {
+                System.out.printf("[기준 미달] 연결 오류 %d건%n", errors);
+                passed = false;
+            }
+            return passed;
+        }
+
+        private double percentile(double percentile) {
+            return latencyMicros.getValueAtPercentile(percentile) / 1000.0;
+        }
+    }
+}
@@ -0,0 +1,94 @@
+package com.unibooker.gateway.route;
+
+import com.unibooker.common.enums.UserRole;
+import com.unibooker.gateway.config.GatewayConfig;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 경로 판정 비용 비교 (요청 경로 수백 개 순회)
+ * - legacy: 변경 전 EXCLUDED_PATHS stream + startsWith, inferRoleFromPath 분기
+ * - trie: PathAccessMatcher 1회 조회
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class PathAccessMatcherBenchmark {
+
+    private static final int PATH_COUNT = 300;
+
+    private static final List<String> LEGACY_EXCLUDED_PATHS = Arrays.asList(
+            "/api/admin/signup",
+            "/api/admin/login",
+            "/api/users/signup",
+            "/api/users/login",
+            "/api/users/check-email",
+            "/api/users/accounts",
+            "/api/users/reset-password",
+            "/api/users/find-email",
+            "/api/super/login",
+            "/actuator"
+    );
+
+    private static final String[] SEGMENTS = {
+            "/api/users", "/api/admins", "/api/managers", "/api/super", "/api/companies",
+            "/api/notifications", "/api/resources", "/api/resource-groups", "/api/resource-time-slots"
+    };
+
+    private static final String[] SUFFIXES = {
+            "", "/me", "/login", "/signup", "/check-email", "/group/12", "/company/3",
+            "/42", "/42/slots", "/slug/acme", "/read-all", "/password"
+    };
+
+    private PathAccessMatcher matcher;
+    private String[] paths;
+
+    @Setup
+    public void setUp() {
+        matcher = GatewayConfig.pathAccessMatcher();
+
+        List<String> generated = new ArrayList<>(GatewayConfig.PUBLIC_PATHS);
+        Random random = new Random(42);
+        while (generated.size() < PATH_COUNT) {
+            generated.add(SEGMENTS[random.nextInt(SEGMENTS.length)]
+                    + SUFFIXES[random.nextInt(SUFFIXES.length)]);
+        }
+        Collections.shuffle(generated, random);
+        paths = generated.toArray(new String[0]);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(PATH_COUNT)
+    public void legacy(Blackhole bh) {
+        for (String path : paths) {
+            boolean excluded = LEGACY_EXCLUDED_PATHS.stream().anyMatch(path::startsWith);
+            bh.consume(excluded ? null : legacyInferRole(path));
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(PATH_COUNT)
+    public void trie(Blackhole bh) {
+        for (String path : paths) {
+            bh.consume(matcher.match(path));
+        }
+    }
+
+    private static UserRole legacyInferRole(String path) {
+        if (path.startsWith("/api/users")) {
+            return UserRole.USER;
+        } else if (path.startsWith("/api/admins") || path.startsWith("/api/managers")) {
+            return UserRole.ADMIN;
+        } else if (path.startsWith("/api/super")) {
+            return UserRole.SUPER;
+        }
+        return null;
+    }
+}
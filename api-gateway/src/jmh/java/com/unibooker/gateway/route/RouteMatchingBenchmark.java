@@ -0,0 +1,106 @@
+package com.unibooker.gateway.route;
+
+import org.openjdk.jmh.annotations.*;
+import org.springframework.boot.autoconfigure.web.reactive.WebFluxProperties;
+import org.springframework.cloud.gateway.config.GlobalCorsProperties;
+import org.springframework.cloud.gateway.handler.FilteringWebHandler;
+import org.springframework.cloud.gateway.handler.RoutePredicateHandlerMapping;
+import org.springframework.cloud.gateway.handler.predicate.PathRoutePredicateFactory;
+import org.springframework.cloud.gateway.route.CachingRouteLocator;
+import org.springframework.cloud.gateway.route.Route;
+import org.springframework.core.env.StandardEnvironment;
+import org.springframework.http.codec.ServerCodecConfigurer;
+import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
+import org.springframework.mock.http.server.reactive.MockServerHttpResponse;
+import org.springframework.web.server.ServerWebExchange;
+import org.springframework.web.server.adapter.DefaultServerWebExchange;
+import org.springframework.web.server.i18n.AcceptHeaderLocaleContextResolver;
+import org.springframework.web.server.session.DefaultWebSessionManager;
+import reactor.core.publisher.Flux;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 라우트 매칭 비용 (Spring Cloud Gateway RoutePredicateHandlerMapping.getHandler)
+ * - 라우트는 순서대로 Path 조건을 평가하므로 뒤쪽 라우트/미매칭 경로일수록 비용 증가
+ * - 라우트 표는 GatewayConfig.customRouteLocator와 같은 순서/경로 (필터 제외, 라우트 추가 시 함께 갱신)
+ * - baseline: 요청/exchange 생성만
+ * - 실행: ./gradlew jmh -Pjmh.includes=RouteMatchingBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class RouteMatchingBenchmark {
+
+    /** exchange 생성 비용을 줄이기 위해 코덱/세션/로케일 처리기는 공유 (MockServerWebExchange는 요청마다 코덱 생성) */
+    private static final ServerCodecConfigurer CODECS = ServerCodecConfigurer.create();
+    private static final DefaultWebSessionManager SESSIONS = new DefaultWebSessionManager();
+    private static final AcceptHeaderLocaleContextResolver LOCALE = new AcceptHeaderLocaleContextResolver();
+
+    /** {라우트 ID, 업스트림, 경로 패턴...} */
+    private static final String[][] ROUTES = {
+            {"auth-refresh", "main-service", "/api/auth/refresh"},
+            {"auth-logout", "main-service", "/api/auth/logout"},
+            {"admin-signup", "main-service", "/api/admins/signup"},
+            {"admin-status", "main-service", "/api/admins/status"},
+            {"admin-check-email", "main-service", "/api/admins/check-email"},
+            {"admin-login", "main-service", "/api/admins/login"},
+            {"admin-protected", "main-service", "/api/admins/**"},
+            {"super-login", "main-service", "/api/super/login"},
+            {"super-protected", "main-service", "/api/super/**"},
+            {"user-signup", "main-service", "/api/users/signup"},
+            {"user-login", "main-service", "/api/users/login"},
+            {"user-public", "main-service", "/api/users/check-email", "/api/users/accounts",
+                    "/api/users/reset-password", "/api/users/find-email"},
+            {"user-protected", "main-service", "/api/users/**"},
+            {"company-api", "main-service", "/api/companies/**"},
+            {"notification-api", "main-service", "/api/notifications/**"},
+            {"resource-api", "resource-service", "/api/resources/**", "/api/resource-groups/**",
+                    "/api/resource-time-slots/**"},
+            {"actuator", "main-service", "/actuator/health/**"},
+    };
+
+    /** 첫 라우트 / 앞쪽 보호 API / 중간 / 뒤쪽 / 마지막 / 미매칭(404) */
+    @Param({"/api/auth/refresh", "/api/admins/me", "/api/users/me", "/api/resource-time-slots/42",
+            "/actuator/health", "/api/unknown/1"})
+    public String path;
+
+    private RoutePredicateHandlerMapping mapping;
+
+    @Setup
+    public void setUp() {
+        PathRoutePredicateFactory pathFactory = new PathRoutePredicateFactory(new WebFluxProperties());
+        List<Route> routes = new ArrayList<>();
+        for (int i = 0; i < ROUTES.length; i++) {
+            String[] route = ROUTES[i];
+            PathRoutePredicateFactory.Config config = new PathRoutePredicateFactory.Config()
+                    .setPatterns(List.of(route).subList(2, route.length));
+            routes.add(Route.async()
+                    .id(route[0])
+                    .order(i)
+                    .uri("lb://" + route[1])
+                    .predicate(pathFactory.apply(config))
+                    .build());
+        }
+        mapping = new RoutePredicateHandlerMapping(new FilteringWebHandler(List.of(), false),
+                new CachingRouteLocator(() -> Flux.fromIterable(routes)),
+                new GlobalCorsProperties(), new StandardEnvironment());
+    }
+
+    @Benchmark
+    public Object match() {
+        return mapping.getHandler(exchange()).block();
+    }
+
+    @Benchmark
+    public ServerWebExchange baseline() {
+        return exchange();
+    }
+
+    private ServerWebExchange exchange() {
+        return new DefaultServerWebExchange(MockServerHttpRequest.get(path).build(), new MockServerHttpResponse(),
+                SESSIONS, CODECS, LOCALE);
+    }
+}
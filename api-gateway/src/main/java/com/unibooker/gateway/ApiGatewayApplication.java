@@ -3,9 +3,11 @@ package com.unibooker.gateway;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
 import org.springframework.cloud.client.discovery.EnableDiscoveryClient;
+import org.springframework.scheduling.annotation.EnableScheduling;
 
 @SpringBootApplication
 @EnableDiscoveryClient  // ← 추가!
+@EnableScheduling
 public class ApiGatewayApplication {
 
     public static void main(String[] args) {
@@ -0,0 +1,72 @@
+package com.unibooker.gateway.accesslog;
+
+/**
+ * 접근 로그 항목 (요청 처리 스레드에서 생성, 기록 스레드에서 직렬화)
+ * - path/query/clientIp는 마스킹된 값
+ *
+ * @param sampled 표본 추출로 기록된 항목이면 true (오류/느린 요청은 항상 기록 → false)
+ */
+public record AccessLogEntry(
+        long timestampMillis,
+        String method,
+        String path,
+        String query,
+        int status,
+        String route,
+        long durationMicros,
+        String upstream,
+        Long userId,
+        Long companyId,
+        String clientIp,
+        String error,
+        boolean sampled
+) {
+
+    /**
+     * JSON 한 줄로 직렬화
+     */
+    void appendJson(StringBuilder out) {
+        out.append("{\"ts\":").append(timestampMillis);
+        appendString(out, "method", method);
+        appendString(out, "path", path);
+        appendString(out, "query", query);
+        out.append(",\"status\":").append(status);
+        appendString(out, "route", route);
+        out.append(",\"duration_us\":").append(durationMicros);
+        appendString(out, "upstream", upstream);
+        if (userId != null) {
+            out.append(",\"user_id\":").append(userId);
+        }
+        if (companyId != null) {
+            out.append(",\"company_id\":").append(companyId);
+        }
+        appendString(out, "client_ip", clientIp);
+        appendString(out, "error", error);
+        out.append(",\"sampled\":").append(sampled).append("}\n");
+    }
+
+    private static void appendString(StringBuilder out, String name, String value) {
+        if (value == null) {
+            return;
+        }
+        out.append(",\"").append(name).append("\":\"");
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            switch (c) {
+                case '"' -> out.append("\\\"");
+                case '\\' -> out.append("\\\\");
+                case '\n' -> out.append("\\n");
+                case '\r' -> out.append("\\r");
+                case '\t' -> out.append("\\t");
+                default -> {
+                    if (c < 0x20) {
+                        out.append(String.format("\\u%04x", (int) c));
+                    } else {
+                        out.append(c);
+                    }
+                }
+            }
+        }
+        out.append('"');
+    }
+}
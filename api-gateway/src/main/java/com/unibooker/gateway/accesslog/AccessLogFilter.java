@@ -0,0 +1,129 @@
+package com.unibooker.gateway.accesslog;
+
+import com.unibooker.common.util.VerifiedToken;
+import com.unibooker.gateway.filter.JwtAuthenticationFilter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.cloud.gateway.filter.GatewayFilterChain;
+import org.springframework.cloud.gateway.filter.GlobalFilter;
+import org.springframework.cloud.gateway.route.Route;
+import org.springframework.cloud.gateway.support.ServerWebExchangeUtils;
+import org.springframework.core.Ordered;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.http.server.reactive.ServerHttpRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ResponseStatusException;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.SignalType;
+
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.time.Duration;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * 구조화 접근 로그 (전역 필터, 요청별 콘솔 로그 대체)
+ * - 오류(4xx/5xx, 라우팅 예외)와 느린 요청(slow-threshold 이상)은 항상 기록
+ * - 그 외 성공 요청은 sample-rate 비율로 표본 기록 (표본 외 요청은 항목도 만들지 않음)
+ * - 개인정보: 경로/쿼리/IP는 AccessLogRedactor로 마스킹, 사용자는 userId/companyId만 기록
+ * - 기록은 AccessLogWriter 링 버퍼에 추가만 (요청 스레드에서 입출력 없음)
+ */
+@Component
+@ConditionalOnProperty(name = "gateway.access-log.enabled", havingValue = "true", matchIfMissing = true)
+public class AccessLogFilter implements GlobalFilter, Ordered {
+
+    /** 라우팅 중 발생한 예외 exchange 속성 키 */
+    private static final String ERROR_ATTR = AccessLogFilter.class.getName() + ".error";
+
+    private final AccessLogWriter writer;
+    private final double sampleRate;
+    private final long slowThresholdNanos;
+
+    public AccessLogFilter(AccessLogWriter writer,
+                           @Value("${gateway.access-log.sample-rate:0.01}") double sampleRate,
+                           @Value("${gateway.access-log.slow-threshold:PT1S}") Duration slowThreshold) {
+        this.writer = writer;
+        this.sampleRate = sampleRate;
+        this.slowThresholdNanos = slowThreshold.toNanos();
+    }
+
+    @Override
+    public Mono<Void> filter(ServerWebExchange exchange, GatewayFilterChain chain) {
+        long startMillis = System.currentTimeMillis();
+        long start = System.nanoTime();
+        return chain.filter(exchange)
+                .doOnError(e -> exchange.getAttributes().put(ERROR_ATTR, e))
+                .doFinally(signal -> record(exchange, signal, startMillis, System.nanoTime() - start));
+    }
+
+    @Override
+    public int getOrder() {
+        // RequestMetricsFilter 다음
+        return Ordered.HIGHEST_PRECEDENCE + 1;
+    }
+
+    private void record(ServerWebExchange exchange, SignalType signal, long startMillis, long elapsedNanos) {
+        Throwable error = exchange.getAttribute(ERROR_ATTR);
+        int status = status(exchange, error);
+        boolean always = status >= 400 || error != null || elapsedNanos >= slowThresholdNanos;
+        if (!always && ThreadLocalRandom.current().nextDouble() >= sampleRate) {
+            return;
+        }
+
+        ServerHttpRequest request = exchange.getRequest();
+        VerifiedToken token = exchange.getAttribute(JwtAuthenticationFilter.VERIFIED_TOKEN_ATTR);
+        Route route = exchange.getAttribute(ServerWebExchangeUtils.GATEWAY_ROUTE_ATTR);
+        String errorName = error != null ? error.getClass().getSimpleName()
+                : signal == SignalType.CANCEL ? "cancelled" : null;
+
+        writer.append(new AccessLogEntry(
+                startMillis,
+                request.getMethod().name(),
+                AccessLogRedactor.path(request.getPath().value()),
+                AccessLogRedactor.query(request.getURI().getRawQuery()),
+                status,
+                route != null ? route.getId() : null,
+                elapsedNanos / 1_000,
+                upstream(exchange),
+                token != null ? token.getUserId() : null,
+                token != null ? token.getCompanyId() : null,
+                AccessLogRedactor.clientIp(clientAddress(request)),
+                errorName,
+                !always
+        ));
+    }
+
+    /**
+     * 응답 상태 (예외로 끝난 경우 예외 처리기가 정할 상태 추정)
+     */
+    private static int status(ServerWebExchange exchange, Throwable error) {
+        if (error instanceof ResponseStatusException rse) {
+            return rse.getStatusCode().value();
+        }
+        if (error != null) {
+            return 500;
+        }
+        HttpStatusCode status = exchange.getResponse().getStatusCode();
+        return status != null ? status.value() : 200;
+    }
+
+    /**
+     * 라우팅된 업스트림 인스턴스 (호스트:포트)
+     */
+    private static String upstream(ServerWebExchange exchange) {
+        URI url = exchange.getAttribute(ServerWebExchangeUtils.GATEWAY_REQUEST_URL_ATTR);
+        if (url == null || url.getHost() == null || "lb".equals(url.getScheme())) {
+            return null;
+        }
+        return url.getHost() + ":" + url.getPort();
+    }
+
+    private static String clientAddress(ServerHttpRequest request) {
+        InetSocketAddress remote = request.getRemoteAddress();
+        if (remote == null) {
+            return null;
+        }
+        return remote.getAddress() != null ? remote.getAddress().getHostAddress() : remote.getHostString();
+    }
+}
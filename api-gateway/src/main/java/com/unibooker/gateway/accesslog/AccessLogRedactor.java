@@ -0,0 +1,95 @@
+package com.unibooker.gateway.accesslog;
+
+import java.util.Locale;
+import java.util.Set;
+
+/**
+ * 접근 로그 개인정보 마스킹
+ * - 경로: 이메일/토큰 형태 세그먼트 치환
+ * - 쿼리: 민감한 파라미터(email, password, token 등) 값과 이메일 형태 값 치환
+ * - 클라이언트 IP: IPv4 마지막 옥텟, IPv6 앞 3그룹 이후 제거
+ * - 사용자 식별은 userId/companyId만 기록 (이메일/이름은 기록하지 않음)
+ */
+public final class AccessLogRedactor {
+
+    static final String REDACTED = "[redacted]";
+
+    private static final Set<String> SENSITIVE_PARAMS = Set.of(
+            "email", "password", "token", "access_token", "refresh_token", "code",
+            "phone", "phonenumber", "phone_number", "name", "username"
+    );
+
+    private AccessLogRedactor() {
+    }
+
+    public static String path(String path) {
+        if (path.indexOf('@') < 0 && !path.contains("eyJ")) {
+            return path;
+        }
+        StringBuilder redacted = new StringBuilder(path.length());
+        int start = 0;
+        while (start <= path.length()) {
+            int end = path.indexOf('/', start);
+            if (end < 0) {
+                end = path.length();
+            }
+            String segment = path.substring(start, end);
+            redacted.append(isSensitiveValue(segment) ? REDACTED : segment);
+            if (end < path.length()) {
+                redacted.append('/');
+            }
+            start = end + 1;
+        }
+        return redacted.toString();
+    }
+
+    /**
+     * @param rawQuery 인코딩된 쿼리 문자열 (null 가능)
+     */
+    public static String query(String rawQuery) {
+        if (rawQuery == null || rawQuery.isEmpty()) {
+            return null;
+        }
+        StringBuilder redacted = new StringBuilder(rawQuery.length());
+        for (String param : rawQuery.split("&")) {
+            if (!redacted.isEmpty()) {
+                redacted.append('&');
+            }
+            int eq = param.indexOf('=');
+            if (eq < 0) {
+                redacted.append(param);
+                continue;
+            }
+            String name = param.substring(0, eq);
+            String value = param.substring(eq + 1);
+            redacted.append(name).append('=');
+            boolean sensitive = SENSITIVE_PARAMS.contains(name.toLowerCase(Locale.ROOT)) || isSensitiveValue(value);
+            redacted.append(sensitive ? REDACTED : value);
+        }
+        return redacted.toString();
+    }
+
+    public static String clientIp(String address) {
+        if (address == null) {
+            return null;
+        }
+        int lastDot = address.lastIndexOf('.');
+        if (lastDot > 0 && address.indexOf(':') < 0) {
+            return address.substring(0, lastDot) + ".0";
+        }
+        int groups = 0;
+        for (int i = 0; i < address.length(); i++) {
+            if (address.charAt(i) == ':' && ++groups == 3) {
+                return address.substring(0, i) + "::";
+            }
+        }
+        return address;
+    }
+
+    /**
+     * 이메일(인코딩 포함) 또는 JWT 형태 값
+     */
+    private static boolean isSensitiveValue(String value) {
+        return value.indexOf('@') >= 0 || value.contains("%40") || value.startsWith("eyJ");
+    }
+}
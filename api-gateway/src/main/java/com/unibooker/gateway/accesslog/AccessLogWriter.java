@@ -0,0 +1,118 @@
+package com.unibooker.gateway.accesslog;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * 접근 로그 비동기 기록기
+ * - 요청 스레드: 링 버퍼에 항목 추가만 (잠금/입출력 없음), 버퍼가 가득 차면 버리고 dropped 지표 증가
+ * - 기록 스레드(access-log-writer): batch-size개씩 꺼내 JSON 줄로 모아 한 번에 파일 기록,
+ *   버퍼가 비면 flush-interval 동안 대기
+ * - 파일: 크기 기준 순환 (max-file-size, max-history)
+ * - 지표: gateway.access-log.entries{result=written|dropped}, gateway.access-log.backlog
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "gateway.access-log.enabled", havingValue = "true", matchIfMissing = true)
+public class AccessLogWriter {
+
+    private final MpscRingBuffer<AccessLogEntry> buffer;
+    private final RollingFileSink sink;
+    private final int batchSize;
+    private final long flushIntervalNanos;
+    private final Counter written;
+    private final Counter dropped;
+    private final Thread thread;
+    private volatile boolean running = true;
+
+    public AccessLogWriter(MeterRegistry meterRegistry,
+                           @Value("${gateway.access-log.file:logs/access.log}") String file,
+                           @Value("${gateway.access-log.buffer-size:65536}") int bufferSize,
+                           @Value("${gateway.access-log.batch-size:1024}") int batchSize,
+                           @Value("${gateway.access-log.flush-interval:PT0.2S}") Duration flushInterval,
+                           @Value("${gateway.access-log.max-file-size:100MB}") DataSize maxFileSize,
+                           @Value("${gateway.access-log.max-history:10}") int maxHistory) {
+        this.buffer = new MpscRingBuffer<>(bufferSize);
+        this.sink = new RollingFileSink(Path.of(file), maxFileSize.toBytes(), maxHistory);
+        this.batchSize = batchSize;
+        this.flushIntervalNanos = flushInterval.toNanos();
+        this.written = Counter.builder("gateway.access-log.entries").tag("result", "written").register(meterRegistry);
+        this.dropped = Counter.builder("gateway.access-log.entries").tag("result", "dropped").register(meterRegistry);
+        Gauge.builder("gateway.access-log.backlog", buffer, MpscRingBuffer::size).register(meterRegistry);
+
+        this.thread = new Thread(this::run, "access-log-writer");
+        this.thread.setDaemon(true);
+        this.thread.start();
+        log.info("접근 로그 기록 시작 - file: {}, buffer: {}, batch: {}, flush: {}",
+                file, bufferSize, batchSize, flushInterval);
+    }
+
+    /**
+     * 항목 추가 (요청 처리 스레드, 대기 없음)
+     */
+    public void append(AccessLogEntry entry) {
+        if (!buffer.offer(entry)) {
+            dropped.increment();
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() throws InterruptedException {
+        running = false;
+        LockSupport.unpark(thread);
+        thread.join(TimeUnit.SECONDS.toMillis(5));
+    }
+
+    private void run() {
+        StringBuilder batch = new StringBuilder(batchSize * 256);
+        while (true) {
+            if (flush(batch) > 0) {
+                continue;
+            }
+            // 종료 요청 후에는 버퍼를 비운 뒤 종료
+            if (!running) {
+                break;
+            }
+            LockSupport.parkNanos(this, flushIntervalNanos);
+        }
+        try {
+            sink.close();
+        } catch (IOException e) {
+            log.warn("접근 로그 파일 닫기 실패: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 최대 batch-size개 기록
+     *
+     * @return 기록한 항목 수
+     */
+    private int flush(StringBuilder batch) {
+        batch.setLength(0);
+        int count = buffer.drain(entry -> entry.appendJson(batch), batchSize);
+        if (count == 0) {
+            return 0;
+        }
+        try {
+            sink.write(batch);
+            written.increment(count);
+        } catch (IOException e) {
+            dropped.increment(count);
+            log.warn("접근 로그 기록 실패 - {}건 버림: {}", count, e.getMessage());
+        }
+        return count;
+    }
+}
@@ -0,0 +1,88 @@
+package com.unibooker.gateway.accesslog;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.function.Consumer;
+
+/**
+ * 잠금 없는 고정 크기 링 버퍼 (다중 생산자 / 단일 소비자)
+ * - 슬롯마다 시퀀스 번호를 두어 생산자끼리는 CAS 한 번으로 자리 확보, 소비자와는 시퀀스로만 동기화
+ * - 가득 차면 대기하지 않고 offer가 false 반환 (요청 처리 스레드를 막지 않음)
+ * - 슬롯 값은 시퀀스 기록(release) 전에 쓰고 시퀀스 확인(acquire) 후에 읽음
+ */
+public class MpscRingBuffer<T> {
+
+    private final Object[] slots;
+    private final AtomicLongArray sequences;
+    private final AtomicLong tail = new AtomicLong();
+    private final int mask;
+    /** 소비자 위치 (쓰기는 소비자 스레드만, 읽기는 size()용) */
+    private volatile long head;
+
+    /**
+     * @param capacity 2의 거듭제곱
+     */
+    public MpscRingBuffer(int capacity) {
+        if (Integer.bitCount(capacity) != 1) {
+            throw new IllegalArgumentException("capacity must be a power of two: " + capacity);
+        }
+        this.slots = new Object[capacity];
+        this.sequences = new AtomicLongArray(capacity);
+        this.mask = capacity - 1;
+        for (int i = 0; i < capacity; i++) {
+            sequences.set(i, i);
+        }
+    }
+
+    /**
+     * 항목 추가 (가득 차면 false)
+     */
+    public boolean offer(T item) {
+        long position;
+        while (true) {
+            position = tail.get();
+            long sequence = sequences.get((int) position & mask);
+            if (sequence == position) {
+                if (tail.compareAndSet(position, position + 1)) {
+                    break;
+                }
+            } else if (sequence < position) {
+                return false;
+            }
+        }
+        int index = (int) position & mask;
+        slots[index] = item;
+        sequences.lazySet(index, position + 1);
+        return true;
+    }
+
+    /**
+     * 최대 max개 꺼내 전달 (소비자 스레드 전용)
+     *
+     * @return 꺼낸 개수
+     */
+    @SuppressWarnings("unchecked")
+    public int drain(Consumer<T> consumer, int max) {
+        int drained = 0;
+        while (drained < max) {
+            int index = (int) head & mask;
+            if (sequences.get(index) != head + 1) {
+                break;
+            }
+            T item = (T) slots[index];
+            slots[index] = null;
+            sequences.lazySet(index, head + slots.length);
+            head++;
+            drained++;
+            consumer.accept(item);
+        }
+        return drained;
+    }
+
+    /**
+     * 대기 중인 항목 수 (근삿값)
+     */
+    public int size() {
+        return (int) Math.max(0, tail.get() - head);
+    }
+}
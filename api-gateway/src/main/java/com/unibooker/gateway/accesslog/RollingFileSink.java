@@ -0,0 +1,81 @@
+package com.unibooker.gateway.accesslog;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * 크기 기준 순환 파일 (단일 기록 스레드 전용)
+ * - access.log가 max-file-size를 넘으면 access.log.1로 이동, 기존 .1 → .2 ... max-history 초과분 삭제
+ * - 첫 기록 시 파일 생성 (요청이 없으면 파일을 만들지 않음)
+ */
+class RollingFileSink implements AutoCloseable {
+
+    private final Path file;
+    private final long maxFileBytes;
+    private final int maxHistory;
+    private FileChannel channel;
+    private long size;
+
+    RollingFileSink(Path file, long maxFileBytes, int maxHistory) {
+        this.file = file;
+        this.maxFileBytes = maxFileBytes;
+        this.maxHistory = maxHistory;
+    }
+
+    void write(CharSequence lines) throws IOException {
+        if (channel == null) {
+            open();
+        }
+        ByteBuffer bytes = StandardCharsets.UTF_8.encode(lines.toString());
+        while (bytes.hasRemaining()) {
+            size += channel.write(bytes);
+        }
+        if (size >= maxFileBytes) {
+            roll();
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (channel != null) {
+            channel.close();
+            channel = null;
+        }
+    }
+
+    private void open() throws IOException {
+        Path parent = file.toAbsolutePath().getParent();
+        if (parent != null) {
+            Files.createDirectories(parent);
+        }
+        channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.APPEND);
+        size = channel.size();
+    }
+
+    private void roll() throws IOException {
+        close();
+        Files.deleteIfExists(rolled(maxHistory));
+        for (int i = maxHistory - 1; i >= 1; i--) {
+            Path source = rolled(i);
+            if (Files.exists(source)) {
+                Files.move(source, rolled(i + 1), StandardCopyOption.REPLACE_EXISTING);
+            }
+        }
+        if (maxHistory > 0) {
+            Files.move(file, rolled(1), StandardCopyOption.REPLACE_EXISTING);
+        } else {
+            Files.deleteIfExists(file);
+        }
+        open();
+    }
+
+    private Path rolled(int index) {
+        return file.resolveSibling(file.getFileName() + "." + index);
+    }
+}
@@ -0,0 +1,178 @@
+package com.unibooker.gateway.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
+import org.springframework.web.util.UriUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Collection;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 게이트웨이 응답 캐시 (조회 API 응답 본문 보관)
+ * - 전체 크기(바이트) 제한, 초과 시 Caffeine W-TinyLFU 정책(LRU + 빈도)으로 제거
+ * - 항목별 만료: 라우트 설정 TTL
+ * - 무효화: 경로 단위 (변경 이벤트 수신 시), 무효화 세대가 바뀐 뒤 도착한 이전 응답은 저장하지 않음
+ * - 경로 정규화: 캐시 키와 무효화 경로 모두 퍼센트 디코딩 + 끝 '/' 제거 후 비교 (인코딩된 요청 경로도 무효화되도록)
+ * - 지표: cache.gets{cache=gateway.response}, cache.evictions, cache.size
+ */
+@Slf4j
+@Component
+public class ResponseCache {
+
+    public static final String CACHE_NAME = "gateway.response";
+
+    /** 헤더/키 보관 비용 근사치 */
+    private static final int ENTRY_OVERHEAD_BYTES = 512;
+
+    private final Cache<Key, Entry> cache;
+    /** 무효화 세대 (무효화마다 증가) */
+    private final AtomicLong generation = new AtomicLong();
+    @Getter
+    private final int maxEntryBytes;
+
+    public ResponseCache(MeterRegistry meterRegistry,
+                         @Value("${gateway.response-cache.max-size:64MB}") DataSize maxSize,
+                         @Value("${gateway.response-cache.max-entry-size:256KB}") DataSize maxEntrySize) {
+        this.maxEntryBytes = (int) maxEntrySize.toBytes();
+        this.cache = Caffeine.newBuilder()
+                .maximumWeight(maxSize.toBytes())
+                .weigher((Key key, Entry entry) -> entry.body.length + ENTRY_OVERHEAD_BYTES)
+                .expireAfter(new Expiry<Key, Entry>() {
+                    @Override
+                    public long expireAfterCreate(Key key, Entry entry, long currentTime) {
+                        return entry.ttlNanos;
+                    }
+
+                    @Override
+                    public long expireAfterUpdate(Key key, Entry entry, long currentTime, long currentDuration) {
+                        return entry.ttlNanos;
+                    }
+
+                    @Override
+                    public long expireAfterRead(Key key, Entry entry, long currentTime, long currentDuration) {
+                        return currentDuration;
+                    }
+                })
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME);
+        log.info("응답 캐시 - maxSize: {}, maxEntrySize: {}", maxSize, maxEntrySize);
+    }
+
+    public Entry get(Key key) {
+        return cache.getIfPresent(key);
+    }
+
+    /**
+     * 현재 무효화 세대 (요청 시작 시 기록 → 저장 시 비교)
+     */
+    public long generation() {
+        return generation.get();
+    }
+
+    /**
+     * 응답 저장 (요청 시작 이후 무효화가 있었으면 저장하지 않음)
+     */
+    public void put(Key key, Entry entry, long generationAtStart) {
+        if (generation.get() != generationAtStart) {
+            return;
+        }
+        cache.put(key, entry);
+        // 저장 직후 무효화가 끼어든 경우 방금 저장한 항목 제거
+        if (generation.get() != generationAtStart) {
+            cache.invalidate(key);
+        }
+    }
+
+    /**
+     * 경로 단위 무효화 (쿼리/Vary 값과 무관하게 해당 경로 항목 전체)
+     */
+    public void invalidate(Collection<String> paths) {
+        if (paths == null || paths.isEmpty()) {
+            return;
+        }
+        Set<String> targets = paths.stream().map(ResponseCache::normalizePath).collect(Collectors.toUnmodifiableSet());
+        generation.incrementAndGet();
+        cache.asMap().keySet().removeIf(key -> targets.contains(key.path));
+        log.debug("응답 캐시 무효화 - paths: {}", targets);
+    }
+
+    public void invalidateAll() {
+        generation.incrementAndGet();
+        cache.invalidateAll();
+    }
+
+    /**
+     * 경로 정규화 (캐시 키/무효화 공통)
+     * - 퍼센트 인코딩은 디코딩 (잘못된 인코딩이면 원문 유지)
+     * - 끝 '/' 제거 (루트 제외)
+     */
+    static String normalizePath(String path) {
+        String normalized = path;
+        if (normalized.indexOf('%') >= 0) {
+            try {
+                normalized = UriUtils.decode(normalized, StandardCharsets.UTF_8);
+            } catch (IllegalArgumentException e) {
+                // 디코딩할 수 없는 경로는 원문 그대로 비교
+            }
+        }
+        if (normalized.length() > 1 && normalized.endsWith("/")) {
+            normalized = normalized.substring(0, normalized.length() - 1);
+        }
+        return normalized;
+    }
+
+    /**
+     * 캐시 키: 정규화된 경로 + 쿼리 + Vary 헤더 값
+     */
+    public static final class Key {
+        private final String path;
+        private final String value;
+
+        public Key(String path, String query, String varyValues) {
+            this.path = normalizePath(path);
+            this.value = this.path + '?' + (query != null ? query : "") + '\u0000' + varyValues;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            return this == o || (o instanceof Key other && value.equals(other.value));
+        }
+
+        @Override
+        public int hashCode() {
+            return value.hashCode();
+        }
+    }
+
+    /**
+     * 캐시된 응답 (불변)
+     */
+    @Getter
+    public static final class Entry {
+        private final HttpStatusCode status;
+        private final HttpHeaders headers;
+        private final byte[] body;
+        private final long ttlNanos;
+
+        public Entry(HttpStatusCode status, HttpHeaders headers, byte[] body, long ttlNanos) {
+            this.status = status;
+            this.headers = HttpHeaders.readOnlyHttpHeaders(headers);
+            this.body = body;
+            this.ttlNanos = ttlNanos;
+        }
+    }
+}
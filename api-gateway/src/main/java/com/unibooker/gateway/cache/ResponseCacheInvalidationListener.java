@@ -0,0 +1,38 @@
+package com.unibooker.gateway.cache;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.unibooker.common.dto.CacheInvalidationDto;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.stereotype.Component;
+
+/**
+ * 응답 캐시 무효화 이벤트 수신 (Kafka gateway-cache-invalidation 토픽)
+ * - 게이트웨이 인스턴스마다 별도 그룹으로 전체 이벤트 수신 (최신 위치부터)
+ * - gateway.response-cache.invalidation-source=local 이면 비활성 (TTL 만료에만 의존)
+ * - 다른 이벤트 소스는 ResponseCache.invalidate()를 호출하는 Bean으로 대체
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "gateway.response-cache.invalidation-source", havingValue = "kafka", matchIfMissing = true)
+public class ResponseCacheInvalidationListener {
+
+    private final ResponseCache responseCache;
+    private final ObjectMapper objectMapper;
+
+    @KafkaListener(
+            topics = CacheInvalidationDto.TOPIC,
+            groupId = "api-gateway-cache-${random.uuid}",
+            properties = "auto.offset.reset=latest"
+    )
+    public void handleInvalidation(String message) {
+        try {
+            responseCache.invalidate(objectMapper.readValue(message, CacheInvalidationDto.class).getPaths());
+        } catch (Exception e) {
+            log.error("응답 캐시 무효화 이벤트 처리 실패 - message: {}", message, e);
+        }
+    }
+}
@@ -0,0 +1,145 @@
+package com.unibooker.gateway.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.unibooker.common.util.JwtUtil;
+import com.unibooker.common.util.VerifiedToken;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Arrays;
+
+/**
+ * 검증된 JWT Claims 캐시
+ * - 같은 Access Token이 최대 1시간 동안 반복 전송되므로 검증 결과를 재사용
+ * - 키: 토큰 원문의 SHA-256 해시 (토큰 원문은 보관하지 않음)
+ * - 항목별 만료: 토큰 exp 시각 (max-ttl보다 길면 max-ttl)
+ * - 최대 항목 수 제한 (초과 시 Caffeine W-TinyLFU 정책으로 제거)
+ * - 검증 실패한 토큰은 캐싱하지 않음
+ * - 지표: cache.gets{cache=jwt.verified-token,result=hit|miss}, cache.evictions
+ */
+@Slf4j
+@Component
+public class VerifiedTokenCache {
+
+    public static final String CACHE_NAME = "jwt.verified-token";
+
+    private static final ThreadLocal<MessageDigest> SHA_256 = ThreadLocal.withInitial(() -> {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256을 사용할 수 없습니다.", e);
+        }
+    });
+
+    private final JwtUtil jwtUtil;
+    private final boolean enabled;
+    private final Cache<TokenKey, VerifiedToken> cache;
+
+    public VerifiedTokenCache(JwtUtil jwtUtil,
+                              MeterRegistry meterRegistry,
+                              @Value("${jwt.cache.enabled:true}") boolean enabled,
+                              @Value("${jwt.cache.maximum-size:100000}") long maximumSize,
+                              @Value("${jwt.cache.max-ttl:PT10M}") Duration maxTtl) {
+        this.jwtUtil = jwtUtil;
+        this.enabled = enabled;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfter(new TokenExpiry(maxTtl.toNanos()))
+                .recordStats()
+                .build();
+
+        if (enabled) {
+            CaffeineCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME);
+        }
+        log.info("JWT 검증 캐시 - enabled: {}, maximumSize: {}, maxTtl: {}", enabled, maximumSize, maxTtl);
+    }
+
+    /**
+     * 캐시된 검증 결과 반환, 없으면 검증 후 저장
+     *
+     * @throws io.jsonwebtoken.JwtException 검증 실패 시 (캐싱되지 않음)
+     */
+    public VerifiedToken getOrVerify(String token) {
+        if (!enabled) {
+            return jwtUtil.parseAndVerify(token);
+        }
+        return cache.get(TokenKey.of(token), key -> jwtUtil.parseAndVerify(token));
+    }
+
+    /**
+     * 전체 캐시 비우기 (키 교체 등)
+     */
+    public void invalidateAll() {
+        cache.invalidateAll();
+    }
+
+    /**
+     * 토큰 해시 키 (32바이트)
+     */
+    private static final class TokenKey {
+
+        private final byte[] digest;
+        private final int hash;
+
+        private TokenKey(byte[] digest) {
+            this.digest = digest;
+            this.hash = Arrays.hashCode(digest);
+        }
+
+        static TokenKey of(String token) {
+            return new TokenKey(SHA_256.get().digest(token.getBytes(StandardCharsets.US_ASCII)));
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            return this == o || (o instanceof TokenKey other && Arrays.equals(digest, other.digest));
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+    }
+
+    /**
+     * 항목별 만료 정책: 토큰 exp까지 (max-ttl 상한)
+     */
+    private static final class TokenExpiry implements Expiry<TokenKey, VerifiedToken> {
+
+        private final long maxTtlNanos;
+
+        private TokenExpiry(long maxTtlNanos) {
+            this.maxTtlNanos = maxTtlNanos;
+        }
+
+        @Override
+        public long expireAfterCreate(TokenKey key, VerifiedToken value, long currentTime) {
+            Instant expiresAt = value.getExpiresAt();
+            if (expiresAt == null) {
+                return maxTtlNanos;
+            }
+            long remaining = Duration.between(Instant.now(), expiresAt).toNanos();
+            return Math.max(0L, Math.min(remaining, maxTtlNanos));
+        }
+
+        @Override
+        public long expireAfterUpdate(TokenKey key, VerifiedToken value, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+
+        @Override
+        public long expireAfterRead(TokenKey key, VerifiedToken value, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+    }
+}
@@ -0,0 +1,81 @@
+package com.unibooker.gateway.coalesce;
+
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 동일 요청 합치기 (single-flight)
+ * - 같은 키로 진행 중인 호출이 있으면 새로 호출하지 않고 그 결과를 기다림
+ * - 선두 호출자가 complete 시 키를 먼저 제거한 뒤 결과 전달 → 이후 도착한 요청은 새 호출 시작
+ * - 결과 없이 완료(null)되면 대기자는 빈 Mono를 받음 (각자 직접 호출)
+ */
+public class SingleFlight<K, V> {
+
+    private final ConcurrentHashMap<K, Sinks.One<V>> flights = new ConcurrentHashMap<>();
+
+    /**
+     * 호출 참여 (진행 중인 호출이 없으면 선두)
+     */
+    public Flight<K, V> join(K key) {
+        Sinks.One<V> created = Sinks.one();
+        Sinks.One<V> existing = flights.putIfAbsent(key, created);
+        if (existing != null) {
+            return new Flight<>(this, key, existing, false);
+        }
+        return new Flight<>(this, key, created, true);
+    }
+
+    /**
+     * 진행 중인 호출 수
+     */
+    public int size() {
+        return flights.size();
+    }
+
+    /**
+     * 참여한 호출 (선두 또는 대기자)
+     */
+    public static final class Flight<K, V> {
+
+        private final SingleFlight<K, V> owner;
+        private final K key;
+        private final Sinks.One<V> result;
+        private final boolean leader;
+
+        private Flight(SingleFlight<K, V> owner, K key, Sinks.One<V> result, boolean leader) {
+            this.owner = owner;
+            this.key = key;
+            this.result = result;
+            this.leader = leader;
+        }
+
+        public boolean isLeader() {
+            return leader;
+        }
+
+        /**
+         * 선두 호출 결과 (결과를 공유하지 않으면 빈 Mono)
+         */
+        public Mono<V> result() {
+            return result.asMono();
+        }
+
+        /**
+         * 선두 호출 완료 (대기자가 없어도 호출, 중복 호출 무시)
+         * - value가 null이면 대기자는 각자 직접 호출
+         */
+        public void complete(V value) {
+            if (!leader) {
+                return;
+            }
+            owner.flights.remove(key, result);
+            if (value != null) {
+                result.tryEmitValue(value);
+            } else {
+                result.tryEmitEmpty();
+            }
+        }
+    }
+}
@@ -0,0 +1,127 @@
+package com.unibooker.gateway.concurrency;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 적응형 동시 요청 한도 (Gradient 방식)
+ * - 장기 RTT(기준선, 느린 EWMA)와 단기 RTT(최근 샘플, 빠른 EWMA)의 비율로 한도를 조정
+ *   · 단기 RTT가 기준선 대비 tolerance배 이상 느려지면 한도 감소 (큐잉 발생)
+ *   · 기준선 수준이면 한도 증가 (여유분 = sqrt(limit))
+ * - 업스트림 오류(5xx, 타임아웃)는 곱셈 감소 (AIMD backoff)
+ * - acquire/release는 AtomicInteger만 사용, 한도 갱신만 짧게 동기화
+ * - 요청 수가 한도의 절반 미만이면 (부하가 낮으면) 한도를 늘리지 않음
+ */
+public class AdaptiveConcurrencyLimit {
+
+    /** 단기 RTT EWMA 가중치 */
+    private static final double SHORT_ALPHA = 0.1;
+
+    /** 장기 RTT(기준선) EWMA 가중치 */
+    private static final double LONG_ALPHA = 1.0 / 600;
+
+    /** 한도 변경 반영 비율 */
+    private static final double SMOOTHING = 0.2;
+
+    /** 오류 시 한도 감소 비율 */
+    private static final double BACKOFF_RATIO = 0.9;
+
+    private final int minLimit;
+    private final int maxLimit;
+    private final double tolerance;
+    private final AtomicInteger inFlight = new AtomicInteger();
+
+    private volatile double limit;
+    private double shortRttNanos;
+    private double longRttNanos;
+
+    public AdaptiveConcurrencyLimit(int initialLimit, int minLimit, int maxLimit, double tolerance) {
+        if (minLimit < 1 || maxLimit < minLimit) {
+            throw new IllegalArgumentException("동시 요청 한도 범위가 올바르지 않습니다.");
+        }
+        this.minLimit = minLimit;
+        this.maxLimit = maxLimit;
+        this.tolerance = tolerance;
+        this.limit = clamp(initialLimit);
+    }
+
+    /**
+     * 요청 슬롯 획득 시도
+     *
+     * @return 한도 초과면 false (호출자는 즉시 거절)
+     */
+    public boolean tryAcquire() {
+        int current = inFlight.incrementAndGet();
+        if (current > (int) limit) {
+            inFlight.decrementAndGet();
+            return false;
+        }
+        return true;
+    }
+
+    /**
+     * 정상 응답 - 슬롯 반납 + RTT 샘플 반영
+     */
+    public void onSuccess(long rttNanos) {
+        int current = inFlight.getAndDecrement();
+        synchronized (this) {
+            if (longRttNanos == 0) {
+                shortRttNanos = rttNanos;
+                longRttNanos = rttNanos;
+                return;
+            }
+            shortRttNanos += (rttNanos - shortRttNanos) * SHORT_ALPHA;
+            longRttNanos += (rttNanos - longRttNanos) * LONG_ALPHA;
+
+            // 지연이 한동안 크게 줄어든 경우 기준선을 빠르게 따라가도록 보정
+            if (longRttNanos / shortRttNanos > 2) {
+                longRttNanos *= 0.95;
+            }
+
+            // 부하가 낮으면 증가하지 않음
+            double currentLimit = limit;
+            if (current < currentLimit / 2) {
+                return;
+            }
+
+            double gradient = Math.max(0.5, Math.min(1.0, tolerance * longRttNanos / shortRttNanos));
+            double newLimit = currentLimit * gradient + Math.sqrt(currentLimit);
+            limit = clamp(currentLimit * (1 - SMOOTHING) + newLimit * SMOOTHING);
+        }
+    }
+
+    /**
+     * 업스트림 오류/타임아웃 - 슬롯 반납 + 한도 감소
+     */
+    public void onDropped() {
+        inFlight.decrementAndGet();
+        synchronized (this) {
+            limit = clamp(limit * BACKOFF_RATIO);
+        }
+    }
+
+    /**
+     * 취소 등 샘플로 쓸 수 없는 종료 - 슬롯만 반납
+     */
+    public void onIgnored() {
+        inFlight.decrementAndGet();
+    }
+
+    public int getLimit() {
+        return (int) limit;
+    }
+
+    public int getInFlight() {
+        return inFlight.get();
+    }
+
+    /**
+     * 학습된 기준 지연 (밀리초)
+     */
+    public synchronized double getBaselineRttMillis() {
+        return longRttNanos / 1_000_000.0;
+    }
+
+    private double clamp(double value) {
+        return Math.max(minLimit, Math.min(maxLimit, value));
+    }
+}
@@ -1,113 +1,191 @@
 package com.unibooker.gateway.config;
 
+import com.unibooker.common.enums.UserRole;
+import com.unibooker.gateway.filter.BulkheadFilter;
+import com.unibooker.gateway.filter.CircuitBreakerFilter;
+import com.unibooker.gateway.filter.ConcurrencyLimitFilter;
+import com.unibooker.gateway.filter.HedgingFilter;
 import com.unibooker.gateway.filter.JwtAuthenticationFilter;
+import com.unibooker.gateway.filter.RateLimitFilter;
+import com.unibooker.gateway.filter.RequestCoalescingFilter;
+import com.unibooker.gateway.filter.ResponseCacheFilter;
+import com.unibooker.gateway.filter.TenantQuotaFilter;
+import com.unibooker.gateway.filter.WaitingRoomFilter;
+import com.unibooker.gateway.route.PathAccessMatcher;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.cloud.gateway.filter.GatewayFilter;
 import org.springframework.cloud.gateway.route.RouteLocator;
+import org.springframework.cloud.gateway.route.builder.GatewayFilterSpec;
 import org.springframework.cloud.gateway.route.builder.RouteLocatorBuilder;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 
 /**
  * API Gateway 라우팅 설정
  * - 서비스별 라우팅 규칙 정의
  * - JWT 인증 필터 적용
+ * - 요청 수 제한 (공개 API: IP 기준, 인증 API: 사용자 기준)
+ * - 인증 API 기업(테넌트)별 사용량 집계 / 한도
+ * - 업스트림 라우트별 적응형 동시 요청 제한
+ * - 업스트림 서비스별 벌크헤드, 라우트별 서킷 브레이커
+ * - 선택한 라우트/경로에 대기열(Waiting Room) 적용
+ * - 선택한 라우트/경로에 응답 캐시, 동일 요청 합치기, 헤지 요청 적용
+ * - 경로 접근 정책(공개/권한 힌트) 메타데이터 → PathAccessMatcher
  */
 @Slf4j
 @Configuration
 @RequiredArgsConstructor
 public class GatewayConfig {
 
+    /**
+     * 공개 라우트 (라우트 ID → 정확 일치 경로, 모두 main-service)
+     * - 라우트 정의와 PathAccessMatcher 공개 경로를 모두 이 표에서 생성 (한쪽만 바뀌지 않도록)
+     * - 인증 라우트(/api/admins/** 등)보다 먼저 등록
+     */
+    public static final Map<String, List<String>> PUBLIC_ROUTES;
+
+    static {
+        Map<String, List<String>> routes = new LinkedHashMap<>();
+        routes.put("auth-refresh", List.of("/api/auth/refresh"));
+        routes.put("admin-signup", List.of("/api/admins/signup"));
+        routes.put("admin-status", List.of("/api/admins/status"));
+        routes.put("admin-check-email", List.of("/api/admins/check-email"));
+        routes.put("admin-login", List.of("/api/admins/login"));
+        routes.put("super-login", List.of("/api/super/login"));
+        routes.put("user-signup", List.of("/api/users/signup"));
+        routes.put("user-login", List.of("/api/users/login"));
+        routes.put("user-public", List.of("/api/users/check-email", "/api/users/accounts",
+                "/api/users/reset-password", "/api/users/find-email"));
+        PUBLIC_ROUTES = Collections.unmodifiableMap(routes);
+    }
+
+    /**
+     * 인증 불필요 경로 (정확 일치, 공개 라우트 경로)
+     * - 하위 경로는 공개가 아님 (예: /api/admins/status/x 는 /api/admins/** 인증 라우트 규칙)
+     */
+    public static final List<String> PUBLIC_PATHS = PUBLIC_ROUTES.values().stream()
+            .flatMap(List::stream)
+            .toList();
+
+    /**
+     * 인증 불필요 경로 (prefix, 하위 경로 포함)
+     * - 게이트웨이 자체 Actuator는 관리 포트(management.server.port)에서만 노출, 여기는 main-service 헬스 체크 프록시
+     */
+    public static final List<String> PUBLIC_PREFIXES = List.of(
+            "/actuator/health"
+    );
+
+    /**
+     * 업스트림 서비스 (Eureka 서비스명, 벌크헤드 단위)
+     */
+    private static final String MAIN_SERVICE = "main-service";
+    private static final String RESOURCE_SERVICE = "resource-service";
+
+    /**
+     * 경로별 권한 힌트 (쿠키 토큰 탐색용)
+     * - ADMIN과 MANAGER는 같은 쿠키 사용
+     */
+    public static final Map<String, UserRole> ROLE_HINT_PATHS;
+
+    static {
+        Map<String, UserRole> hints = new LinkedHashMap<>();
+        hints.put("/api/users", UserRole.USER);
+        hints.put("/api/admins", UserRole.ADMIN);
+        hints.put("/api/managers", UserRole.ADMIN);
+        hints.put("/api/super", UserRole.SUPER);
+        ROLE_HINT_PATHS = Map.copyOf(hints);
+    }
+
     private final JwtAuthenticationFilter jwtAuthenticationFilter;
+    private final RateLimitFilter rateLimitFilter;
+    private final ConcurrencyLimitFilter concurrencyLimitFilter;
+    private final BulkheadFilter bulkheadFilter;
+    private final CircuitBreakerFilter circuitBreakerFilter;
+    private final WaitingRoomFilter waitingRoomFilter;
+    private final ResponseCacheFilter responseCacheFilter;
+    private final RequestCoalescingFilter requestCoalescingFilter;
+    private final HedgingFilter hedgingFilter;
+    private final TenantQuotaFilter tenantQuotaFilter;
+    private final Environment environment;
 
+    /**
+     * 경로 접근 정책 매처
+     * - static: JwtAuthenticationFilter → GatewayConfig 순환 참조 방지
+     */
     @Bean
-    public RouteLocator customRouteLocator(RouteLocatorBuilder builder) {
-        return builder.routes()
-                // ========== Main Service - Admin API ==========
-
-                // Auth API (인증 불필요)
-                .route("auth-refresh", r -> r
-                        .path("/api/auth/refresh")
-                        .uri("lb://main-service"))
+    public static PathAccessMatcher pathAccessMatcher() {
+        PathAccessMatcher.Builder builder = PathAccessMatcher.builder();
+        PUBLIC_PATHS.forEach(builder::publicExactPath);
+        PUBLIC_PREFIXES.forEach(builder::publicPath);
+        ROLE_HINT_PATHS.forEach(builder::roleHint);
+        return builder.build();
+    }
 
-                // Admin 회원가입 (인증 불필요)
-                .route("admin-signup", r -> r
-                        .path("/api/admins/signup")
-                        .uri("lb://main-service"))
+    @Bean
+    public RouteLocator customRouteLocator(RouteLocatorBuilder builder) {
+        RouteLocatorBuilder.Builder routes = builder.routes();
 
-                // Admin 상태 조회 (인증 불필요)
-                .route("admin-status", r -> r
-                        .path("/api/admins/status")
-                        .uri("lb://main-service"))
+        // ========== Main Service - 공개 API (인증 불필요, PUBLIC_ROUTES) ==========
+        PUBLIC_ROUTES.forEach((routeId, paths) -> routes.route(routeId, r -> r
+                .path(paths.toArray(String[]::new))
+                .filters(f -> publicFilters(f, routeId, MAIN_SERVICE))
+                .uri("lb://" + MAIN_SERVICE)));
 
-                // Admin 이메일 확인 (인증 불필요)
-                .route("admin-check-email", r -> r
-                        .path("/api/admins/check-email")
-                        .uri("lb://main-service"))
+        return routes
+                // ========== Main Service - Admin API ==========
 
-                // Admin 로그인 (인증 불필요)
-                .route("admin-login", r -> r
-                        .path("/api/admins/login")
-                        .uri("lb://main-service"))
+                // 로그아웃 (인증 필요, 발급된 토큰 폐기)
+                .route("auth-logout", r -> r
+                        .path("/api/auth/logout")
+                        .filters(f -> protectedFilters(f, "auth-logout", MAIN_SERVICE))
+                        .uri("lb://" + MAIN_SERVICE))
 
                 // Admin API (인증 필요) - logout, /me 등
                 .route("admin-protected", r -> r
                         .path("/api/admins/**")
-                        .filters(f -> f.filter(jwtAuthenticationFilter.apply(new JwtAuthenticationFilter.Config())))
-                        .uri("lb://main-service"))
+                        .filters(f -> protectedFilters(f, "admin-protected", MAIN_SERVICE))
+                        .uri("lb://" + MAIN_SERVICE))
 
                 // ========== Main Service - Super API ==========
 
-                // Super 로그인 (인증 불필요)
-                .route("super-login", r -> r
-                        .path("/api/super/login")
-                        .uri("lb://main-service"))
-
                 // Super API (인증 필요)
                 .route("super-protected", r -> r
                         .path("/api/super/**")
-                        .filters(f -> f.filter(jwtAuthenticationFilter.apply(new JwtAuthenticationFilter.Config())))
-                        .uri("lb://main-service"))
+                        .filters(f -> protectedFilters(f, "super-protected", MAIN_SERVICE))
+                        .uri("lb://" + MAIN_SERVICE))
 
                 // ========== Main Service - User API ==========
 
-                // User 회원가입 (인증 불필요)
-                .route("user-signup", r -> r
-                        .path("/api/users/signup")
-                        .uri("lb://main-service"))
-
-                // User 로그인 (인증 불필요)
-                .route("user-login", r -> r
-                        .path("/api/users/login")
-                        .uri("lb://main-service"))
-
-                // User 공개 API (인증 불필요)
-                .route("user-public", r -> r
-                        .path("/api/users/check-email", "/api/users/accounts",
-                                "/api/users/reset-password", "/api/users/find-email")
-                        .uri("lb://main-service"))
-
                 // User API (인증 필요)
                 .route("user-protected", r -> r
                         .path("/api/users/**")
-                        .filters(f -> f.filter(jwtAuthenticationFilter.apply(new JwtAuthenticationFilter.Config())))
-                        .uri("lb://main-service"))
+                        .filters(f -> protectedFilters(f, "user-protected", MAIN_SERVICE))
+                        .uri("lb://" + MAIN_SERVICE))
 
                 // ========== Main Service - Company API ==========
 
                 // Company API (인증 필요)
                 .route("company-api", r -> r
                         .path("/api/companies/**")
-                        .filters(f -> f.filter(jwtAuthenticationFilter.apply(new JwtAuthenticationFilter.Config())))
-                        .uri("lb://main-service"))
+                        .filters(f -> protectedFilters(f, "company-api", MAIN_SERVICE))
+                        .uri("lb://" + MAIN_SERVICE))
 
                 // ========== Main Service - Notification API ==========
 
                 // Notification API (인증 필요)
                 .route("notification-api", r -> r
                         .path("/api/notifications/**")
-                        .filters(f -> f.filter(jwtAuthenticationFilter.apply(new JwtAuthenticationFilter.Config())))
-                        .uri("lb://main-service"))
+                        .filters(f -> protectedFilters(f, "notification-api", MAIN_SERVICE))
+                        .uri("lb://" + MAIN_SERVICE))
 
                 // ========== Resource Service ==========
 
@@ -115,16 +193,273 @@ public class GatewayConfig {
                 .route("resource-api", r -> r
                         .path("/api/resources/**", "/api/resource-groups/**",
                                 "/api/resource-time-slots/**")
-                        .filters(f -> f.filter(jwtAuthenticationFilter.apply(new JwtAuthenticationFilter.Config())))
-                        .uri("lb://resource-service"))
+                        .filters(f -> protectedFilters(f, "resource-api", RESOURCE_SERVICE))
+                        .uri("lb://" + RESOURCE_SERVICE))
 
                 // ========== Actuator (Health Check) ==========
 
-                // Actuator (인증 불필요)
+                // Actuator 헬스 체크 (인증 불필요, 그 외 엔드포인트는 라우팅하지 않음)
                 .route("actuator", r -> r
-                        .path("/actuator/**")
-                        .uri("lb://main-service"))
+                        .path("/actuator/health/**")
+                        .uri("lb://" + MAIN_SERVICE))
 
                 .build();
     }
-}
\ No newline at end of file
+
+    /**
+     * 공개 라우트 필터 체인
+     */
+    private GatewayFilterSpec publicFilters(GatewayFilterSpec f, String routeId, String upstream) {
+        f.filter(ipRateLimit(routeId))
+                .filter(concurrencyLimit(routeId));
+        return upstreamGuard(f, routeId, upstream);
+    }
+
+    /**
+     * 인증 라우트 필터 체인
+     */
+    private GatewayFilterSpec protectedFilters(GatewayFilterSpec f, String routeId, String upstream) {
+        f.filter(jwt())
+                .filter(tenantQuotaFilter.captureFilter())
+                .filter(tenantQuota(routeId))
+                .filter(userRateLimit(routeId));
+        if (responseCacheEnabled(routeId)) {
+            f.filter(responseCacheFilter.captureFilter())
+                    .filter(responseCache(routeId));
+        }
+        if (waitingRoomEnabled(routeId)) {
+            f.filter(waitingRoom(routeId));
+        }
+        if (coalescingEnabled(routeId)) {
+            f.filter(requestCoalescingFilter.captureFilter())
+                    .filter(coalescing(routeId));
+        }
+        f.filter(concurrencyLimit(routeId));
+        return upstreamGuard(f, routeId, upstream);
+    }
+
+    /**
+     * 업스트림 보호 필터 (라우트 체인 마지막, 업스트림 호출 직전)
+     * - 벌크헤드 → 서킷 브레이커 순서: 서킷은 실제 업스트림 호출 결과만 기록
+     * - 헤지는 서킷 브레이커 안쪽: 첫 시도와 헤지 시도를 하나의 호출로 기록
+     */
+    private GatewayFilterSpec upstreamGuard(GatewayFilterSpec f, String routeId, String upstream) {
+        f.filter(bulkhead(upstream))
+                .filter(circuitBreaker(routeId));
+        if (hedgingEnabled(routeId)) {
+            f.filter(hedging(routeId));
+        }
+        return f;
+    }
+
+    /**
+     * JWT 인증 필터
+     */
+    private GatewayFilter jwt() {
+        return jwtAuthenticationFilter.apply(new JwtAuthenticationFilter.Config());
+    }
+
+    /**
+     * 기업별 사용량 집계 / 한도 필터 (한도는 기업 단위, gateway.tenant-quota.*)
+     */
+    private GatewayFilter tenantQuota(String routeId) {
+        TenantQuotaFilter.Config config = new TenantQuotaFilter.Config();
+        config.setRouteId(routeId);
+        return tenantQuotaFilter.apply(config);
+    }
+
+    /**
+     * 공개 API 요청 수 제한 (클라이언트 IP 기준)
+     */
+    private GatewayFilter ipRateLimit(String routeId) {
+        return rateLimit(routeId, RateLimitFilter.KeyType.IP, 5, 10);
+    }
+
+    /**
+     * 인증 API 요청 수 제한 (사용자 기준)
+     */
+    private GatewayFilter userRateLimit(String routeId) {
+        return rateLimit(routeId, RateLimitFilter.KeyType.USER, 20, 40);
+    }
+
+    /**
+     * 라우트별 요청 수 제한 필터 생성
+     * - gateway.rate-limit.routes.{routeId}.replenish-rate / burst-capacity / key-type 으로 재정의 가능
+     */
+    private GatewayFilter rateLimit(String routeId, RateLimitFilter.KeyType defaultKeyType,
+                                    double defaultReplenishRate, int defaultBurstCapacity) {
+        String prefix = "gateway.rate-limit.routes." + routeId + ".";
+
+        RateLimitFilter.Config config = new RateLimitFilter.Config();
+        config.setRouteId(routeId);
+        config.setKeyType(environment.getProperty(prefix + "key-type", RateLimitFilter.KeyType.class, defaultKeyType));
+        config.setReplenishRate(environment.getProperty(prefix + "replenish-rate", Double.class, defaultReplenishRate));
+        config.setBurstCapacity(environment.getProperty(prefix + "burst-capacity", Integer.class, defaultBurstCapacity));
+        return rateLimitFilter.apply(config);
+    }
+
+    /**
+     * 라우트별 적응형 동시 요청 제한 필터 생성
+     * - gateway.concurrency-limit.routes.{routeId}.initial-limit / min-limit / max-limit / tolerance 로 재정의 가능
+     */
+    private GatewayFilter concurrencyLimit(String routeId) {
+        String prefix = "gateway.concurrency-limit.routes." + routeId + ".";
+        String defaults = "gateway.concurrency-limit.";
+
+        ConcurrencyLimitFilter.Config config = new ConcurrencyLimitFilter.Config();
+        config.setRouteId(routeId);
+        config.setInitialLimit(routeProperty(prefix, defaults, "initial-limit", Integer.class, config.getInitialLimit()));
+        config.setMinLimit(routeProperty(prefix, defaults, "min-limit", Integer.class, config.getMinLimit()));
+        config.setMaxLimit(routeProperty(prefix, defaults, "max-limit", Integer.class, config.getMaxLimit()));
+        config.setTolerance(routeProperty(prefix, defaults, "tolerance", Double.class, config.getTolerance()));
+        return concurrencyLimitFilter.apply(config);
+    }
+
+    /**
+     * 업스트림 서비스별 벌크헤드 필터 생성
+     * - gateway.bulkhead.upstreams.{service}.max-concurrent-calls 로 재정의 가능
+     */
+    private GatewayFilter bulkhead(String upstream) {
+        BulkheadFilter.Config config = new BulkheadFilter.Config();
+        config.setUpstream(upstream);
+        config.setMaxConcurrentCalls(routeProperty("gateway.bulkhead.upstreams." + upstream + ".",
+                "gateway.bulkhead.", "max-concurrent-calls", Integer.class, config.getMaxConcurrentCalls()));
+        return bulkheadFilter.apply(config);
+    }
+
+    /**
+     * 라우트별 서킷 브레이커 필터 생성
+     * - gateway.circuit-breaker.routes.{routeId}.failure-rate-threshold / slow-call-rate-threshold /
+     *   slow-call-duration / sliding-window-size / minimum-calls / wait-in-open /
+     *   permitted-calls-in-half-open 으로 재정의 가능
+     */
+    private GatewayFilter circuitBreaker(String routeId) {
+        String prefix = "gateway.circuit-breaker.routes." + routeId + ".";
+        String defaults = "gateway.circuit-breaker.";
+
+        CircuitBreakerFilter.Config config = new CircuitBreakerFilter.Config();
+        config.setRouteId(routeId);
+        config.setFailureRateThreshold(routeProperty(prefix, defaults, "failure-rate-threshold", Float.class, config.getFailureRateThreshold()));
+        config.setSlowCallRateThreshold(routeProperty(prefix, defaults, "slow-call-rate-threshold", Float.class, config.getSlowCallRateThreshold()));
+        config.setSlowCallDuration(routeProperty(prefix, defaults, "slow-call-duration", Duration.class, config.getSlowCallDuration()));
+        config.setSlidingWindowSize(routeProperty(prefix, defaults, "sliding-window-size", Integer.class, config.getSlidingWindowSize()));
+        config.setMinimumCalls(routeProperty(prefix, defaults, "minimum-calls", Integer.class, config.getMinimumCalls()));
+        config.setWaitInOpen(routeProperty(prefix, defaults, "wait-in-open", Duration.class, config.getWaitInOpen()));
+        config.setPermittedCallsInHalfOpen(routeProperty(prefix, defaults, "permitted-calls-in-half-open", Integer.class, config.getPermittedCallsInHalfOpen()));
+        return circuitBreakerFilter.apply(config);
+    }
+
+    /**
+     * 라우트별 설정값 → 전역 설정값 → 기본값 순으로 조회
+     */
+    private <T> T routeProperty(String routePrefix, String globalPrefix, String name, Class<T> type, T defaultValue) {
+        T global = environment.getProperty(globalPrefix + name, type, defaultValue);
+        return environment.getProperty(routePrefix + name, type, global);
+    }
+
+    /**
+     * 라우트 대기열 사용 여부 (gateway.waiting-room.routes.{routeId}.enabled)
+     */
+    private boolean waitingRoomEnabled(String routeId) {
+        return environment.getProperty("gateway.waiting-room.routes." + routeId + ".enabled", Boolean.class, false);
+    }
+
+    /**
+     * 라우트별 대기열 필터 생성
+     * - gateway.waiting-room.routes.{routeId}.admit-per-second / path-patterns 로 설정
+     */
+    private GatewayFilter waitingRoom(String routeId) {
+        String prefix = "gateway.waiting-room.routes." + routeId + ".";
+
+        WaitingRoomFilter.Config config = new WaitingRoomFilter.Config();
+        config.setRouteId(routeId);
+        config.setAdmitPerSecond(environment.getProperty(prefix + "admit-per-second", Double.class, config.getAdmitPerSecond()));
+        String[] patterns = environment.getProperty(prefix + "path-patterns", String[].class);
+        if (patterns != null) {
+            config.setPathPatterns(Arrays.asList(patterns));
+        }
+        return waitingRoomFilter.apply(config);
+    }
+
+    /**
+     * 라우트 응답 캐시 사용 여부 (gateway.response-cache.routes.{routeId}.enabled)
+     */
+    private boolean responseCacheEnabled(String routeId) {
+        return environment.getProperty("gateway.response-cache.routes." + routeId + ".enabled", Boolean.class, false);
+    }
+
+    /**
+     * 라우트별 응답 캐시 필터 생성
+     * - gateway.response-cache.routes.{routeId}.ttl / path-patterns / vary-headers 로 설정
+     */
+    private GatewayFilter responseCache(String routeId) {
+        String prefix = "gateway.response-cache.routes." + routeId + ".";
+
+        ResponseCacheFilter.Config config = new ResponseCacheFilter.Config();
+        config.setRouteId(routeId);
+        config.setTtl(environment.getProperty(prefix + "ttl", Duration.class, config.getTtl()));
+        String[] patterns = environment.getProperty(prefix + "path-patterns", String[].class);
+        if (patterns != null) {
+            config.setPathPatterns(Arrays.asList(patterns));
+        }
+        String[] varyHeaders = environment.getProperty(prefix + "vary-headers", String[].class);
+        if (varyHeaders != null) {
+            config.setVaryHeaders(Arrays.asList(varyHeaders));
+        }
+        return responseCacheFilter.apply(config);
+    }
+
+    /**
+     * 라우트 동일 요청 합치기 사용 여부 (gateway.coalescing.routes.{routeId}.enabled)
+     */
+    private boolean coalescingEnabled(String routeId) {
+        return environment.getProperty("gateway.coalescing.routes." + routeId + ".enabled", Boolean.class, false);
+    }
+
+    /**
+     * 라우트별 동일 요청 합치기 필터 생성
+     * - gateway.coalescing.routes.{routeId}.max-wait / path-patterns 로 설정
+     */
+    private GatewayFilter coalescing(String routeId) {
+        String prefix = "gateway.coalescing.routes." + routeId + ".";
+
+        RequestCoalescingFilter.Config config = new RequestCoalescingFilter.Config();
+        config.setRouteId(routeId);
+        config.setMaxWait(environment.getProperty(prefix + "max-wait", Duration.class, config.getMaxWait()));
+        String[] patterns = environment.getProperty(prefix + "path-patterns", String[].class);
+        if (patterns != null) {
+            config.setPathPatterns(Arrays.asList(patterns));
+        }
+        return requestCoalescingFilter.apply(config);
+    }
+
+    /**
+     * 라우트 헤지 요청 사용 여부 (gateway.hedging.routes.{routeId}.enabled)
+     */
+    private boolean hedgingEnabled(String routeId) {
+        return environment.getProperty("gateway.hedging.routes." + routeId + ".enabled", Boolean.class, false);
+    }
+
+    /**
+     * 라우트별 헤지 요청 필터 생성
+     * - gateway.hedging.routes.{routeId}.delay-percentile / min-delay / max-delay / budget-percent /
+     *   budget-burst / path-patterns 로 설정 (path-patterns 외에는 gateway.hedging.* 전역값 사용 가능)
+     */
+    private GatewayFilter hedging(String routeId) {
+        String prefix = "gateway.hedging.routes." + routeId + ".";
+        String defaults = "gateway.hedging.";
+
+        HedgingFilter.Config config = new HedgingFilter.Config();
+        config.setRouteId(routeId);
+        config.setDelayPercentile(routeProperty(prefix, defaults, "delay-percentile", Double.class, config.getDelayPercentile()));
+        config.setMinDelay(routeProperty(prefix, defaults, "min-delay", Duration.class, config.getMinDelay()));
+        config.setMaxDelay(routeProperty(prefix, defaults, "max-delay", Duration.class, config.getMaxDelay()));
+        config.setBudgetPercent(routeProperty(prefix, defaults, "budget-percent", Double.class, config.getBudgetPercent()));
+        config.setBudgetBurst(routeProperty(prefix, defaults, "budget-burst", Integer.class, config.getBudgetBurst()));
+        String[] patterns = environment.getProperty(prefix + "path-patterns", String[].class);
+        if (patterns != null) {
+            config.setPathPatterns(Arrays.asList(patterns));
+        }
+        return hedgingFilter.apply(config);
+    }
+}
@@ -0,0 +1,46 @@
+package com.unibooker.gateway.config;
+
+import io.netty.handler.codec.compression.Brotli;
+import io.netty.handler.codec.compression.Zstd;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.web.embedded.netty.NettyServerCustomizer;
+import org.springframework.cloud.gateway.config.HttpClientCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import reactor.netty.http.HttpProtocol;
+import reactor.netty.http.server.compression.GzipOption;
+import reactor.netty.http.server.compression.ZstdOption;
+
+/**
+ * 게이트웨이 HTTP 프로토콜/압축 설정
+ * - 클라이언트 구간: server.http2.enabled → HTTP/2 (평문은 h2c, HTTP/1.1 병행)
+ * - 응답 압축: server.compression (크기 기준, Content-Type 허용 목록)으로 대상 결정,
+ *   Accept-Encoding 협상 순서 br → zstd → gzip → deflate (br/zstd는 네이티브 라이브러리 있을 때만)
+ * - 압축 수준: gateway.compression.gzip-level / zstd-level (br은 Netty 기본 quality 4)
+ * - 업스트림 구간: gateway.upstream.h2c=true면 h2c 업그레이드 시도, 미지원 서비스는 HTTP/1.1 유지
+ * - 업스트림 요청에는 Accept-Encoding을 보내지 않음 (default-filters) → 내부 구간 무압축, 캐시/합치기 본문은 항상 원문
+ */
+@Slf4j
+@Configuration
+public class HttpProtocolConfig {
+
+    @Bean
+    public NettyServerCustomizer compressionLevelCustomizer(
+            @Value("${gateway.compression.gzip-level:6}") int gzipLevel,
+            @Value("${gateway.compression.zstd-level:3}") int zstdLevel) {
+        log.info("응답 압축 수준 - gzip: {}, zstd: {} (사용 가능: {}), br 사용 가능: {}",
+                gzipLevel, zstdLevel, Zstd.isAvailable(), Brotli.isAvailable());
+        return server -> server.compressOptions(
+                GzipOption.builder().compressionLevel(gzipLevel).build(),
+                ZstdOption.builder().compressionLevel(zstdLevel).build());
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = "gateway.upstream.h2c", havingValue = "true")
+    public HttpClientCustomizer upstreamH2cCustomizer() {
+        log.info("업스트림 h2c 사용 (HTTP/1.1 병행)");
+        return httpClient -> httpClient.protocol(HttpProtocol.H2C, HttpProtocol.HTTP11);
+    }
+}
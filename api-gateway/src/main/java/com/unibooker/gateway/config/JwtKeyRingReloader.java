@@ -0,0 +1,42 @@
+package com.unibooker.gateway.config;
+
+import com.unibooker.common.util.JwtKeyRing;
+import com.unibooker.gateway.cache.VerifiedTokenCache;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * JWT 키 파일 변경 감지 (재시작 없이 키 교체)
+ * - jwt.keyring.file 설정 시에만 동작
+ * - 키가 제거되거나 시크릿이 바뀌면 검증 캐시를 비워 이전 키로 서명된 토큰이 더 이상 통과하지 않도록 함
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnExpression("'${jwt.keyring.file:}' != ''")
+public class JwtKeyRingReloader {
+
+    private final JwtKeyRing jwtKeyRing;
+    private final VerifiedTokenCache verifiedTokenCache;
+
+    @Scheduled(fixedDelayString = "${jwt.keyring.reload-interval:PT10S}")
+    public void reload() {
+        long revision = jwtKeyRing.getKeyRevision();
+        try {
+            if (!jwtKeyRing.reloadIfModified()) {
+                return;
+            }
+        } catch (Exception e) {
+            log.warn("JWT 키 파일 갱신 실패 - 기존 키 유지: {}", e.getMessage());
+            return;
+        }
+
+        log.info("JWT 키 갱신 - active: {}, keys: {}", jwtKeyRing.getActiveKid(), jwtKeyRing.getKeyIds());
+        if (jwtKeyRing.getKeyRevision() != revision) {
+            verifiedTokenCache.invalidateAll();
+        }
+    }
+}
@@ -0,0 +1,17 @@
+package com.unibooker.gateway.config;
+
+import com.unibooker.gateway.loadbalancer.PeakEwmaLoadBalancerConfiguration;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.cloud.loadbalancer.annotation.LoadBalancerClients;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * lb:// 라우트 로드 밸런서 설정
+ * - gateway.load-balancer.strategy=peak-ewma (기본): 지연 기반 P2C 선택
+ * - round-robin: Spring Cloud LoadBalancer 기본값 사용
+ */
+@Configuration
+@ConditionalOnProperty(name = "gateway.load-balancer.strategy", havingValue = "peak-ewma", matchIfMissing = true)
+@LoadBalancerClients(defaultConfiguration = PeakEwmaLoadBalancerConfiguration.class)
+public class LoadBalancerConfig {
+}
@@ -0,0 +1,35 @@
+package com.unibooker.gateway.config;
+
+import com.unibooker.gateway.waitingroom.AdmissionQueueFactory;
+import com.unibooker.gateway.waitingroom.InMemoryAdmissionQueue;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+/**
+ * 대기열(Waiting Room) 설정
+ * - 기본 저장소: 인메모리 대기열
+ * - AdmissionQueueFactory Bean을 직접 등록하면 다른 저장소로 교체
+ */
+@Configuration
+public class WaitingRoomConfig {
+
+    @Value("${gateway.waiting-room.pass-ttl:PT10M}")
+    private Duration passTtl;
+
+    @Value("${gateway.waiting-room.abandon-timeout:PT1M}")
+    private Duration abandonTimeout;
+
+    @Value("${gateway.waiting-room.max-tickets:200000}")
+    private int maxTickets;
+
+    @Bean
+    @ConditionalOnMissingBean
+    public AdmissionQueueFactory admissionQueueFactory() {
+        return (queueId, admitPerSecond) -> new InMemoryAdmissionQueue(
+                admitPerSecond, passTtl.toMillis(), abandonTimeout.toMillis(), maxTickets);
+    }
+}
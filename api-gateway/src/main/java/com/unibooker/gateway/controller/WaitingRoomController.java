@@ -0,0 +1,42 @@
+package com.unibooker.gateway.controller;
+
+import com.unibooker.common.response.BaseResponse;
+import com.unibooker.gateway.waitingroom.AdmissionQueue;
+import com.unibooker.gateway.waitingroom.TicketStatus;
+import com.unibooker.gateway.waitingroom.WaitingRoomRegistry;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * 대기열 상태 조회 컨트롤러
+ * - 대기 중인 클라이언트가 원 요청을 반복하지 않고 순번/예상 시간을 폴링
+ */
+@Slf4j
+@RestController
+@RequestMapping("/api/waiting-room")
+@RequiredArgsConstructor
+public class WaitingRoomController {
+
+    private final WaitingRoomRegistry waitingRoomRegistry;
+
+    /**
+     * 티켓 상태 조회
+     */
+    @GetMapping("/{queueId}/tickets/{ticket}")
+    public ResponseEntity<BaseResponse<TicketStatus>> getTicketStatus(
+            @PathVariable String queueId,
+            @PathVariable String ticket) {
+        AdmissionQueue queue = waitingRoomRegistry.find(queueId);
+        if (queue == null) {
+            return ResponseEntity.status(HttpStatus.NOT_FOUND)
+                    .body(BaseResponse.error(HttpStatus.NOT_FOUND.value(), "대기열을 찾을 수 없습니다."));
+        }
+        return ResponseEntity.ok(BaseResponse.success(queue.check(ticket, System.currentTimeMillis())));
+    }
+}
@@ -0,0 +1,142 @@
+package com.unibooker.gateway.cookie;
+
+import com.unibooker.common.enums.UserRole;
+import com.unibooker.common.util.CookieUtil;
+import org.springframework.http.HttpHeaders;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 액세스 토큰 쿠키 스캐너
+ * - 권한 → 쿠키 이름 표는 클래스 로딩 시 한 번 계산 (같은 쿠키를 쓰는 권한은 한 칸 공유)
+ * - Cookie 헤더 원문을 한 번 훑으며 이름만 비교 → 요청 쿠키 맵(MultiValueMap) 생성 없음
+ * - 권한 힌트가 있으면 해당 권한 쿠키만, 없으면 UserRole 선언 순서가 우선
+ *   (최우선 쿠키를 만나면 즉시 종료, 같은 이름이 여러 번이면 첫 번째 값)
+ * - 값 파싱은 Netty ServerCookieDecoder(LAX)와 동일 (';' 구분, 앞쪽 공백/','/';' 건너뜀, '=' 없는 항목 무시, 양끝 큰따옴표 제거)
+ * - 할당은 찾은 토큰 문자열 1개뿐
+ */
+public final class AccessTokenCookieScanner {
+
+    /** 중복 제거된 액세스 토큰 쿠키 이름 (UserRole 선언 순서 = 우선순위) */
+    private static final String[] NAMES;
+
+    /** UserRole.ordinal() → NAMES 인덱스 */
+    private static final int[] SLOTS;
+
+    static {
+        List<String> names = new ArrayList<>();
+        UserRole[] roles = UserRole.values();
+        SLOTS = new int[roles.length];
+        for (UserRole role : roles) {
+            String name = CookieUtil.getAccessTokenCookieName(role);
+            int slot = names.indexOf(name);
+            if (slot < 0) {
+                slot = names.size();
+                names.add(name);
+            }
+            SLOTS[role.ordinal()] = slot;
+        }
+        NAMES = names.toArray(String[]::new);
+    }
+
+    private AccessTokenCookieScanner() {
+    }
+
+    /**
+     * 권한의 액세스 토큰 쿠키 이름 (미리 계산된 표)
+     */
+    public static String cookieName(UserRole role) {
+        return NAMES[SLOTS[role.ordinal()]];
+    }
+
+    /**
+     * 요청 헤더에서 액세스 토큰 쿠키 값 조회
+     * - role: 경로 권한 힌트 (null이면 모든 권한 쿠키 중 우선순위가 가장 높은 것)
+     * - 없으면 null
+     */
+    public static String find(HttpHeaders headers, UserRole role) {
+        List<String> cookieHeaders = headers.get(HttpHeaders.COOKIE);
+        return cookieHeaders != null ? find(cookieHeaders, role) : null;
+    }
+
+    /**
+     * Cookie 헤더 값 목록에서 액세스 토큰 쿠키 값 조회 (HTTP/2는 쿠키별로 헤더가 나뉠 수 있음)
+     */
+    public static String find(List<String> cookieHeaders, UserRole role) {
+        int only = role != null ? SLOTS[role.ordinal()] : -1;
+        String found = null;
+        int foundRank = NAMES.length;
+
+        for (int h = 0, headerCount = cookieHeaders.size(); h < headerCount; h++) {
+            String header = cookieHeaders.get(h);
+            int length = header.length();
+            int i = 0;
+            while (i < length) {
+                // 구분자/공백 건너뛰기
+                char c = header.charAt(i);
+                if (c == ' ' || c == '\t' || c == '\n' || c == '\u000b' || c == '\f' || c == '\r' || c == ',' || c == ';') {
+                    i++;
+                    continue;
+                }
+
+                // 이름: '=' 또는 ';' 전까지
+                int nameStart = i;
+                while (i < length && (c = header.charAt(i)) != '=' && c != ';') {
+                    i++;
+                }
+                int nameEnd = i;
+
+                // '=' 없는 항목은 쿠키로 보지 않음 (디코더와 동일)
+                if (i == length || c != '=') {
+                    continue;
+                }
+
+                // 값: '=' 다음부터 ';' 전까지
+                int valueStart = i + 1;
+                int semicolon = header.indexOf(';', valueStart);
+                int valueEnd = semicolon >= 0 ? semicolon : length;
+                i = valueEnd;
+
+                int rank = rank(header, nameStart, nameEnd, only);
+                if (rank >= 0 && rank < foundRank) {
+                    found = unwrap(header, valueStart, valueEnd);
+                    foundRank = rank;
+                    if (rank == 0) {
+                        return found;
+                    }
+                }
+            }
+        }
+        return found;
+    }
+
+    /**
+     * 쿠키 이름의 우선순위 (0이 최우선, 대상 아니면 -1)
+     * - 권한 힌트가 있으면 해당 쿠키만 0
+     */
+    private static int rank(String header, int start, int end, int only) {
+        int length = end - start;
+        if (only >= 0) {
+            String name = NAMES[only];
+            return name.length() == length && header.startsWith(name, start) ? 0 : -1;
+        }
+        for (int slot = 0; slot < NAMES.length; slot++) {
+            String name = NAMES[slot];
+            if (name.length() == length && header.startsWith(name, start)) {
+                return slot;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * 값 추출 (양끝 큰따옴표 제거)
+     */
+    private static String unwrap(String header, int start, int end) {
+        if (end - start >= 2 && header.charAt(start) == '"' && header.charAt(end - 1) == '"') {
+            return header.substring(start + 1, end - 1);
+        }
+        return header.substring(start, end);
+    }
+}
@@ -0,0 +1,112 @@
+package com.unibooker.gateway.error;
+
+import lombok.Getter;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.server.reactive.ServerHttpResponse;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Mono;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * 게이트웨이 에러 응답 목록
+ * - 필터가 반환하는 상태 코드/메시지 조합을 한 곳에 모음
+ * - JSON 본문은 기동 시 1회 인코딩해 읽기 전용 버퍼로 보관 (요청마다 포맷/인코딩하지 않음)
+ * - 형식: {"success":false,"code":"<HTTP 상태>","message":"<메시지>"}
+ * - 요청별 값이 필요한 경우 data 필드를 덧붙여 작성 (write(exchange, dataJson))
+ * - 업스트림을 호출하지 않고 게이트웨이가 거절한 응답은 reject()로 작성 (LOCAL_REJECTION_ATTR 표시)
+ */
+@Getter
+public enum GatewayError {
+
+    // ========== 인증 (JwtAuthenticationFilter) ==========
+    TOKEN_REQUIRED(HttpStatus.UNAUTHORIZED, "JWT 토큰이 필요합니다."),
+    TOKEN_INVALID(HttpStatus.UNAUTHORIZED, "유효하지 않은 토큰입니다."),
+    TOKEN_VERIFICATION_FAILED(HttpStatus.UNAUTHORIZED, "토큰 검증 실패"),
+    TOKEN_REVOKED(HttpStatus.UNAUTHORIZED, "로그아웃되었거나 사용이 중지된 토큰입니다."),
+
+    // ========== 트래픽 제어 ==========
+    RATE_LIMITED(HttpStatus.TOO_MANY_REQUESTS, "요청이 너무 많습니다. 잠시 후 다시 시도해주세요."),
+    CONCURRENCY_LIMITED(HttpStatus.SERVICE_UNAVAILABLE, "요청이 많아 처리할 수 없습니다. 잠시 후 다시 시도해주세요."),
+    WAITING_ROOM_QUEUED(HttpStatus.TOO_MANY_REQUESTS, "대기열에서 입장 순서를 기다리는 중입니다."),
+    WAITING_ROOM_FULL(HttpStatus.SERVICE_UNAVAILABLE, "대기 인원이 너무 많습니다. 잠시 후 다시 시도해주세요."),
+    TENANT_QUOTA_EXCEEDED(HttpStatus.TOO_MANY_REQUESTS, "기업 사용량 한도를 초과했습니다. 다음 집계 기간에 다시 시도해주세요."),
+
+    // ========== 업스트림 보호 (서킷 브레이커 / 벌크헤드) ==========
+    UPSTREAM_UNAVAILABLE(HttpStatus.SERVICE_UNAVAILABLE, "서비스가 일시적으로 응답하지 않습니다. 잠시 후 다시 시도해주세요."),
+    UPSTREAM_BUSY(HttpStatus.SERVICE_UNAVAILABLE, "서비스 요청이 많아 처리할 수 없습니다. 잠시 후 다시 시도해주세요."),
+    UPSTREAM_TIMEOUT(HttpStatus.GATEWAY_TIMEOUT, "서비스 응답이 지연되고 있습니다. 잠시 후 다시 시도해주세요.");
+
+    public static final String CONTENT_TYPE = "application/json; charset=UTF-8";
+
+    /** 게이트웨이 자체 거절 표시 (업스트림 지연/오류 신호로 취급하지 않도록) */
+    public static final String LOCAL_REJECTION_ATTR = GatewayError.class.getName() + ".localRejection";
+
+    private final HttpStatus status;
+    private final String message;
+    private final ByteBuffer body;
+    private final String contentLength;
+    private final String jsonPrefix;
+
+    GatewayError(HttpStatus status, String message) {
+        this.status = status;
+        this.message = message;
+        String json = toJson(status, message);
+        byte[] bytes = json.getBytes(StandardCharsets.UTF_8);
+        this.body = ByteBuffer.wrap(bytes).asReadOnlyBuffer();
+        this.contentLength = String.valueOf(bytes.length);
+        this.jsonPrefix = json.substring(0, json.length() - 1);
+    }
+
+    /**
+     * 에러 응답 JSON 생성 (기동 시 인코딩용, 요청 처리 경로에서 호출하지 않음)
+     */
+    static String toJson(HttpStatus status, String message) {
+        return "{\"success\":false,\"code\":\"" + status.value() + "\",\"message\":\"" + message + "\"}";
+    }
+
+    /**
+     * 미리 인코딩된 본문 사본 (읽기 위치만 독립, 바이트 배열은 공유)
+     */
+    public ByteBuffer body() {
+        return body.duplicate();
+    }
+
+    /**
+     * 에러 응답 작성
+     * - 버퍼는 복사 없이 감싸서 전달 (Netty에서도 wrappedBuffer로 그대로 사용)
+     */
+    public Mono<Void> write(ServerWebExchange exchange) {
+        ServerHttpResponse response = exchange.getResponse();
+        response.setStatusCode(status);
+        HttpHeaders headers = response.getHeaders();
+        headers.set(HttpHeaders.CONTENT_TYPE, CONTENT_TYPE);
+        headers.set(HttpHeaders.CONTENT_LENGTH, contentLength);
+        return response.writeWith(Mono.just(response.bufferFactory().wrap(body())));
+    }
+
+    /**
+     * 게이트웨이 자체 거절 응답 작성 (업스트림 미호출)
+     * - 바깥쪽 필터(동시 요청 제한 등)가 업스트림 실패와 구분할 수 있도록 교환 속성에 표시
+     */
+    public Mono<Void> reject(ServerWebExchange exchange) {
+        exchange.getAttributes().put(LOCAL_REJECTION_ATTR, this);
+        return write(exchange);
+    }
+
+    /**
+     * data 필드를 포함한 에러 응답 작성
+     * - dataJson: 이미 직렬화된 JSON 값 (호출 측에서 생성)
+     */
+    public Mono<Void> write(ServerWebExchange exchange, String dataJson) {
+        byte[] bytes = (jsonPrefix + ",\"data\":" + dataJson + "}").getBytes(StandardCharsets.UTF_8);
+        ServerHttpResponse response = exchange.getResponse();
+        response.setStatusCode(status);
+        HttpHeaders headers = response.getHeaders();
+        headers.set(HttpHeaders.CONTENT_TYPE, CONTENT_TYPE);
+        headers.set(HttpHeaders.CONTENT_LENGTH, String.valueOf(bytes.length));
+        return response.writeWith(Mono.just(response.bufferFactory().wrap(bytes)));
+    }
+}
@@ -0,0 +1,50 @@
+package com.unibooker.gateway.filter;
+
+import org.reactivestreams.Publisher;
+import org.springframework.core.io.buffer.DataBuffer;
+import reactor.core.publisher.Flux;
+
+import java.io.ByteArrayOutputStream;
+import java.util.function.Consumer;
+
+/**
+ * 응답 본문을 전송하면서 복사 (응답 캐시 / 동일 요청 합치기 공용)
+ * - 전송되는 버퍼의 읽기 위치는 바꾸지 않음
+ * - limit를 넘으면 복사를 멈추고 onOverflow 한 번 호출, 끝까지 복사한 경우에만 onComplete 호출
+ */
+final class BodyCapture {
+
+    private BodyCapture() {
+    }
+
+    static Flux<? extends DataBuffer> tee(Publisher<? extends DataBuffer> body, int limit,
+                                          Consumer<byte[]> onComplete, Runnable onOverflow) {
+        return Flux.defer(() -> {
+            ByteArrayOutputStream copy = new ByteArrayOutputStream();
+            boolean[] overflow = {false};
+
+            return Flux.from(body)
+                    .doOnNext(buffer -> {
+                        if (overflow[0]) {
+                            return;
+                        }
+                        int length = buffer.readableByteCount();
+                        if (copy.size() + length > limit) {
+                            overflow[0] = true;
+                            onOverflow.run();
+                            return;
+                        }
+                        int position = buffer.readPosition();
+                        byte[] bytes = new byte[length];
+                        buffer.read(bytes);
+                        buffer.readPosition(position);
+                        copy.writeBytes(bytes);
+                    })
+                    .doOnComplete(() -> {
+                        if (!overflow[0]) {
+                            onComplete.accept(copy.toByteArray());
+                        }
+                    });
+        });
+    }
+}
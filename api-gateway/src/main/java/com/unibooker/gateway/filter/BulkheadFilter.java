@@ -0,0 +1,73 @@
+package com.unibooker.gateway.filter;
+
+import com.unibooker.gateway.error.GatewayError;
+import io.github.resilience4j.bulkhead.Bulkhead;
+import io.github.resilience4j.bulkhead.BulkheadConfig;
+import io.github.resilience4j.bulkhead.BulkheadRegistry;
+import lombok.Getter;
+import lombok.Setter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cloud.gateway.filter.GatewayFilter;
+import org.springframework.cloud.gateway.filter.factory.AbstractGatewayFilterFactory;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+
+/**
+ * 업스트림 서비스별 벌크헤드 필터 (Resilience4j 세마포어)
+ * - 같은 서비스로 가는 모든 라우트의 처리 중 요청 합계를 제한 → 느려진 서비스가 게이트웨이 자원을 독점하지 않음
+ * - 라우트별 적응형 제한(ConcurrencyLimitFilter)과 별개의 고정 상한, 초과 시 대기 없이 503
+ * - 연결 수 제한은 업스트림 인스턴스별 Netty 연결 풀 설정 (spring.cloud.gateway.server.webflux.httpclient.pool)
+ * - 지표: resilience4j.bulkhead.*{name=서비스명}, 조회: /actuator/bulkheads
+ */
+@Slf4j
+@Component
+public class BulkheadFilter extends AbstractGatewayFilterFactory<BulkheadFilter.Config> {
+
+    private final BulkheadRegistry bulkheadRegistry;
+    private final boolean enabled;
+
+    public BulkheadFilter(BulkheadRegistry bulkheadRegistry,
+                          @Value("${gateway.bulkhead.enabled:true}") boolean enabled) {
+        super(Config.class);
+        this.bulkheadRegistry = bulkheadRegistry;
+        this.enabled = enabled;
+    }
+
+    @Override
+    public GatewayFilter apply(Config config) {
+        if (!enabled) {
+            return (exchange, chain) -> chain.filter(exchange);
+        }
+
+        // 같은 이름이면 기존 인스턴스 공유 (서비스 단위)
+        Bulkhead bulkhead = bulkheadRegistry.bulkhead(config.getUpstream(), () -> BulkheadConfig.custom()
+                .maxConcurrentCalls(config.getMaxConcurrentCalls())
+                .maxWaitDuration(Duration.ZERO)
+                .build());
+
+        return (exchange, chain) -> {
+            if (!bulkhead.tryAcquirePermission()) {
+                log.debug("벌크헤드 한도 초과 - upstream: {}, max: {}",
+                        config.getUpstream(), bulkhead.getBulkheadConfig().getMaxConcurrentCalls());
+                return GatewayError.UPSTREAM_BUSY.reject(exchange);
+            }
+            return chain.filter(exchange)
+                    .doFinally(signal -> bulkhead.onComplete());
+        };
+    }
+
+    /**
+     * 필터 설정 클래스 (업스트림 서비스별)
+     */
+    @Getter
+    @Setter
+    public static class Config {
+        /** 업스트림 서비스명 (벌크헤드 이름) */
+        private String upstream = "unknown";
+        /** 최대 동시 처리 요청 수 */
+        private int maxConcurrentCalls = 500;
+    }
+}
@@ -0,0 +1,171 @@
+package com.unibooker.gateway.filter;
+
+import com.unibooker.gateway.error.GatewayError;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerConfig;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.Getter;
+import lombok.Setter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cloud.gateway.filter.GatewayFilter;
+import org.springframework.cloud.gateway.filter.factory.AbstractGatewayFilterFactory;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ResponseStatusException;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * 라우트별 서킷 브레이커 필터 (Resilience4j)
+ * - 최근 N건(sliding-window-size) 중 실패율 또는 느린 호출 비율이 기준을 넘으면 차단(OPEN)
+ * - 실패: 업스트림 5xx 응답, 연결/응답 시간 초과 등 라우팅 오류
+ * - 차단 중에는 업스트림 호출 없이 즉시 503 + Retry-After, wait-in-open 후 일부 요청으로 회복 확인(HALF_OPEN)
+ * - 라우팅 오류 시 응답 전이면 503(연결 실패) / 504(시간 초과) 대체 응답
+ * - 상태/호출 지표: resilience4j.circuitbreaker.*{name=routeId}, 상태 변경: gateway.circuit-breaker.transitions{route, from, to}
+ * - 조회: /actuator/circuitbreakers, /actuator/circuitbreakerevents
+ */
+@Slf4j
+@Component
+public class CircuitBreakerFilter extends AbstractGatewayFilterFactory<CircuitBreakerFilter.Config> {
+
+    private final CircuitBreakerRegistry circuitBreakerRegistry;
+    private final MeterRegistry meterRegistry;
+    private final boolean enabled;
+
+    public CircuitBreakerFilter(CircuitBreakerRegistry circuitBreakerRegistry,
+                                MeterRegistry meterRegistry,
+                                @Value("${gateway.circuit-breaker.enabled:true}") boolean enabled) {
+        super(Config.class);
+        this.circuitBreakerRegistry = circuitBreakerRegistry;
+        this.meterRegistry = meterRegistry;
+        this.enabled = enabled;
+    }
+
+    @Override
+    public GatewayFilter apply(Config config) {
+        if (!enabled) {
+            return (exchange, chain) -> chain.filter(exchange);
+        }
+
+        CircuitBreaker circuitBreaker = circuitBreakerRegistry.circuitBreaker(config.getRouteId(), toConfig(config));
+        circuitBreaker.getEventPublisher().onStateTransition(event -> {
+            CircuitBreaker.StateTransition transition = event.getStateTransition();
+            log.warn("서킷 상태 변경 - route: {}, {} → {}",
+                    config.getRouteId(), transition.getFromState(), transition.getToState());
+            Counter.builder("gateway.circuit-breaker.transitions")
+                    .tag("route", config.getRouteId())
+                    .tag("from", transition.getFromState().name())
+                    .tag("to", transition.getToState().name())
+                    .register(meterRegistry)
+                    .increment();
+        });
+        String retryAfter = String.valueOf(Math.max(1L, config.getWaitInOpen().toSeconds()));
+
+        log.info("서킷 브레이커 적용 - route: {}, failureRate: {}%, slowCallRate: {}% (>{}), window: {}",
+                config.getRouteId(), config.getFailureRateThreshold(), config.getSlowCallRateThreshold(),
+                config.getSlowCallDuration(), config.getSlidingWindowSize());
+
+        return (exchange, chain) -> {
+            if (!circuitBreaker.tryAcquirePermission()) {
+                log.debug("서킷 차단 중 - route: {}, state: {}", config.getRouteId(), circuitBreaker.getState());
+                exchange.getResponse().getHeaders().set("Retry-After", retryAfter);
+                return GatewayError.UPSTREAM_UNAVAILABLE.reject(exchange);
+            }
+
+            long start = System.nanoTime();
+            return chain.filter(exchange)
+                    .doOnSuccess(ignored -> onComplete(circuitBreaker, exchange, System.nanoTime() - start))
+                    .onErrorResume(e -> onError(circuitBreaker, exchange, e, System.nanoTime() - start))
+                    .doOnCancel(circuitBreaker::releasePermission);
+        };
+    }
+
+    /**
+     * 업스트림 응답 완료 (5xx는 실패로 기록)
+     */
+    private void onComplete(CircuitBreaker circuitBreaker, ServerWebExchange exchange, long elapsedNanos) {
+        HttpStatusCode status = exchange.getResponse().getStatusCode();
+        if (status != null && status.is5xxServerError()) {
+            circuitBreaker.onError(elapsedNanos, TimeUnit.NANOSECONDS, new UpstreamStatusException(status));
+        } else {
+            circuitBreaker.onSuccess(elapsedNanos, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    /**
+     * 라우팅 오류 기록 후 대체 응답 (이미 응답을 보내기 시작했으면 그대로 전파)
+     */
+    private Mono<Void> onError(CircuitBreaker circuitBreaker, ServerWebExchange exchange,
+                               Throwable e, long elapsedNanos) {
+        circuitBreaker.onError(elapsedNanos, TimeUnit.NANOSECONDS, e);
+        if (exchange.getResponse().isCommitted()) {
+            return Mono.error(e);
+        }
+        log.debug("업스트림 호출 실패 - route: {}, {}", circuitBreaker.getName(), e.toString());
+        return isTimeout(e)
+                ? GatewayError.UPSTREAM_TIMEOUT.write(exchange)
+                : GatewayError.UPSTREAM_UNAVAILABLE.write(exchange);
+    }
+
+    private boolean isTimeout(Throwable e) {
+        if (e instanceof ResponseStatusException rse && rse.getStatusCode().value() == HttpStatus.GATEWAY_TIMEOUT.value()) {
+            return true;
+        }
+        return e instanceof TimeoutException || e.getCause() instanceof TimeoutException;
+    }
+
+    private static CircuitBreakerConfig toConfig(Config config) {
+        return CircuitBreakerConfig.custom()
+                .slidingWindowType(CircuitBreakerConfig.SlidingWindowType.COUNT_BASED)
+                .slidingWindowSize(config.getSlidingWindowSize())
+                .minimumNumberOfCalls(config.getMinimumCalls())
+                .failureRateThreshold(config.getFailureRateThreshold())
+                .slowCallRateThreshold(config.getSlowCallRateThreshold())
+                .slowCallDurationThreshold(config.getSlowCallDuration())
+                .waitDurationInOpenState(config.getWaitInOpen())
+                .permittedNumberOfCallsInHalfOpenState(config.getPermittedCallsInHalfOpen())
+                .automaticTransitionFromOpenToHalfOpenEnabled(false)
+                .build();
+    }
+
+    /**
+     * 업스트림 5xx 응답 (실패 기록용, 응답 자체는 그대로 전달)
+     */
+    static class UpstreamStatusException extends RuntimeException {
+        UpstreamStatusException(HttpStatusCode status) {
+            super("upstream status " + status.value(), null, false, false);
+        }
+    }
+
+    /**
+     * 필터 설정 클래스 (라우트별)
+     */
+    @Getter
+    @Setter
+    public static class Config {
+        /** 서킷 이름 (라우트 ID) */
+        private String routeId = "unknown";
+        /** 실패율 기준 (%) */
+        private float failureRateThreshold = 50;
+        /** 느린 호출 비율 기준 (%) */
+        private float slowCallRateThreshold = 80;
+        /** 느린 호출 기준 시간 */
+        private Duration slowCallDuration = Duration.ofSeconds(3);
+        /** 판단 기준 최근 호출 수 */
+        private int slidingWindowSize = 50;
+        /** 판단에 필요한 최소 호출 수 */
+        private int minimumCalls = 20;
+        /** 차단 유지 시간 (이후 HALF_OPEN) */
+        private Duration waitInOpen = Duration.ofSeconds(30);
+        /** HALF_OPEN에서 허용할 시험 호출 수 */
+        private int permittedCallsInHalfOpen = 5;
+    }
+}
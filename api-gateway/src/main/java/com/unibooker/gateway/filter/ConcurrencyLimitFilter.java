@@ -0,0 +1,128 @@
+package com.unibooker.gateway.filter;
+
+import com.unibooker.gateway.concurrency.AdaptiveConcurrencyLimit;
+import com.unibooker.gateway.error.GatewayError;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.Getter;
+import lombok.Setter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cloud.gateway.filter.GatewayFilter;
+import org.springframework.cloud.gateway.filter.factory.AbstractGatewayFilterFactory;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.SignalType;
+
+/**
+ * 적응형 동시 요청 제한 필터 (부하 차단)
+ * - 라우트(업스트림)별로 지연 기준선을 학습하여 동시 처리 한도를 자동 조정
+ * - 처리 중 요청 수가 한도를 넘으면 큐잉하지 않고 즉시 503 반환
+ * - 벌크헤드/서킷 브레이커가 업스트림 호출 없이 거절한 응답은 한도 조정에 반영하지 않음
+ * - 지표: gateway.concurrency.limit{route}, gateway.concurrency.inflight{route},
+ *         gateway.concurrency.rejected{route}
+ */
+@Slf4j
+@Component
+public class ConcurrencyLimitFilter extends AbstractGatewayFilterFactory<ConcurrencyLimitFilter.Config> {
+
+    private final MeterRegistry meterRegistry;
+    private final boolean enabled;
+
+    public ConcurrencyLimitFilter(MeterRegistry meterRegistry,
+                                  @Value("${gateway.concurrency-limit.enabled:true}") boolean enabled) {
+        super(Config.class);
+        this.meterRegistry = meterRegistry;
+        this.enabled = enabled;
+    }
+
+    @Override
+    public GatewayFilter apply(Config config) {
+        if (!enabled) {
+            return (exchange, chain) -> chain.filter(exchange);
+        }
+
+        AdaptiveConcurrencyLimit limiter = new AdaptiveConcurrencyLimit(
+                config.getInitialLimit(), config.getMinLimit(), config.getMaxLimit(), config.getTolerance());
+
+        Gauge.builder("gateway.concurrency.limit", limiter, AdaptiveConcurrencyLimit::getLimit)
+                .tag("route", config.getRouteId())
+                .register(meterRegistry);
+        Gauge.builder("gateway.concurrency.inflight", limiter, AdaptiveConcurrencyLimit::getInFlight)
+                .tag("route", config.getRouteId())
+                .register(meterRegistry);
+        Gauge.builder("gateway.concurrency.baseline.rtt", limiter, AdaptiveConcurrencyLimit::getBaselineRttMillis)
+                .tag("route", config.getRouteId())
+                .baseUnit("milliseconds")
+                .register(meterRegistry);
+        Counter rejected = Counter.builder("gateway.concurrency.rejected")
+                .tag("route", config.getRouteId())
+                .register(meterRegistry);
+
+        log.info("동시 요청 제한 적용 - route: {}, initial: {}, min: {}, max: {}",
+                config.getRouteId(), config.getInitialLimit(), config.getMinLimit(), config.getMaxLimit());
+
+        return (exchange, chain) -> {
+            if (!limiter.tryAcquire()) {
+                rejected.increment();
+                log.debug("동시 요청 한도 초과 - route: {}, limit: {}", config.getRouteId(), limiter.getLimit());
+                return onRejected(exchange);
+            }
+
+            long start = System.nanoTime();
+            return chain.filter(exchange)
+                    .doFinally(signal -> release(limiter, exchange, signal, System.nanoTime() - start));
+        };
+    }
+
+    /**
+     * 슬롯 반납 및 결과 반영
+     * - 게이트웨이 자체 거절(LOCAL_REJECTION_ATTR)은 업스트림 결과가 아니므로 무시
+     */
+    private void release(AdaptiveConcurrencyLimit limiter, ServerWebExchange exchange,
+                         SignalType signal, long elapsedNanos) {
+        if (exchange.getAttributes().containsKey(GatewayError.LOCAL_REJECTION_ATTR)) {
+            limiter.onIgnored();
+            return;
+        }
+        if (signal == SignalType.ON_ERROR) {
+            limiter.onDropped();
+            return;
+        }
+        if (signal != SignalType.ON_COMPLETE) {
+            limiter.onIgnored();
+            return;
+        }
+        HttpStatusCode status = exchange.getResponse().getStatusCode();
+        if (status != null && status.is5xxServerError()) {
+            limiter.onDropped();
+        } else {
+            limiter.onSuccess(elapsedNanos);
+        }
+    }
+
+    /**
+     * 503 응답 반환
+     */
+    private Mono<Void> onRejected(ServerWebExchange exchange) {
+        return GatewayError.CONCURRENCY_LIMITED.write(exchange);
+    }
+
+    /**
+     * 필터 설정 클래스 (라우트별)
+     */
+    @Getter
+    @Setter
+    public static class Config {
+        /** 지표 태그용 라우트 ID */
+        private String routeId = "unknown";
+        private int initialLimit = 20;
+        private int minLimit = 5;
+        private int maxLimit = 500;
+        /** 기준선 대비 허용 지연 배수 */
+        private double tolerance = 1.5;
+    }
+}
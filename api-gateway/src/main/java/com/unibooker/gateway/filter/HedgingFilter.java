@@ -0,0 +1,414 @@
+package com.unibooker.gateway.filter;
+
+import com.unibooker.gateway.hedge.HedgeBudget;
+import com.unibooker.gateway.hedge.LatencyPercentile;
+import com.unibooker.gateway.loadbalancer.PeakEwmaLoadBalancer;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.Getter;
+import lombok.Setter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cloud.client.ServiceInstance;
+import org.springframework.cloud.client.loadbalancer.Response;
+import org.springframework.cloud.gateway.filter.GatewayFilter;
+import org.springframework.cloud.gateway.filter.GatewayFilterChain;
+import org.springframework.cloud.gateway.filter.factory.AbstractGatewayFilterFactory;
+import org.springframework.cloud.gateway.support.ServerWebExchangeUtils;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.http.server.reactive.ServerHttpRequest;
+import org.springframework.http.server.reactive.ServerHttpRequestDecorator;
+import org.springframework.http.server.reactive.ServerHttpResponse;
+import org.springframework.http.server.reactive.ServerHttpResponseDecorator;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ServerWebExchange;
+import org.springframework.web.server.ServerWebExchangeDecorator;
+import reactor.core.Disposable;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.MonoSink;
+import reactor.netty.Connection;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 헤지 요청 필터 (멱등 GET 조회의 꼬리 지연 단축)
+ * - 대상: GET + 지정한 경로 패턴 + 요청 본문 없음
+ * - 첫 시도가 지연 기준(최근 응답 시간의 delay-percentile 백분위) 안에 응답 헤더를 받지 못하면
+ *   다른 인스턴스로 두 번째 시도를 보내고 먼저 응답한 쪽 사용, 나머지는 취소
+ * - 헤지 수는 예산(budget-percent, 요청 대비 추가 부하 비율)으로 제한, 예산 소진 시 첫 시도만 대기
+ * - 첫 시도가 헤지 전에 실패하면 헤지 없이 그대로 실패 (재시도 아님, 서킷 브레이커가 기록)
+ * - 시도별 exchange 속성/응답 헤더를 분리해 라우팅 → 승자의 상태/헤더/업스트림 연결만 원래 exchange에 반영
+ *   (본문은 NettyWriteResponseFilter가 승자 연결에서 그대로 전송)
+ * - 업스트림 보호 필터(벌크헤드/서킷 브레이커) 안쪽에 등록 → 두 시도가 하나의 호출로 기록
+ * - 다른 인스턴스 선택은 PeakEwmaLoadBalancer 사용 시 보장 (round-robin은 같은 인스턴스일 수 있음)
+ * - 진 시도를 취소해도 로드 밸런서 통계(처리 중 요청 수)는 LoadBalancerCancelFilter가 되돌림
+ * - 지표: gateway.hedging.hedges{route, result=won|lost|denied}, gateway.hedging.delay{route}
+ */
+@Slf4j
+@Component
+public class HedgingFilter extends AbstractGatewayFilterFactory<HedgingFilter.Config> {
+
+    public static final String HEDGED_HEADER = "X-Hedged";
+
+    private static final int LATENCY_SAMPLES = 1000;
+
+    private final MeterRegistry meterRegistry;
+
+    public HedgingFilter(MeterRegistry meterRegistry) {
+        super(Config.class);
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    public GatewayFilter apply(Config config) {
+        PathPatterns patterns = PathPatterns.of(config.getPathPatterns());
+        RouteHedging route = new RouteHedging(config);
+        Gauge.builder("gateway.hedging.delay", route, r -> r.delayNanos() / 1_000_000.0)
+                .tag("route", config.getRouteId())
+                .baseUnit("milliseconds")
+                .register(meterRegistry);
+
+        log.info("헤지 요청 적용 - route: {}, delay: p{} ({}~{}), budget: {}%, paths: {}",
+                config.getRouteId(), config.getDelayPercentile(), config.getMinDelay(), config.getMaxDelay(),
+                config.getBudgetPercent(), config.getPathPatterns());
+
+        return (exchange, chain) -> {
+            ServerHttpRequest request = exchange.getRequest();
+            if (request.getMethod() != HttpMethod.GET || hasBody(request) || !patterns.matches(request)) {
+                return chain.filter(exchange);
+            }
+            route.budget.deposit();
+            return Mono.create(sink -> new Race(exchange, chain, route, sink).start());
+        };
+    }
+
+    private static boolean hasBody(ServerHttpRequest request) {
+        HttpHeaders headers = request.getHeaders();
+        return headers.getContentLength() > 0 || headers.containsKey(HttpHeaders.TRANSFER_ENCODING);
+    }
+
+    /**
+     * 라우트별 헤지 상태 (지연 기준, 예산, 지표)
+     */
+    private class RouteHedging {
+
+        private final long minDelayNanos;
+        private final long maxDelayNanos;
+        private final LatencyPercentile latency;
+        private final HedgeBudget budget;
+        private final Counter won;
+        private final Counter lost;
+        private final Counter denied;
+
+        RouteHedging(Config config) {
+            this.minDelayNanos = config.getMinDelay().toNanos();
+            this.maxDelayNanos = config.getMaxDelay().toNanos();
+            // 표본이 모일 때까지는 최대 지연 기준 사용 (헤지 최소화)
+            this.latency = new LatencyPercentile(LATENCY_SAMPLES, config.getDelayPercentile() / 100.0, maxDelayNanos);
+            this.budget = new HedgeBudget(config.getBudgetPercent() / 100.0, config.getBudgetBurst());
+            this.won = counter(config.getRouteId(), "won");
+            this.lost = counter(config.getRouteId(), "lost");
+            this.denied = counter(config.getRouteId(), "denied");
+        }
+
+        long delayNanos() {
+            return Math.max(minDelayNanos, Math.min(maxDelayNanos, latency.getNanos()));
+        }
+
+        private Counter counter(String routeId, String result) {
+            return Counter.builder("gateway.hedging.hedges")
+                    .tag("route", routeId)
+                    .tag("result", result)
+                    .register(meterRegistry);
+        }
+    }
+
+    /**
+     * 요청 1건의 첫 시도 / 헤지 시도 경합
+     * - 상태 변경은 모두 this 동기화 (시도는 최대 2개)
+     */
+    private static final class Race {
+
+        private final ServerWebExchange exchange;
+        private final GatewayFilterChain chain;
+        private final RouteHedging route;
+        private final MonoSink<Void> sink;
+        private Attempt primary;
+        private Attempt hedge;
+        private Disposable timer;
+        private boolean done;
+
+        Race(ServerWebExchange exchange, GatewayFilterChain chain, RouteHedging route, MonoSink<Void> sink) {
+            this.exchange = exchange;
+            this.chain = chain;
+            this.route = route;
+            this.sink = sink;
+        }
+
+        void start() {
+            sink.onCancel(this::cancel);
+            Attempt first = new Attempt(exchange, null);
+            synchronized (this) {
+                primary = first;
+            }
+            launch(first);
+            synchronized (this) {
+                if (!done) {
+                    timer = Mono.delay(Duration.ofNanos(route.delayNanos())).subscribe(tick -> fireHedge());
+                }
+            }
+        }
+
+        private void fireHedge() {
+            Attempt second;
+            synchronized (this) {
+                if (done || primary.finished) {
+                    return;
+                }
+                if (!route.budget.tryWithdraw()) {
+                    route.denied.increment();
+                    return;
+                }
+                second = new Attempt(exchange, primary.instance());
+                hedge = second;
+            }
+            launch(second);
+        }
+
+        private void launch(Attempt attempt) {
+            Disposable subscription = chain.filter(attempt.exchange)
+                    .subscribe(null, e -> onError(attempt, e), () -> onSuccess(attempt));
+            synchronized (this) {
+                attempt.subscription = subscription;
+                if (attempt.discarded) {
+                    subscription.dispose();
+                }
+            }
+        }
+
+        private synchronized void onSuccess(Attempt attempt) {
+            attempt.finished = true;
+            route.latency.record(attempt.elapsedNanos());
+            if (done) {
+                // 승자가 이미 정해진 뒤 응답 헤더를 받은 시도 → 연결 반납
+                attempt.release();
+                return;
+            }
+            done = true;
+            disposeTimer();
+            Attempt other = attempt == primary ? hedge : primary;
+            if (other != null) {
+                other.discard(route);
+                (attempt == hedge ? route.won : route.lost).increment();
+            }
+            attempt.applyTo(exchange);
+            if (attempt == hedge) {
+                exchange.getResponse().getHeaders().set(HEDGED_HEADER, "true");
+            }
+            sink.success();
+        }
+
+        private synchronized void onError(Attempt attempt, Throwable e) {
+            attempt.finished = true;
+            attempt.error = e;
+            if (done) {
+                return;
+            }
+            Attempt other = attempt == primary ? hedge : primary;
+            if (other != null && !other.finished) {
+                // 다른 시도 결과 대기
+                return;
+            }
+            done = true;
+            disposeTimer();
+            sink.error(primary.error != null ? primary.error : e);
+        }
+
+        private synchronized void cancel() {
+            done = true;
+            disposeTimer();
+            for (Attempt attempt : new Attempt[]{primary, hedge}) {
+                if (attempt != null) {
+                    attempt.discard(route);
+                }
+            }
+        }
+
+        private void disposeTimer() {
+            if (timer != null) {
+                timer.dispose();
+            }
+        }
+    }
+
+    /**
+     * 시도 1건 (exchange 속성/응답 상태/헤더 분리)
+     */
+    private static final class Attempt {
+
+        private final AttemptExchange exchange;
+        private final long startNanos = System.nanoTime();
+        private Disposable subscription;
+        private boolean finished;
+        private boolean discarded;
+        private Throwable error;
+
+        Attempt(ServerWebExchange original, ServiceInstance excluded) {
+            this.exchange = new AttemptExchange(original);
+            if (excluded != null) {
+                exchange.getAttributes().put(PeakEwmaLoadBalancer.EXCLUDED_INSTANCE_ATTR, excluded);
+            }
+        }
+
+        long elapsedNanos() {
+            return System.nanoTime() - startNanos;
+        }
+
+        /**
+         * 로드 밸런서가 선택한 인스턴스 (선택 전이면 null)
+         */
+        ServiceInstance instance() {
+            Response<ServiceInstance> response =
+                    exchange.getAttribute(ServerWebExchangeUtils.GATEWAY_LOADBALANCER_RESPONSE_ATTR);
+            return response != null && response.hasServer() ? response.getServer() : null;
+        }
+
+        /**
+         * 진 시도 정리 (진행 중이면 취소, 경과 시간은 하한값으로 기록)
+         * - 취소된 시도의 인스턴스 처리 중 요청 수는 LoadBalancerCancelFilter가 반영
+         */
+        void discard(RouteHedging route) {
+            discarded = true;
+            if (finished) {
+                release();
+                return;
+            }
+            route.latency.record(elapsedNanos());
+            if (subscription != null) {
+                subscription.dispose();
+            }
+        }
+
+        /**
+         * 응답 헤더까지 받은 업스트림 연결 닫기 (본문 미수신)
+         */
+        void release() {
+            Connection connection = exchange.getAttribute(ServerWebExchangeUtils.CLIENT_RESPONSE_CONN_ATTR);
+            if (connection != null) {
+                connection.dispose();
+            }
+        }
+
+        /**
+         * 승자 결과를 원래 exchange에 반영 (속성 → NettyWriteResponseFilter가 승자 연결에서 본문 전송)
+         */
+        void applyTo(ServerWebExchange original) {
+            original.getAttributes().putAll(exchange.getAttributes());
+            original.getAttributes().remove(PeakEwmaLoadBalancer.EXCLUDED_INSTANCE_ATTR);
+            ServerHttpResponse response = original.getResponse();
+            if (exchange.response.status != null) {
+                response.setStatusCode(exchange.response.status);
+            }
+            HttpHeaders headers = response.getHeaders();
+            headers.clear();
+            headers.putAll(exchange.response.headers);
+        }
+    }
+
+    /**
+     * 시도별 exchange (속성 복사본, 본문 없는 요청, 상태/헤더를 따로 보관하는 응답)
+     */
+    private static final class AttemptExchange extends ServerWebExchangeDecorator {
+
+        private final Map<String, Object> attributes;
+        private final ServerHttpRequest request;
+        private final AttemptResponse response;
+
+        AttemptExchange(ServerWebExchange delegate) {
+            super(delegate);
+            this.attributes = new ConcurrentHashMap<>(delegate.getAttributes());
+            this.request = new ServerHttpRequestDecorator(delegate.getRequest()) {
+                @Override
+                public Flux<DataBuffer> getBody() {
+                    return Flux.empty();
+                }
+            };
+            this.response = new AttemptResponse(delegate.getResponse());
+        }
+
+        @Override
+        public Map<String, Object> getAttributes() {
+            return attributes;
+        }
+
+        @Override
+        public ServerHttpRequest getRequest() {
+            return request;
+        }
+
+        @Override
+        public ServerHttpResponse getResponse() {
+            return response;
+        }
+    }
+
+    /**
+     * 업스트림 응답 상태/헤더를 실제 응답에 쓰지 않고 보관
+     */
+    private static final class AttemptResponse extends ServerHttpResponseDecorator {
+
+        private final HttpHeaders headers = new HttpHeaders();
+        private HttpStatusCode status;
+
+        AttemptResponse(ServerHttpResponse delegate) {
+            super(delegate);
+            headers.putAll(delegate.getHeaders());
+        }
+
+        @Override
+        public HttpHeaders getHeaders() {
+            return headers;
+        }
+
+        @Override
+        public boolean setStatusCode(HttpStatusCode status) {
+            this.status = status;
+            return true;
+        }
+
+        @Override
+        public HttpStatusCode getStatusCode() {
+            return status != null ? status : getDelegate().getStatusCode();
+        }
+    }
+
+    /**
+     * 필터 설정 클래스 (라우트별)
+     */
+    @Getter
+    @Setter
+    public static class Config {
+        /** 라우트 ID (지표 태그) */
+        private String routeId = "unknown";
+        /** 헤지 지연 기준 백분위 (최근 응답 시간) */
+        private double delayPercentile = 95;
+        /** 헤지 지연 하한 */
+        private Duration minDelay = Duration.ofMillis(10);
+        /** 헤지 지연 상한 (표본 부족 시 기본값) */
+        private Duration maxDelay = Duration.ofMillis(500);
+        /** 요청 대비 허용 헤지 비율 (%) */
+        private double budgetPercent = 5;
+        /** 예산 적립 상한 (헤지 건수) */
+        private int budgetBurst = 10;
+        /** 헤지 대상 경로 패턴 (GET) */
+        private List<String> pathPatterns = new ArrayList<>();
+    }
+}
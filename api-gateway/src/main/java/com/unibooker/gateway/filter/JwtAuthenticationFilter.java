@@ -1,54 +1,57 @@
 package com.unibooker.gateway.filter;
 
-import com.unibooker.common.util.CookieUtil;
-import com.unibooker.common.enums.UserRole;
-import org.springframework.http.HttpCookie;
-import org.springframework.util.MultiValueMap;
-import com.unibooker.common.util.JwtUtil;
+import com.unibooker.common.util.VerifiedToken;
+import com.unibooker.gateway.cache.VerifiedTokenCache;
+import com.unibooker.gateway.cookie.AccessTokenCookieScanner;
+import com.unibooker.gateway.error.GatewayError;
+import com.unibooker.gateway.metrics.GatewayMetrics;
+import com.unibooker.gateway.revocation.TokenRevocationRegistry;
+import com.unibooker.gateway.route.PathAccess;
+import com.unibooker.gateway.route.PathAccessMatcher;
+import io.jsonwebtoken.JwtException;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.cloud.gateway.filter.GatewayFilter;
 import org.springframework.cloud.gateway.filter.factory.AbstractGatewayFilterFactory;
-import org.springframework.http.HttpStatus;
 import org.springframework.http.server.reactive.ServerHttpRequest;
 import org.springframework.stereotype.Component;
 import org.springframework.web.server.ServerWebExchange;
-import reactor.core.publisher.Mono;
-
-import java.util.Arrays;
-import java.util.List;
 
 /**
  * JWT 인증 필터
  * - Authorization 헤더에서 JWT 토큰 검증
  * - 검증 성공 시 사용자 정보를 헤더에 추가 (X-User-Id, X-User-Email, X-User-Role, X-Company-Id)
- * - 검증 실패 시 401 Unauthorized 반환
+ * - 검증 실패 시 401 Unauthorized 반환 (GatewayError의 미리 인코딩된 본문)
+ * - 검증 결과는 VerifiedTokenCache에 토큰 만료 시각까지 캐싱
+ * - 로그아웃/정지 등으로 폐기된 토큰은 TokenRevocationRegistry에서 차단
+ * - 검증 시간: gateway.jwt.verification{route, result} (요청별 INFO 로그 대신 지표로 확인)
+ * - 거절된 요청(401)은 AccessLogFilter 접근 로그에 항상 기록 → 요청별 로그는 DEBUG만, 이메일은 로그에 남기지 않음
  */
 @Slf4j
 @Component
 public class JwtAuthenticationFilter extends AbstractGatewayFilterFactory<JwtAuthenticationFilter.Config> {
 
-    private final JwtUtil jwtUtil;
-
     /**
-     * 인증 제외 경로 목록
-     * - 로그인, 회원가입, 공개 API
+     * 검증된 토큰 정보 exchange 속성 키 (후속 필터에서 사용, 클라이언트 헤더 대신 신뢰)
      */
-    private static final List<String> EXCLUDED_PATHS = Arrays.asList(
-            "/api/admin/signup",
-            "/api/admin/login",
-            "/api/users/signup",
-            "/api/users/login",
-            "/api/users/check-email",
-            "/api/users/accounts",
-            "/api/users/reset-password",
-            "/api/users/find-email",
-            "/api/super/login",
-            "/actuator"
-    );
-
-    public JwtAuthenticationFilter(JwtUtil jwtUtil) {
+    public static final String VERIFIED_TOKEN_ATTR = JwtAuthenticationFilter.class.getName() + ".verifiedToken";
+
+    private final VerifiedTokenCache verifiedTokenCache;
+
+    private final PathAccessMatcher pathAccessMatcher;
+
+    private final TokenRevocationRegistry tokenRevocationRegistry;
+
+    private final GatewayMetrics gatewayMetrics;
+
+    public JwtAuthenticationFilter(VerifiedTokenCache verifiedTokenCache,
+                                   PathAccessMatcher pathAccessMatcher,
+                                   TokenRevocationRegistry tokenRevocationRegistry,
+                                   GatewayMetrics gatewayMetrics) {
         super(Config.class);
-        this.jwtUtil = jwtUtil;
+        this.verifiedTokenCache = verifiedTokenCache;
+        this.pathAccessMatcher = pathAccessMatcher;
+        this.tokenRevocationRegistry = tokenRevocationRegistry;
+        this.gatewayMetrics = gatewayMetrics;
     }
 
     @Override
@@ -59,35 +62,37 @@ public class JwtAuthenticationFilter extends AbstractGatewayFilterFactory<JwtAut
 
             log.debug("JWT 필터 처리 - 경로: {}", path);
 
-            // 인증 제외 경로 확인
-            if (isExcludedPath(path)) {
-                log.info("JWT 검증 제외 경로: {}", path);
+            // 인증 제외 경로 확인 (공개 경로 / 권한 힌트 / 보호 경로 1회 판정)
+            PathAccess access = pathAccessMatcher.match(path);
+            if (access.isPublic()) {
+                log.debug("JWT 검증 제외 경로: {}", path);
                 return chain.filter(exchange);
             }
 
             // Authorization 헤더에서 토큰 추출
-            String token = extractToken(request);
+            String token = extractToken(request, access);
 
             if (token == null) {
-                log.warn("JWT 토큰이 없습니다. 경로: {}", path);
-                return onError(exchange, "JWT 토큰이 필요합니다.", HttpStatus.UNAUTHORIZED);
+                log.debug("JWT 토큰이 없습니다. 경로: {}", path);
+                return GatewayError.TOKEN_REQUIRED.write(exchange);
             }
 
+            long start = System.nanoTime();
             try {
-                // 토큰 검증
-                if (!jwtUtil.validateToken(token)) {
-                    log.warn("JWT 토큰이 유효하지 않습니다. 경로: {}", path);
-                    return onError(exchange, "유효하지 않은 토큰입니다.", HttpStatus.UNAUTHORIZED);
+                // 토큰 검증 + 사용자 정보 추출 (캐시 미스 시 1회 파싱)
+                VerifiedToken verified = verifiedTokenCache.getOrVerify(token);
+                if (tokenRevocationRegistry.isRevoked(verified)) {
+                    gatewayMetrics.recordJwtVerification(exchange, "revoked", System.nanoTime() - start);
+                    log.debug("폐기된 토큰입니다. userId: {}, 경로: {}", verified.getUserId(), path);
+                    return GatewayError.TOKEN_REVOKED.write(exchange);
                 }
+                gatewayMetrics.recordJwtVerification(exchange, "ok", System.nanoTime() - start);
+                Long userId = verified.getUserId();
+                String email = verified.getEmail();
+                String role = verified.getRole();
+                Long companyId = verified.getCompanyId();
 
-                // 토큰에서 사용자 정보 추출
-                Long userId = jwtUtil.getUserId(token);
-                String email = jwtUtil.getEmail(token);
-                String role = jwtUtil.getRole(token);
-                Long companyId = jwtUtil.getCompanyId(token);
-
-                log.info("JWT 검증 성공 - userId: {}, email: {}, role: {}, companyId: {}",
-                        userId, email, role, companyId);
+                log.debug("JWT 검증 성공 - userId: {}, role: {}, companyId: {}", userId, role, companyId);
 
                 // 헤더에 사용자 정보 추가 (다운스트림 서비스에서 사용)
                 ServerHttpRequest modifiedRequest = request.mutate()
@@ -100,27 +105,26 @@ public class JwtAuthenticationFilter extends AbstractGatewayFilterFactory<JwtAut
                 ServerWebExchange modifiedExchange = exchange.mutate()
                         .request(modifiedRequest)
                         .build();
+                modifiedExchange.getAttributes().put(VERIFIED_TOKEN_ATTR, verified);
 
                 return chain.filter(modifiedExchange);
 
+            } catch (JwtException | IllegalArgumentException e) {
+                gatewayMetrics.recordJwtVerification(exchange, "invalid", System.nanoTime() - start);
+                log.debug("JWT 토큰이 유효하지 않습니다. 경로: {}", path);
+                return GatewayError.TOKEN_INVALID.write(exchange);
             } catch (Exception e) {
+                gatewayMetrics.recordJwtVerification(exchange, "error", System.nanoTime() - start);
                 log.error("JWT 검증 중 오류 발생: {}", e.getMessage(), e);
-                return onError(exchange, "토큰 검증 실패", HttpStatus.UNAUTHORIZED);
+                return GatewayError.TOKEN_VERIFICATION_FAILED.write(exchange);
             }
         };
     }
 
-    /**
-     * JWT 검증 제외 경로 확인
-     */
-    private boolean isExcludedPath(String path) {
-        return EXCLUDED_PATHS.stream().anyMatch(path::startsWith);
-    }
-
     /**
      * JWT 토큰 추출 (우선순위: Authorization 헤더 → Cookie)
      */
-    private String extractToken(ServerHttpRequest request) {
+    private String extractToken(ServerHttpRequest request, PathAccess access) {
         // 1. Authorization 헤더에서 토큰 추출 시도
         String bearerToken = request.getHeaders().getFirst("Authorization");
         if (bearerToken != null && bearerToken.startsWith("Bearer ")) {
@@ -129,7 +133,7 @@ public class JwtAuthenticationFilter extends AbstractGatewayFilterFactory<JwtAut
         }
 
         // 2. Cookie에서 토큰 추출 시도
-        String tokenFromCookie = extractTokenFromCookie(request);
+        String tokenFromCookie = extractTokenFromCookie(request, access);
         if (tokenFromCookie != null) {
             log.debug("Cookie에서 토큰 추출");
             return tokenFromCookie;
@@ -140,72 +144,16 @@ public class JwtAuthenticationFilter extends AbstractGatewayFilterFactory<JwtAut
 
     /**
      * 쿠키에서 JWT 토큰 추출
-     * - 경로 기반 권한 추론하여 해당 쿠키 탐색
-     * - 못 찾으면 모든 권한 쿠키 순차 확인
+     * - 경로 권한 힌트(PathAccessMatcher)가 있으면 해당 권한 쿠키만 확인
+     * - 없으면 모든 권한 쿠키 중 우선순위(UserRole 순서)가 가장 높은 것
+     * - Cookie 헤더 원문을 한 번 훑어 찾음 (요청 쿠키 맵 생성 없음)
      */
-    private String extractTokenFromCookie(ServerHttpRequest request) {
-        MultiValueMap<String, HttpCookie> cookies = request.getCookies();
-        if (cookies == null || cookies.isEmpty()) {
-            return null;
-        }
-
-        String path = request.getURI().getPath();
-        UserRole inferredRole = inferRoleFromPath(path);
-
-        // 특정 권한 경로인 경우 해당 쿠키만 확인
-        if (inferredRole != null) {
-            String cookieName = CookieUtil.getAccessTokenCookieName(inferredRole);
-            HttpCookie cookie = cookies.getFirst(cookieName);
-            if (cookie != null) {
-                log.debug("경로 기반 토큰 추출 - role: {}, cookieName: {}", inferredRole, cookieName);
-                return cookie.getValue();
-            }
-            return null;
+    private String extractTokenFromCookie(ServerHttpRequest request, PathAccess access) {
+        String token = AccessTokenCookieScanner.find(request.getHeaders(), access.getRole());
+        if (token != null) {
+            log.debug("쿠키 토큰 추출 - role: {}", access.getRole());
         }
-
-        // API 경로 등: 모든 권한 쿠키 순차 확인
-        for (UserRole role : UserRole.values()) {
-            String cookieName = CookieUtil.getAccessTokenCookieName(role);
-            HttpCookie cookie = cookies.getFirst(cookieName);
-            if (cookie != null) {
-                log.debug("API 경로 토큰 추출 - role: {}, cookieName: {}", role, cookieName);
-                return cookie.getValue();
-            }
-        }
-
-        return null;
-    }
-
-    /**
-     * 요청 경로를 기반으로 권한 추론
-     */
-    private UserRole inferRoleFromPath(String path) {
-        if (path.startsWith("/api/users")) {
-            return UserRole.USER;
-        } else if (path.startsWith("/api/admins") || path.startsWith("/api/managers")) {
-            return UserRole.ADMIN;  // ADMIN과 MANAGER는 같은 쿠키 사용
-        } else if (path.startsWith("/api/super")) {
-            return UserRole.SUPER;
-        }
-        return null;
-    }
-
-    /**
-     * 에러 응답 반환
-     */
-    private Mono<Void> onError(ServerWebExchange exchange, String message, HttpStatus httpStatus) {
-        exchange.getResponse().setStatusCode(httpStatus);
-        exchange.getResponse().getHeaders().add("Content-Type", "application/json; charset=UTF-8");
-
-        String errorResponse = String.format(
-                "{\"success\":false,\"code\":\"%s\",\"message\":\"%s\"}",
-                httpStatus.value(),
-                message
-        );
-
-        return exchange.getResponse().writeWith(
-                Mono.just(exchange.getResponse().bufferFactory().wrap(errorResponse.getBytes()))
-        );
+        return token;
     }
 
     /**
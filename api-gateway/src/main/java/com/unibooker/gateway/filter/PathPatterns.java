@@ -0,0 +1,47 @@
+package com.unibooker.gateway.filter;
+
+import org.springframework.http.server.reactive.ServerHttpRequest;
+import org.springframework.web.util.pattern.PathPattern;
+import org.springframework.web.util.pattern.PathPatternParser;
+
+import java.util.List;
+
+/**
+ * 필터 적용 경로 패턴 (설정값을 apply 시점에 한 번만 파싱)
+ */
+final class PathPatterns {
+
+    private final List<PathPattern> patterns;
+    private final boolean matchAllWhenEmpty;
+
+    private PathPatterns(List<String> patterns, boolean matchAllWhenEmpty) {
+        this.patterns = patterns.stream().map(PathPatternParser.defaultInstance::parse).toList();
+        this.matchAllWhenEmpty = matchAllWhenEmpty;
+    }
+
+    /**
+     * 지정한 경로만 적용 (비어 있으면 적용 안 함)
+     */
+    static PathPatterns of(List<String> patterns) {
+        return new PathPatterns(patterns, false);
+    }
+
+    /**
+     * 지정한 경로만 적용 (비어 있으면 전체 적용)
+     */
+    static PathPatterns orAll(List<String> patterns) {
+        return new PathPatterns(patterns, true);
+    }
+
+    boolean matches(ServerHttpRequest request) {
+        if (patterns.isEmpty()) {
+            return matchAllWhenEmpty;
+        }
+        for (PathPattern pattern : patterns) {
+            if (pattern.matches(request.getPath().pathWithinApplication())) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
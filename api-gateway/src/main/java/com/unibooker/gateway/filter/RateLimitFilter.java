@@ -0,0 +1,168 @@
+package com.unibooker.gateway.filter;
+
+import com.unibooker.common.util.VerifiedToken;
+import com.unibooker.gateway.error.GatewayError;
+import com.unibooker.gateway.ratelimit.TokenBucketStore;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.Getter;
+import lombok.Setter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cloud.gateway.filter.GatewayFilter;
+import org.springframework.cloud.gateway.filter.factory.AbstractGatewayFilterFactory;
+import org.springframework.http.server.reactive.ServerHttpRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Mono;
+
+import java.net.InetSocketAddress;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 요청 수 제한 필터 (인메모리 토큰 버킷, Redis 불필요)
+ * - 키: 사용자(USER) / 기업(COMPANY) / 클라이언트 IP(IP)
+ * - 사용자/기업 키는 JwtAuthenticationFilter가 검증한 토큰 정보 사용 (클라이언트 헤더는 신뢰하지 않음)
+ * - 인증 정보가 없으면 IP 키로 대체
+ * - 라우트별 한도는 GatewayConfig에서 Config로 지정
+ * - 초과 시 429 Too Many Requests + Retry-After 반환
+ * - 지표: gateway.ratelimit.requests{route, result=allowed|rejected}
+ */
+@Slf4j
+@Component
+public class RateLimitFilter extends AbstractGatewayFilterFactory<RateLimitFilter.Config> {
+
+    private final MeterRegistry meterRegistry;
+    private final boolean enabled;
+    private final int maxKeysPerRoute;
+    private final long idleNanos;
+
+    /** 라우트별 버킷 저장소 (idle 버킷 정리 대상) */
+    private final List<TokenBucketStore> stores = new CopyOnWriteArrayList<>();
+
+    public RateLimitFilter(MeterRegistry meterRegistry,
+                           @Value("${gateway.rate-limit.enabled:true}") boolean enabled,
+                           @Value("${gateway.rate-limit.max-keys-per-route:100000}") int maxKeysPerRoute,
+                           @Value("${gateway.rate-limit.idle-timeout:PT5M}") Duration idleTimeout) {
+        super(Config.class);
+        this.meterRegistry = meterRegistry;
+        this.enabled = enabled;
+        this.maxKeysPerRoute = maxKeysPerRoute;
+        this.idleNanos = idleTimeout.toNanos();
+    }
+
+    @Override
+    public GatewayFilter apply(Config config) {
+        if (!enabled) {
+            return (exchange, chain) -> chain.filter(exchange);
+        }
+
+        TokenBucketStore store = new TokenBucketStore(
+                config.getReplenishRate(), config.getBurstCapacity(), maxKeysPerRoute);
+        stores.add(store);
+
+        Counter allowed = Counter.builder("gateway.ratelimit.requests")
+                .tag("route", config.getRouteId())
+                .tag("result", "allowed")
+                .register(meterRegistry);
+        Counter rejected = Counter.builder("gateway.ratelimit.requests")
+                .tag("route", config.getRouteId())
+                .tag("result", "rejected")
+                .register(meterRegistry);
+
+        log.info("Rate Limit 적용 - route: {}, key: {}, rate: {}/s, burst: {}",
+                config.getRouteId(), config.getKeyType(), config.getReplenishRate(), config.getBurstCapacity());
+
+        return (exchange, chain) -> {
+            String key = resolveKey(exchange, config.getKeyType());
+            long waitNanos = store.tryAcquire(key, System.nanoTime());
+
+            if (waitNanos == 0L) {
+                allowed.increment();
+                return chain.filter(exchange);
+            }
+
+            rejected.increment();
+            long retryAfterSeconds = Math.max(1L, TimeUnit.NANOSECONDS.toSeconds(waitNanos + 999_999_999L));
+            log.debug("Rate Limit 초과 - route: {}, key: {}, retryAfter: {}s",
+                    config.getRouteId(), key, retryAfterSeconds);
+            return onRejected(exchange, retryAfterSeconds);
+        };
+    }
+
+    /**
+     * idle 버킷 정리 (메모리 상한 유지)
+     */
+    @Scheduled(fixedDelayString = "${gateway.rate-limit.eviction-interval:PT30S}")
+    public void evictIdleBuckets() {
+        long now = System.nanoTime();
+        int evicted = 0;
+        for (TokenBucketStore store : stores) {
+            evicted += store.evictIdle(now, idleNanos);
+        }
+        if (evicted > 0) {
+            log.debug("idle 토큰 버킷 정리 - {}개", evicted);
+        }
+    }
+
+    /**
+     * 버킷 키 결정
+     */
+    private String resolveKey(ServerWebExchange exchange, KeyType keyType) {
+        VerifiedToken token = exchange.getAttribute(JwtAuthenticationFilter.VERIFIED_TOKEN_ATTR);
+        if (token != null) {
+            if (keyType == KeyType.USER && token.getUserId() != null) {
+                return "u:" + token.getUserId();
+            }
+            if (keyType == KeyType.COMPANY && token.getCompanyId() != null) {
+                return "c:" + token.getCompanyId();
+            }
+        }
+        return "ip:" + clientIp(exchange.getRequest());
+    }
+
+    /**
+     * 클라이언트 IP (X-Forwarded-For는 위조 가능하므로 사용하지 않음)
+     */
+    private String clientIp(ServerHttpRequest request) {
+        InetSocketAddress remoteAddress = request.getRemoteAddress();
+        if (remoteAddress == null || remoteAddress.getAddress() == null) {
+            return "unknown";
+        }
+        return remoteAddress.getAddress().getHostAddress();
+    }
+
+    /**
+     * 429 응답 반환
+     */
+    private Mono<Void> onRejected(ServerWebExchange exchange, long retryAfterSeconds) {
+        exchange.getResponse().getHeaders().add("Retry-After", String.valueOf(retryAfterSeconds));
+        return GatewayError.RATE_LIMITED.write(exchange);
+    }
+
+    /**
+     * 버킷 키 종류
+     */
+    public enum KeyType {
+        USER, COMPANY, IP
+    }
+
+    /**
+     * 필터 설정 클래스 (라우트별)
+     */
+    @Getter
+    @Setter
+    public static class Config {
+        /** 지표 태그용 라우트 ID */
+        private String routeId = "unknown";
+        private KeyType keyType = KeyType.USER;
+        /** 초당 충전 토큰 수 */
+        private double replenishRate = 20;
+        /** 버킷 최대 토큰 수 (순간 허용량) */
+        private int burstCapacity = 40;
+    }
+}
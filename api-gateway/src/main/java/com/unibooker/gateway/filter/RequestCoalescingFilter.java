@@ -0,0 +1,243 @@
+package com.unibooker.gateway.filter;
+
+import com.unibooker.common.util.VerifiedToken;
+import com.unibooker.gateway.coalesce.SingleFlight;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.Getter;
+import lombok.Setter;
+import lombok.extern.slf4j.Slf4j;
+import org.reactivestreams.Publisher;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cloud.gateway.filter.GatewayFilter;
+import org.springframework.cloud.gateway.filter.NettyWriteResponseFilter;
+import org.springframework.cloud.gateway.filter.OrderedGatewayFilter;
+import org.springframework.cloud.gateway.filter.factory.AbstractGatewayFilterFactory;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.http.server.reactive.ServerHttpRequest;
+import org.springframework.http.server.reactive.ServerHttpResponse;
+import org.springframework.http.server.reactive.ServerHttpResponseDecorator;
+import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Function;
+
+/**
+ * 동일 요청 합치기 필터 (single-flight)
+ * - 대상: GET + 지정한 경로 패턴
+ * - 키: 라우트 + 경로 + 쿼리 + 테넌트(검증된 토큰의 기업 ID)
+ * - 같은 키로 진행 중인 업스트림 호출이 있으면 새로 호출하지 않고 그 응답을 받아 반환 (X-Coalesced: true)
+ * - 2xx 응답만 공유 (4xx/5xx는 일시 오류일 수 있으므로 대기자마다 다시 호출)
+ * - 대기 시간(max-wait) 초과, 선두 응답이 2xx가 아님 / max-body-size 초과 / Set-Cookie 포함 /
+ *   Cache-Control: private·no-store / 오류로 끝나면 대기자는 각자 업스트림 호출
+ * - 구성: 합치기 필터(apply) + 응답 공유 필터(captureFilter, NettyWriteResponseFilter 앞 순서)
+ * - 지표: gateway.coalescing.requests{route, result=leader|coalesced|timeout|unshared},
+ *         gateway.coalescing.inflight{route}
+ */
+@Slf4j
+@Component
+public class RequestCoalescingFilter extends AbstractGatewayFilterFactory<RequestCoalescingFilter.Config> {
+
+    public static final String COALESCED_HEADER = "X-Coalesced";
+
+    /** 선두 호출 exchange 속성 키 (합치기 필터 → 응답 공유 필터) */
+    private static final String FLIGHT_ATTR = RequestCoalescingFilter.class.getName() + ".flight";
+
+    /** 공유하지 않는 응답 헤더 (연결 단위 / CORS는 요청마다 게이트웨이가 설정) */
+    private static final Set<String> EXCLUDED_HEADERS = Set.of(
+            "transfer-encoding", "connection", "keep-alive", "date"
+    );
+
+    private final MeterRegistry meterRegistry;
+    private final int maxBodyBytes;
+
+    public RequestCoalescingFilter(MeterRegistry meterRegistry,
+                                   @Value("${gateway.coalescing.max-body-size:1MB}") DataSize maxBodySize) {
+        super(Config.class);
+        this.meterRegistry = meterRegistry;
+        this.maxBodyBytes = (int) maxBodySize.toBytes();
+    }
+
+    @Override
+    public GatewayFilter apply(Config config) {
+        PathPatterns patterns = PathPatterns.of(config.getPathPatterns());
+        Duration maxWait = config.getMaxWait();
+        SingleFlight<String, SharedResponse> flights = new SingleFlight<>();
+
+        Counter leaders = counter(config.getRouteId(), "leader");
+        Counter coalesced = counter(config.getRouteId(), "coalesced");
+        Counter timeouts = counter(config.getRouteId(), "timeout");
+        Counter unshared = counter(config.getRouteId(), "unshared");
+        Gauge.builder("gateway.coalescing.inflight", flights, SingleFlight::size)
+                .tag("route", config.getRouteId())
+                .register(meterRegistry);
+
+        log.info("동일 요청 합치기 적용 - route: {}, maxWait: {}, paths: {}",
+                config.getRouteId(), maxWait, config.getPathPatterns());
+
+        return (exchange, chain) -> {
+            ServerHttpRequest request = exchange.getRequest();
+            if (request.getMethod() != HttpMethod.GET || !patterns.matches(request)) {
+                return chain.filter(exchange);
+            }
+
+            SingleFlight.Flight<String, SharedResponse> flight = flights.join(key(exchange));
+            if (flight.isLeader()) {
+                leaders.increment();
+                exchange.getAttributes().put(FLIGHT_ATTR, flight);
+                // 응답 공유 필터가 완료하지 못한 경우(오류/취소/본문 없음) 대기자 해제
+                return chain.filter(exchange)
+                        .doFinally(signal -> flight.complete(null));
+            }
+
+            return flight.result()
+                    .timeout(maxWait)
+                    .map(shared -> {
+                        coalesced.increment();
+                        return writeShared(exchange, shared);
+                    })
+                    .onErrorResume(TimeoutException.class, e -> {
+                        timeouts.increment();
+                        return Mono.just(chain.filter(exchange));
+                    })
+                    .switchIfEmpty(Mono.fromSupplier(() -> {
+                        unshared.increment();
+                        return chain.filter(exchange);
+                    }))
+                    .flatMap(Function.identity());
+        };
+    }
+
+    /**
+     * 응답 공유 필터 (합치기 사용 라우트에 합치기 필터와 함께 등록)
+     * - 선두 요청만 본문 복사
+     */
+    public GatewayFilter captureFilter() {
+        return new OrderedGatewayFilter((exchange, chain) -> {
+            if (exchange.getRequest().getMethod() != HttpMethod.GET) {
+                return chain.filter(exchange);
+            }
+            ServerHttpResponse decorated = new SharingResponse(exchange.getResponse(), exchange);
+            return chain.filter(exchange.mutate().response(decorated).build());
+        }, NettyWriteResponseFilter.WRITE_RESPONSE_FILTER_ORDER - 1);
+    }
+
+    private Counter counter(String routeId, String result) {
+        return Counter.builder("gateway.coalescing.requests")
+                .tag("route", routeId)
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+
+    /**
+     * 합치기 키 (라우트는 라우트별 SingleFlight로 구분)
+     */
+    private String key(ServerWebExchange exchange) {
+        ServerHttpRequest request = exchange.getRequest();
+        VerifiedToken token = exchange.getAttribute(JwtAuthenticationFilter.VERIFIED_TOKEN_ATTR);
+        Long companyId = token != null ? token.getCompanyId() : null;
+        String query = request.getURI().getRawQuery();
+        return request.getPath().value() + '?' + (query != null ? query : "") + '\u0000' + companyId;
+    }
+
+    /**
+     * 선두 응답 반환 (이미 설정된 헤더는 유지, 예: CORS)
+     */
+    private Mono<Void> writeShared(ServerWebExchange exchange, SharedResponse shared) {
+        ServerHttpResponse response = exchange.getResponse();
+        response.setStatusCode(shared.status());
+        HttpHeaders headers = response.getHeaders();
+        shared.headers().forEach((name, values) -> {
+            if (!headers.containsKey(name)) {
+                headers.put(name, values);
+            }
+        });
+        headers.set(COALESCED_HEADER, "true");
+        return response.writeWith(Mono.just(response.bufferFactory().wrap(shared.body())));
+    }
+
+    /**
+     * 대기자에게 전달하는 선두 응답 (불변)
+     */
+    private record SharedResponse(HttpStatusCode status, HttpHeaders headers, byte[] body) {
+    }
+
+    /**
+     * 선두 응답을 전송하면서 본문을 복사해 대기자에게 전달
+     */
+    private class SharingResponse extends ServerHttpResponseDecorator {
+
+        private final ServerWebExchange exchange;
+
+        SharingResponse(ServerHttpResponse delegate, ServerWebExchange exchange) {
+            super(delegate);
+            this.exchange = exchange;
+        }
+
+        @Override
+        public Mono<Void> writeWith(Publisher<? extends DataBuffer> body) {
+            SingleFlight.Flight<String, SharedResponse> flight = exchange.getAttribute(FLIGHT_ATTR);
+            if (flight == null) {
+                return super.writeWith(body);
+            }
+            if (!isShareable()) {
+                flight.complete(null);
+                return super.writeWith(body);
+            }
+
+            // 크기 초과 시 대기자는 선두 전송 완료를 기다리지 않고 바로 직접 호출
+            return super.writeWith(BodyCapture.tee(body, maxBodyBytes,
+                    bytes -> flight.complete(new SharedResponse(getStatusCode(), sharedHeaders(), bytes)),
+                    () -> flight.complete(null)));
+        }
+
+        private boolean isShareable() {
+            if (getStatusCode() == null || !getStatusCode().is2xxSuccessful()) {
+                return false;
+            }
+            HttpHeaders headers = getHeaders();
+            if (headers.containsKey(HttpHeaders.SET_COOKIE) || headers.getContentLength() > maxBodyBytes) {
+                return false;
+            }
+            String cacheControl = String.join(",", headers.getOrEmpty(HttpHeaders.CACHE_CONTROL)).toLowerCase(Locale.ROOT);
+            return !cacheControl.contains("private") && !cacheControl.contains("no-store");
+        }
+
+        private HttpHeaders sharedHeaders() {
+            HttpHeaders shared = new HttpHeaders();
+            getHeaders().forEach((name, values) -> {
+                String lower = name.toLowerCase(Locale.ROOT);
+                if (!EXCLUDED_HEADERS.contains(lower) && !lower.startsWith("access-control-")) {
+                    shared.put(name, List.copyOf(values));
+                }
+            });
+            return HttpHeaders.readOnlyHttpHeaders(shared);
+        }
+    }
+
+    /**
+     * 필터 설정 클래스 (라우트별)
+     */
+    @Getter
+    @Setter
+    public static class Config {
+        /** 라우트 ID (지표 태그) */
+        private String routeId = "unknown";
+        /** 대기자가 선두 응답을 기다리는 최대 시간 (초과 시 직접 호출) */
+        private Duration maxWait = Duration.ofSeconds(2);
+        /** 합치기 대상 경로 패턴 (GET) */
+        private List<String> pathPatterns = new ArrayList<>();
+    }
+}
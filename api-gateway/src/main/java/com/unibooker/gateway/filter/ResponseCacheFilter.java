@@ -0,0 +1,243 @@
+package com.unibooker.gateway.filter;
+
+import com.unibooker.gateway.cache.ResponseCache;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.Getter;
+import lombok.Setter;
+import lombok.extern.slf4j.Slf4j;
+import org.reactivestreams.Publisher;
+import org.springframework.cloud.gateway.filter.GatewayFilter;
+import org.springframework.cloud.gateway.filter.NettyWriteResponseFilter;
+import org.springframework.cloud.gateway.filter.OrderedGatewayFilter;
+import org.springframework.cloud.gateway.filter.factory.AbstractGatewayFilterFactory;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.server.reactive.ServerHttpRequest;
+import org.springframework.http.server.reactive.ServerHttpResponse;
+import org.springframework.http.server.reactive.ServerHttpResponseDecorator;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.TreeSet;
+
+/**
+ * 응답 캐시 필터 (자주 바뀌지 않는 조회 API)
+ * - 대상: GET + 지정한 경로 패턴, 200 응답만 저장
+ * - 키: 경로 + 쿼리 + Vary 헤더 값 (기본 X-Company-Id → 테넌트별로 분리)
+ * - 업스트림 Vary에 설정 외 헤더(CORS 제외)가 있거나 Set-Cookie가 있으면 저장하지 않음
+ * - 본문은 클라이언트로 전송하면서 복사 (전체 버퍼링 없음, max-entry-size 초과 시 저장 포기)
+ * - 적중 시 응답 헤더 X-Cache: HIT, Content-Length는 저장된 본문 길이 (chunked 전송 없음)
+ * - 구성: 조회 필터(apply, JWT 이후 위치) + 저장 필터(captureFilter, NettyWriteResponseFilter 앞 순서)
+ *   → 응답 쓰기 필터가 원래 exchange를 잡기 전에 응답 데코레이터를 설치해야 하므로 분리
+ * - 지표: gateway.response-cache.requests{route, result=hit|miss}, gateway.response-cache.hit.ratio{route}
+ */
+@Slf4j
+@Component
+public class ResponseCacheFilter extends AbstractGatewayFilterFactory<ResponseCacheFilter.Config> {
+
+    public static final String CACHE_STATUS_HEADER = "X-Cache";
+
+    /** 캐시 미스 시 저장 정보 exchange 속성 키 (조회 필터 → 저장 필터) */
+    private static final String CACHE_FILL_ATTR = ResponseCacheFilter.class.getName() + ".fill";
+
+    /** CORS 관련 Vary는 게이트웨이 CORS 설정이 처리하므로 키에 포함하지 않음 */
+    private static final Set<String> IGNORED_VARY = Set.of(
+            "origin", "access-control-request-method", "access-control-request-headers"
+    );
+
+    /** 캐시에 보관하지 않는 응답 헤더 (연결 단위(hop-by-hop) / 본문 길이(적중 시 다시 계산) / 쿠키) */
+    private static final Set<String> EXCLUDED_HEADERS = Set.of(
+            "transfer-encoding", "connection", "keep-alive", "proxy-authenticate", "proxy-authorization",
+            "te", "trailer", "upgrade", "content-length", "set-cookie", "date"
+    );
+
+    private final ResponseCache responseCache;
+    private final MeterRegistry meterRegistry;
+
+    public ResponseCacheFilter(ResponseCache responseCache, MeterRegistry meterRegistry) {
+        super(Config.class);
+        this.responseCache = responseCache;
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    public GatewayFilter apply(Config config) {
+        PathPatterns patterns = PathPatterns.of(config.getPathPatterns());
+        List<String> varyHeaders = List.copyOf(config.getVaryHeaders());
+        Set<String> allowedVary = new TreeSet<>(String.CASE_INSENSITIVE_ORDER);
+        allowedVary.addAll(varyHeaders);
+        long ttlNanos = config.getTtl().toNanos();
+
+        Counter hits = counter(config.getRouteId(), "hit");
+        Counter misses = counter(config.getRouteId(), "miss");
+        Gauge.builder("gateway.response-cache.hit.ratio", () -> {
+                    double total = hits.count() + misses.count();
+                    return total == 0 ? 0 : hits.count() / total;
+                })
+                .tag("route", config.getRouteId())
+                .register(meterRegistry);
+
+        log.info("응답 캐시 적용 - route: {}, ttl: {}, paths: {}, vary: {}",
+                config.getRouteId(), config.getTtl(), config.getPathPatterns(), varyHeaders);
+
+        return (exchange, chain) -> {
+            ServerHttpRequest request = exchange.getRequest();
+            if (request.getMethod() != HttpMethod.GET || !patterns.matches(request)) {
+                return chain.filter(exchange);
+            }
+
+            ResponseCache.Key key = key(request, varyHeaders);
+            ResponseCache.Entry cached = responseCache.get(key);
+            if (cached != null) {
+                hits.increment();
+                return writeCached(exchange, cached);
+            }
+
+            misses.increment();
+            exchange.getAttributes().put(CACHE_FILL_ATTR,
+                    new CacheFill(key, responseCache.generation(), ttlNanos, allowedVary));
+            return chain.filter(exchange);
+        };
+    }
+
+    /**
+     * 응답 저장 필터 (캐시 사용 라우트에 조회 필터와 함께 등록)
+     * - 조회 필터가 미스로 표시한 요청만 본문 복사
+     */
+    public GatewayFilter captureFilter() {
+        return new OrderedGatewayFilter((exchange, chain) -> {
+            if (exchange.getRequest().getMethod() != HttpMethod.GET) {
+                return chain.filter(exchange);
+            }
+            ServerHttpResponse decorated = new CachingResponse(exchange.getResponse(), exchange);
+            return chain.filter(exchange.mutate().response(decorated).build());
+        }, NettyWriteResponseFilter.WRITE_RESPONSE_FILTER_ORDER - 1);
+    }
+
+    private Counter counter(String routeId, String result) {
+        return Counter.builder("gateway.response-cache.requests")
+                .tag("route", routeId)
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+
+    private ResponseCache.Key key(ServerHttpRequest request, List<String> varyHeaders) {
+        StringBuilder vary = new StringBuilder();
+        for (String header : varyHeaders) {
+            String value = request.getHeaders().getFirst(header);
+            vary.append(value != null ? value : "").append('\u0001');
+        }
+        return new ResponseCache.Key(request.getPath().value(), request.getURI().getRawQuery(), vary.toString());
+    }
+
+    /**
+     * 캐시된 응답 반환 (이미 설정된 헤더는 유지, 예: CORS / 본문 길이는 저장된 본문 기준)
+     */
+    private Mono<Void> writeCached(ServerWebExchange exchange, ResponseCache.Entry cached) {
+        ServerHttpResponse response = exchange.getResponse();
+        response.setStatusCode(cached.getStatus());
+        HttpHeaders headers = response.getHeaders();
+        cached.getHeaders().forEach((name, values) -> {
+            if (!headers.containsKey(name)) {
+                headers.put(name, values);
+            }
+        });
+        headers.remove(HttpHeaders.TRANSFER_ENCODING);
+        headers.setContentLength(cached.getBody().length);
+        headers.set(CACHE_STATUS_HEADER, "HIT");
+        return response.writeWith(Mono.just(response.bufferFactory().wrap(cached.getBody())));
+    }
+
+    /**
+     * 캐시 미스 요청의 저장 정보
+     */
+    private record CacheFill(ResponseCache.Key key, long generation, long ttlNanos, Set<String> allowedVary) {
+    }
+
+    /**
+     * 업스트림 응답을 전송하면서 본문을 복사해 캐시에 저장
+     */
+    private class CachingResponse extends ServerHttpResponseDecorator {
+
+        private final ServerWebExchange exchange;
+
+        CachingResponse(ServerHttpResponse delegate, ServerWebExchange exchange) {
+            super(delegate);
+            this.exchange = exchange;
+        }
+
+        @Override
+        public Mono<Void> writeWith(Publisher<? extends DataBuffer> body) {
+            CacheFill fill = exchange.getAttribute(CACHE_FILL_ATTR);
+            if (fill == null || !isCacheable(fill.allowedVary())) {
+                return super.writeWith(body);
+            }
+            getHeaders().set(CACHE_STATUS_HEADER, "MISS");
+
+            return super.writeWith(BodyCapture.tee(body, responseCache.getMaxEntryBytes(),
+                    bytes -> responseCache.put(fill.key(), new ResponseCache.Entry(
+                            getStatusCode(), cacheableHeaders(), bytes, fill.ttlNanos()), fill.generation()),
+                    () -> { }));
+        }
+
+        private boolean isCacheable(Set<String> allowedVary) {
+            if (getStatusCode() == null || getStatusCode().value() != HttpStatus.OK.value()) {
+                return false;
+            }
+            HttpHeaders headers = getHeaders();
+            if (headers.containsKey(HttpHeaders.SET_COOKIE)) {
+                return false;
+            }
+            long contentLength = headers.getContentLength();
+            if (contentLength > responseCache.getMaxEntryBytes()) {
+                return false;
+            }
+            for (String vary : headers.getVary()) {
+                String name = vary.trim();
+                if (name.equals("*")
+                        || (!allowedVary.contains(name) && !IGNORED_VARY.contains(name.toLowerCase(Locale.ROOT)))) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        private HttpHeaders cacheableHeaders() {
+            HttpHeaders stored = new HttpHeaders();
+            getHeaders().forEach((name, values) -> {
+                String lower = name.toLowerCase(Locale.ROOT);
+                if (!EXCLUDED_HEADERS.contains(lower) && !lower.startsWith("access-control-")
+                        && !lower.equals(CACHE_STATUS_HEADER.toLowerCase(Locale.ROOT))) {
+                    stored.put(name, List.copyOf(values));
+                }
+            });
+            return stored;
+        }
+    }
+
+    /**
+     * 필터 설정 클래스 (라우트별)
+     */
+    @Getter
+    @Setter
+    public static class Config {
+        /** 라우트 ID (지표 태그) */
+        private String routeId = "unknown";
+        /** 캐시 유지 시간 */
+        private Duration ttl = Duration.ofMinutes(1);
+        /** 캐시 대상 경로 패턴 (GET) */
+        private List<String> pathPatterns = new ArrayList<>();
+        /** 캐시 키에 포함할 요청 헤더 (테넌트 구분) */
+        private List<String> varyHeaders = new ArrayList<>(List.of("X-Company-Id"));
+    }
+}
@@ -0,0 +1,187 @@
+package com.unibooker.gateway.filter;
+
+import com.unibooker.common.util.VerifiedToken;
+import com.unibooker.gateway.error.GatewayError;
+import com.unibooker.gateway.quota.QuotaState;
+import com.unibooker.gateway.quota.TenantQuotaRegistry;
+import com.unibooker.gateway.quota.TenantUsage;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.Getter;
+import lombok.Setter;
+import lombok.extern.slf4j.Slf4j;
+import org.reactivestreams.Publisher;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cloud.gateway.filter.GatewayFilter;
+import org.springframework.cloud.gateway.filter.NettyWriteResponseFilter;
+import org.springframework.cloud.gateway.filter.OrderedGatewayFilter;
+import org.springframework.cloud.gateway.filter.factory.AbstractGatewayFilterFactory;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.server.reactive.ServerHttpRequest;
+import org.springframework.http.server.reactive.ServerHttpRequestDecorator;
+import org.springframework.http.server.reactive.ServerHttpResponse;
+import org.springframework.http.server.reactive.ServerHttpResponseDecorator;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * 기업(테넌트)별 사용량 집계 / 한도 필터
+ * - 기업 = JwtAuthenticationFilter가 검증한 토큰의 companyId (업스트림 X-Company-Id와 같은 값, 클라이언트 헤더는 신뢰하지 않음)
+ * - 기업 정보가 없는 요청(SUPER 등)은 집계하지 않음
+ * - 요청 수 / 요청 본문 바이트 / 응답 본문 바이트(압축 전)를 TenantUsage 카운터에 기록 (요청 경로 잠금 없음)
+ * - 한도 판정은 TenantQuotaRegistry 집계 결과 사용: soft 초과 → X-Quota-Warning 헤더, hard 초과 → 429 + Retry-After(기간 종료까지)
+ * - 구성: 판정 필터(apply, JWT 이후 위치) + 응답 바이트 집계 필터(captureFilter, NettyWriteResponseFilter 앞 순서)
+ * - 지표: gateway.tenant-quota.requests{route, result=allowed|soft-exceeded|rejected}
+ */
+@Slf4j
+@Component
+public class TenantQuotaFilter extends AbstractGatewayFilterFactory<TenantQuotaFilter.Config> {
+
+    public static final String QUOTA_WARNING_HEADER = "X-Quota-Warning";
+
+    /** 집계 대상 기업 카운터 exchange 속성 키 (판정 필터 → 응답 바이트 집계 필터) */
+    private static final String USAGE_ATTR = TenantQuotaFilter.class.getName() + ".usage";
+
+    private final TenantQuotaRegistry registry;
+    private final MeterRegistry meterRegistry;
+    private final boolean enabled;
+
+    public TenantQuotaFilter(TenantQuotaRegistry registry, MeterRegistry meterRegistry,
+                             @Value("${gateway.tenant-quota.enabled:true}") boolean enabled) {
+        super(Config.class);
+        this.registry = registry;
+        this.meterRegistry = meterRegistry;
+        this.enabled = enabled;
+    }
+
+    @Override
+    public GatewayFilter apply(Config config) {
+        if (!enabled) {
+            return (exchange, chain) -> chain.filter(exchange);
+        }
+
+        Counter allowed = counter(config.getRouteId(), "allowed");
+        Counter softExceeded = counter(config.getRouteId(), "soft-exceeded");
+        Counter rejected = counter(config.getRouteId(), "rejected");
+
+        return (exchange, chain) -> {
+            VerifiedToken token = exchange.getAttribute(JwtAuthenticationFilter.VERIFIED_TOKEN_ATTR);
+            if (token == null || token.getCompanyId() == null) {
+                return chain.filter(exchange);
+            }
+
+            TenantUsage usage = registry.usage(token.getCompanyId());
+            QuotaState state = usage.getState();
+            if (state == QuotaState.HARD_EXCEEDED) {
+                usage.recordRejected();
+                rejected.increment();
+                long retryAfterSeconds = Math.max(1L, (registry.windowEndMillis() - registry.now() + 999) / 1000);
+                exchange.getResponse().getHeaders().set(HttpHeaders.RETRY_AFTER, String.valueOf(retryAfterSeconds));
+                return GatewayError.TENANT_QUOTA_EXCEEDED.write(exchange);
+            }
+
+            usage.recordRequest();
+            exchange.getAttributes().put(USAGE_ATTR, usage);
+            if (state == QuotaState.SOFT_EXCEEDED) {
+                softExceeded.increment();
+                exchange.getResponse().getHeaders().set(QUOTA_WARNING_HEADER, "soft-limit-exceeded");
+            } else {
+                allowed.increment();
+            }
+
+            ServerHttpRequest request = exchange.getRequest();
+            long contentLength = request.getHeaders().getContentLength();
+            if (contentLength > 0) {
+                usage.recordRequestBytes(contentLength);
+            } else if (contentLength < 0 && request.getHeaders().containsKey(HttpHeaders.TRANSFER_ENCODING)) {
+                // 길이를 모르는 요청 본문은 전달하면서 집계
+                return chain.filter(exchange.mutate().request(new CountingRequest(request, usage)).build());
+            }
+            return chain.filter(exchange);
+        };
+    }
+
+    /**
+     * 응답 바이트 집계 필터 (판정 필터와 함께 등록)
+     * - 판정 필터가 집계 대상으로 표시한 요청만 본문 크기 합산 (본문 복사 없음)
+     */
+    public GatewayFilter captureFilter() {
+        return new OrderedGatewayFilter((exchange, chain) -> {
+            if (!enabled) {
+                return chain.filter(exchange);
+            }
+            ServerHttpResponse decorated = new CountingResponse(exchange.getResponse(), exchange);
+            return chain.filter(exchange.mutate().response(decorated).build());
+        }, NettyWriteResponseFilter.WRITE_RESPONSE_FILTER_ORDER - 1);
+    }
+
+    private Counter counter(String routeId, String result) {
+        return Counter.builder("gateway.tenant-quota.requests")
+                .tag("route", routeId)
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+
+    /**
+     * 요청 본문 크기 집계 (Transfer-Encoding: chunked 등 Content-Length 없는 요청)
+     */
+    private static class CountingRequest extends ServerHttpRequestDecorator {
+
+        private final TenantUsage usage;
+
+        CountingRequest(ServerHttpRequest delegate, TenantUsage usage) {
+            super(delegate);
+            this.usage = usage;
+        }
+
+        @Override
+        public Flux<DataBuffer> getBody() {
+            return super.getBody().doOnNext(buffer -> usage.recordRequestBytes(buffer.readableByteCount()));
+        }
+    }
+
+    /**
+     * 응답 본문 크기 집계 (클라이언트로 전송하는 버퍼 크기 합산)
+     */
+    private static class CountingResponse extends ServerHttpResponseDecorator {
+
+        private final ServerWebExchange exchange;
+
+        CountingResponse(ServerHttpResponse delegate, ServerWebExchange exchange) {
+            super(delegate);
+            this.exchange = exchange;
+        }
+
+        @Override
+        public Mono<Void> writeWith(Publisher<? extends DataBuffer> body) {
+            TenantUsage usage = exchange.getAttribute(USAGE_ATTR);
+            if (usage == null) {
+                return super.writeWith(body);
+            }
+            return super.writeWith(Flux.from(body).doOnNext(buffer -> usage.recordResponseBytes(buffer.readableByteCount())));
+        }
+
+        @Override
+        public Mono<Void> writeAndFlushWith(Publisher<? extends Publisher<? extends DataBuffer>> body) {
+            TenantUsage usage = exchange.getAttribute(USAGE_ATTR);
+            if (usage == null) {
+                return super.writeAndFlushWith(body);
+            }
+            return super.writeAndFlushWith(Flux.from(body).map(chunk ->
+                    Flux.from(chunk).doOnNext(buffer -> usage.recordResponseBytes(buffer.readableByteCount()))));
+        }
+    }
+
+    /**
+     * 필터 설정 클래스 (라우트별)
+     */
+    @Getter
+    @Setter
+    public static class Config {
+        /** 지표 태그용 라우트 ID */
+        private String routeId = "unknown";
+    }
+}
@@ -0,0 +1,137 @@
+package com.unibooker.gateway.filter;
+
+import com.unibooker.common.util.VerifiedToken;
+import com.unibooker.gateway.error.GatewayError;
+import com.unibooker.gateway.waitingroom.AdmissionQueue;
+import com.unibooker.gateway.waitingroom.TicketStatus;
+import com.unibooker.gateway.waitingroom.WaitingRoomRegistry;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.Getter;
+import lombok.Setter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cloud.gateway.filter.GatewayFilter;
+import org.springframework.cloud.gateway.filter.factory.AbstractGatewayFilterFactory;
+import org.springframework.http.server.reactive.ServerHttpRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Mono;
+
+import java.net.InetSocketAddress;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 대기열(Waiting Room) 필터
+ * - 지정한 경로 패턴의 요청은 대기열 티켓으로 입장한 경우에만 업스트림으로 전달
+ * - 티켓은 검증된 토큰의 사용자(없으면 클라이언트 IP)에 귀속, 사용자당 1개
+ *   → 요청 헤더의 티켓은 사용하지 않음 (다른 사용자에게 넘겨도 통과 불가, 헤더를 빼도 새 티켓이 쌓이지 않음)
+ * - 대기 중이면 429 + Retry-After + 순번/예상 시간 반환 (요청은 처리되지 않음, X-Waiting-Ticket은 상태 조회용)
+ * - 입장 후 abandon-timeout 안에 다시 요청하면 그때부터 pass-ttl 동안 통과
+ * - 지표: gateway.waiting-room.requests{queue, result=admitted|waiting|full}
+ */
+@Slf4j
+@Component
+public class WaitingRoomFilter extends AbstractGatewayFilterFactory<WaitingRoomFilter.Config> {
+
+    public static final String TICKET_HEADER = "X-Waiting-Ticket";
+
+    private final WaitingRoomRegistry waitingRoomRegistry;
+    private final MeterRegistry meterRegistry;
+
+    public WaitingRoomFilter(WaitingRoomRegistry waitingRoomRegistry, MeterRegistry meterRegistry) {
+        super(Config.class);
+        this.waitingRoomRegistry = waitingRoomRegistry;
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    public GatewayFilter apply(Config config) {
+        AdmissionQueue queue = waitingRoomRegistry.register(config.getRouteId(), config.getAdmitPerSecond());
+
+        PathPatterns patterns = PathPatterns.orAll(config.getPathPatterns());
+
+        Counter admitted = counter(config.getRouteId(), "admitted");
+        Counter waiting = counter(config.getRouteId(), "waiting");
+        Counter full = counter(config.getRouteId(), "full");
+
+        return (exchange, chain) -> {
+            if (!patterns.matches(exchange.getRequest())) {
+                return chain.filter(exchange);
+            }
+
+            TicketStatus status = queue.enqueue(owner(exchange), System.currentTimeMillis());
+
+            switch (status.getState()) {
+                case ADMITTED -> {
+                    admitted.increment();
+                    exchange.getResponse().getHeaders().set(TICKET_HEADER, status.getTicket());
+                    return chain.filter(exchange);
+                }
+                case FULL -> {
+                    full.increment();
+                    return onFull(exchange);
+                }
+                default -> {
+                    waiting.increment();
+                    return onWaiting(exchange, status);
+                }
+            }
+        };
+    }
+
+    /**
+     * 티켓 소유자 (사용자 ID, 없으면 클라이언트 IP / X-Forwarded-For는 위조 가능하므로 사용하지 않음)
+     */
+    private String owner(ServerWebExchange exchange) {
+        VerifiedToken token = exchange.getAttribute(JwtAuthenticationFilter.VERIFIED_TOKEN_ATTR);
+        if (token != null && token.getUserId() != null) {
+            return "u:" + token.getUserId();
+        }
+        ServerHttpRequest request = exchange.getRequest();
+        InetSocketAddress remoteAddress = request.getRemoteAddress();
+        if (remoteAddress == null || remoteAddress.getAddress() == null) {
+            return "ip:unknown";
+        }
+        return "ip:" + remoteAddress.getAddress().getHostAddress();
+    }
+
+    private Counter counter(String queueId, String result) {
+        return Counter.builder("gateway.waiting-room.requests")
+                .tag("queue", queueId)
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+
+    /**
+     * 대기 응답 (429 + 티켓/순번/예상 시간)
+     */
+    private Mono<Void> onWaiting(ServerWebExchange exchange, TicketStatus status) {
+        exchange.getResponse().getHeaders().set("Retry-After", String.valueOf(Math.max(1L, Math.min(status.getEtaSeconds(), 5L))));
+        exchange.getResponse().getHeaders().set(TICKET_HEADER, status.getTicket());
+        return GatewayError.WAITING_ROOM_QUEUED.write(exchange,
+                "{\"ticket\":\"" + status.getTicket() + "\",\"position\":" + status.getPosition()
+                        + ",\"etaSeconds\":" + status.getEtaSeconds() + "}");
+    }
+
+    /**
+     * 대기열 정원 초과 응답 (503)
+     */
+    private Mono<Void> onFull(ServerWebExchange exchange) {
+        return GatewayError.WAITING_ROOM_FULL.write(exchange);
+    }
+
+    /**
+     * 필터 설정 클래스 (라우트별)
+     */
+    @Getter
+    @Setter
+    public static class Config {
+        /** 대기열 ID (라우트 ID) */
+        private String routeId = "unknown";
+        /** 초당 입장 인원 */
+        private double admitPerSecond = 50;
+        /** 대기열 적용 경로 패턴 (비어 있으면 라우트 전체) */
+        private List<String> pathPatterns = new ArrayList<>();
+    }
+}
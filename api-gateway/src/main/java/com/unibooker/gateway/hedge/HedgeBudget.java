@@ -0,0 +1,49 @@
+package com.unibooker.gateway.hedge;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 헤지 요청 예산 (라우트별)
+ * - 요청마다 ratio만큼 적립, 헤지 1건에 1만큼 사용 → 헤지 수 ≤ 요청 수 × ratio + burst
+ * - 적립 상한(burst)으로 한가한 시간에 모아둔 예산이 장애 시 한꺼번에 쓰이지 않음
+ * - 소수 단위 적립을 위해 1/1000 고정소수점 사용
+ */
+public class HedgeBudget {
+
+    private static final long SCALE = 1000;
+
+    private final AtomicLong balance = new AtomicLong();
+    private final long deposit;
+    private final long maxBalance;
+
+    /**
+     * @param ratio 요청 대비 허용 헤지 비율 (예: 0.05 = 추가 부하 5%)
+     * @param burst 적립 상한 (헤지 건수)
+     */
+    public HedgeBudget(double ratio, int burst) {
+        this.deposit = Math.round(ratio * SCALE);
+        this.maxBalance = (long) burst * SCALE;
+        this.balance.set(this.maxBalance);
+    }
+
+    /**
+     * 헤지 대상 요청 1건 적립
+     */
+    public void deposit() {
+        balance.accumulateAndGet(deposit, (current, amount) -> Math.min(maxBalance, current + amount));
+    }
+
+    /**
+     * 헤지 1건 사용 (예산 부족 시 false)
+     */
+    public boolean tryWithdraw() {
+        long current;
+        do {
+            current = balance.get();
+            if (current < SCALE) {
+                return false;
+            }
+        } while (!balance.compareAndSet(current, current - SCALE));
+        return true;
+    }
+}
@@ -0,0 +1,58 @@
+package com.unibooker.gateway.hedge;
+
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * 최근 지연 시간 백분위 추정 (라우트별 헤지 지연 계산용)
+ * - 최근 N건을 링 버퍼에 기록, recompute-every건마다 정렬해 백분위 갱신 (조회는 캐시된 값)
+ * - 기록/조회 모두 잠금 없음, 갱신 중 덮어쓰기로 일부 표본이 섞여도 추정에는 영향 미미
+ * - 표본이 min-samples 미만이면 초기값 사용
+ */
+public class LatencyPercentile {
+
+    private static final int MIN_SAMPLES = 100;
+    private static final int RECOMPUTE_EVERY = 100;
+
+    private final AtomicLongArray samples;
+    private final AtomicLong count = new AtomicLong();
+    private final double percentile;
+    private volatile long cachedNanos;
+
+    /**
+     * @param capacity     최근 표본 수
+     * @param percentile   백분위 (0~1, 예: 0.95)
+     * @param initialNanos 표본이 부족할 때 사용할 값
+     */
+    public LatencyPercentile(int capacity, double percentile, long initialNanos) {
+        this.samples = new AtomicLongArray(capacity);
+        this.percentile = percentile;
+        this.cachedNanos = initialNanos;
+    }
+
+    public void record(long latencyNanos) {
+        long n = count.getAndIncrement();
+        samples.set((int) (n % samples.length()), latencyNanos);
+        if (n + 1 >= MIN_SAMPLES && (n + 1) % RECOMPUTE_EVERY == 0) {
+            recompute(Math.min(n + 1, samples.length()));
+        }
+    }
+
+    /**
+     * 현재 백분위 값 (나노초)
+     */
+    public long getNanos() {
+        return cachedNanos;
+    }
+
+    private void recompute(long size) {
+        long[] sorted = new long[(int) size];
+        for (int i = 0; i < sorted.length; i++) {
+            sorted[i] = samples.get(i);
+        }
+        Arrays.sort(sorted);
+        int index = (int) Math.min(sorted.length - 1, Math.ceil(percentile * sorted.length) - 1);
+        cachedNanos = sorted[Math.max(0, index)];
+    }
+}
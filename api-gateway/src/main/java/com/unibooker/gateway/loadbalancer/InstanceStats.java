@@ -0,0 +1,69 @@
+package com.unibooker.gateway.loadbalancer;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 업스트림 인스턴스별 부하 통계 (Peak EWMA)
+ * - 지연: 지수 가중 이동 평균, 기존 값보다 느린 응답은 즉시 반영(peak) → 느려진 인스턴스를 빠르게 회피
+ * - 시간 감쇠: 마지막 관측 후 시간이 지날수록 0으로 수렴 → 회피된 인스턴스도 다시 시험 호출을 받음
+ * - 비용 = 감쇠된 지연 × (처리 중 요청 수 + 1)
+ */
+public class InstanceStats {
+
+    private final long decayNanos;
+    private final AtomicInteger inFlight = new AtomicInteger();
+
+    /** EWMA 지연 (나노초) */
+    private double ewmaNanos;
+    private long lastObservedAt;
+
+    public InstanceStats(long initialLatencyNanos, long decayNanos, long now) {
+        this.decayNanos = decayNanos;
+        this.ewmaNanos = initialLatencyNanos;
+        this.lastObservedAt = now;
+    }
+
+    public void onStart() {
+        inFlight.incrementAndGet();
+    }
+
+    public void onComplete() {
+        inFlight.decrementAndGet();
+    }
+
+    /**
+     * 응답 지연 반영
+     */
+    public synchronized void observe(long latencyNanos, long now) {
+        double weight = weight(now);
+        double decayed = ewmaNanos * weight;
+        ewmaNanos = latencyNanos > decayed ? latencyNanos : decayed + latencyNanos * (1 - weight);
+        lastObservedAt = now;
+    }
+
+    /**
+     * 선택 비용 (낮을수록 우선)
+     */
+    public synchronized double cost(long now) {
+        return decayed(now) * (inFlight.get() + 1);
+    }
+
+    public synchronized double getLatencyNanos(long now) {
+        return decayed(now);
+    }
+
+    public int getInFlight() {
+        return inFlight.get();
+    }
+
+    private double decayed(long now) {
+        return ewmaNanos * weight(now);
+    }
+
+    /**
+     * 마지막 관측 이후 경과 시간에 따른 기존 값 가중치
+     */
+    private double weight(long now) {
+        return Math.exp(-(double) Math.max(0L, now - lastObservedAt) / decayNanos);
+    }
+}
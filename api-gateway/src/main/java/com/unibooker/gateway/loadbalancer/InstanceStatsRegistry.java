@@ -0,0 +1,78 @@
+package com.unibooker.gateway.loadbalancer;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cloud.client.ServiceInstance;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.LongSupplier;
+
+/**
+ * 업스트림 인스턴스 통계 저장소 (서비스 공통)
+ * - 키: 서비스명/호스트:포트 (Eureka instance-id는 호스트가 달라도 같을 수 있어 사용하지 않음)
+ * - 로드 밸런서(선택)와 라이프사이클(요청 시작/완료 반영)이 공유
+ * - 지표: gateway.loadbalancer.latency{service, instance}, gateway.loadbalancer.inflight{service, instance}
+ */
+@Slf4j
+@Component
+public class InstanceStatsRegistry {
+
+    private final ConcurrentHashMap<String, InstanceStats> stats = new ConcurrentHashMap<>();
+    private final MeterRegistry meterRegistry;
+    private final long initialLatencyNanos;
+    private final long decayNanos;
+    private final LongSupplier clock;
+
+    @Autowired
+    public InstanceStatsRegistry(MeterRegistry meterRegistry,
+                                 @Value("${gateway.load-balancer.initial-latency:PT0.05S}") Duration initialLatency,
+                                 @Value("${gateway.load-balancer.decay-time:PT5S}") Duration decayTime) {
+        this(meterRegistry, initialLatency, decayTime, System::nanoTime);
+    }
+
+    /**
+     * 시뮬레이션용 (가상 시계)
+     */
+    public InstanceStatsRegistry(MeterRegistry meterRegistry, Duration initialLatency, Duration decayTime,
+                                 LongSupplier clock) {
+        this.meterRegistry = meterRegistry;
+        this.initialLatencyNanos = initialLatency.toNanos();
+        this.decayNanos = decayTime.toNanos();
+        this.clock = clock;
+    }
+
+    public InstanceStats get(ServiceInstance instance) {
+        String key = instance.getServiceId() + "/" + instance.getHost() + ":" + instance.getPort();
+        InstanceStats existing = stats.get(key);
+        if (existing != null) {
+            return existing;
+        }
+        return stats.computeIfAbsent(key, k -> register(instance));
+    }
+
+    public long now() {
+        return clock.getAsLong();
+    }
+
+    private InstanceStats register(ServiceInstance instance) {
+        InstanceStats created = new InstanceStats(initialLatencyNanos, decayNanos, now());
+        String service = String.valueOf(instance.getServiceId());
+        String address = instance.getHost() + ":" + instance.getPort();
+        Gauge.builder("gateway.loadbalancer.latency", created, s -> s.getLatencyNanos(now()) / 1_000_000.0)
+                .tag("service", service)
+                .tag("instance", address)
+                .baseUnit("milliseconds")
+                .register(meterRegistry);
+        Gauge.builder("gateway.loadbalancer.inflight", created, InstanceStats::getInFlight)
+                .tag("service", service)
+                .tag("instance", address)
+                .register(meterRegistry);
+        log.info("업스트림 인스턴스 통계 등록 - {} {}", service, address);
+        return created;
+    }
+}
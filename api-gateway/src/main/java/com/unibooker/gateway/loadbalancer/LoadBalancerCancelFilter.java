@@ -0,0 +1,45 @@
+package com.unibooker.gateway.loadbalancer;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.cloud.client.ServiceInstance;
+import org.springframework.cloud.client.loadbalancer.Response;
+import org.springframework.cloud.gateway.filter.GatewayFilterChain;
+import org.springframework.cloud.gateway.filter.GlobalFilter;
+import org.springframework.cloud.gateway.filter.ReactiveLoadBalancerClientFilter;
+import org.springframework.cloud.gateway.support.ServerWebExchangeUtils;
+import org.springframework.core.Ordered;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.SignalType;
+
+/**
+ * 취소된 업스트림 요청을 인스턴스 통계에 반영
+ * - ReactiveLoadBalancerClientFilter는 완료/오류에만 LoadBalancerLifecycle.onComplete 호출
+ *   → 클라이언트 연결 종료, 시간 초과, 헤지 경합에서 진 시도는 처리 중 요청 수가 줄지 않음
+ * - ReactiveLoadBalancerClientFilter 바로 뒤에서 실행, 취소 신호일 때만 처리 중 요청 -1 (완료/오류는 라이프사이클이 처리)
+ */
+@Component
+@RequiredArgsConstructor
+public class LoadBalancerCancelFilter implements GlobalFilter, Ordered {
+
+    private final LoadBalancerStatsLifecycle lifecycle;
+
+    @Override
+    public Mono<Void> filter(ServerWebExchange exchange, GatewayFilterChain chain) {
+        // 로드 밸런서 필터가 인스턴스 선택 전에 체인을 조립하므로 선택 결과는 종료 시점에 조회
+        return chain.filter(exchange)
+                .doFinally(signal -> {
+                    Response<ServiceInstance> lbResponse =
+                            exchange.getAttribute(ServerWebExchangeUtils.GATEWAY_LOADBALANCER_RESPONSE_ATTR);
+                    if (signal == SignalType.CANCEL && lbResponse != null) {
+                        lifecycle.onCancel(lbResponse);
+                    }
+                });
+    }
+
+    @Override
+    public int getOrder() {
+        return ReactiveLoadBalancerClientFilter.LOAD_BALANCER_CLIENT_FILTER_ORDER + 1;
+    }
+}
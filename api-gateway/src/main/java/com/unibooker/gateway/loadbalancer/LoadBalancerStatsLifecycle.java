@@ -0,0 +1,89 @@
+package com.unibooker.gateway.loadbalancer;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cloud.client.ServiceInstance;
+import org.springframework.cloud.client.loadbalancer.CompletionContext;
+import org.springframework.cloud.client.loadbalancer.LoadBalancerLifecycle;
+import org.springframework.cloud.client.loadbalancer.Request;
+import org.springframework.cloud.client.loadbalancer.RequestDataContext;
+import org.springframework.cloud.client.loadbalancer.Response;
+import org.springframework.cloud.client.loadbalancer.ResponseData;
+import org.springframework.cloud.client.loadbalancer.TimedRequestContext;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * 업스트림 요청 시작/완료를 인스턴스 통계에 반영 (ReactiveLoadBalancerClientFilter가 호출)
+ * - 시작: 처리 중 요청 +1, 시작 시각 기록
+ * - 완료: 처리 중 요청 -1, 응답 지연 반영
+ * - 취소: 처리 중 요청 -1 (LoadBalancerCancelFilter가 호출, 지연은 알 수 없으므로 반영하지 않음)
+ * - 실패(연결 오류/시간 초과): 실제 경과 시간과 failure-penalty 중 큰 값으로 반영 → 장애 인스턴스 회피
+ * - 메인 컨텍스트 빈 (서비스별 LoadBalancer 자식 컨텍스트에서 상위 컨텍스트 빈으로 조회됨)
+ */
+@Component
+public class LoadBalancerStatsLifecycle
+        implements LoadBalancerLifecycle<RequestDataContext, ResponseData, ServiceInstance> {
+
+    private final InstanceStatsRegistry statsRegistry;
+    private final long failurePenaltyNanos;
+
+    public LoadBalancerStatsLifecycle(InstanceStatsRegistry statsRegistry,
+                                      @Value("${gateway.load-balancer.failure-penalty:PT1S}") Duration failurePenalty) {
+        this.statsRegistry = statsRegistry;
+        this.failurePenaltyNanos = failurePenalty.toNanos();
+    }
+
+    @Override
+    public boolean supports(Class requestContextClass, Class responseClass, Class serverTypeClass) {
+        return RequestDataContext.class.isAssignableFrom(requestContextClass)
+                && ResponseData.class.isAssignableFrom(responseClass)
+                && ServiceInstance.class.isAssignableFrom(serverTypeClass);
+    }
+
+    @Override
+    public void onStart(Request<RequestDataContext> request) {
+    }
+
+    @Override
+    public void onStartRequest(Request<RequestDataContext> request, Response<ServiceInstance> lbResponse) {
+        if (!lbResponse.hasServer()) {
+            return;
+        }
+        if (request.getContext() != null) {
+            request.getContext().setRequestStartTime(statsRegistry.now());
+        }
+        statsRegistry.get(lbResponse.getServer()).onStart();
+    }
+
+    @Override
+    public void onComplete(CompletionContext<ResponseData, ServiceInstance, RequestDataContext> completionContext) {
+        Response<ServiceInstance> lbResponse = completionContext.getLoadBalancerResponse();
+        if (lbResponse == null || !lbResponse.hasServer()
+                || completionContext.status() == CompletionContext.Status.DISCARD) {
+            return;
+        }
+        InstanceStats stats = statsRegistry.get(lbResponse.getServer());
+        stats.onComplete();
+
+        TimedRequestContext context = completionContext.getLoadBalancerRequest().getContext();
+        if (context == null || context.getRequestStartTime() == 0) {
+            return;
+        }
+        long now = statsRegistry.now();
+        long latency = now - context.getRequestStartTime();
+        if (completionContext.status() == CompletionContext.Status.FAILED) {
+            latency = Math.max(latency, failurePenaltyNanos);
+        }
+        stats.observe(latency, now);
+    }
+
+    /**
+     * 응답 전에 취소된 요청 반영 (SCG는 취소 시 onComplete를 호출하지 않음)
+     */
+    public void onCancel(Response<ServiceInstance> lbResponse) {
+        if (lbResponse.hasServer()) {
+            statsRegistry.get(lbResponse.getServer()).onComplete();
+        }
+    }
+}
@@ -0,0 +1,114 @@
+package com.unibooker.gateway.loadbalancer;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.cloud.client.ServiceInstance;
+import org.springframework.cloud.client.loadbalancer.DefaultResponse;
+import org.springframework.cloud.client.loadbalancer.EmptyResponse;
+import org.springframework.cloud.client.loadbalancer.Request;
+import org.springframework.cloud.client.loadbalancer.RequestData;
+import org.springframework.cloud.client.loadbalancer.RequestDataContext;
+import org.springframework.cloud.client.loadbalancer.Response;
+import org.springframework.cloud.loadbalancer.core.NoopServiceInstanceListSupplier;
+import org.springframework.cloud.loadbalancer.core.ReactorServiceInstanceLoadBalancer;
+import org.springframework.cloud.loadbalancer.core.ServiceInstanceListSupplier;
+import reactor.core.publisher.Mono;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Supplier;
+import java.util.random.RandomGenerator;
+
+/**
+ * 지연 기반 로드 밸런서 (Power of Two Choices + Peak EWMA)
+ * - 인스턴스 2개를 무작위로 골라 비용(EWMA 지연 × (처리 중 요청 + 1))이 낮은 쪽 선택
+ * - GC 등으로 느려진 인스턴스는 비용이 즉시 올라 트래픽이 줄고, 시간이 지나면 다시 시험 호출
+ * - 전체 정렬 없이 O(1) 선택, 무작위성으로 여러 게이트웨이가 같은 인스턴스로 몰리지 않음
+ * - 지연/처리 중 요청 수는 LoadBalancerStatsLifecycle이 반영
+ * - 요청 속성 EXCLUDED_INSTANCE_ATTR의 인스턴스는 후보에서 제외 (헤지 요청을 첫 시도와 다른 인스턴스로)
+ */
+@Slf4j
+public class PeakEwmaLoadBalancer implements ReactorServiceInstanceLoadBalancer {
+
+    /** 선택에서 제외할 인스턴스 (exchange 속성, ServiceInstance) */
+    public static final String EXCLUDED_INSTANCE_ATTR = PeakEwmaLoadBalancer.class.getName() + ".excludedInstance";
+
+    private final ObjectProvider<ServiceInstanceListSupplier> supplierProvider;
+    private final String serviceId;
+    private final InstanceStatsRegistry statsRegistry;
+    /** 선택마다 호출 (ThreadLocalRandom은 호출 스레드의 인스턴스를 매번 얻어야 함) */
+    private final Supplier<? extends RandomGenerator> random;
+
+    public PeakEwmaLoadBalancer(ObjectProvider<ServiceInstanceListSupplier> supplierProvider, String serviceId,
+                                InstanceStatsRegistry statsRegistry) {
+        this(supplierProvider, serviceId, statsRegistry, ThreadLocalRandom::current);
+    }
+
+    PeakEwmaLoadBalancer(ObjectProvider<ServiceInstanceListSupplier> supplierProvider, String serviceId,
+                         InstanceStatsRegistry statsRegistry, Supplier<? extends RandomGenerator> random) {
+        this.supplierProvider = supplierProvider;
+        this.serviceId = serviceId;
+        this.statsRegistry = statsRegistry;
+        this.random = random;
+    }
+
+    @Override
+    @SuppressWarnings("rawtypes")
+    public Mono<Response<ServiceInstance>> choose(Request request) {
+        ServiceInstanceListSupplier supplier = supplierProvider.getIfAvailable(NoopServiceInstanceListSupplier::new);
+        return supplier.get(request).next().map(instances -> {
+            ServiceInstance selected = select(candidates(instances, request));
+            if (selected == null) {
+                log.warn("사용 가능한 인스턴스 없음 - service: {}", serviceId);
+                return new EmptyResponse();
+            }
+            return new DefaultResponse(selected);
+        });
+    }
+
+    /**
+     * 제외 인스턴스를 뺀 후보 (남는 인스턴스가 없으면 전체)
+     */
+    private List<ServiceInstance> candidates(List<ServiceInstance> instances, Request<?> request) {
+        if (instances.size() < 2 || !(request.getContext() instanceof RequestDataContext context)) {
+            return instances;
+        }
+        RequestData clientRequest = context.getClientRequest();
+        Map<String, Object> attributes = clientRequest != null ? clientRequest.getAttributes() : null;
+        if (attributes == null || !(attributes.get(EXCLUDED_INSTANCE_ATTR) instanceof ServiceInstance excluded)) {
+            return instances;
+        }
+        List<ServiceInstance> remaining = new ArrayList<>(instances.size());
+        for (ServiceInstance instance : instances) {
+            if (instance.getPort() != excluded.getPort() || !instance.getHost().equals(excluded.getHost())) {
+                remaining.add(instance);
+            }
+        }
+        return remaining.isEmpty() ? instances : remaining;
+    }
+
+    /**
+     * 인스턴스 선택 (없으면 null)
+     */
+    ServiceInstance select(List<ServiceInstance> instances) {
+        int size = instances.size();
+        if (size == 0) {
+            return null;
+        }
+        if (size == 1) {
+            return instances.get(0);
+        }
+        RandomGenerator random = this.random.get();
+        int first = random.nextInt(size);
+        int second = random.nextInt(size - 1);
+        if (second >= first) {
+            second++;
+        }
+        ServiceInstance a = instances.get(first);
+        ServiceInstance b = instances.get(second);
+        long now = statsRegistry.now();
+        return statsRegistry.get(a).cost(now) <= statsRegistry.get(b).cost(now) ? a : b;
+    }
+}
@@ -0,0 +1,27 @@
+package com.unibooker.gateway.loadbalancer;
+
+import org.springframework.cloud.client.ServiceInstance;
+import org.springframework.cloud.loadbalancer.core.ReactorLoadBalancer;
+import org.springframework.cloud.loadbalancer.core.ServiceInstanceListSupplier;
+import org.springframework.cloud.loadbalancer.support.LoadBalancerClientFactory;
+import org.springframework.context.annotation.Bean;
+import org.springframework.core.env.Environment;
+
+/**
+ * 서비스별 LoadBalancer 자식 컨텍스트 설정 (@LoadBalancerClients defaultConfiguration)
+ * - 컴포넌트 스캔 대상이 아니어야 하므로 @Configuration 없이 LoadBalancerConfig에서만 참조
+ * - 인스턴스 목록 공급자(Eureka + 캐시)는 기본 설정 그대로 사용
+ * - 통계 저장소/라이프사이클은 메인 컨텍스트 빈 사용 (자식 컨텍스트는 Duration 등 설정값 변환을 지원하지 않음)
+ */
+public class PeakEwmaLoadBalancerConfiguration {
+
+    @Bean
+    public ReactorLoadBalancer<ServiceInstance> peakEwmaLoadBalancer(Environment environment,
+                                                                     LoadBalancerClientFactory loadBalancerClientFactory,
+                                                                     InstanceStatsRegistry instanceStatsRegistry) {
+        String serviceId = environment.getProperty(LoadBalancerClientFactory.PROPERTY_NAME);
+        return new PeakEwmaLoadBalancer(
+                loadBalancerClientFactory.getLazyProvider(serviceId, ServiceInstanceListSupplier.class),
+                serviceId, instanceStatsRegistry);
+    }
+}
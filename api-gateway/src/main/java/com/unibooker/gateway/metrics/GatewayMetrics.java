@@ -0,0 +1,99 @@
+package com.unibooker.gateway.metrics;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.cloud.gateway.route.Route;
+import org.springframework.cloud.gateway.support.ServerWebExchangeUtils;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ServerWebExchange;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 라우트별 지연 시간 지표
+ * - gateway.requests{route, status}: 게이트웨이 전체 처리 시간 (필터 + 업스트림)
+ * - gateway.upstream{route, status}: 업스트림 호출 시간
+ * - gateway.jwt.verification{route, result}: JWT 검증 시간 (캐시 조회 포함)
+ * - 태그는 라우트 ID와 상태 코드 계열(2xx 등)만 사용 (경로/사용자 태그 금지)
+ * - 백분위 히스토그램 발행 → Prometheus에서 라우트별 p99 계산
+ * - Timer는 라우트 × 상태 계열 배열로 캐싱 (요청마다 Meter 조회/태그 생성 없음)
+ */
+@Component
+public class GatewayMetrics {
+
+    /** 상태 코드 계열 태그 (index = status / 100, 0은 응답 코드 없음/취소) */
+    private static final String[] STATUS_CLASSES = {"none", "1xx", "2xx", "3xx", "4xx", "5xx"};
+
+    private static final String UNKNOWN_ROUTE = "unknown";
+
+    private final MeterRegistry meterRegistry;
+    private final Map<String, Timer[]> requestTimers = new ConcurrentHashMap<>();
+    private final Map<String, Timer[]> upstreamTimers = new ConcurrentHashMap<>();
+    private final Map<String, Map<String, Timer>> jwtTimers = new ConcurrentHashMap<>();
+
+    public GatewayMetrics(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    public void recordRequest(ServerWebExchange exchange, long elapsedNanos) {
+        String route = routeId(exchange);
+        requestTimers.computeIfAbsent(route, id -> statusTimers("gateway.requests", "게이트웨이 요청 처리 시간", id))
+                [statusIndex(exchange)].record(elapsedNanos, TimeUnit.NANOSECONDS);
+    }
+
+    public void recordUpstream(ServerWebExchange exchange, long elapsedNanos) {
+        String route = routeId(exchange);
+        upstreamTimers.computeIfAbsent(route, id -> statusTimers("gateway.upstream", "업스트림 호출 시간", id))
+                [statusIndex(exchange)].record(elapsedNanos, TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * @param result ok | invalid | revoked | error
+     */
+    public void recordJwtVerification(ServerWebExchange exchange, String result, long elapsedNanos) {
+        String route = routeId(exchange);
+        jwtTimers.computeIfAbsent(route, id -> new ConcurrentHashMap<>())
+                .computeIfAbsent(result, r -> Timer.builder("gateway.jwt.verification")
+                        .description("JWT 검증 시간")
+                        .tag("route", route)
+                        .tag("result", r)
+                        .publishPercentileHistogram()
+                        .minimumExpectedValue(Duration.ofNanos(500))
+                        .maximumExpectedValue(Duration.ofMillis(50))
+                        .register(meterRegistry))
+                .record(elapsedNanos, TimeUnit.NANOSECONDS);
+    }
+
+    private Timer[] statusTimers(String name, String description, String route) {
+        Timer[] timers = new Timer[STATUS_CLASSES.length];
+        for (int i = 0; i < timers.length; i++) {
+            timers[i] = Timer.builder(name)
+                    .description(description)
+                    .tag("route", route)
+                    .tag("status", STATUS_CLASSES[i])
+                    .publishPercentileHistogram()
+                    .minimumExpectedValue(Duration.ofMillis(1))
+                    .maximumExpectedValue(Duration.ofSeconds(30))
+                    .register(meterRegistry);
+        }
+        return timers;
+    }
+
+    private static String routeId(ServerWebExchange exchange) {
+        Route route = exchange.getAttribute(ServerWebExchangeUtils.GATEWAY_ROUTE_ATTR);
+        return route != null ? route.getId() : UNKNOWN_ROUTE;
+    }
+
+    private static int statusIndex(ServerWebExchange exchange) {
+        HttpStatusCode status = exchange.getResponse().getStatusCode();
+        if (status == null) {
+            return 0;
+        }
+        int index = status.value() / 100;
+        return index > 0 && index < STATUS_CLASSES.length ? index : 0;
+    }
+}
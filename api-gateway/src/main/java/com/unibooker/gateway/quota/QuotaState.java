@@ -0,0 +1,13 @@
+package com.unibooker.gateway.quota;
+
+/**
+ * 기업 사용량 한도 상태 (현재 집계 기간 기준)
+ */
+public enum QuotaState {
+    /** 한도 이내 */
+    WITHIN,
+    /** soft 한도 초과 (허용, 경고 헤더) */
+    SOFT_EXCEEDED,
+    /** hard 한도 초과 (기간 종료까지 429) */
+    HARD_EXCEEDED
+}
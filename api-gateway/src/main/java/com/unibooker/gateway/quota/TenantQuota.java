@@ -0,0 +1,24 @@
+package com.unibooker.gateway.quota;
+
+/**
+ * 기업별 집계 기간당 한도 (0 = 제한 없음)
+ * - 요청 수와 전송량(요청 + 응답 본문 바이트) 각각 soft / hard 한도
+ */
+public record TenantQuota(long softRequests, long hardRequests, long softBytes, long hardBytes) {
+
+    public static final TenantQuota UNLIMITED = new TenantQuota(0, 0, 0, 0);
+
+    public QuotaState evaluate(long requests, long bytes) {
+        if (exceeds(requests, hardRequests) || exceeds(bytes, hardBytes)) {
+            return QuotaState.HARD_EXCEEDED;
+        }
+        if (exceeds(requests, softRequests) || exceeds(bytes, softBytes)) {
+            return QuotaState.SOFT_EXCEEDED;
+        }
+        return QuotaState.WITHIN;
+    }
+
+    private static boolean exceeds(long used, long limit) {
+        return limit > 0 && used >= limit;
+    }
+}
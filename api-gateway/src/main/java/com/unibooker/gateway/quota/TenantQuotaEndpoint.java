@@ -0,0 +1,30 @@
+package com.unibooker.gateway.quota;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Selector;
+import org.springframework.stereotype.Component;
+
+/**
+ * 기업별 사용량 조회 actuator 엔드포인트
+ * - GET /actuator/tenantquotas: 현재 기간 + 지난 기간 사용량 (전체 기업)
+ * - GET /actuator/tenantquotas/{companyId}: 기업 1곳 (집계 대상이 아니면 404)
+ */
+@Component
+@Endpoint(id = "tenantquotas")
+@RequiredArgsConstructor
+public class TenantQuotaEndpoint {
+
+    private final TenantQuotaRegistry registry;
+
+    @ReadOperation
+    public TenantQuotaRegistry.Summary usage() {
+        return registry.report();
+    }
+
+    @ReadOperation
+    public TenantReport tenant(@Selector long companyId) {
+        return registry.report(companyId);
+    }
+}
@@ -0,0 +1,182 @@
+package com.unibooker.gateway.quota;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.env.Environment;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.LongSupplier;
+
+/**
+ * 기업(테넌트)별 사용량 집계 / 한도 판정
+ * - 집계 기간(window)은 시계 기준 정렬 (예: 1시간 → 매 정시 시작)
+ * - aggregation-interval마다 기업별 카운터를 합산해 한도 상태 갱신 → 한도 초과 반영은 최대 이 주기만큼 늦음
+ * - 기간이 바뀌면 기업별 사용량을 이력(history개)으로 옮기고, 두 기간 연속 사용이 없는 기업은 제거
+ * - 한도: gateway.tenant-quota.tenants.{companyId}.* → gateway.tenant-quota.* → 0(제한 없음),
+ *   기업 최초 요청 시 1회 조회
+ * - 기업 수가 max-tenants를 넘으면 새 기업은 공용 overflow 항목(companyId -1)에 집계
+ * - 집계/보고는 이 객체 잠금 안에서 실행, 요청 스레드는 잠금을 잡지 않음
+ * - 지표: gateway.tenant-quota.tenants
+ */
+@Slf4j
+@Component
+public class TenantQuotaRegistry {
+
+    public static final long OVERFLOW_TENANT = -1L;
+
+    private static final String PREFIX = "gateway.tenant-quota.";
+
+    private final ConcurrentHashMap<Long, TenantUsage> tenants = new ConcurrentHashMap<>();
+    private final Environment environment;
+    private final long windowMillis;
+    private final int maxHistory;
+    private final int maxTenants;
+    private final LongSupplier clock;
+    private final TenantUsage overflow;
+
+    /** 현재 집계 기간 시작 (epoch ms) */
+    private volatile long windowStart;
+
+    @Autowired
+    public TenantQuotaRegistry(MeterRegistry meterRegistry, Environment environment,
+                               @Value("${gateway.tenant-quota.window:PT1H}") Duration window,
+                               @Value("${gateway.tenant-quota.history:24}") int maxHistory,
+                               @Value("${gateway.tenant-quota.max-tenants:10000}") int maxTenants) {
+        this(meterRegistry, environment, window, maxHistory, maxTenants, System::currentTimeMillis);
+    }
+
+    /**
+     * 테스트용 (가상 시계, epoch ms)
+     */
+    public TenantQuotaRegistry(MeterRegistry meterRegistry, Environment environment, Duration window,
+                               int maxHistory, int maxTenants, LongSupplier clock) {
+        this.environment = environment;
+        this.windowMillis = window.toMillis();
+        this.maxHistory = maxHistory;
+        this.maxTenants = maxTenants;
+        this.clock = clock;
+        this.overflow = new TenantUsage(OVERFLOW_TENANT, TenantQuota.UNLIMITED);
+        this.windowStart = alignedStart(clock.getAsLong());
+        Gauge.builder("gateway.tenant-quota.tenants", tenants, ConcurrentHashMap::size).register(meterRegistry);
+        log.info("기업 사용량 집계 시작 - window: {}, history: {}, max-tenants: {}", window, maxHistory, maxTenants);
+    }
+
+    /**
+     * 기업 사용량 카운터 (요청 스레드)
+     */
+    public TenantUsage usage(long companyId) {
+        TenantUsage usage = tenants.get(companyId);
+        if (usage != null) {
+            return usage;
+        }
+        if (tenants.size() >= maxTenants) {
+            return overflow;
+        }
+        return tenants.computeIfAbsent(companyId, id -> new TenantUsage(id, quota(id)));
+    }
+
+    /**
+     * 현재 집계 기간 종료 시각 (epoch ms, Retry-After 계산용)
+     */
+    public long windowEndMillis() {
+        return windowStart + windowMillis;
+    }
+
+    public long now() {
+        return clock.getAsLong();
+    }
+
+    /**
+     * 카운터 합산 / 한도 상태 갱신, 기간이 바뀌었으면 기간 마감
+     */
+    @Scheduled(fixedDelayString = "${gateway.tenant-quota.aggregation-interval:PT1S}")
+    public synchronized void aggregate() {
+        long start = windowStart;
+        long currentStart = alignedStart(clock.getAsLong());
+        tenants.values().forEach(TenantUsage::fold);
+        overflow.fold();
+        if (currentStart == start) {
+            return;
+        }
+
+        // 기간 경계와 집계 사이에 들어온 요청은 마감되는 기간에 포함 (최대 aggregation-interval)
+        long end = start + windowMillis;
+        for (TenantUsage usage : tenants.values()) {
+            usage.closeWindow(start, end, maxHistory);
+        }
+        overflow.closeWindow(start, end, maxHistory);
+        int before = tenants.size();
+        tenants.values().removeIf(TenantUsage::isIdle);
+        windowStart = currentStart;
+        log.debug("기업 사용량 기간 마감 - {} ~ {}, 기업 {}곳 (idle 제거 {}곳)",
+                Instant.ofEpochMilli(start), Instant.ofEpochMilli(end), tenants.size(), before - tenants.size());
+    }
+
+    /**
+     * 전체 기업 사용량 (현재 기간 요청 수 내림차순)
+     */
+    public synchronized Summary report() {
+        long start = windowStart;
+        long end = start + windowMillis;
+        List<TenantReport> reports = new ArrayList<>(tenants.size() + 1);
+        tenants.values().forEach(usage -> reports.add(usage.report(start, end)));
+        if (!overflow.isIdle()) {
+            reports.add(overflow.report(start, end));
+        }
+        reports.sort(Comparator.comparingLong((TenantReport r) -> r.current().requests()).reversed());
+        return new Summary(Instant.ofEpochMilli(start), Instant.ofEpochMilli(end), Duration.ofMillis(windowMillis), reports);
+    }
+
+    /**
+     * 기업 1곳 사용량 (집계 대상이 아니면 null)
+     */
+    public synchronized TenantReport report(long companyId) {
+        TenantUsage usage = companyId == OVERFLOW_TENANT ? overflow : tenants.get(companyId);
+        if (usage == null) {
+            return null;
+        }
+        return usage.report(windowStart, windowStart + windowMillis);
+    }
+
+    private long alignedStart(long nowMillis) {
+        return nowMillis - Math.floorMod(nowMillis, windowMillis);
+    }
+
+    /**
+     * 기업별 한도 조회 (기업별 설정 → 전역 설정 → 제한 없음)
+     */
+    private TenantQuota quota(long companyId) {
+        String tenantPrefix = PREFIX + "tenants." + companyId + ".";
+        TenantQuota quota = new TenantQuota(
+                limit(tenantPrefix, "soft-requests"),
+                limit(tenantPrefix, "hard-requests"),
+                limit(tenantPrefix, "soft-bytes"),
+                limit(tenantPrefix, "hard-bytes"));
+        if (!TenantQuota.UNLIMITED.equals(quota)) {
+            log.info("기업 사용량 한도 적용 - companyId: {}, {}", companyId, quota);
+        }
+        return quota;
+    }
+
+    private long limit(String tenantPrefix, String name) {
+        String value = environment.getProperty(tenantPrefix + name, environment.getProperty(PREFIX + name, "0"));
+        return name.endsWith("bytes") ? DataSize.parse(value).toBytes() : Long.parseLong(value.trim());
+    }
+
+    /**
+     * 전체 사용량 보고
+     */
+    public record Summary(Instant windowStart, Instant windowEnd, Duration window, List<TenantReport> tenants) {
+    }
+}
@@ -0,0 +1,13 @@
+package com.unibooker.gateway.quota;
+
+import java.util.List;
+
+/**
+ * 기업별 사용량 보고 (actuator tenantquotas)
+ *
+ * @param current 현재 집계 기간 (마지막 집계 시점까지)
+ * @param history 지난 집계 기간 (최신순)
+ */
+public record TenantReport(long companyId, TenantQuota quota, QuotaState state, WindowUsage current,
+                           List<WindowUsage> history) {
+}
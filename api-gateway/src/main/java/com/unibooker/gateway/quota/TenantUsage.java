@@ -0,0 +1,114 @@
+package com.unibooker.gateway.quota;
+
+import java.time.Instant;
+import java.util.ArrayDeque;
+import java.util.List;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 기업 1곳의 사용량 카운터
+ * - 요청 스레드: LongAdder 증가(스트라이프 셀, 잠금/CAS 경합 없음)와 volatile 상태 읽기만
+ * - 집계 스레드(TenantQuotaRegistry): 카운터를 sumThenReset으로 기간 합계에 더하고 한도 상태 갱신
+ * - 기간 합계/이력은 TenantQuotaRegistry 잠금 안에서만 접근 (요청 스레드는 접근하지 않음)
+ */
+public class TenantUsage {
+
+    private final long companyId;
+    private final TenantQuota quota;
+
+    private final LongAdder requests = new LongAdder();
+    private final LongAdder requestBytes = new LongAdder();
+    private final LongAdder responseBytes = new LongAdder();
+    private final LongAdder rejected = new LongAdder();
+
+    private volatile QuotaState state = QuotaState.WITHIN;
+
+    // 현재 기간 합계 (집계 스레드 전용)
+    private long windowRequests;
+    private long windowRequestBytes;
+    private long windowResponseBytes;
+    private long windowRejected;
+    private final ArrayDeque<WindowUsage> history = new ArrayDeque<>();
+
+    TenantUsage(long companyId, TenantQuota quota) {
+        this.companyId = companyId;
+        this.quota = quota;
+    }
+
+    public long getCompanyId() {
+        return companyId;
+    }
+
+    public TenantQuota getQuota() {
+        return quota;
+    }
+
+    /**
+     * 마지막 집계 시점의 한도 상태
+     */
+    public QuotaState getState() {
+        return state;
+    }
+
+    public void recordRequest() {
+        requests.increment();
+    }
+
+    public void recordRequestBytes(long bytes) {
+        requestBytes.add(bytes);
+    }
+
+    public void recordResponseBytes(long bytes) {
+        responseBytes.add(bytes);
+    }
+
+    public void recordRejected() {
+        rejected.increment();
+    }
+
+    /**
+     * 카운터를 기간 합계로 옮기고 한도 상태 갱신
+     */
+    void fold() {
+        windowRequests += requests.sumThenReset();
+        windowRequestBytes += requestBytes.sumThenReset();
+        windowResponseBytes += responseBytes.sumThenReset();
+        windowRejected += rejected.sumThenReset();
+        state = quota.evaluate(windowRequests, windowRequestBytes + windowResponseBytes);
+    }
+
+    /**
+     * 현재 기간을 이력으로 옮기고 새 기간 시작
+     */
+    void closeWindow(long startMillis, long endMillis, int maxHistory) {
+        history.addFirst(current(startMillis, endMillis));
+        while (history.size() > maxHistory) {
+            history.removeLast();
+        }
+        windowRequests = 0;
+        windowRequestBytes = 0;
+        windowResponseBytes = 0;
+        windowRejected = 0;
+        state = quota.evaluate(0, 0);
+    }
+
+    /**
+     * 현재 기간과 바로 전 기간 모두 사용이 없으면 idle
+     */
+    boolean isIdle() {
+        if (windowRequests > 0 || windowRejected > 0) {
+            return false;
+        }
+        WindowUsage last = history.peekFirst();
+        return last == null || (last.requests() == 0 && last.rejected() == 0);
+    }
+
+    WindowUsage current(long startMillis, long endMillis) {
+        return new WindowUsage(Instant.ofEpochMilli(startMillis), Instant.ofEpochMilli(endMillis),
+                windowRequests, windowRequestBytes, windowResponseBytes, windowRejected);
+    }
+
+    TenantReport report(long startMillis, long endMillis) {
+        return new TenantReport(companyId, quota, state, current(startMillis, endMillis), List.copyOf(history));
+    }
+}
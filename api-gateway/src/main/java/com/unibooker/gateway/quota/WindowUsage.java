@@ -0,0 +1,19 @@
+package com.unibooker.gateway.quota;
+
+import java.time.Instant;
+
+/**
+ * 집계 기간 1개의 기업 사용량
+ *
+ * @param requests 허용된 요청 수
+ * @param requestBytes 요청 본문 바이트
+ * @param responseBytes 응답 본문 바이트 (압축 전)
+ * @param rejected hard 한도로 거절된 요청 수
+ */
+public record WindowUsage(Instant start, Instant end, long requests, long requestBytes, long responseBytes,
+                          long rejected) {
+
+    public long bytes() {
+        return requestBytes + responseBytes;
+    }
+}
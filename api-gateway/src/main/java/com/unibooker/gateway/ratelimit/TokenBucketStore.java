@@ -0,0 +1,83 @@
+package com.unibooker.gateway.ratelimit;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 키별 토큰 버킷 저장소 (라우트 1개당 1개)
+ * - 토큰 버킷을 GCRA 방식으로 구현: 버킷 상태 = "이론적 도착 시각(TAT)" long 하나
+ * - 획득은 AtomicLong CAS만 사용 (락 없음), 저장소는 ConcurrentHashMap (내부 스트라이핑)
+ * - 가득 찬 상태로 idle 시간이 지난 버킷은 evictIdle()에서 제거
+ * - 키 수가 maxKeys를 넘으면 새 키는 라우트 공용 overflow 버킷을 사용 (메모리 상한)
+ */
+public class TokenBucketStore {
+
+    /** 새 버킷의 TAT (가득 찬 상태) */
+    private static final long FULL = Long.MIN_VALUE / 2;
+
+    private final long emissionIntervalNanos;
+    private final long burstNanos;
+    private final int maxKeys;
+    private final ConcurrentHashMap<String, AtomicLong> buckets = new ConcurrentHashMap<>();
+    private final AtomicLong overflow = new AtomicLong(FULL);
+
+    /**
+     * @param replenishRate 초당 충전 토큰 수
+     * @param burstCapacity 버킷 최대 토큰 수
+     * @param maxKeys 최대 키 수
+     */
+    public TokenBucketStore(double replenishRate, int burstCapacity, int maxKeys) {
+        if (replenishRate <= 0 || burstCapacity <= 0) {
+            throw new IllegalArgumentException("replenishRate와 burstCapacity는 0보다 커야 합니다.");
+        }
+        this.emissionIntervalNanos = (long) (1_000_000_000L / replenishRate);
+        this.burstNanos = emissionIntervalNanos * burstCapacity;
+        this.maxKeys = maxKeys;
+    }
+
+    /**
+     * 토큰 1개 획득 시도
+     *
+     * @return 0이면 허용, 양수면 다음 토큰까지 대기 시간(나노초)
+     */
+    public long tryAcquire(String key, long nowNanos) {
+        AtomicLong state = bucket(key);
+        while (true) {
+            long tat = state.get();
+            long newTat = Math.max(tat, nowNanos) + emissionIntervalNanos;
+            long allowAt = newTat - burstNanos;
+            if (allowAt > nowNanos) {
+                return allowAt - nowNanos;
+            }
+            if (state.compareAndSet(tat, newTat)) {
+                return 0L;
+            }
+        }
+    }
+
+    /**
+     * idle 버킷 제거 (TAT가 idleNanos 이상 지난 버킷 = 가득 찬 채 방치된 버킷)
+     *
+     * @return 제거된 버킷 수
+     */
+    public int evictIdle(long nowNanos, long idleNanos) {
+        int before = buckets.size();
+        buckets.values().removeIf(state -> nowNanos - state.get() > idleNanos);
+        return before - buckets.size();
+    }
+
+    public int size() {
+        return buckets.size();
+    }
+
+    private AtomicLong bucket(String key) {
+        AtomicLong state = buckets.get(key);
+        if (state != null) {
+            return state;
+        }
+        if (buckets.size() >= maxKeys) {
+            return overflow;
+        }
+        return buckets.computeIfAbsent(key, k -> new AtomicLong(FULL));
+    }
+}
@@ -0,0 +1,38 @@
+package com.unibooker.gateway.revocation;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.unibooker.common.dto.TokenRevocationDto;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.stereotype.Component;
+
+/**
+ * 토큰 폐기 이벤트 수신 (Kafka token-revoked 토픽)
+ * - 게이트웨이 인스턴스마다 별도 그룹으로 전체 이벤트 수신
+ * - 재시작 시 토픽 처음부터 다시 읽어 폐기 목록 복원 (토픽 보존 기간 ≥ Access Token 수명)
+ * - gateway.revocation.feed=local 이면 비활성 (Kafka 없는 로컬 환경)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "gateway.revocation.feed", havingValue = "kafka", matchIfMissing = true)
+public class TokenRevocationListener {
+
+    private final TokenRevocationRegistry tokenRevocationRegistry;
+    private final ObjectMapper objectMapper;
+
+    @KafkaListener(
+            topics = TokenRevocationDto.TOPIC,
+            groupId = "api-gateway-${random.uuid}",
+            properties = "auto.offset.reset=earliest"
+    )
+    public void handleTokenRevoked(String message) {
+        try {
+            tokenRevocationRegistry.revoke(objectMapper.readValue(message, TokenRevocationDto.class));
+        } catch (Exception e) {
+            log.error("토큰 폐기 이벤트 처리 실패 - message: {}", message, e);
+        }
+    }
+}
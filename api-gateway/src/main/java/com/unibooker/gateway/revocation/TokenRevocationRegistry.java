@@ -0,0 +1,143 @@
+package com.unibooker.gateway.revocation;
+
+import com.unibooker.common.dto.TokenRevocationDto;
+import com.unibooker.common.util.VerifiedToken;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 토큰 폐기 목록
+ * - 1차: 회전식 블룸 필터 (현재/이전 2세대, 폐기 이력 없는 대부분의 요청은 비트 확인만으로 통과)
+ * - 2차: 블룸 필터 적중 시에만 정확한 폐기 시각(Map)과 토큰 발급 시각 비교 (TokenRevocationDto.isRevoked)
+ * - 세대 교체 주기 = Access Token 최대 수명 (그 이전 폐기 건은 해당 토큰이 이미 만료되어 불필요)
+ * - 지표: gateway.revocation.bloom.bits, gateway.revocation.bloom.fpp{type=configured|estimated},
+ *         gateway.revocation.entries, gateway.revocation.checks{result=clean|false_positive|revoked}
+ */
+@Slf4j
+@Component
+public class TokenRevocationRegistry {
+
+    private final boolean enabled;
+    private final long expectedInsertions;
+    private final double falsePositiveRate;
+    private final long retentionMillis;
+
+    private volatile BloomFilter current;
+    private volatile BloomFilter previous;
+    /** 대상 키 → 폐기 시각 (epoch 밀리초) */
+    private final Map<Long, Long> revokedAt = new ConcurrentHashMap<>();
+
+    private final Counter clean;
+    private final Counter falsePositive;
+    private final Counter revoked;
+
+    public TokenRevocationRegistry(@Value("${gateway.revocation.enabled:true}") boolean enabled,
+                                   @Value("${gateway.revocation.expected-insertions:100000}") long expectedInsertions,
+                                   @Value("${gateway.revocation.false-positive-rate:0.001}") double falsePositiveRate,
+                                   @Value("${jwt.access-token-validity}") long accessTokenValidity,
+                                   MeterRegistry meterRegistry) {
+        this.enabled = enabled;
+        this.expectedInsertions = expectedInsertions;
+        this.falsePositiveRate = falsePositiveRate;
+        this.retentionMillis = accessTokenValidity;
+        this.current = BloomFilter.create(expectedInsertions, falsePositiveRate);
+        this.previous = BloomFilter.create(expectedInsertions, falsePositiveRate);
+
+        Gauge.builder("gateway.revocation.bloom.bits", this, r -> r.current.bitSize() + r.previous.bitSize())
+                .description("블룸 필터 전체 비트 수 (현재 + 이전 세대)")
+                .register(meterRegistry);
+        Gauge.builder("gateway.revocation.bloom.fpp", this, r -> r.falsePositiveRate)
+                .tag("type", "configured")
+                .register(meterRegistry);
+        Gauge.builder("gateway.revocation.bloom.fpp", this, r -> r.current.estimatedFpp())
+                .tag("type", "estimated")
+                .register(meterRegistry);
+        Gauge.builder("gateway.revocation.entries", revokedAt, Map::size)
+                .register(meterRegistry);
+        this.clean = checks(meterRegistry, "clean");
+        this.falsePositive = checks(meterRegistry, "false_positive");
+        this.revoked = checks(meterRegistry, "revoked");
+
+        log.info("토큰 폐기 목록 - enabled: {}, expectedInsertions: {}, fpp: {}, bits: {}, hashes: {}",
+                enabled, expectedInsertions, falsePositiveRate, current.bitSize(), current.numHashes());
+    }
+
+    private static Counter checks(MeterRegistry meterRegistry, String result) {
+        return Counter.builder("gateway.revocation.checks")
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+
+    /**
+     * 폐기 등록 (이벤트 피드에서 호출)
+     */
+    public void revoke(TokenRevocationDto revocation) {
+        if (revocation.getScope() == null || revocation.getTargetId() == null) {
+            return;
+        }
+        long key = key(revocation.getScope(), revocation.getTargetId());
+        revokedAt.merge(key, revocation.getRevokedAt(), Math::max);
+        current.put(key);
+        log.info("토큰 폐기 등록 - scope: {}, targetId: {}, reason: {}",
+                revocation.getScope(), revocation.getTargetId(), revocation.getReason());
+    }
+
+    /**
+     * 폐기된 토큰 여부 (사용자 또는 소속 기업이 토큰 발급 이후 폐기된 경우)
+     */
+    public boolean isRevoked(VerifiedToken token) {
+        if (!enabled) {
+            return false;
+        }
+        long userKey = token.getUserId() != null ? key(TokenRevocationDto.Scope.USER, token.getUserId()) : -1;
+        long companyKey = token.getCompanyId() != null ? key(TokenRevocationDto.Scope.COMPANY, token.getCompanyId()) : -1;
+        boolean userHit = userKey >= 0 && mightContain(userKey);
+        boolean companyHit = companyKey >= 0 && mightContain(companyKey);
+        if (!userHit && !companyHit) {
+            clean.increment();
+            return false;
+        }
+
+        if ((userHit && TokenRevocationDto.isRevoked(token.getIssuedAt(), revokedAt.get(userKey)))
+                || (companyHit && TokenRevocationDto.isRevoked(token.getIssuedAt(), revokedAt.get(companyKey)))) {
+            revoked.increment();
+            return true;
+        }
+        falsePositive.increment();
+        return false;
+    }
+
+    private boolean mightContain(long key) {
+        return current.mightContain(key) || previous.mightContain(key);
+    }
+
+    /**
+     * 세대 교체 (Access Token 최대 수명 간격)
+     * - 이전 세대를 버리고 보존 기간이 지난 정확 목록 항목 제거
+     */
+    @Scheduled(fixedDelayString = "${jwt.access-token-validity}", initialDelayString = "${jwt.access-token-validity}")
+    public synchronized void rotate() {
+        previous = current;
+        current = BloomFilter.create(expectedInsertions, falsePositiveRate);
+
+        long threshold = System.currentTimeMillis() - retentionMillis;
+        revokedAt.entrySet().removeIf(e -> e.getValue() < threshold);
+        // 보존 중인 항목은 새 세대에도 다시 등록
+        revokedAt.keySet().forEach(current::put);
+    }
+
+    /**
+     * 대상 키 (사용자/기업 ID 공간 분리)
+     */
+    private static long key(TokenRevocationDto.Scope scope, long id) {
+        return (id << 1) | (scope == TokenRevocationDto.Scope.COMPANY ? 1 : 0);
+    }
+}
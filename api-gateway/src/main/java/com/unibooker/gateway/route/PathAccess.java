@@ -0,0 +1,56 @@
+package com.unibooker.gateway.route;
+
+import com.unibooker.common.enums.UserRole;
+import lombok.Getter;
+
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * 경로 매칭 결과
+ * - PUBLIC: 인증 불필요
+ * - ROLE_HINT: 인증 필요 + 쿠키 탐색 시 사용할 권한 힌트
+ * - PROTECTED: 인증 필요 (권한 힌트 없음)
+ * - 모든 인스턴스는 미리 생성되어 요청 경로에서 할당이 발생하지 않음
+ */
+@Getter
+public final class PathAccess {
+
+    public enum Kind {
+        PUBLIC, ROLE_HINT, PROTECTED
+    }
+
+    public static final PathAccess PUBLIC = new PathAccess(Kind.PUBLIC, null);
+    public static final PathAccess PROTECTED = new PathAccess(Kind.PROTECTED, null);
+
+    private static final Map<UserRole, PathAccess> ROLE_HINTS = new EnumMap<>(UserRole.class);
+
+    static {
+        for (UserRole role : UserRole.values()) {
+            ROLE_HINTS.put(role, new PathAccess(Kind.ROLE_HINT, role));
+        }
+    }
+
+    private final Kind kind;
+
+    /** 권한 힌트 (ROLE_HINT인 경우에만 존재) */
+    private final UserRole role;
+
+    private PathAccess(Kind kind, UserRole role) {
+        this.kind = kind;
+        this.role = role;
+    }
+
+    public static PathAccess roleHint(UserRole role) {
+        return ROLE_HINTS.get(role);
+    }
+
+    public boolean isPublic() {
+        return kind == Kind.PUBLIC;
+    }
+
+    @Override
+    public String toString() {
+        return role != null ? kind + "(" + role + ")" : kind.name();
+    }
+}
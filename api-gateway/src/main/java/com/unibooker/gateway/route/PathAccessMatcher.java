@@ -0,0 +1,161 @@
+package com.unibooker.gateway.route;
+
+import com.unibooker.common.enums.UserRole;
+
+import java.util.TreeMap;
+
+/**
+ * 경로 접근 정책 매처 (문자 단위 Prefix Trie)
+ * - 시작 시 한 번 빌드, 이후 불변 (스레드 안전)
+ * - 한 번의 경로 순회로 PUBLIC / ROLE_HINT / PROTECTED 판정
+ * - 등록된 prefix는 세그먼트 경계에서만 매칭
+ *   (예: "/actuator" → "/actuator", "/actuator/health" 매칭 / "/actuatorX" 미매칭)
+ * - 정확 일치 공개 경로는 경로 전체가 같을 때만 매칭 (예: "/api/admins/login" → "/api/admins/login/x" 미매칭)
+ * - 공개 경로가 권한 힌트보다 우선, 권한 힌트는 가장 긴 prefix 적용
+ * - 매칭 중 객체 할당 없음
+ */
+public final class PathAccessMatcher {
+
+    private final Node root;
+
+    private PathAccessMatcher(Node root) {
+        this.root = root;
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * 경로의 접근 정책 조회
+     */
+    public PathAccess match(String path) {
+        PathAccess hint = PathAccess.PROTECTED;
+        Node node = root;
+        int length = path.length();
+
+        for (int i = 0; ; i++) {
+            if (i == length && node.exact != null) {
+                return node.exact;
+            }
+            PathAccess value = node.value;
+            if (value != null && (i == length || path.charAt(i) == '/')) {
+                if (value.isPublic()) {
+                    return value;
+                }
+                hint = value;
+            }
+            if (i == length) {
+                return hint;
+            }
+            node = node.child(path.charAt(i));
+            if (node == null) {
+                return hint;
+            }
+        }
+    }
+
+    /**
+     * 빌드 완료된 Trie 노드
+     * - 자식은 (문자 - base) 인덱스의 직접 참조 테이블 → 문자당 배열 접근 1회
+     */
+    private static final class Node {
+
+        private final char base;
+        private final Node[] table;
+        private final PathAccess value;
+        private final PathAccess exact;
+
+        private Node(char base, Node[] table, PathAccess value, PathAccess exact) {
+            this.base = base;
+            this.table = table;
+            this.value = value;
+            this.exact = exact;
+        }
+
+        Node child(char c) {
+            int idx = c - base;
+            return idx >= 0 && idx < table.length ? table[idx] : null;
+        }
+    }
+
+    /**
+     * 빌드 중 Trie 노드
+     */
+    private static final class MutableNode {
+
+        private final TreeMap<Character, MutableNode> children = new TreeMap<>();
+        private PathAccess value;
+        private PathAccess exact;
+
+        Node freeze() {
+            if (children.isEmpty()) {
+                return new Node('\0', new Node[0], value, exact);
+            }
+            char base = children.firstKey();
+            Node[] table = new Node[children.lastKey() - base + 1];
+            children.forEach((c, child) -> table[c - base] = child.freeze());
+            return new Node(base, table, value, exact);
+        }
+    }
+
+    /**
+     * 매처 빌더
+     */
+    public static final class Builder {
+
+        private final MutableNode root = new MutableNode();
+
+        private Builder() {
+        }
+
+        /**
+         * 인증 불필요 경로 등록 (prefix, 하위 경로 포함)
+         */
+        public Builder publicPath(String prefix) {
+            return put(prefix, PathAccess.PUBLIC);
+        }
+
+        /**
+         * 인증 불필요 경로 등록 (정확 일치, 하위 경로는 다른 규칙을 따름)
+         */
+        public Builder publicExactPath(String path) {
+            node(path).exact = PathAccess.PUBLIC;
+            return this;
+        }
+
+        /**
+         * 권한 힌트 경로 등록 (공개 경로로 이미 등록된 prefix는 덮어쓰지 않음)
+         */
+        public Builder roleHint(String prefix, UserRole role) {
+            return put(prefix, PathAccess.roleHint(role));
+        }
+
+        private Builder put(String prefix, PathAccess access) {
+            MutableNode node = node(prefix);
+            if (node.value == null || !node.value.isPublic()) {
+                node.value = access;
+            }
+            return this;
+        }
+
+        private MutableNode node(String path) {
+            if (path == null || !path.startsWith("/")) {
+                throw new IllegalArgumentException("경로는 '/'로 시작해야 합니다: " + path);
+            }
+            String normalized = path.length() > 1 && path.endsWith("/")
+                    ? path.substring(0, path.length() - 1)
+                    : path;
+
+            MutableNode node = root;
+            for (int i = 0; i < normalized.length(); i++) {
+                node = node.children.computeIfAbsent(normalized.charAt(i), c -> new MutableNode());
+            }
+            return node;
+        }
+
+        public PathAccessMatcher build() {
+            return new PathAccessMatcher(root.freeze());
+        }
+    }
+}
@@ -0,0 +1,39 @@
+package com.unibooker.gateway.waitingroom;
+
+/**
+ * 입장 대기열 (저장소 교체 가능)
+ * - 기본 구현: InMemoryAdmissionQueue (게이트웨이 인스턴스 내부)
+ * - 다중 인스턴스 공유가 필요하면 외부 저장소 기반 구현으로 교체
+ * - 시각은 호출자가 전달 (테스트/시뮬레이션용)
+ */
+public interface AdmissionQueue {
+
+    /**
+     * 소유자(사용자)의 티켓 조회 또는 발급 (발급 순서대로 입장)
+     * - 유효한 티켓이 있으면 새로 발급하지 않고 그 티켓 상태 반환 (소유자당 티켓 1개)
+     * - 입장한 티켓은 이 호출로 사용 시작 (이후 pass-ttl 동안 통과)
+     */
+    TicketStatus enqueue(String owner, long nowMillis);
+
+    /**
+     * 티켓 상태 조회 (대기 순번, 예상 시간, 입장 여부 / 폴링용, 사용 시작 처리 없음)
+     */
+    TicketStatus check(String ticket, long nowMillis);
+
+    /**
+     * 입장 처리 (초당 입장 인원만큼 대기 순번 진행)
+     */
+    void admit(long nowMillis);
+
+    /**
+     * 만료/이탈 티켓 정리
+     *
+     * @return 제거된 티켓 수
+     */
+    int cleanup(long nowMillis);
+
+    /**
+     * 현재 대기 인원
+     */
+    long waitingCount();
+}
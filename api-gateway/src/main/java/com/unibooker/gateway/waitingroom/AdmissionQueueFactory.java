@@ -0,0 +1,16 @@
+package com.unibooker.gateway.waitingroom;
+
+/**
+ * 대기열 생성 전략
+ * - 기본 Bean: InMemoryAdmissionQueue 생성 (WaitingRoomConfig)
+ * - 다른 저장소를 쓰려면 이 타입의 Bean을 등록
+ */
+@FunctionalInterface
+public interface AdmissionQueueFactory {
+
+    /**
+     * @param queueId 대기열 ID (라우트 ID)
+     * @param admitPerSecond 초당 입장 인원
+     */
+    AdmissionQueue create(String queueId, double admitPerSecond);
+}
@@ -0,0 +1,206 @@
+package com.unibooker.gateway.waitingroom;
+
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+
+/**
+ * 인메모리 입장 대기열
+ * - 티켓 = 추측 불가능한 UUID, 소유자(사용자)당 1개 (유효한 티켓이 있으면 재사용)
+ * - 대기 항목은 발급 순번(seq) 순으로 보관, 입장 크레딧만큼 앞에서부터 입장 처리
+ * - 입장 크레딧을 초당 admitPerSecond만큼 충전 (최대 1초분)
+ *   → 대기자가 없고 크레딧이 남아 있으면 발급 즉시 입장
+ * - abandonTimeout 동안 다시 오지 않은 대기자는 크레딧을 쓰지 않고 건너뜀
+ * - 입장 후 abandonTimeout 안에 사용을 시작하지 않으면 만료, 사용 시작 후 passTtl 동안 통과
+ * - 조회는 락 없이 처리, 발급 순번 부여와 입장 처리(admit)만 동기화
+ */
+public class InMemoryAdmissionQueue implements AdmissionQueue {
+
+    private final double admitPerSecond;
+    private final long passTtlMillis;
+    private final long abandonTimeoutMillis;
+    private final int maxTickets;
+
+    /** 티켓 → 항목 */
+    private final ConcurrentHashMap<String, Entry> tickets = new ConcurrentHashMap<>();
+
+    /** 소유자 → 항목 (지난 항목은 cleanup에서 정리) */
+    private final ConcurrentHashMap<String, Entry> owners = new ConcurrentHashMap<>();
+
+    /** 입장 대기 항목 (발급 순번 순) */
+    private final ConcurrentSkipListMap<Long, Entry> waiting = new ConcurrentSkipListMap<>();
+
+    private volatile long lastIssuedSeq;
+
+    /** 대기열에서 빠진 마지막 순번 (입장 또는 이탈) */
+    private volatile long admittedSeq;
+
+    /** 입장 크레딧 (admit()에서만 접근) */
+    private double credits;
+    private long lastRefillMillis = -1;
+
+    public InMemoryAdmissionQueue(double admitPerSecond, long passTtlMillis,
+                                  long abandonTimeoutMillis, int maxTickets) {
+        if (admitPerSecond <= 0) {
+            throw new IllegalArgumentException("초당 입장 인원은 0보다 커야 합니다.");
+        }
+        this.admitPerSecond = admitPerSecond;
+        this.passTtlMillis = passTtlMillis;
+        this.abandonTimeoutMillis = abandonTimeoutMillis;
+        this.maxTickets = maxTickets;
+    }
+
+    @Override
+    public TicketStatus enqueue(String owner, long nowMillis) {
+        Entry[] issued = new Entry[1];
+        Entry entry = owners.compute(owner, (key, current) -> {
+            if (current != null && tickets.get(current.ticket) == current) {
+                return current;
+            }
+            if (tickets.size() >= maxTickets) {
+                return null;
+            }
+            issued[0] = issue(key, nowMillis);
+            return issued[0];
+        });
+        if (entry == null) {
+            return new TicketStatus(null, TicketStatus.State.FULL, 0, 0);
+        }
+        entry.lastSeenMillis = nowMillis;
+        if (issued[0] != null) {
+            admit(nowMillis);
+        }
+        TicketStatus status = status(entry, nowMillis, true);
+        // 통과 시간이 지났거나 입장 후 사용하지 않아 만료된 티켓 → 새로 발급
+        return status.getState() == TicketStatus.State.EXPIRED ? enqueue(owner, nowMillis) : status;
+    }
+
+    @Override
+    public TicketStatus check(String ticket, long nowMillis) {
+        Entry entry = tickets.get(ticket);
+        if (entry == null) {
+            return TicketStatus.expired(ticket);
+        }
+        entry.lastSeenMillis = nowMillis;
+        return status(entry, nowMillis, false);
+    }
+
+    @Override
+    public synchronized void admit(long nowMillis) {
+        if (lastRefillMillis < 0) {
+            lastRefillMillis = nowMillis;
+            credits = 1;
+        }
+        long elapsed = Math.max(0, nowMillis - lastRefillMillis);
+        credits = Math.min(admitPerSecond, credits + elapsed * admitPerSecond / 1000.0);
+        lastRefillMillis = nowMillis;
+
+        while (credits >= 1) {
+            Map.Entry<Long, Entry> first = waiting.pollFirstEntry();
+            if (first == null) {
+                break;
+            }
+            Entry entry = first.getValue();
+            if (nowMillis - entry.lastSeenMillis > abandonTimeoutMillis) {
+                // 이탈한 대기자는 크레딧을 쓰지 않고 건너뜀 (소유자 매핑은 cleanup에서 정리)
+                tickets.remove(entry.ticket, entry);
+            } else {
+                entry.admittedMillis = nowMillis;
+                credits -= 1;
+            }
+            admittedSeq = entry.seq;
+        }
+    }
+
+    @Override
+    public int cleanup(long nowMillis) {
+        int removed = 0;
+        for (Entry entry : tickets.values()) {
+            if (isExpired(entry, nowMillis) && tickets.remove(entry.ticket, entry)) {
+                waiting.remove(entry.seq, entry);
+                removed++;
+            }
+        }
+        owners.values().removeIf(entry -> tickets.get(entry.ticket) != entry);
+        return removed;
+    }
+
+    @Override
+    public long waitingCount() {
+        return Math.max(0, lastIssuedSeq - admittedSeq);
+    }
+
+    /**
+     * 새 티켓 발급 (순번 부여와 대기 등록은 입장 처리와 같은 락에서)
+     */
+    private Entry issue(String owner, long nowMillis) {
+        Entry entry;
+        synchronized (this) {
+            entry = new Entry(UUID.randomUUID().toString(), owner, lastIssuedSeq + 1, nowMillis);
+            lastIssuedSeq = entry.seq;
+            waiting.put(entry.seq, entry);
+        }
+        tickets.put(entry.ticket, entry);
+        return entry;
+    }
+
+    /**
+     * 티켓 상태 (use: 소유자 요청이면 입장한 티켓의 사용 시작)
+     */
+    private TicketStatus status(Entry entry, long nowMillis, boolean use) {
+        if (entry.admittedMillis >= 0) {
+            if (isExpired(entry, nowMillis)) {
+                remove(entry);
+                return TicketStatus.expired(entry.ticket);
+            }
+            if (use && entry.usedMillis < 0) {
+                entry.usedMillis = nowMillis;
+            }
+            return new TicketStatus(entry.ticket, TicketStatus.State.ADMITTED, 0, 0);
+        }
+        long position = Math.max(1, entry.seq - admittedSeq);
+        long etaSeconds = (long) Math.ceil(position / admitPerSecond);
+        return new TicketStatus(entry.ticket, TicketStatus.State.WAITING, position, etaSeconds);
+    }
+
+    /**
+     * 만료 여부
+     * - 사용 중: 사용 시작 후 passTtl 경과 / 입장 후 미사용: abandonTimeout 경과 / 대기 중: 마지막 조회 후 abandonTimeout 경과
+     */
+    private boolean isExpired(Entry entry, long nowMillis) {
+        if (entry.usedMillis >= 0) {
+            return nowMillis - entry.usedMillis > passTtlMillis;
+        }
+        if (entry.admittedMillis >= 0) {
+            return nowMillis - entry.admittedMillis > abandonTimeoutMillis;
+        }
+        return nowMillis - entry.lastSeenMillis > abandonTimeoutMillis;
+    }
+
+    private void remove(Entry entry) {
+        tickets.remove(entry.ticket, entry);
+        waiting.remove(entry.seq, entry);
+        owners.remove(entry.owner, entry);
+    }
+
+    /**
+     * 티켓 항목
+     */
+    private static final class Entry {
+
+        private final String ticket;
+        private final String owner;
+        private final long seq;
+        private volatile long lastSeenMillis;
+        private volatile long admittedMillis = -1;
+        private volatile long usedMillis = -1;
+
+        private Entry(String ticket, String owner, long seq, long issuedMillis) {
+            this.ticket = ticket;
+            this.owner = owner;
+            this.seq = seq;
+            this.lastSeenMillis = issuedMillis;
+        }
+    }
+}
@@ -0,0 +1,45 @@
+package com.unibooker.gateway.waitingroom;
+
+import lombok.Getter;
+
+/**
+ * 대기열 티켓 상태 (불변)
+ */
+@Getter
+public final class TicketStatus {
+
+    public enum State {
+        /** 대기 중 */
+        WAITING,
+        /** 입장 허용 (통과 유효 시간 내) */
+        ADMITTED,
+        /** 만료 (입장 유효 시간 경과 또는 알 수 없는 티켓) */
+        EXPIRED,
+        /** 대기열 정원 초과 (티켓 미발급) */
+        FULL
+    }
+
+    private final String ticket;
+    private final State state;
+
+    /** 내 앞의 대기 인원 + 1 (입장 시 0) */
+    private final long position;
+
+    /** 예상 입장까지 남은 시간 (초) */
+    private final long etaSeconds;
+
+    public TicketStatus(String ticket, State state, long position, long etaSeconds) {
+        this.ticket = ticket;
+        this.state = state;
+        this.position = position;
+        this.etaSeconds = etaSeconds;
+    }
+
+    public static TicketStatus expired(String ticket) {
+        return new TicketStatus(ticket, State.EXPIRED, 0, 0);
+    }
+
+    public boolean isAdmitted() {
+        return state == State.ADMITTED;
+    }
+}
@@ -0,0 +1,68 @@
+package com.unibooker.gateway.waitingroom;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 대기열 레지스트리
+ * - 라우트 ID별 대기열 보관 (WaitingRoomFilter, WaitingRoomController 공용)
+ * - 주기적으로 입장 처리(admit) 및 만료 티켓 정리
+ * - 지표: gateway.waiting-room.waiting{queue}
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class WaitingRoomRegistry {
+
+    private final AdmissionQueueFactory admissionQueueFactory;
+    private final MeterRegistry meterRegistry;
+    private final Map<String, AdmissionQueue> queues = new ConcurrentHashMap<>();
+
+    /**
+     * 대기열 등록 (라우트 생성 시 1회)
+     */
+    public AdmissionQueue register(String queueId, double admitPerSecond) {
+        return queues.computeIfAbsent(queueId, id -> {
+            AdmissionQueue queue = admissionQueueFactory.create(id, admitPerSecond);
+            Gauge.builder("gateway.waiting-room.waiting", queue, AdmissionQueue::waitingCount)
+                    .tag("queue", id)
+                    .register(meterRegistry);
+            log.info("대기열 등록 - queue: {}, admitPerSecond: {}", id, admitPerSecond);
+            return queue;
+        });
+    }
+
+    public AdmissionQueue find(String queueId) {
+        return queues.get(queueId);
+    }
+
+    /**
+     * 입장 처리 (100ms 간격)
+     */
+    @Scheduled(fixedRate = 100)
+    public void admit() {
+        long now = System.currentTimeMillis();
+        queues.values().forEach(queue -> queue.admit(now));
+    }
+
+    /**
+     * 만료/이탈 티켓 정리
+     */
+    @Scheduled(fixedDelayString = "${gateway.waiting-room.cleanup-interval:PT10S}")
+    public void cleanup() {
+        long now = System.currentTimeMillis();
+        queues.forEach((id, queue) -> {
+            int removed = queue.cleanup(now);
+            if (removed > 0) {
+                log.debug("대기열 티켓 정리 - queue: {}, removed: {}", id, removed);
+            }
+        });
+    }
+}
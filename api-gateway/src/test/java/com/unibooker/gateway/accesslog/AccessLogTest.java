@@ -0,0 +1,131 @@
+package com.unibooker.gateway.accesslog;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.http.HttpStatus;
+import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
+import org.springframework.mock.web.server.MockServerWebExchange;
+import org.springframework.util.unit.DataSize;
+import reactor.core.publisher.Mono;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class AccessLogTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @TempDir
+    Path dir;
+
+    @Test
+    void personalDataIsRedacted() {
+        assertThat(AccessLogRedactor.path("/api/users/kim@example.com/profile"))
+                .isEqualTo("/api/users/[redacted]/profile");
+        assertThat(AccessLogRedactor.query("email=kim%40example.com&page=2&Password=secret&q=a@b.c"))
+                .isEqualTo("email=[redacted]&page=2&Password=[redacted]&q=[redacted]");
+        assertThat(AccessLogRedactor.clientIp("203.0.113.77")).isEqualTo("203.0.113.0");
+        assertThat(AccessLogRedactor.clientIp("2001:db8:85a3:8d3:1319:8a2e:370:7348")).isEqualTo("2001:db8:85a3::");
+    }
+
+    @Test
+    void ringBufferKeepsOrderAcrossProducersAndRejectsWhenFull() throws InterruptedException {
+        MpscRingBuffer<Integer> buffer = new MpscRingBuffer<>(1024);
+        ExecutorService producers = Executors.newFixedThreadPool(4);
+        CountDownLatch done = new CountDownLatch(4);
+        for (int p = 0; p < 4; p++) {
+            int producer = p;
+            producers.execute(() -> {
+                for (int i = 0; i < 256; i++) {
+                    buffer.offer(producer * 1000 + i);
+                }
+                done.countDown();
+            });
+        }
+        assertThat(done.await(5, TimeUnit.SECONDS)).isTrue();
+        producers.shutdown();
+
+        assertThat(buffer.offer(-1)).isFalse();
+        List<Integer> drained = new ArrayList<>();
+        assertThat(buffer.drain(drained::add, 2048)).isEqualTo(1024);
+        for (int p = 0; p < 4; p++) {
+            int producer = p;
+            List<Integer> own = drained.stream().filter(v -> v / 1000 == producer).toList();
+            assertThat(own).hasSize(256).isSorted();
+        }
+        assertThat(buffer.offer(1)).isTrue();
+    }
+
+    @Test
+    void errorsAreAlwaysLoggedAndSuccessesSampled() throws Exception {
+        Path file = dir.resolve("access.log");
+        AccessLogWriter writer = writer(file, DataSize.ofMegabytes(1));
+        AccessLogFilter filter = new AccessLogFilter(writer, 0.0, Duration.ofSeconds(1));
+
+        for (int i = 0; i < 10; i++) {
+            call(filter, HttpStatus.OK);
+        }
+        call(filter, HttpStatus.BAD_GATEWAY);
+        writer.shutdown();
+
+        List<String> lines = Files.readAllLines(file);
+        assertThat(lines).hasSize(1);
+        assertThat(lines.get(0))
+                .contains("\"status\":502", "\"method\":\"GET\"", "\"client_ip\":\"198.51.100.0\"", "\"sampled\":false")
+                .contains("\"query\":\"email=[redacted]&page=1\"")
+                .doesNotContain("kim");
+    }
+
+    @Test
+    void fileRollsWhenMaxSizeIsReached() throws Exception {
+        Path file = dir.resolve("access.log");
+        AccessLogWriter writer = writer(file, DataSize.ofBytes(512));
+        AccessLogFilter filter = new AccessLogFilter(writer, 1.0, Duration.ofSeconds(1));
+
+        for (int i = 0; i < 20; i++) {
+            call(filter, HttpStatus.OK);
+            Thread.sleep(2);
+        }
+        writer.shutdown();
+
+        assertThat(Files.exists(dir.resolve("access.log.1"))).isTrue();
+        assertThat(Files.exists(dir.resolve("access.log.3"))).isFalse();
+        assertThat(countLines(dir)).isBetween(1L, 20L);
+    }
+
+    private AccessLogWriter writer(Path file, DataSize maxFileSize) {
+        return new AccessLogWriter(meterRegistry, file.toString(), 1024, 64, Duration.ofMillis(1), maxFileSize, 2);
+    }
+
+    private static void call(AccessLogFilter filter, HttpStatus status) {
+        MockServerWebExchange exchange = MockServerWebExchange.from(MockServerHttpRequest
+                .get("/api/users/check-email?email=kim%40example.com&page=1")
+                .remoteAddress(new InetSocketAddress("198.51.100.23", 40000)));
+        filter.filter(exchange, routed -> {
+            routed.getResponse().setStatusCode(status);
+            return Mono.empty();
+        }).block();
+    }
+
+    private static long countLines(Path dir) throws IOException {
+        long lines = 0;
+        try (var files = Files.list(dir)) {
+            for (Path path : files.toList()) {
+                lines += Files.readAllLines(path).size();
+            }
+        }
+        return lines;
+    }
+}
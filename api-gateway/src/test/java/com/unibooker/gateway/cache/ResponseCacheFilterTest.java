@@ -0,0 +1,135 @@
+package com.unibooker.gateway.cache;
+
+import com.unibooker.gateway.filter.ResponseCacheFilter;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.cloud.gateway.filter.GatewayFilter;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.server.reactive.ServerHttpResponse;
+import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
+import org.springframework.mock.web.server.MockServerWebExchange;
+import org.springframework.util.unit.DataSize;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Mono;
+
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ResponseCacheFilterTest {
+
+    private static final String PATH = "/api/resource-groups/company/3";
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final ResponseCache responseCache =
+            new ResponseCache(meterRegistry, DataSize.ofMegabytes(1), DataSize.ofKilobytes(64));
+    private final ResponseCacheFilter factory = new ResponseCacheFilter(responseCache, meterRegistry);
+    private final GatewayFilter capture = factory.captureFilter();
+    private final GatewayFilter lookup = factory.apply(config());
+    private final AtomicInteger upstreamCalls = new AtomicInteger();
+
+    @Test
+    void secondRequestIsServedFromCache() {
+        MockServerWebExchange first = call(PATH, "3", null);
+        MockServerWebExchange second = call(PATH, "3", null);
+
+        assertThat(upstreamCalls).hasValue(1);
+        assertThat(first.getResponse().getHeaders().getFirst(ResponseCacheFilter.CACHE_STATUS_HEADER)).isEqualTo("MISS");
+        assertThat(second.getResponse().getHeaders().getFirst(ResponseCacheFilter.CACHE_STATUS_HEADER)).isEqualTo("HIT");
+        assertThat(second.getResponse().getBodyAsString().block()).isEqualTo(first.getResponse().getBodyAsString().block());
+        assertThat(second.getResponse().getHeaders().getContentType()).isEqualTo(first.getResponse().getHeaders().getContentType());
+        assertThat(meterRegistry.get("gateway.response-cache.hit.ratio").gauge().value()).isEqualTo(0.5);
+    }
+
+    @Test
+    void cacheHitsCarryContentLengthWithoutHopByHopHeaders() {
+        MockServerWebExchange first = call(PATH, "3", null);
+        MockServerWebExchange second = call(PATH, "3", null);
+
+        HttpHeaders hit = second.getResponse().getHeaders();
+        assertThat(first.getResponse().getHeaders().getFirst(HttpHeaders.TRANSFER_ENCODING)).isEqualTo("chunked");
+        assertThat(hit.getContentLength())
+                .isEqualTo(second.getResponse().getBodyAsString().block().getBytes(StandardCharsets.UTF_8).length);
+        assertThat(hit.containsKey(HttpHeaders.TRANSFER_ENCODING)).isFalse();
+        assertThat(hit.containsKey(HttpHeaders.CONNECTION)).isFalse();
+    }
+
+    @Test
+    void tenantHeaderSeparatesEntries() {
+        call(PATH, "3", null);
+        call(PATH, "4", null);
+
+        assertThat(upstreamCalls).hasValue(2);
+    }
+
+    @Test
+    void invalidationEvictsAllEntriesOfPath() {
+        call(PATH, "3", null);
+        call(PATH + "?page=1", "3", null);
+        responseCache.invalidate(List.of(PATH));
+        call(PATH, "3", null);
+
+        assertThat(upstreamCalls).hasValue(3);
+    }
+
+    @Test
+    void invalidationWithDecodedPathEvictsPercentEncodedRequests() {
+        String encoded = "/api/resource-groups/company/%EC%84%9C%EC%9A%B8";
+        call(encoded, "3", null);
+        call(encoded, "3", null);
+        responseCache.invalidate(List.of("/api/resource-groups/company/서울"));
+        call(encoded, "3", null);
+
+        assertThat(upstreamCalls).hasValue(2);
+    }
+
+    @Test
+    void responsesVaryingOnUnknownHeadersAreNotCached() {
+        call(PATH, "3", HttpHeaders.AUTHORIZATION);
+        call(PATH, "3", HttpHeaders.AUTHORIZATION);
+
+        assertThat(upstreamCalls).hasValue(2);
+    }
+
+    @Test
+    void nonMatchingPathsBypassCache() {
+        call("/api/resources/7", "3", null);
+        call("/api/resources/7", "3", null);
+
+        assertThat(upstreamCalls).hasValue(2);
+    }
+
+    private MockServerWebExchange call(String uri, String companyId, String vary) {
+        MockServerWebExchange exchange = MockServerWebExchange.from(
+                MockServerHttpRequest.method(HttpMethod.GET, URI.create(uri)).header("X-Company-Id", companyId));
+        capture.filter(exchange, captured -> lookup.filter(captured, routed -> upstream(routed, vary))).block();
+        return exchange;
+    }
+
+    private Mono<Void> upstream(ServerWebExchange exchange, String vary) {
+        int call = upstreamCalls.incrementAndGet();
+        ServerHttpResponse response = exchange.getResponse();
+        response.setStatusCode(HttpStatus.OK);
+        response.getHeaders().set(HttpHeaders.CONTENT_TYPE, "application/json");
+        response.getHeaders().add(HttpHeaders.VARY, "Origin");
+        response.getHeaders().set(HttpHeaders.TRANSFER_ENCODING, "chunked");
+        response.getHeaders().set(HttpHeaders.CONNECTION, "keep-alive");
+        if (vary != null) {
+            response.getHeaders().add(HttpHeaders.VARY, vary);
+        }
+        byte[] body = ("[{\"id\":" + call + "}]").getBytes(StandardCharsets.UTF_8);
+        return response.writeWith(Mono.just(response.bufferFactory().wrap(body)));
+    }
+
+    private static ResponseCacheFilter.Config config() {
+        ResponseCacheFilter.Config config = new ResponseCacheFilter.Config();
+        config.setRouteId("resource-api");
+        config.setPathPatterns(List.of("/api/resource-groups/company/*", "/api/resources/group/*"));
+        return config;
+    }
+}
@@ -0,0 +1,177 @@
+package com.unibooker.gateway.coalesce;
+
+import com.unibooker.common.util.JwtUtil;
+import com.unibooker.gateway.filter.JwtAuthenticationFilter;
+import com.unibooker.gateway.filter.RequestCoalescingFilter;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+import org.springframework.cloud.gateway.filter.GatewayFilter;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.server.reactive.ServerHttpResponse;
+import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
+import org.springframework.mock.web.server.MockServerWebExchange;
+import org.springframework.util.unit.DataSize;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class RequestCoalescingFilterTest {
+
+    private static final String PATH = "/api/resources/group/7";
+
+    private final JwtUtil jwtUtil = new JwtUtil("coalescing-test-secret-key-0123456789abcdef", 3_600_000L, 3_600_000L);
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final RequestCoalescingFilter factory =
+            new RequestCoalescingFilter(meterRegistry, DataSize.ofKilobytes(1));
+    private final GatewayFilter capture = factory.captureFilter();
+    private final AtomicInteger upstreamCalls = new AtomicInteger();
+    /** 업스트림 응답 지연 (emit 전까지 응답하지 않음) */
+    private final Sinks.Empty<Void> upstreamGate = Sinks.empty();
+    /** 첫 업스트림 호출(선두)의 응답 상태 / Cache-Control */
+    private HttpStatus leaderStatus = HttpStatus.OK;
+    private String leaderCacheControl;
+
+    @Test
+    void concurrentIdenticalRequestsShareOneUpstreamCall() {
+        GatewayFilter filter = factory.apply(config(Duration.ofSeconds(5)));
+        List<MockServerWebExchange> exchanges = new ArrayList<>();
+        List<Mono<Void>> calls = new ArrayList<>();
+        for (int i = 0; i < 50; i++) {
+            MockServerWebExchange exchange = exchange(PATH, 3L);
+            exchanges.add(exchange);
+            calls.add(call(filter, exchange, 64).cache());
+        }
+        calls.forEach(Mono::subscribe);
+
+        upstreamGate.tryEmitEmpty();
+        Mono.when(calls).block(Duration.ofSeconds(5));
+
+        assertThat(upstreamCalls).hasValue(1);
+        String leaderBody = exchanges.get(0).getResponse().getBodyAsString().block();
+        for (MockServerWebExchange exchange : exchanges.subList(1, exchanges.size())) {
+            assertThat(exchange.getResponse().getStatusCode()).isEqualTo(HttpStatus.OK);
+            assertThat(exchange.getResponse().getHeaders().getFirst(RequestCoalescingFilter.COALESCED_HEADER)).isEqualTo("true");
+            assertThat(exchange.getResponse().getBodyAsString().block()).isEqualTo(leaderBody);
+        }
+        assertThat(meterRegistry.get("gateway.coalescing.requests").tag("result", "coalesced").counter().count())
+                .isEqualTo(49);
+        assertThat(meterRegistry.get("gateway.coalescing.inflight").gauge().value()).isZero();
+    }
+
+    @Test
+    void differentTenantsAreNotCoalesced() {
+        GatewayFilter filter = factory.apply(config(Duration.ofSeconds(5)));
+        Mono<Void> first = call(filter, exchange(PATH, 3L), 64).cache();
+        Mono<Void> second = call(filter, exchange(PATH, 4L), 64).cache();
+        first.subscribe();
+        second.subscribe();
+
+        upstreamGate.tryEmitEmpty();
+        Mono.when(first, second).block(Duration.ofSeconds(5));
+
+        assertThat(upstreamCalls).hasValue(2);
+    }
+
+    @Test
+    void waitersCallUpstreamThemselvesAfterMaxWait() {
+        GatewayFilter filter = factory.apply(config(Duration.ofMillis(50)));
+        Mono<Void> leader = call(filter, exchange(PATH, 3L), 64).cache();
+        leader.subscribe();
+
+        MockServerWebExchange waiter = exchange(PATH, 3L);
+        Mono<Void> waiting = call(filter, waiter, 64).cache();
+        waiting.subscribe();
+        Mono.delay(Duration.ofMillis(200)).block();
+        upstreamGate.tryEmitEmpty();
+        Mono.when(leader, waiting).block(Duration.ofSeconds(5));
+
+        assertThat(upstreamCalls).hasValue(2);
+        assertThat(waiter.getResponse().getHeaders().containsKey(RequestCoalescingFilter.COALESCED_HEADER)).isFalse();
+        assertThat(meterRegistry.get("gateway.coalescing.requests").tag("result", "timeout").counter().count())
+                .isEqualTo(1);
+    }
+
+    @Test
+    void oversizedResponsesAreNotShared() {
+        GatewayFilter filter = factory.apply(config(Duration.ofSeconds(5)));
+        Mono<Void> leader = call(filter, exchange(PATH, 3L), 4096).cache();
+        Mono<Void> waiting = call(filter, exchange(PATH, 3L), 4096).cache();
+        leader.subscribe();
+        waiting.subscribe();
+
+        upstreamGate.tryEmitEmpty();
+        Mono.when(leader, waiting).block(Duration.ofSeconds(5));
+
+        assertThat(upstreamCalls).hasValue(2);
+        assertThat(meterRegistry.get("gateway.coalescing.requests").tag("result", "unshared").counter().count())
+                .isEqualTo(1);
+    }
+
+    @ParameterizedTest
+    @CsvSource({"503,", "404,", "200,'private, max-age=60'", "200,no-store"})
+    void errorAndPrivateResponsesAreNotShared(int status, String cacheControl) {
+        leaderStatus = HttpStatus.valueOf(status);
+        leaderCacheControl = cacheControl;
+        GatewayFilter filter = factory.apply(config(Duration.ofSeconds(5)));
+        Mono<Void> leader = call(filter, exchange(PATH, 3L), 64).cache();
+        MockServerWebExchange waiter = exchange(PATH, 3L);
+        Mono<Void> waiting = call(filter, waiter, 64).cache();
+        leader.subscribe();
+        waiting.subscribe();
+
+        upstreamGate.tryEmitEmpty();
+        Mono.when(leader, waiting).block(Duration.ofSeconds(5));
+
+        // 대기자는 선두 응답을 받지 않고 직접 호출
+        assertThat(upstreamCalls).hasValue(2);
+        assertThat(waiter.getResponse().getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(waiter.getResponse().getHeaders().containsKey(RequestCoalescingFilter.COALESCED_HEADER)).isFalse();
+    }
+
+    private MockServerWebExchange exchange(String uri, Long companyId) {
+        MockServerWebExchange exchange = MockServerWebExchange.from(MockServerHttpRequest.get(uri));
+        exchange.getAttributes().put(JwtAuthenticationFilter.VERIFIED_TOKEN_ATTR,
+                jwtUtil.parseAndVerify(jwtUtil.createAccessToken(1L, "user@test.com", "USER", companyId)));
+        return exchange;
+    }
+
+    private Mono<Void> call(GatewayFilter filter, ServerWebExchange exchange, int bodySize) {
+        return capture.filter(exchange, captured -> filter.filter(captured, routed -> upstream(routed, bodySize)));
+    }
+
+    private Mono<Void> upstream(ServerWebExchange exchange, int bodySize) {
+        return Mono.defer(() -> {
+            int call = upstreamCalls.incrementAndGet();
+            return upstreamGate.asMono().then(Mono.defer(() -> {
+                ServerHttpResponse response = exchange.getResponse();
+                response.setStatusCode(call == 1 ? leaderStatus : HttpStatus.OK);
+                response.getHeaders().set(HttpHeaders.CONTENT_TYPE, "application/json");
+                if (call == 1 && leaderCacheControl != null) {
+                    response.getHeaders().set(HttpHeaders.CACHE_CONTROL, leaderCacheControl);
+                }
+                byte[] body = ("{\"call\":" + call + ",\"pad\":\"" + "x".repeat(bodySize) + "\"}")
+                        .getBytes(StandardCharsets.UTF_8);
+                return response.writeWith(Mono.just(response.bufferFactory().wrap(body)));
+            }));
+        });
+    }
+
+    private static RequestCoalescingFilter.Config config(Duration maxWait) {
+        RequestCoalescingFilter.Config config = new RequestCoalescingFilter.Config();
+        config.setRouteId("resource-api");
+        config.setMaxWait(maxWait);
+        config.setPathPatterns(List.of("/api/resources/group/*"));
+        return config;
+    }
+}
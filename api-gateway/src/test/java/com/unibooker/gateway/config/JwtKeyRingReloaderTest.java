@@ -0,0 +1,72 @@
+package com.unibooker.gateway.config;
+
+import com.unibooker.common.util.JwtKeyRing;
+import com.unibooker.common.util.JwtUtil;
+import com.unibooker.gateway.cache.VerifiedTokenCache;
+import io.jsonwebtoken.JwtException;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+class JwtKeyRingReloaderTest {
+
+    private static final String DEFAULT_SECRET = "default-secret-0123456789abcdefghijklmnop";
+    private static final String SECRET_A = "secret-a-0123456789abcdefghijklmnopqrstuv";
+    private static final String SECRET_B = "secret-b-0123456789abcdefghijklmnopqrstuv";
+
+    @TempDir
+    Path dir;
+
+    @Test
+    void addingKeyKeepsVerifiedTokens() throws Exception {
+        Path file = write(dir.resolve("keys"), "active=k1\nkeys.k1=" + SECRET_A, 1);
+        JwtKeyRing keyRing = JwtKeyRing.fromFile(file, DEFAULT_SECRET);
+        VerifiedTokenCache cache = mock(VerifiedTokenCache.class);
+
+        write(file, "active=k2\nkeys.k1=" + SECRET_A + "\nkeys.k2=" + SECRET_B, 2);
+        new JwtKeyRingReloader(keyRing, cache).reload();
+
+        assertThat(keyRing.getActiveKid()).isEqualTo("k2");
+        verify(cache, never()).invalidateAll();
+    }
+
+    @Test
+    void changingKeyMaterialInvalidatesVerifiedTokens() throws Exception {
+        Path file = write(dir.resolve("keys"), "active=k1\nkeys.k1=" + SECRET_A, 1);
+        JwtKeyRing keyRing = JwtKeyRing.fromFile(file, DEFAULT_SECRET);
+        VerifiedTokenCache cache = mock(VerifiedTokenCache.class);
+
+        // kid는 그대로, 시크릿만 교체
+        write(file, "active=k1\nkeys.k1=" + SECRET_B, 2);
+        new JwtKeyRingReloader(keyRing, cache).reload();
+
+        verify(cache).invalidateAll();
+    }
+
+    @Test
+    void kidlessTokensRejectedWhenFallbackDisabled() throws Exception {
+        Path file = write(dir.resolve("keys"), "active=k1\nkeys.k1=" + SECRET_A, 1);
+        String kidless = new JwtUtil(DEFAULT_SECRET, 60_000, 60_000).createAccessToken(1L, "user@test.com", "USER", null);
+
+        JwtUtil legacy = new JwtUtil(JwtKeyRing.fromFile(file, DEFAULT_SECRET, true), 60_000, 60_000);
+        JwtUtil strict = new JwtUtil(JwtKeyRing.fromFile(file, DEFAULT_SECRET, false), 60_000, 60_000);
+
+        assertThat(legacy.getUserId(kidless)).isEqualTo(1L);
+        assertThatThrownBy(() -> strict.getUserId(kidless)).isInstanceOf(JwtException.class);
+    }
+
+    private Path write(Path file, String content, long modifiedSeconds) throws Exception {
+        Files.writeString(file, content);
+        Files.setLastModifiedTime(file, FileTime.fromMillis(modifiedSeconds * 1000));
+        return file;
+    }
+}
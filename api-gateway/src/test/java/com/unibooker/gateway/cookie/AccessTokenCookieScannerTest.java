@@ -0,0 +1,85 @@
+package com.unibooker.gateway.cookie;
+
+import com.unibooker.common.enums.UserRole;
+import com.unibooker.common.util.CookieUtil;
+import io.netty.handler.codec.http.cookie.Cookie;
+import io.netty.handler.codec.http.cookie.ServerCookieDecoder;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class AccessTokenCookieScannerTest {
+
+    private static final String USER = CookieUtil.getAccessTokenCookieName(UserRole.USER);
+    private static final String ADMIN = CookieUtil.getAccessTokenCookieName(UserRole.ADMIN);
+    private static final String SUPER = CookieUtil.getAccessTokenCookieName(UserRole.SUPER);
+
+    @Test
+    void roleTableIsPrecomputedFromCookieUtil() {
+        for (UserRole role : UserRole.values()) {
+            assertThat(AccessTokenCookieScanner.cookieName(role)).isEqualTo(CookieUtil.getAccessTokenCookieName(role));
+        }
+    }
+
+    @Test
+    void roleHintOnlyLooksAtItsOwnCookie() {
+        List<String> headers = List.of("theme=dark; " + ADMIN + "=admin-token; " + USER + "=user-token");
+
+        assertThat(AccessTokenCookieScanner.find(headers, UserRole.USER)).isEqualTo("user-token");
+        assertThat(AccessTokenCookieScanner.find(headers, UserRole.ADMIN)).isEqualTo("admin-token");
+        assertThat(AccessTokenCookieScanner.find(headers, UserRole.MANAGER)).isEqualTo("admin-token");
+        assertThat(AccessTokenCookieScanner.find(headers, UserRole.SUPER)).isNull();
+        assertThat(AccessTokenCookieScanner.find(new HttpHeaders(), UserRole.USER)).isNull();
+    }
+
+    @Test
+    void matchesCookieDecoderLookupOnManyCookies() {
+        String padding = padding(24);
+        List<List<String>> cases = List.of(
+                List.of(padding + "; " + ADMIN + "=admin-token; " + USER + "=user-token"),
+                List.of(SUPER + "=super-token; " + padding),
+                List.of(padding, ADMIN + "=\"quoted\"", USER + "=late-user"),
+                List.of(USER + "=first; " + USER + "=second"),
+                List.of(" ;, " + ADMIN + "=a=b==; x_" + USER + "=wrong;" + SUPER + "; " + padding),
+                List.of(USER + "_suffix=wrong; " + padding),
+                List.of("")
+        );
+
+        for (List<String> headers : cases) {
+            assertThat(AccessTokenCookieScanner.find(headers, null)).as(headers.toString()).isEqualTo(decoded(headers, null));
+            for (UserRole role : UserRole.values()) {
+                assertThat(AccessTokenCookieScanner.find(headers, role)).as(role + " " + headers)
+                        .isEqualTo(decoded(headers, role));
+            }
+        }
+    }
+
+    private static String padding(int count) {
+        StringBuilder builder = new StringBuilder();
+        for (int i = 0; i < count; i++) {
+            builder.append(i == 0 ? "" : "; ").append("pref_").append(i).append("=value-").append(i);
+        }
+        return builder.toString();
+    }
+
+    /**
+     * 기존 방식: Netty 디코더로 전체 쿠키를 나눈 뒤 권한 순서대로 첫 값 조회
+     */
+    private static String decoded(List<String> headers, UserRole hint) {
+        List<Cookie> cookies = headers.stream()
+                .flatMap(header -> ServerCookieDecoder.LAX.decodeAll(header).stream())
+                .toList();
+        for (UserRole role : hint != null ? new UserRole[]{hint} : UserRole.values()) {
+            String name = CookieUtil.getAccessTokenCookieName(role);
+            for (Cookie cookie : cookies) {
+                if (cookie.name().equals(name)) {
+                    return cookie.value();
+                }
+            }
+        }
+        return null;
+    }
+}
@@ -0,0 +1,83 @@
+package com.unibooker.gateway.error;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.unibooker.common.response.BaseResponse;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
+import org.springframework.mock.web.server.MockServerWebExchange;
+
+import java.nio.charset.StandardCharsets;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class GatewayErrorTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @ParameterizedTest
+    @EnumSource(GatewayError.class)
+    void bodyIsIdenticalToLegacyFormat(GatewayError error) throws Exception {
+        // 변경 전 필터들의 String.format 결과와 바이트 단위로 동일해야 함
+        String legacy = String.format(
+                "{\"success\":false,\"code\":\"%s\",\"message\":\"%s\"}",
+                error.getStatus().value(),
+                error.getMessage()
+        );
+        assertThat(written(error)).isEqualTo(legacy);
+
+        // 코드/메시지는 BaseResponse.error(status, message)와 같은 값
+        BaseResponse<Void> expected = BaseResponse.error(error.getStatus().value(), error.getMessage());
+        JsonNode json = objectMapper.readTree(written(error));
+        assertThat(json.fieldNames()).toIterable().containsExactly("success", "code", "message");
+        assertThat(json.get("success").asBoolean()).isEqualTo(expected.isSuccess());
+        assertThat(json.get("code").asInt()).isEqualTo(expected.getCode());
+        assertThat(json.get("message").asText()).isEqualTo(expected.getMessage());
+    }
+
+    @Test
+    void sharedBufferIsNotConsumedByWrites() {
+        String first = written(GatewayError.TOKEN_INVALID);
+        String second = written(GatewayError.TOKEN_INVALID);
+
+        assertThat(second).isEqualTo(first);
+        assertThat(GatewayError.TOKEN_INVALID.body().isReadOnly()).isTrue();
+    }
+
+    @Test
+    void writeSetsStatusAndHeaders() {
+        MockServerWebExchange exchange = MockServerWebExchange.from(MockServerHttpRequest.get("/api/users/me"));
+        GatewayError.TOKEN_REQUIRED.write(exchange).block();
+
+        HttpHeaders headers = exchange.getResponse().getHeaders();
+        assertThat(exchange.getResponse().getStatusCode()).isEqualTo(GatewayError.TOKEN_REQUIRED.getStatus());
+        assertThat(headers.getFirst(HttpHeaders.CONTENT_TYPE)).isEqualTo(GatewayError.CONTENT_TYPE);
+        assertThat(headers.getContentLength())
+                .isEqualTo(written(GatewayError.TOKEN_REQUIRED).getBytes(StandardCharsets.UTF_8).length);
+    }
+
+    @Test
+    void writeWithDataAppendsDataField() throws Exception {
+        MockServerWebExchange exchange = MockServerWebExchange.from(MockServerHttpRequest.get("/"));
+        GatewayError.WAITING_ROOM_QUEUED.write(exchange, "{\"ticket\":\"t-1\",\"position\":3}").block();
+
+        String body = exchange.getResponse().getBodyAsString().block();
+        JsonNode json = objectMapper.readTree(body);
+        assertThat(json.fieldNames()).toIterable().containsExactly("success", "code", "message", "data");
+        assertThat(exchange.getResponse().getStatusCode()).isEqualTo(GatewayError.WAITING_ROOM_QUEUED.getStatus());
+        assertThat(json.get("code").asText()).isEqualTo("429");
+        assertThat(json.get("message").asText()).isEqualTo(GatewayError.WAITING_ROOM_QUEUED.getMessage());
+        assertThat(json.get("data").get("position").asInt()).isEqualTo(3);
+        assertThat(exchange.getResponse().getHeaders().getContentLength())
+                .isEqualTo(body.getBytes(StandardCharsets.UTF_8).length);
+    }
+
+    private String written(GatewayError error) {
+        MockServerWebExchange exchange = MockServerWebExchange.from(MockServerHttpRequest.get("/"));
+        error.write(exchange).block();
+        return exchange.getResponse().getBodyAsString().block();
+    }
+}
@@ -0,0 +1,133 @@
+package com.unibooker.gateway.filter;
+
+import com.unibooker.gateway.error.GatewayError;
+import io.github.resilience4j.bulkhead.BulkheadRegistry;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.cloud.gateway.filter.GatewayFilter;
+import org.springframework.cloud.gateway.filter.GatewayFilterChain;
+import org.springframework.http.HttpStatus;
+import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
+import org.springframework.mock.web.server.MockServerWebExchange;
+import org.springframework.web.server.ResponseStatusException;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+
+import java.net.ConnectException;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CircuitBreakerFilterTest {
+
+    private final CircuitBreakerRegistry circuitBreakerRegistry = CircuitBreakerRegistry.ofDefaults();
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final CircuitBreakerFilter factory = new CircuitBreakerFilter(circuitBreakerRegistry, meterRegistry, true);
+    private final AtomicInteger upstreamCalls = new AtomicInteger();
+
+    @Test
+    void upstreamErrorsOpenCircuitAndShortCircuitRequests() {
+        GatewayFilter filter = factory.apply(config(Duration.ofSeconds(5)));
+        for (int i = 0; i < 10; i++) {
+            call(filter, status(HttpStatus.INTERNAL_SERVER_ERROR));
+        }
+        assertThat(circuitBreakerRegistry.circuitBreaker("resource-api").getState()).isEqualTo(CircuitBreaker.State.OPEN);
+
+        MockServerWebExchange rejected = call(filter, status(HttpStatus.OK));
+
+        assertThat(upstreamCalls).hasValue(10);
+        assertThat(rejected.getResponse().getStatusCode()).isEqualTo(HttpStatus.SERVICE_UNAVAILABLE);
+        assertThat(rejected.getResponse().getHeaders().getFirst("Retry-After")).isEqualTo("30");
+        assertThat(rejected.getResponse().getBodyAsString().block())
+                .contains(GatewayError.UPSTREAM_UNAVAILABLE.getMessage());
+        assertThat(meterRegistry.get("gateway.circuit-breaker.transitions")
+                .tag("route", "resource-api").tag("from", "CLOSED").tag("to", "OPEN").counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    void slowCallsOpenCircuit() {
+        GatewayFilter filter = factory.apply(config(Duration.ofMillis(5)));
+        for (int i = 0; i < 10; i++) {
+            call(filter, status(HttpStatus.OK).delaySubscription(Duration.ofMillis(20)));
+        }
+
+        assertThat(circuitBreakerRegistry.circuitBreaker("resource-api").getState()).isEqualTo(CircuitBreaker.State.OPEN);
+    }
+
+    @Test
+    void successfulCallsKeepCircuitClosed() {
+        GatewayFilter filter = factory.apply(config(Duration.ofSeconds(5)));
+        for (int i = 0; i < 20; i++) {
+            call(filter, status(i % 5 == 0 ? HttpStatus.BAD_GATEWAY : HttpStatus.OK));
+        }
+
+        assertThat(circuitBreakerRegistry.circuitBreaker("resource-api").getState()).isEqualTo(CircuitBreaker.State.CLOSED);
+    }
+
+    @Test
+    void routingErrorsAreAnsweredWithFallbackResponses() {
+        GatewayFilter filter = factory.apply(config(Duration.ofSeconds(5)));
+
+        MockServerWebExchange refused = call(filter, Mono.error(new ConnectException("Connection refused")));
+        MockServerWebExchange timedOut = call(filter,
+                Mono.error(new ResponseStatusException(HttpStatus.GATEWAY_TIMEOUT, "Response took longer than timeout")));
+
+        assertThat(refused.getResponse().getStatusCode()).isEqualTo(HttpStatus.SERVICE_UNAVAILABLE);
+        assertThat(timedOut.getResponse().getStatusCode()).isEqualTo(HttpStatus.GATEWAY_TIMEOUT);
+        assertThat(circuitBreakerRegistry.circuitBreaker("resource-api").getMetrics().getNumberOfFailedCalls()).isEqualTo(2);
+    }
+
+    @Test
+    void bulkheadLimitsConcurrentCallsPerUpstream() {
+        BulkheadFilter bulkheadFactory = new BulkheadFilter(BulkheadRegistry.ofDefaults(), true);
+        BulkheadFilter.Config config = new BulkheadFilter.Config();
+        config.setUpstream("resource-service");
+        config.setMaxConcurrentCalls(2);
+        // 같은 서비스의 다른 라우트도 같은 벌크헤드 공유
+        GatewayFilter first = bulkheadFactory.apply(config);
+        GatewayFilter second = bulkheadFactory.apply(config);
+
+        Sinks.Empty<Void> release = Sinks.empty();
+        GatewayFilterChain pending = exchange -> release.asMono();
+        first.filter(exchange(), pending).subscribe();
+        second.filter(exchange(), pending).subscribe();
+
+        MockServerWebExchange rejected = exchange();
+        second.filter(rejected, exchange -> Mono.empty()).block();
+        assertThat(rejected.getResponse().getStatusCode()).isEqualTo(HttpStatus.SERVICE_UNAVAILABLE);
+
+        release.tryEmitEmpty();
+        MockServerWebExchange admitted = exchange();
+        first.filter(admitted, exchange -> Mono.empty()).block();
+        assertThat(admitted.getResponse().getStatusCode()).isNull();
+    }
+
+    private MockServerWebExchange call(GatewayFilter filter, Mono<HttpStatus> upstream) {
+        MockServerWebExchange exchange = exchange();
+        filter.filter(exchange, routed -> upstream
+                .doOnSubscribe(s -> upstreamCalls.incrementAndGet())
+                .doOnNext(status -> routed.getResponse().setStatusCode(status))
+                .then(Mono.defer(() -> routed.getResponse().setComplete()))).block();
+        return exchange;
+    }
+
+    private static Mono<HttpStatus> status(HttpStatus status) {
+        return Mono.just(status);
+    }
+
+    private static MockServerWebExchange exchange() {
+        return MockServerWebExchange.from(MockServerHttpRequest.get("/api/resources/group/7"));
+    }
+
+    private static CircuitBreakerFilter.Config config(Duration slowCallDuration) {
+        CircuitBreakerFilter.Config config = new CircuitBreakerFilter.Config();
+        config.setRouteId("resource-api");
+        config.setSlidingWindowSize(10);
+        config.setMinimumCalls(10);
+        config.setSlowCallDuration(slowCallDuration);
+        return config;
+    }
+}
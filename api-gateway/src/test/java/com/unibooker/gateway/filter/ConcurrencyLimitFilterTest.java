@@ -0,0 +1,79 @@
+package com.unibooker.gateway.filter;
+
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.cloud.gateway.filter.GatewayFilter;
+import org.springframework.cloud.gateway.filter.GatewayFilterChain;
+import org.springframework.http.HttpStatus;
+import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
+import org.springframework.mock.web.server.MockServerWebExchange;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ConcurrencyLimitFilterTest {
+
+    private static final String ROUTE = "resource-api";
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final CircuitBreakerRegistry circuitBreakerRegistry = CircuitBreakerRegistry.ofDefaults();
+    private final GatewayFilter concurrencyLimit = new ConcurrencyLimitFilter(meterRegistry, true).apply(limitConfig());
+    private final GatewayFilter circuitBreaker =
+            new CircuitBreakerFilter(circuitBreakerRegistry, meterRegistry, true).apply(circuitConfig());
+
+    @Test
+    void openCircuitRejectionsDoNotReduceLimit() {
+        circuitBreakerRegistry.circuitBreaker(ROUTE).transitionToOpenState();
+
+        for (int i = 0; i < 50; i++) {
+            MockServerWebExchange exchange = call(HttpStatus.OK);
+            assertThat(exchange.getResponse().getStatusCode()).isEqualTo(HttpStatus.SERVICE_UNAVAILABLE);
+        }
+
+        assertThat(limit()).isEqualTo(20);
+    }
+
+    @Test
+    void upstreamServerErrorsReduceLimit() {
+        for (int i = 0; i < 5; i++) {
+            call(HttpStatus.SERVICE_UNAVAILABLE);
+        }
+
+        assertThat(limit()).isLessThan(20);
+    }
+
+    private MockServerWebExchange call(HttpStatus upstreamStatus) {
+        MockServerWebExchange exchange = MockServerWebExchange.from(MockServerHttpRequest.get("/api/resources/group/7"));
+        GatewayFilterChain upstream = routed -> {
+            routed.getResponse().setStatusCode(upstreamStatus);
+            return routed.getResponse().setComplete();
+        };
+        concurrencyLimit.filter(exchange, guarded -> circuitBreaker.filter(guarded, upstream)).block();
+        return exchange;
+    }
+
+    private double limit() {
+        return meterRegistry.get("gateway.concurrency.limit").tag("route", ROUTE).gauge().value();
+    }
+
+    private static ConcurrencyLimitFilter.Config limitConfig() {
+        ConcurrencyLimitFilter.Config config = new ConcurrencyLimitFilter.Config();
+        config.setRouteId(ROUTE);
+        config.setInitialLimit(20);
+        config.setMinLimit(5);
+        return config;
+    }
+
+    private static CircuitBreakerFilter.Config circuitConfig() {
+        CircuitBreakerFilter.Config config = new CircuitBreakerFilter.Config();
+        config.setRouteId(ROUTE);
+        // 실패율로 열리지 않도록 최소 호출 수를 크게 설정 (두 번째 테스트는 업스트림 5xx만 확인)
+        config.setSlidingWindowSize(100);
+        config.setMinimumCalls(100);
+        config.setSlowCallDuration(Duration.ofSeconds(5));
+        return config;
+    }
+}
@@ -0,0 +1,199 @@
+package com.unibooker.gateway.filter;
+
+import com.unibooker.gateway.loadbalancer.InstanceStatsRegistry;
+import com.unibooker.gateway.loadbalancer.LoadBalancerCancelFilter;
+import com.unibooker.gateway.loadbalancer.LoadBalancerStatsLifecycle;
+import com.unibooker.gateway.loadbalancer.PeakEwmaLoadBalancer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.cloud.client.DefaultServiceInstance;
+import org.springframework.cloud.client.ServiceInstance;
+import org.springframework.cloud.client.loadbalancer.DefaultResponse;
+import org.springframework.cloud.client.loadbalancer.LoadBalancerLifecycle;
+import org.springframework.cloud.client.loadbalancer.LoadBalancerProperties;
+import org.springframework.cloud.client.loadbalancer.RequestDataContext;
+import org.springframework.cloud.client.loadbalancer.Response;
+import org.springframework.cloud.gateway.config.GatewayLoadBalancerProperties;
+import org.springframework.cloud.gateway.filter.GatewayFilter;
+import org.springframework.cloud.gateway.filter.ReactiveLoadBalancerClientFilter;
+import org.springframework.cloud.gateway.support.ServerWebExchangeUtils;
+import org.springframework.cloud.loadbalancer.core.ReactorServiceInstanceLoadBalancer;
+import org.springframework.cloud.loadbalancer.support.LoadBalancerClientFactory;
+import org.springframework.http.HttpStatus;
+import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
+import org.springframework.mock.web.server.MockServerWebExchange;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Mono;
+
+import java.net.ConnectException;
+import java.net.URI;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class HedgingFilterTest {
+
+    private static final String PATH = "/api/resources/group/3";
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final HedgingFilter factory = new HedgingFilter(meterRegistry);
+    private final AtomicInteger attempts = new AtomicInteger();
+    private final AtomicInteger cancelled = new AtomicInteger();
+    private final List<Object> excluded = new CopyOnWriteArrayList<>();
+
+    @Test
+    void fastPrimaryIsNotHedged() {
+        GatewayFilter filter = factory.apply(config(5, 10));
+
+        MockServerWebExchange exchange = call(filter, Duration.ofMillis(1), Duration.ofMillis(1));
+
+        assertThat(attempts).hasValue(1);
+        assertThat(exchange.getResponse().getHeaders().getFirst("X-Instance")).isEqualTo("0");
+        assertThat(exchange.getResponse().getHeaders().containsKey(HedgingFilter.HEDGED_HEADER)).isFalse();
+    }
+
+    @Test
+    void slowPrimaryIsHedgedToAnotherInstance() {
+        GatewayFilter filter = factory.apply(config(5, 10));
+
+        MockServerWebExchange exchange = call(filter, Duration.ofMillis(500), Duration.ofMillis(1));
+
+        assertThat(attempts).hasValue(2);
+        assertThat(cancelled).hasValue(1);
+        assertThat(excluded).singleElement().extracting(i -> ((ServiceInstance) i).getHost()).isEqualTo("10.0.0.1");
+        assertThat(exchange.getResponse().getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(exchange.getResponse().getHeaders().getFirst("X-Instance")).isEqualTo("1");
+        assertThat(exchange.getResponse().getHeaders().getFirst(HedgingFilter.HEDGED_HEADER)).isEqualTo("true");
+        assertThat(exchange.<Object>getAttribute(PeakEwmaLoadBalancer.EXCLUDED_INSTANCE_ATTR)).isNull();
+        assertThat(meterRegistry.get("gateway.hedging.hedges").tag("result", "won").counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    void hedgesStayWithinBudget() {
+        // 요청당 0.1건 적립, 적립 상한 1건 → 처음 1건 + 이후 10건마다 1건
+        GatewayFilter filter = factory.apply(config(10, 1));
+        for (int i = 0; i < 20; i++) {
+            call(filter, Duration.ofMillis(60), Duration.ofMillis(1));
+        }
+
+        double hedged = meterRegistry.get("gateway.hedging.hedges").tag("result", "won").counter().count();
+        double denied = meterRegistry.get("gateway.hedging.hedges").tag("result", "denied").counter().count();
+        assertThat(hedged).isEqualTo(2);
+        assertThat(denied).isEqualTo(18);
+        assertThat(attempts).hasValue(22);
+    }
+
+    @Test
+    void primaryFailureIsNotRetried() {
+        GatewayFilter filter = factory.apply(config(5, 10));
+        MockServerWebExchange exchange = MockServerWebExchange.from(MockServerHttpRequest.get(PATH));
+
+        assertThatThrownBy(() -> filter.filter(exchange, attempt -> {
+            attempts.incrementAndGet();
+            return Mono.error(new ConnectException("Connection refused"));
+        }).block(Duration.ofSeconds(1))).hasCauseInstanceOf(ConnectException.class);
+
+        assertThat(attempts).hasValue(1);
+    }
+
+    @Test
+    void cancelledHedgeLoserReleasesLoadBalancerInFlight() {
+        InstanceStatsRegistry registry =
+                new InstanceStatsRegistry(meterRegistry, Duration.ofMillis(50), Duration.ofSeconds(5));
+        LoadBalancerStatsLifecycle lifecycle = new LoadBalancerStatsLifecycle(registry, Duration.ofSeconds(1));
+        ReactiveLoadBalancerClientFilter loadBalancerFilter = loadBalancerFilter(lifecycle);
+        LoadBalancerCancelFilter cancelFilter = new LoadBalancerCancelFilter(lifecycle);
+        GatewayFilter filter = factory.apply(config(5, 10));
+
+        MockServerWebExchange exchange = MockServerWebExchange.from(MockServerHttpRequest.get(PATH));
+        exchange.getAttributes().put(ServerWebExchangeUtils.GATEWAY_REQUEST_URL_ATTR,
+                URI.create("lb://resource-service" + PATH));
+        // 헤지 → 로드 밸런서 → 취소 반영 → 업스트림 (인스턴스 0은 느리게, 1은 바로 응답)
+        filter.filter(exchange, attempt -> loadBalancerFilter.filter(attempt, balanced ->
+                cancelFilter.filter(balanced, routed -> Mono.defer(() -> {
+                    int i = "10.0.0.1".equals(instanceOf(routed).getHost()) ? 0 : 1;
+                    return Mono.delay(Duration.ofMillis(i == 0 ? 500 : 1))
+                            .doOnCancel(cancelled::incrementAndGet)
+                            .then(Mono.fromRunnable(() -> respond(routed, i)));
+                })))).block(Duration.ofSeconds(2));
+
+        assertThat(cancelled).hasValue(1);
+        assertThat(exchange.getResponse().getHeaders().getFirst("X-Instance")).isEqualTo("1");
+        assertThat(registry.get(instance(0)).getInFlight()).isZero();
+        assertThat(registry.get(instance(1)).getInFlight()).isZero();
+    }
+
+    /**
+     * 시도 순서대로 인스턴스 0, 1 선택, 지정한 지연 뒤 응답 헤더 수신
+     */
+    private MockServerWebExchange call(GatewayFilter filter, Duration primaryLatency, Duration hedgeLatency) {
+        MockServerWebExchange exchange = MockServerWebExchange.from(MockServerHttpRequest.get(PATH));
+        int[] index = {0};
+        filter.filter(exchange, attempt -> {
+            int i = index[0]++;
+            attempts.incrementAndGet();
+            Object exclusion = attempt.getAttribute(PeakEwmaLoadBalancer.EXCLUDED_INSTANCE_ATTR);
+            if (exclusion != null) {
+                excluded.add(exclusion);
+            }
+            attempt.getAttributes().put(ServerWebExchangeUtils.GATEWAY_LOADBALANCER_RESPONSE_ATTR,
+                    new DefaultResponse(instance(i)));
+            return Mono.delay(i == 0 ? primaryLatency : hedgeLatency)
+                    .doOnCancel(cancelled::incrementAndGet)
+                    .then(Mono.fromRunnable(() -> respond(attempt, i)));
+        }).block(Duration.ofSeconds(2));
+        return exchange;
+    }
+
+    private static void respond(ServerWebExchange attempt, int instance) {
+        attempt.getResponse().setStatusCode(HttpStatus.OK);
+        attempt.getResponse().getHeaders().set("X-Instance", String.valueOf(instance));
+    }
+
+    /**
+     * 실제 로드 밸런서 필터 (제외 인스턴스가 없으면 0, 있으면 1 선택)
+     */
+    private static ReactiveLoadBalancerClientFilter loadBalancerFilter(LoadBalancerStatsLifecycle lifecycle) {
+        ReactorServiceInstanceLoadBalancer balancer = request -> {
+            RequestDataContext context = (RequestDataContext) request.getContext();
+            boolean hedge = context.getClientRequest().getAttributes()
+                    .containsKey(PeakEwmaLoadBalancer.EXCLUDED_INSTANCE_ATTR);
+            return Mono.just(new DefaultResponse(instance(hedge ? 1 : 0)));
+        };
+        LoadBalancerClientFactory clientFactory = mock(LoadBalancerClientFactory.class);
+        when(clientFactory.getInstance("resource-service", ReactorServiceInstanceLoadBalancer.class)).thenReturn(balancer);
+        when(clientFactory.getInstances("resource-service", LoadBalancerLifecycle.class))
+                .thenReturn(Map.of("stats", lifecycle));
+        when(clientFactory.getProperties("resource-service")).thenReturn(new LoadBalancerProperties());
+        return new ReactiveLoadBalancerClientFilter(clientFactory, new GatewayLoadBalancerProperties());
+    }
+
+    private static ServiceInstance instanceOf(ServerWebExchange exchange) {
+        Response<ServiceInstance> response =
+                exchange.getAttribute(ServerWebExchangeUtils.GATEWAY_LOADBALANCER_RESPONSE_ATTR);
+        return response.getServer();
+    }
+
+    private static ServiceInstance instance(int index) {
+        return new DefaultServiceInstance("resource-service-" + index, "resource-service",
+                "10.0.0." + (index + 1), 8082, false);
+    }
+
+    private static HedgingFilter.Config config(double budgetPercent, int budgetBurst) {
+        HedgingFilter.Config config = new HedgingFilter.Config();
+        config.setRouteId("resource-api");
+        config.setMinDelay(Duration.ofMillis(20));
+        config.setMaxDelay(Duration.ofMillis(20));
+        config.setBudgetPercent(budgetPercent);
+        config.setBudgetBurst(budgetBurst);
+        config.setPathPatterns(List.of("/api/resources/group/*"));
+        return config;
+    }
+}
@@ -0,0 +1,88 @@
+package com.unibooker.gateway.loadbalancer;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.cloud.client.DefaultServiceInstance;
+import org.springframework.cloud.client.ServiceInstance;
+import org.springframework.cloud.client.loadbalancer.DefaultResponse;
+import org.springframework.cloud.client.loadbalancer.LoadBalancerLifecycle;
+import org.springframework.cloud.client.loadbalancer.LoadBalancerProperties;
+import org.springframework.cloud.gateway.config.GatewayLoadBalancerProperties;
+import org.springframework.cloud.gateway.filter.ReactiveLoadBalancerClientFilter;
+import org.springframework.cloud.gateway.support.ServerWebExchangeUtils;
+import org.springframework.cloud.loadbalancer.core.ReactorServiceInstanceLoadBalancer;
+import org.springframework.cloud.loadbalancer.support.LoadBalancerClientFactory;
+import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
+import org.springframework.mock.web.server.MockServerWebExchange;
+import reactor.core.Disposable;
+import reactor.core.publisher.Mono;
+
+import java.net.ConnectException;
+import java.net.URI;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.TimeoutException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * 실제 ReactiveLoadBalancerClientFilter + 라이프사이클로 처리 중 요청 수 반영 확인
+ */
+class LoadBalancerCancelFilterTest {
+
+    private static final String SERVICE = "resource-service";
+
+    private final ServiceInstance instance =
+            new DefaultServiceInstance("resource-service-0", SERVICE, "10.0.0.1", 8082, false);
+    private final InstanceStatsRegistry registry =
+            new InstanceStatsRegistry(new SimpleMeterRegistry(), Duration.ofMillis(50), Duration.ofSeconds(5));
+    private final LoadBalancerStatsLifecycle lifecycle = new LoadBalancerStatsLifecycle(registry, Duration.ofSeconds(1));
+    private final LoadBalancerCancelFilter cancelFilter = new LoadBalancerCancelFilter(lifecycle);
+    private final ReactiveLoadBalancerClientFilter loadBalancerFilter = loadBalancerFilter();
+
+    @Test
+    void completedAndFailedRequestsReleaseInFlightOnce() {
+        route(Mono.empty()).block(Duration.ofSeconds(1));
+        assertThatThrownBy(() -> route(Mono.error(new ConnectException("Connection refused")))
+                .block(Duration.ofSeconds(1))).hasCauseInstanceOf(ConnectException.class);
+
+        assertThat(registry.get(instance).getInFlight()).isZero();
+    }
+
+    @Test
+    void cancelledRequestsReleaseInFlight() {
+        Disposable request = route(Mono.never()).subscribe();
+        assertThat(registry.get(instance).getInFlight()).isEqualTo(1);
+
+        // 클라이언트 연결 종료
+        request.dispose();
+        assertThat(registry.get(instance).getInFlight()).isZero();
+
+        // 시간 초과
+        assertThatThrownBy(() -> route(Mono.never()).timeout(Duration.ofMillis(20)).block(Duration.ofSeconds(1)))
+                .hasCauseInstanceOf(TimeoutException.class);
+        assertThat(registry.get(instance).getInFlight()).isZero();
+    }
+
+    /**
+     * lb:// 라우팅 → 로드 밸런서 필터 → 취소 반영 필터 → 업스트림
+     */
+    private Mono<Void> route(Mono<Void> upstream) {
+        MockServerWebExchange exchange = MockServerWebExchange.from(MockServerHttpRequest.get("/api/resources/1"));
+        exchange.getAttributes().put(ServerWebExchangeUtils.GATEWAY_REQUEST_URL_ATTR,
+                URI.create("lb://" + SERVICE + "/api/resources/1"));
+        return loadBalancerFilter.filter(exchange, balanced -> cancelFilter.filter(balanced, routed -> upstream));
+    }
+
+    private ReactiveLoadBalancerClientFilter loadBalancerFilter() {
+        ReactorServiceInstanceLoadBalancer balancer = request -> Mono.just(new DefaultResponse(instance));
+        LoadBalancerClientFactory clientFactory = mock(LoadBalancerClientFactory.class);
+        when(clientFactory.getInstance(SERVICE, ReactorServiceInstanceLoadBalancer.class)).thenReturn(balancer);
+        when(clientFactory.getInstances(SERVICE, LoadBalancerLifecycle.class)).thenReturn(Map.of("stats", lifecycle));
+        when(clientFactory.getProperties(SERVICE)).thenReturn(new LoadBalancerProperties());
+        return new ReactiveLoadBalancerClientFilter(clientFactory, new GatewayLoadBalancerProperties());
+    }
+}
@@ -0,0 +1,263 @@
+package com.unibooker.gateway.loadbalancer;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.cloud.client.DefaultServiceInstance;
+import org.springframework.cloud.client.ServiceInstance;
+import org.springframework.cloud.client.loadbalancer.CompletionContext;
+import org.springframework.cloud.client.loadbalancer.DefaultRequest;
+import org.springframework.cloud.client.loadbalancer.DefaultResponse;
+import org.springframework.cloud.client.loadbalancer.Request;
+import org.springframework.cloud.client.loadbalancer.RequestDataContext;
+import org.springframework.cloud.client.loadbalancer.Response;
+import org.springframework.cloud.client.loadbalancer.ResponseData;
+
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.PriorityQueue;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 로드 밸런서 지연 시뮬레이션 (가상 시간, 이벤트 기반)
+ * - 인스턴스 6대(각 4개 동시 처리, 처리 시간 15ms + 지수분포 평균 5ms), 그중 1대가 느리거나 주기적으로 GC 정지
+ * - 같은 도착 순서/처리 시간으로 라운드 로빈과 P2C Peak EWMA를 비교
+ * - P2C는 실제 PeakEwmaLoadBalancer.select + LoadBalancerStatsLifecycle로 통계 반영
+ */
+class LoadBalancerSimulationTest {
+
+    private static final int INSTANCES = 6;
+    private static final int CORES = 4;
+    private static final double MIN_SERVICE_MILLIS = 15;
+    private static final double MEAN_EXTRA_SERVICE_MILLIS = 5;
+    private static final double ARRIVALS_PER_SECOND = 300;
+    private static final long DURATION_MILLIS = 60_000;
+    private static final long START_NANOS = TimeUnit.SECONDS.toNanos(1);
+    /** 인스턴스별 비중을 따로 집계하는 마지막 구간 시작 */
+    private static final long LATE_WINDOW_MILLIS = 40_000;
+
+    @Test
+    void slowInstanceIsAvoided() {
+        // 0번 인스턴스 처리 시간 3배
+        Scenario scenario = new Scenario((index, elapsedMillis) -> index == 0 ? 3.0 : 1.0, index -> false);
+
+        Result roundRobin = scenario.run(Strategy.ROUND_ROBIN);
+        Result peakEwma = scenario.run(Strategy.PEAK_EWMA);
+
+        assertThat(peakEwma.percentile(0.99)).isLessThan(roundRobin.percentile(0.99) * 0.75);
+        assertThat(peakEwma.share(0)).isLessThan(roundRobin.share(0) / 2);
+    }
+
+    @Test
+    void gcPausingInstanceIsAvoided() {
+        // 0번 인스턴스가 2초마다 300ms 정지
+        Scenario scenario = new Scenario((index, elapsedMillis) -> 1.0, index -> index == 0);
+
+        Result roundRobin = scenario.run(Strategy.ROUND_ROBIN);
+        Result peakEwma = scenario.run(Strategy.PEAK_EWMA);
+
+        assertThat(peakEwma.percentile(0.99)).isLessThan(roundRobin.percentile(0.99) / 3);
+        assertThat(peakEwma.percentile(0.999)).isLessThan(roundRobin.percentile(0.999) / 2);
+    }
+
+    @Test
+    void recoveredInstanceRegainsTraffic() {
+        // 0번 인스턴스가 처음 20초만 5배 느림
+        Scenario scenario = new Scenario((index, elapsedMillis) -> index == 0 && elapsedMillis < 20_000 ? 5.0 : 1.0,
+                index -> false);
+
+        Result peakEwma = scenario.run(Strategy.PEAK_EWMA);
+
+        // 회복 후 마지막 20초 구간에는 균등 분배(1/6)에 가깝게 돌아옴
+        assertThat(peakEwma.shareAfter(0)).isGreaterThan(0.12);
+    }
+
+    private enum Strategy {
+        ROUND_ROBIN, PEAK_EWMA
+    }
+
+    /**
+     * 시뮬레이션 조건 (전략별로 같은 난수 시드 → 같은 도착 간격/처리 시간)
+     */
+    private record Scenario(BiFunction<Integer, Long, Double> slowdown, Function<Integer, Boolean> gcPausing) {
+
+        private static final long GC_PERIOD_NANOS = TimeUnit.MILLISECONDS.toNanos(2_000);
+        private static final long GC_PAUSE_NANOS = TimeUnit.MILLISECONDS.toNanos(300);
+
+        Result run(Strategy strategy) {
+            Random workload = new Random(42);
+            Random selection = new Random(7);
+            long[] now = {START_NANOS};
+            InstanceStatsRegistry registry = new InstanceStatsRegistry(new SimpleMeterRegistry(),
+                    Duration.ofMillis(50), Duration.ofSeconds(5), () -> now[0]);
+            PeakEwmaLoadBalancer balancer = new PeakEwmaLoadBalancer(null, "resource-service", registry, () -> selection);
+            LoadBalancerStatsLifecycle lifecycle = new LoadBalancerStatsLifecycle(registry, Duration.ofSeconds(1));
+
+            List<ServiceInstance> instances = new ArrayList<>();
+            List<SimulatedInstance> servers = new ArrayList<>();
+            for (int i = 0; i < INSTANCES; i++) {
+                instances.add(new DefaultServiceInstance("resource-service-" + i, "resource-service",
+                        "10.0.0." + (i + 1), 8082, false));
+                servers.add(new SimulatedInstance(gcPausing.apply(i)));
+            }
+
+            PriorityQueue<SimulatedRequest> completions = new PriorityQueue<>(
+                    (a, b) -> Long.compare(a.completesAt, b.completesAt));
+            long end = START_NANOS + TimeUnit.MILLISECONDS.toNanos(DURATION_MILLIS);
+            long nextArrival = START_NANOS;
+            int roundRobin = 0;
+            List<Long> latencies = new ArrayList<>();
+            int[] served = new int[INSTANCES];
+            int[] servedLate = new int[INSTANCES];
+
+            while (nextArrival < end || !completions.isEmpty()) {
+                if (!completions.isEmpty() && (nextArrival >= end || completions.peek().completesAt <= nextArrival)) {
+                    SimulatedRequest done = completions.poll();
+                    now[0] = done.completesAt;
+                    lifecycle.onComplete(new CompletionContext<>(CompletionContext.Status.SUCCESS,
+                            done.lbRequest, done.lbResponse, (ResponseData) null));
+                    latencies.add(done.completesAt - done.arrivedAt);
+                    SimulatedInstance server = servers.get(done.instance);
+                    server.busy--;
+                    SimulatedRequest queued = server.queue.poll();
+                    if (queued != null) {
+                        server.start(queued, now[0], completions);
+                    }
+                    continue;
+                }
+
+                now[0] = nextArrival;
+                ServiceInstance chosen = strategy == Strategy.ROUND_ROBIN
+                        ? instances.get(roundRobin++ % INSTANCES)
+                        : balancer.select(instances);
+                int index = instances.indexOf(chosen);
+                long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(now[0] - START_NANOS);
+                served[index]++;
+                if (elapsedMillis >= LATE_WINDOW_MILLIS) {
+                    servedLate[index]++;
+                }
+
+                double serviceMillis = MIN_SERVICE_MILLIS + exponential(workload, MEAN_EXTRA_SERVICE_MILLIS);
+                SimulatedRequest request = new SimulatedRequest(index, now[0],
+                        serviceMillis * slowdown.apply(index, elapsedMillis));
+                request.lbRequest = new DefaultRequest<>(new RequestDataContext());
+                request.lbResponse = new DefaultResponse(chosen);
+                lifecycle.onStartRequest(request.lbRequest, request.lbResponse);
+                servers.get(index).accept(request, now[0], completions);
+
+                nextArrival += (long) (exponential(workload, 1000.0 / ARRIVALS_PER_SECOND) * 1_000_000);
+            }
+
+            return new Result(strategy, latencies, served, servedLate);
+        }
+
+        private static double exponential(Random random, double mean) {
+            return -Math.log(1 - random.nextDouble()) * mean;
+        }
+    }
+
+    /**
+     * 동시 처리 CORES개 + FIFO 대기열 서버
+     */
+    private static final class SimulatedInstance {
+
+        private final boolean gcPausing;
+        private final ArrayDeque<SimulatedRequest> queue = new ArrayDeque<>();
+        private int busy;
+
+        private SimulatedInstance(boolean gcPausing) {
+            this.gcPausing = gcPausing;
+        }
+
+        void accept(SimulatedRequest request, long now, PriorityQueue<SimulatedRequest> completions) {
+            if (busy < CORES) {
+                start(request, now, completions);
+            } else {
+                queue.add(request);
+            }
+        }
+
+        void start(SimulatedRequest request, long now, PriorityQueue<SimulatedRequest> completions) {
+            busy++;
+            long service = (long) (request.serviceMillis * 1_000_000);
+            request.completesAt = finish(now, service);
+            completions.add(request);
+        }
+
+        /**
+         * GC 정지 구간 동안은 처리가 진행되지 않음
+         */
+        private long finish(long start, long service) {
+            if (!gcPausing) {
+                return start + service;
+            }
+            long time = start;
+            long remaining = service;
+            while (true) {
+                long cycleStart = time - Math.floorMod(time, Scenario.GC_PERIOD_NANOS);
+                long pauseEnd = cycleStart + Scenario.GC_PAUSE_NANOS;
+                if (time < pauseEnd) {
+                    time = pauseEnd;
+                }
+                long nextPause = cycleStart + Scenario.GC_PERIOD_NANOS;
+                if (time + remaining <= nextPause) {
+                    return time + remaining;
+                }
+                remaining -= nextPause - time;
+                time = nextPause;
+            }
+        }
+    }
+
+    private static final class SimulatedRequest {
+
+        private final int instance;
+        private final long arrivedAt;
+        private final double serviceMillis;
+        private long completesAt;
+        private Request<RequestDataContext> lbRequest;
+        private Response<ServiceInstance> lbResponse;
+
+        private SimulatedRequest(int instance, long arrivedAt, double serviceMillis) {
+            this.instance = instance;
+            this.arrivedAt = arrivedAt;
+            this.serviceMillis = serviceMillis;
+        }
+    }
+
+    private static final class Result {
+
+        private final Strategy strategy;
+        private final long[] sorted;
+        private final int[] served;
+        private final int[] servedLate;
+
+        private Result(Strategy strategy, List<Long> latencies, int[] served, int[] servedLate) {
+            this.strategy = strategy;
+            this.sorted = latencies.stream().mapToLong(Long::longValue).toArray();
+            Arrays.sort(this.sorted);
+            this.served = served;
+            this.servedLate = servedLate;
+        }
+
+        double percentile(double p) {
+            int index = (int) Math.min(sorted.length - 1, Math.ceil(p * sorted.length) - 1);
+            return sorted[index] / 1_000_000.0;
+        }
+
+        double share(int instance) {
+            return (double) served[instance] / Arrays.stream(served).sum();
+        }
+
+        double shareAfter(int instance) {
+            return (double) servedLate[instance] / Arrays.stream(servedLate).sum();
+        }
+    }
+}
@@ -0,0 +1,68 @@
+package com.unibooker.gateway.metrics;
+
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.cloud.gateway.route.Route;
+import org.springframework.cloud.gateway.support.ServerWebExchangeUtils;
+import org.springframework.http.HttpStatus;
+import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
+import org.springframework.mock.web.server.MockServerWebExchange;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class GatewayMetricsTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final GatewayMetrics gatewayMetrics = new GatewayMetrics(meterRegistry);
+
+    @Test
+    void requestsAreTaggedByRouteAndStatusClassOnly() {
+        gatewayMetrics.recordRequest(exchange("user-api", "/api/users/1", HttpStatus.OK), 5_000_000);
+        gatewayMetrics.recordRequest(exchange("user-api", "/api/users/2", HttpStatus.CREATED), 7_000_000);
+        gatewayMetrics.recordRequest(exchange("user-api", "/api/users/3", HttpStatus.NOT_FOUND), 1_000_000);
+
+        Timer ok = meterRegistry.get("gateway.requests").tags("route", "user-api", "status", "2xx").timer();
+        assertThat(ok.count()).isEqualTo(2);
+        assertThat(ok.totalTime(TimeUnit.MILLISECONDS)).isEqualTo(12.0);
+        assertThat(meterRegistry.get("gateway.requests").tags("status", "4xx").timer().count()).isEqualTo(1);
+        // 경로별 태그가 생기지 않음 (라우트 × 상태 계열 고정 개수)
+        assertThat(meterRegistry.get("gateway.requests").timers()).hasSize(6);
+    }
+
+    @Test
+    void unmatchedOrUnansweredRequestsUseFallbackTags() {
+        MockServerWebExchange exchange = MockServerWebExchange.from(MockServerHttpRequest.get("/x"));
+        gatewayMetrics.recordUpstream(exchange, 1_000);
+
+        assertThat(meterRegistry.get("gateway.upstream").tags("route", "unknown", "status", "none").timer().count())
+                .isEqualTo(1);
+    }
+
+    @Test
+    void jwtVerificationIsRecordedPerResult() {
+        MockServerWebExchange exchange = exchange("admin-api", "/api/admins/me", HttpStatus.OK);
+        gatewayMetrics.recordJwtVerification(exchange, "ok", 20_000);
+        gatewayMetrics.recordJwtVerification(exchange, "invalid", 30_000);
+        gatewayMetrics.recordJwtVerification(exchange, "ok", 10_000);
+
+        assertThat(meterRegistry.get("gateway.jwt.verification").tags("route", "admin-api", "result", "ok").timer().count())
+                .isEqualTo(2);
+        assertThat(meterRegistry.get("gateway.jwt.verification").tags("result", "invalid").timer().count())
+                .isEqualTo(1);
+    }
+
+    private MockServerWebExchange exchange(String routeId, String path, HttpStatus status) {
+        MockServerWebExchange exchange = MockServerWebExchange.from(MockServerHttpRequest.get(path));
+        Route route = Route.async()
+                .id(routeId)
+                .uri("lb://main-service")
+                .predicate(e -> true)
+                .build();
+        exchange.getAttributes().put(ServerWebExchangeUtils.GATEWAY_ROUTE_ATTR, route);
+        exchange.getResponse().setStatusCode(status);
+        return exchange;
+    }
+}
@@ -0,0 +1,160 @@
+package com.unibooker.gateway.quota;
+
+import com.unibooker.common.util.JwtUtil;
+import com.unibooker.common.util.VerifiedToken;
+import com.unibooker.gateway.filter.JwtAuthenticationFilter;
+import com.unibooker.gateway.filter.TenantQuotaFilter;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.cloud.gateway.filter.GatewayFilter;
+import org.springframework.core.io.buffer.DefaultDataBufferFactory;
+import org.springframework.http.HttpStatus;
+import org.springframework.mock.env.MockEnvironment;
+import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
+import org.springframework.mock.web.server.MockServerWebExchange;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TenantQuotaTest {
+
+    private static final String SECRET = "tenant-quota-test-secret-tenant-quota-test";
+    private static final long HOUR = Duration.ofHours(1).toMillis();
+
+    private final JwtUtil jwtUtil = new JwtUtil(SECRET, HOUR, HOUR);
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final AtomicLong clock = new AtomicLong(100 * HOUR + 1_000);
+    private final MockEnvironment environment = new MockEnvironment()
+            .withProperty("gateway.tenant-quota.tenants.7.soft-requests", "3")
+            .withProperty("gateway.tenant-quota.tenants.7.hard-requests", "5")
+            .withProperty("gateway.tenant-quota.hard-bytes", "1KB");
+    private final TenantQuotaRegistry registry =
+            new TenantQuotaRegistry(meterRegistry, environment, Duration.ofHours(1), 3, 100, clock::get);
+
+    @Test
+    void concurrentCountsAreFoldedIntoWindowTotals() throws InterruptedException {
+        ExecutorService workers = Executors.newFixedThreadPool(8);
+        CountDownLatch done = new CountDownLatch(8);
+        for (int t = 0; t < 8; t++) {
+            workers.execute(() -> {
+                for (int i = 0; i < 10_000; i++) {
+                    TenantUsage usage = registry.usage(i % 4);
+                    usage.recordRequest();
+                    usage.recordResponseBytes(10);
+                    if (i % 100 == 0) {
+                        registry.aggregate();
+                    }
+                }
+                done.countDown();
+            });
+        }
+        assertThat(done.await(10, TimeUnit.SECONDS)).isTrue();
+        workers.shutdown();
+        registry.aggregate();
+
+        TenantQuotaRegistry.Summary summary = registry.report();
+        assertThat(summary.tenants()).hasSize(4);
+        for (TenantReport report : summary.tenants()) {
+            assertThat(report.current().requests()).isEqualTo(20_000);
+            assertThat(report.current().responseBytes()).isEqualTo(200_000);
+        }
+    }
+
+    @Test
+    void quotasAreResolvedPerTenantAndResetWithTheWindow() {
+        TenantUsage limited = registry.usage(7);
+        TenantUsage other = registry.usage(8);
+        assertThat(limited.getQuota()).isEqualTo(new TenantQuota(3, 5, 0, 1024));
+        assertThat(other.getQuota()).isEqualTo(new TenantQuota(0, 0, 0, 1024));
+
+        record(limited, 3);
+        registry.aggregate();
+        assertThat(limited.getState()).isEqualTo(QuotaState.SOFT_EXCEEDED);
+        record(limited, 2);
+        other.recordRequestBytes(2048);
+        registry.aggregate();
+        assertThat(limited.getState()).isEqualTo(QuotaState.HARD_EXCEEDED);
+        assertThat(other.getState()).isEqualTo(QuotaState.HARD_EXCEEDED);
+
+        clock.addAndGet(HOUR);
+        registry.aggregate();
+        assertThat(limited.getState()).isEqualTo(QuotaState.WITHIN);
+        TenantReport report = registry.report(7);
+        assertThat(report.current().requests()).isZero();
+        assertThat(report.history()).hasSize(1);
+        assertThat(report.history().get(0).requests()).isEqualTo(5);
+        assertThat(report.history().get(0).end().toEpochMilli()).isEqualTo(101 * HOUR);
+
+        // 두 기간 연속 사용 없으면 제거
+        clock.addAndGet(HOUR);
+        registry.aggregate();
+        assertThat(registry.report(7)).isNull();
+    }
+
+    @Test
+    void filterCountsBytesWarnsOnSoftAndRejectsOnHardQuota() {
+        TenantQuotaFilter factory = new TenantQuotaFilter(registry, meterRegistry, true);
+        TenantQuotaFilter.Config config = new TenantQuotaFilter.Config();
+        config.setRouteId("resource-api");
+        GatewayFilter quota = factory.apply(config);
+        GatewayFilter capture = factory.captureFilter();
+
+        for (int i = 0; i < 3; i++) {
+            MockServerWebExchange exchange = call(capture, quota, 7L);
+            assertThat(exchange.getResponse().getStatusCode()).isEqualTo(HttpStatus.OK);
+            assertThat(exchange.getResponse().getHeaders().containsKey(TenantQuotaFilter.QUOTA_WARNING_HEADER)).isFalse();
+        }
+        registry.aggregate();
+        MockServerWebExchange warned = call(capture, quota, 7L);
+        assertThat(warned.getResponse().getHeaders().getFirst(TenantQuotaFilter.QUOTA_WARNING_HEADER))
+                .isEqualTo("soft-limit-exceeded");
+        call(capture, quota, 7L);
+        registry.aggregate();
+
+        MockServerWebExchange rejected = call(capture, quota, 7L);
+        assertThat(rejected.getResponse().getStatusCode()).isEqualTo(HttpStatus.TOO_MANY_REQUESTS);
+        assertThat(rejected.getResponse().getHeaders().getFirst("Retry-After")).isEqualTo("3599");
+
+        // 기업 정보 없는 토큰은 집계 대상 아님
+        call(capture, quota, null);
+        registry.aggregate();
+        TenantReport report = registry.report(7);
+        assertThat(report.current().requests()).isEqualTo(5);
+        assertThat(report.current().requestBytes()).isEqualTo(5 * 20);
+        assertThat(report.current().responseBytes()).isEqualTo(5 * 100);
+        assertThat(report.current().rejected()).isEqualTo(1);
+        assertThat(registry.report().tenants()).hasSize(1);
+    }
+
+    private static void record(TenantUsage usage, int requests) {
+        for (int i = 0; i < requests; i++) {
+            usage.recordRequest();
+        }
+    }
+
+    private MockServerWebExchange call(GatewayFilter capture, GatewayFilter quota, Long companyId) {
+        MockServerWebExchange exchange = MockServerWebExchange.from(MockServerHttpRequest
+                .post("/api/resources")
+                .contentLength(20)
+                .body("{\"name\":\"room-A-10\"}"));
+        exchange.getAttributes().put(JwtAuthenticationFilter.VERIFIED_TOKEN_ATTR, token(companyId));
+        capture.filter(exchange, captured -> quota.filter(captured, routed -> {
+            if (routed.getResponse().getStatusCode() == null) {
+                routed.getResponse().setStatusCode(HttpStatus.OK);
+            }
+            return routed.getResponse().writeWith(Mono.just(DefaultDataBufferFactory.sharedInstance.wrap(new byte[100])));
+        })).block();
+        return exchange;
+    }
+
+    private VerifiedToken token(Long companyId) {
+        return jwtUtil.parseAndVerify(jwtUtil.createAccessToken(1L, "admin@test.com", "ADMIN", companyId));
+    }
+}
@@ -0,0 +1,97 @@
+package com.unibooker.gateway.revocation;
+
+import com.unibooker.common.dto.TokenRevocationDto;
+import com.unibooker.common.util.JwtUtil;
+import com.unibooker.common.util.VerifiedToken;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TokenRevocationRegistryTest {
+
+    private static final String SECRET = "revocation-test-secret-revocation-test-secret";
+    private static final long VALIDITY = 3_600_000L;
+
+    private final JwtUtil jwtUtil = new JwtUtil(SECRET, VALIDITY, VALIDITY);
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final TokenRevocationRegistry registry =
+            new TokenRevocationRegistry(true, 10_000, 0.001, VALIDITY, meterRegistry);
+
+    @Test
+    void tokensIssuedBeforeRevocationAreRejected() {
+        VerifiedToken token = token(1L, null);
+        long issuedAt = token.getIssuedAt().toEpochMilli();
+
+        registry.revoke(new TokenRevocationDto(TokenRevocationDto.Scope.USER, 1L, issuedAt + 1_000, "LOGOUT"));
+
+        assertThat(registry.isRevoked(token)).isTrue();
+        assertThat(registry.isRevoked(token(2L, null))).isFalse();
+    }
+
+    @Test
+    void tokensIssuedAfterRevocationAreAccepted() {
+        VerifiedToken token = token(1L, null);
+        long issuedAt = token.getIssuedAt().toEpochMilli();
+
+        registry.revoke(new TokenRevocationDto(TokenRevocationDto.Scope.USER, 1L, issuedAt - 5_000, "LOGOUT"));
+
+        // 블룸 필터에는 적중하지만 정확한 폐기 시각 비교에서 통과
+        assertThat(registry.isRevoked(token)).isFalse();
+        assertThat(meterRegistry.counter("gateway.revocation.checks", "result", "false_positive").count()).isEqualTo(1);
+    }
+
+    @Test
+    void tokenIssuedAfterRevocationWithinTheSameSecondIsAccepted() {
+        VerifiedToken token = token(1L, null);
+        while (token.getIssuedAt().toEpochMilli() % 1000 == 0) {
+            token = token(1L, null);
+        }
+        long issuedAt = token.getIssuedAt().toEpochMilli();
+
+        // 로그아웃 직후 재로그인: 같은 초, 1ms 뒤 발급
+        registry.revoke(new TokenRevocationDto(TokenRevocationDto.Scope.USER, 1L, issuedAt - 1, "LOGOUT"));
+        assertThat(registry.isRevoked(token)).isFalse();
+
+        registry.revoke(new TokenRevocationDto(TokenRevocationDto.Scope.USER, 1L, issuedAt, "LOGOUT"));
+        assertThat(registry.isRevoked(token)).isTrue();
+    }
+
+    @Test
+    void companyRevocationCoversItsMembersOnly() {
+        VerifiedToken member = token(10L, 7L);
+        long issuedAt = member.getIssuedAt().toEpochMilli();
+
+        registry.revoke(new TokenRevocationDto(TokenRevocationDto.Scope.COMPANY, 7L, issuedAt + 1_000, "COMPANY_SUSPENDED"));
+
+        assertThat(registry.isRevoked(member)).isTrue();
+        assertThat(registry.isRevoked(token(11L, 8L))).isFalse();
+        // 기업 ID와 같은 값의 사용자 ID는 영향 없음
+        assertThat(registry.isRevoked(token(7L, null))).isFalse();
+    }
+
+    @Test
+    void bloomFilterStaysNearConfiguredFalsePositiveRate() {
+        BloomFilter filter = BloomFilter.create(10_000, 0.01);
+        for (long key = 0; key < 10_000; key++) {
+            filter.put(key);
+        }
+        for (long key = 0; key < 10_000; key++) {
+            assertThat(filter.mightContain(key)).isTrue();
+        }
+
+        int falsePositives = 0;
+        int probes = 100_000;
+        for (long key = 1_000_000; key < 1_000_000 + probes; key++) {
+            if (filter.mightContain(key)) {
+                falsePositives++;
+            }
+        }
+        assertThat((double) falsePositives / probes).isLessThan(0.02);
+        assertThat(filter.estimatedFpp()).isBetween(0.005, 0.02);
+    }
+
+    private VerifiedToken token(Long userId, Long companyId) {
+        return jwtUtil.parseAndVerify(jwtUtil.createAccessToken(userId, "user@test.com", "USER", companyId));
+    }
+}
@@ -0,0 +1,55 @@
+package com.unibooker.gateway.route;
+
+import com.unibooker.common.enums.UserRole;
+import com.unibooker.gateway.config.GatewayConfig;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class PathAccessMatcherTest {
+
+    private final PathAccessMatcher matcher = GatewayConfig.pathAccessMatcher();
+
+    @Test
+    void publicPathsMatchOnSegmentBoundary() {
+        assertThat(matcher.match("/api/users/login")).isSameAs(PathAccess.PUBLIC);
+        assertThat(matcher.match("/actuator/health")).isSameAs(PathAccess.PUBLIC);
+        assertThat(matcher.match("/actuator/health/liveness")).isSameAs(PathAccess.PUBLIC);
+        assertThat(matcher.match("/actuator/healthX")).isSameAs(PathAccess.PROTECTED);
+        assertThat(matcher.match("/api/admins/statusX")).isEqualTo(PathAccess.roleHint(UserRole.ADMIN));
+    }
+
+    @Test
+    void publicEndpointsMatchExactlyWithoutSubpaths() {
+        assertThat(matcher.match("/api/admins/status")).isSameAs(PathAccess.PUBLIC);
+        assertThat(matcher.match("/api/admins/login/")).isEqualTo(PathAccess.roleHint(UserRole.ADMIN));
+        assertThat(matcher.match("/api/admins/status/7")).isEqualTo(PathAccess.roleHint(UserRole.ADMIN));
+        assertThat(matcher.match("/api/admins/login/extra")).isEqualTo(PathAccess.roleHint(UserRole.ADMIN));
+        assertThat(matcher.match("/api/admins/signup/x")).isEqualTo(PathAccess.roleHint(UserRole.ADMIN));
+        assertThat(matcher.match("/api/admins/check-email/x")).isEqualTo(PathAccess.roleHint(UserRole.ADMIN));
+        assertThat(matcher.match("/api/auth/refresh/x")).isSameAs(PathAccess.PROTECTED);
+    }
+
+    @Test
+    void managementEndpointsAreNotPublic() {
+        assertThat(matcher.match("/actuator")).isSameAs(PathAccess.PROTECTED);
+        assertThat(matcher.match("/actuator/tenantquotas")).isSameAs(PathAccess.PROTECTED);
+        assertThat(matcher.match("/actuator/metrics")).isSameAs(PathAccess.PROTECTED);
+        assertThat(matcher.match("/actuator/prometheus")).isSameAs(PathAccess.PROTECTED);
+    }
+
+    @Test
+    void roleHintsFollowPathPrefix() {
+        assertThat(matcher.match("/api/users/me").getRole()).isEqualTo(UserRole.USER);
+        assertThat(matcher.match("/api/admins/me").getRole()).isEqualTo(UserRole.ADMIN);
+        assertThat(matcher.match("/api/managers/12").getRole()).isEqualTo(UserRole.ADMIN);
+        assertThat(matcher.match("/api/super/companies").getRole()).isEqualTo(UserRole.SUPER);
+    }
+
+    @Test
+    void otherPathsAreProtected() {
+        assertThat(matcher.match("/api/resources/1")).isSameAs(PathAccess.PROTECTED);
+        assertThat(matcher.match("/")).isSameAs(PathAccess.PROTECTED);
+        assertThat(matcher.match("")).isSameAs(PathAccess.PROTECTED);
+    }
+}
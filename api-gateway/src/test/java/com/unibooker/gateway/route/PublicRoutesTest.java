@@ -0,0 +1,66 @@
+package com.unibooker.gateway.route;
+
+import com.unibooker.gateway.config.GatewayConfig;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.cloud.gateway.route.Route;
+import org.springframework.cloud.gateway.route.RouteLocator;
+import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
+import org.springframework.mock.web.server.MockServerWebExchange;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 라우트 정의와 PathAccessMatcher 공개 경로 일치 확인
+ */
+@SpringBootTest
+class PublicRoutesTest {
+
+    @Autowired
+    private RouteLocator routeLocator;
+
+    @Autowired
+    private PathAccessMatcher pathAccessMatcher;
+
+    @Test
+    void publicPathsAreServedByPublicRoutes() {
+        List<Route> routes = routeLocator.getRoutes().collectList().block();
+
+        for (String path : GatewayConfig.PUBLIC_PATHS) {
+            assertThat(pathAccessMatcher.match(path)).as(path).isSameAs(PathAccess.PUBLIC);
+            assertThat(routeFor(routes, path)).as(path).isIn(GatewayConfig.PUBLIC_ROUTES.keySet());
+        }
+    }
+
+    @Test
+    void routesOfNonPublicPathsAreNotPublicRoutes() {
+        List<Route> routes = routeLocator.getRoutes().collectList().block();
+
+        for (String path : List.of("/api/auth/logout", "/api/admins/me", "/api/admins/login/x",
+                "/api/users/me", "/api/super/companies", "/api/resources/1")) {
+            assertThat(pathAccessMatcher.match(path).isPublic()).as(path).isFalse();
+            assertThat(routeFor(routes, path)).as(path).isNotIn(GatewayConfig.PUBLIC_ROUTES.keySet());
+        }
+    }
+
+    /**
+     * 경로를 처리할 라우트 ID (선언 순서상 첫 번째로 일치하는 라우트)
+     */
+    private static String routeFor(List<Route> routes, String path) {
+        return Flux.fromIterable(routes)
+                .concatMap(route -> Mono.from(route.getPredicate().apply(exchange(path)))
+                        .filter(Boolean::booleanValue)
+                        .map(matched -> route.getId()))
+                .next()
+                .block();
+    }
+
+    private static MockServerWebExchange exchange(String path) {
+        return MockServerWebExchange.from(MockServerHttpRequest.post(path));
+    }
+}
@@ -0,0 +1,203 @@
+package com.unibooker.gateway.waitingroom;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 대기열 부하 시뮬레이션
+ * - 가상 시간(100ms 틱)으로 수천 명의 클라이언트가 동시에 몰리는 상황 재현
+ * - 업스트림 동시 처리 수가 입장 속도 × 처리 시간 수준으로 일정하게 유지되는지 확인
+ */
+class WaitingRoomLoadTest {
+
+    private static final int CLIENTS = 5_000;
+    private static final double ADMIT_PER_SECOND = 100;
+    private static final long TICK_MILLIS = 100;
+    private static final long DOWNSTREAM_MILLIS = 500;
+    private static final long POLL_MILLIS = 1_000;
+
+    @Test
+    void stampedeIsAdmittedAtSteadyRate() {
+        InMemoryAdmissionQueue queue = new InMemoryAdmissionQueue(ADMIT_PER_SECOND, 600_000, 60_000, CLIENTS);
+        Random random = new Random(7);
+
+        List<SimulatedClient> clients = new ArrayList<>();
+        for (int i = 0; i < CLIENTS; i++) {
+            // 2초 안에 전원 도착
+            clients.add(new SimulatedClient("u:" + i, random.nextInt(2_000)));
+        }
+
+        int maxConcurrency = 0;
+        long totalConcurrency = 0;
+        int steadyTicks = 0;
+        int done = 0;
+        long now = 0;
+
+        while (done < CLIENTS && now < 300_000) {
+            queue.admit(now);
+            int inFlight = 0;
+
+            for (SimulatedClient client : clients) {
+                if (client.finished) {
+                    continue;
+                }
+                if (client.ticket == null && now >= client.arrivalMillis) {
+                    TicketStatus status = queue.enqueue(client.owner, now);
+                    client.ticket = status.getTicket();
+                    // 같은 틱에 도착한 클라이언트가 한꺼번에 폴링하지 않도록 첫 폴링 시점을 분산 (실제 클라이언트 지터)
+                    client.nextPollMillis = now + random.nextInt((int) POLL_MILLIS);
+                    client.onStatus(status, now);
+                } else if (client.ticket != null && client.busyUntil < 0 && now >= client.nextPollMillis) {
+                    client.nextPollMillis = now + POLL_MILLIS;
+                    // 클라이언트는 원 요청을 다시 보냄 (같은 사용자 → 같은 티켓)
+                    client.onStatus(queue.enqueue(client.owner, now), now);
+                }
+                if (client.busyUntil >= 0) {
+                    if (now >= client.busyUntil) {
+                        client.finished = true;
+                        done++;
+                    } else {
+                        inFlight++;
+                    }
+                }
+            }
+
+            // 도착 구간(2초) 이후 ~ 대기열 소진 전까지를 정상 구간으로 집계
+            if (now >= 3_000 && queue.waitingCount() > 0) {
+                maxConcurrency = Math.max(maxConcurrency, inFlight);
+                totalConcurrency += inFlight;
+                steadyTicks++;
+            }
+            now += TICK_MILLIS;
+        }
+
+        double expected = ADMIT_PER_SECOND * DOWNSTREAM_MILLIS / 1000.0;
+        double average = (double) totalConcurrency / steadyTicks;
+
+        assertThat(done).isEqualTo(CLIENTS);
+        // 전원 입장 소요 시간 ≈ CLIENTS / ADMIT_PER_SECOND (50초) + 폴링 지연
+        assertThat(now).isBetween(48_000L, 56_000L);
+        assertThat(average).isBetween(expected * 0.8, expected * 1.2);
+        assertThat(maxConcurrency).isLessThanOrEqualTo((int) (expected * 2));
+    }
+
+    @Test
+    void concurrentEnqueueKeepsOrderAndUniqueness() throws InterruptedException {
+        InMemoryAdmissionQueue queue = new InMemoryAdmissionQueue(1, 600_000, 60_000, 100_000);
+        int threads = 8;
+        int perThread = 2_000;
+        Set<String> tickets = ConcurrentHashMap.newKeySet();
+        Set<Long> positions = ConcurrentHashMap.newKeySet();
+
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        CountDownLatch start = new CountDownLatch(1);
+        for (int t = 0; t < threads; t++) {
+            int thread = t;
+            executor.submit(() -> {
+                start.await();
+                for (int i = 0; i < perThread; i++) {
+                    TicketStatus status = queue.enqueue("u:" + thread + "-" + i, 0);
+                    tickets.add(status.getTicket());
+                    positions.add(status.getPosition());
+                }
+                return null;
+            });
+        }
+        start.countDown();
+        executor.shutdown();
+        assertThat(executor.awaitTermination(30, TimeUnit.SECONDS)).isTrue();
+
+        int total = threads * perThread;
+        assertThat(tickets).hasSize(total);
+        // 첫 티켓만 즉시 입장(position 0), 나머지는 1..total-1 순번을 하나씩 가짐
+        Set<Long> expected = new HashSet<>();
+        for (long p = 0; p < total; p++) {
+            expected.add(p);
+        }
+        assertThat(positions).isEqualTo(expected);
+        assertThat(queue.waitingCount()).isEqualTo(total - 1);
+    }
+
+    @Test
+    void ticketsAreBoundToOwnerAndReused() {
+        InMemoryAdmissionQueue queue = new InMemoryAdmissionQueue(1, 10_000, 5_000, 100);
+
+        TicketStatus first = queue.enqueue("u:1", 0);
+        assertThat(first.isAdmitted()).isTrue();
+        TicketStatus waiting = queue.enqueue("u:2", 0);
+        assertThat(waiting.getPosition()).isEqualTo(1);
+
+        // 같은 사용자는 티켓을 다시 받지 않음 (헤더 없이 반복해도 대기열이 늘지 않음)
+        for (int i = 0; i < 10; i++) {
+            assertThat(queue.enqueue("u:2", 100).getTicket()).isEqualTo(waiting.getTicket());
+        }
+        assertThat(queue.waitingCount()).isEqualTo(1);
+
+        // 다른 사용자는 입장한 티켓을 알아도 새 티켓으로 줄을 섬
+        TicketStatus other = queue.enqueue("u:3", 100);
+        assertThat(other.getTicket()).isNotEqualTo(first.getTicket());
+        assertThat(other.isAdmitted()).isFalse();
+        assertThat(queue.enqueue("u:1", 100).getTicket()).isEqualTo(first.getTicket());
+    }
+
+    @Test
+    void abandonedAndUnusedTicketsDoNotKeepAdmissions() {
+        InMemoryAdmissionQueue queue = new InMemoryAdmissionQueue(1, 10_000, 5_000, 100);
+        assertThat(queue.enqueue("u:0", 0).isAdmitted()).isTrue();
+        TicketStatus gone = queue.enqueue("u:1", 0);
+        TicketStatus present = queue.enqueue("u:2", 0);
+
+        // u:1은 다시 오지 않음, u:2만 계속 요청 → 크레딧은 u:2 입장에 사용
+        for (long now = 1_000; now <= 6_000; now += 1_000) {
+            queue.enqueue("u:2", now);
+        }
+        queue.admit(6_100);
+        assertThat(queue.check(gone.getTicket(), 6_100).getState()).isEqualTo(TicketStatus.State.EXPIRED);
+        assertThat(queue.check(present.getTicket(), 6_100).isAdmitted()).isTrue();
+
+        // 입장 후 abandon-timeout 안에 사용하지 않으면 만료, 다시 오면 새 티켓으로 대기
+        assertThat(queue.check(present.getTicket(), 11_200).getState()).isEqualTo(TicketStatus.State.EXPIRED);
+        TicketStatus again = queue.enqueue("u:2", 11_200);
+        assertThat(again.getTicket()).isNotEqualTo(present.getTicket());
+
+        // 대기자가 없어 바로 입장 + 사용 시작 → pass-ttl 동안 통과
+        assertThat(again.isAdmitted()).isTrue();
+        assertThat(queue.enqueue("u:2", 21_000).getTicket()).isEqualTo(again.getTicket());
+        assertThat(queue.enqueue("u:2", 21_300).getTicket()).isNotEqualTo(again.getTicket());
+        queue.cleanup(30_000);
+        assertThat(queue.waitingCount()).isZero();
+    }
+
+    private static final class SimulatedClient {
+
+        private final String owner;
+        private final long arrivalMillis;
+        private String ticket;
+        private long nextPollMillis;
+        private long busyUntil = -1;
+        private boolean finished;
+
+        private SimulatedClient(String owner, long arrivalMillis) {
+            this.owner = owner;
+            this.arrivalMillis = arrivalMillis;
+        }
+
+        private void onStatus(TicketStatus status, long now) {
+            if (status.isAdmitted()) {
+                busyUntil = now + DOWNSTREAM_MILLIS;
+            }
+        }
+    }
+}
@@ -0,0 +1,66 @@
+package com.unibooker.common.util;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.security.Key;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 게이트웨이 요청 1건당 JWT 검증 비용 비교
+ * - legacyFivePass: 변경 전 동작 (호출마다 파서 생성 + 서명 검증, 총 5회)
+ * - sharedParserFivePass: 공유 파서로 getXxx() 5회 호출
+ * - parseAndVerify: 공유 파서로 1회 파싱/검증
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class JwtUtilBenchmark {
+
+    private static final String SECRET = "benchmark-secret-key-benchmark-secret-key-0123456789";
+
+    private JwtUtil jwtUtil;
+    private Key key;
+    private String token;
+
+    @Setup
+    public void setUp() {
+        jwtUtil = new JwtUtil(SECRET, 3_600_000L, 604_800_000L);
+        key = Keys.hmacShaKeyFor(SECRET.getBytes());
+        token = jwtUtil.createAccessToken(42L, "user@unibooker.com", "USER", 7L);
+    }
+
+    @Benchmark
+    public void legacyFivePass(Blackhole bh) {
+        bh.consume(legacyClaims() != null);
+        bh.consume(legacyClaims().get("userId"));
+        bh.consume(legacyClaims().getSubject());
+        bh.consume(legacyClaims().get("role", String.class));
+        bh.consume(legacyClaims().get("companyId"));
+    }
+
+    @Benchmark
+    public void sharedParserFivePass(Blackhole bh) {
+        bh.consume(jwtUtil.validateToken(token));
+        bh.consume(jwtUtil.getUserId(token));
+        bh.consume(jwtUtil.getEmail(token));
+        bh.consume(jwtUtil.getRole(token));
+        bh.consume(jwtUtil.getCompanyId(token));
+    }
+
+    @Benchmark
+    public VerifiedToken parseAndVerify() {
+        return jwtUtil.parseAndVerify(token);
+    }
+
+    private Claims legacyClaims() {
+        return Jwts.parser()
+                .setSigningKey(key)
+                .build()
+                .parseClaimsJws(token)
+                .getBody();
+    }
+}
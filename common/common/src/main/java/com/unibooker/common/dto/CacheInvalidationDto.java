@@ -0,0 +1,33 @@
+package com.unibooker.common.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * 게이트웨이 응답 캐시 무효화 이벤트 DTO (main-service, resource-service → api-gateway)
+ * - paths: 변경된 데이터를 반환하는 조회 API 경로 (쿼리 문자열 제외, 해당 경로의 캐시 전체 삭제)
+ */
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class CacheInvalidationDto {
+
+    /**
+     * Kafka 토픽
+     */
+    public static final String TOPIC = "gateway-cache-invalidation";
+
+    /**
+     * 무효화할 경로 목록
+     */
+    private List<String> paths;
+
+    public static CacheInvalidationDto of(String... paths) {
+        return new CacheInvalidationDto(List.of(paths));
+    }
+}
@@ -0,0 +1,73 @@
+package com.unibooker.common.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.Instant;
+
+/**
+ * 토큰 폐기 이벤트 DTO (main-service → api-gateway)
+ * - revokedAt 이전에 발급된 대상의 Access Token을 더 이상 받지 않음
+ * - 대상: 사용자(로그아웃, 비밀번호 변경, 탈퇴) 또는 기업(기업 정지)
+ */
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class TokenRevocationDto {
+
+    /**
+     * Kafka 토픽
+     */
+    public static final String TOPIC = "token-revoked";
+
+    /**
+     * 폐기 대상 종류 (USER, COMPANY)
+     */
+    private Scope scope;
+
+    /**
+     * 대상 ID (userId 또는 companyId)
+     */
+    private Long targetId;
+
+    /**
+     * 폐기 시각 (epoch 밀리초)
+     */
+    private long revokedAt;
+
+    /**
+     * 사유 (LOGOUT, PASSWORD_CHANGED, DELETED, COMPANY_SUSPENDED 등)
+     */
+    private String reason;
+
+    public static TokenRevocationDto user(Long userId, String reason) {
+        return new TokenRevocationDto(Scope.USER, userId, System.currentTimeMillis(), reason);
+    }
+
+    public static TokenRevocationDto company(Long companyId, String reason) {
+        return new TokenRevocationDto(Scope.COMPANY, companyId, System.currentTimeMillis(), reason);
+    }
+
+    /**
+     * 폐기 시각 기준으로 토큰이 폐기 대상인지 확인 (게이트웨이, main-service 공용 규칙)
+     * - 토큰에 기록된 정밀도(iatMillis, 이전 토큰은 초 단위 iat)로 비교, 폐기 시각 이하에 발급된 토큰은 폐기
+     * - 이전 토큰은 초 단위로 내림되어 폐기와 같은 초에 발급된 토큰도 폐기로 취급
+     *
+     * @param issuedAt 토큰 발급 시각 (없으면 폐기 대상)
+     * @param revokedAt 폐기 시각 (epoch 밀리초, null이면 폐기 이력 없음)
+     */
+    public static boolean isRevoked(Instant issuedAt, Long revokedAt) {
+        if (revokedAt == null) {
+            return false;
+        }
+        long issuedAtMillis = issuedAt != null ? issuedAt.toEpochMilli() : 0;
+        return issuedAtMillis <= revokedAt;
+    }
+
+    public enum Scope {
+        USER, COMPANY
+    }
+}
@@ -0,0 +1,211 @@
+package com.unibooker.common.util;
+
+import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.security.Keys;
+
+import javax.crypto.SecretKey;
+import java.io.IOException;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.security.MessageDigest;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Properties;
+import java.util.Set;
+
+/**
+ * JWT 서명 키 목록 (kid → HMAC 키)
+ * - 서명: 활성 키(active)로 서명하고 헤더에 kid 기록
+ * - 검증: 토큰 헤더의 kid로 미리 만들어 둔 키를 조회 (요청마다 키 생성하지 않음)
+ * - kid 없는 토큰(키 교체 이전 발급분)은 기본 키(jwt.secret)로 검증 (키 파일 모드에서는 끌 수 있음)
+ * - 키 파일을 다시 읽어도 시크릿이 같은 키는 기존 인스턴스를 그대로 사용
+ * - 기존 키가 제거되거나 시크릿이 바뀌면 키 리비전 증가 (검증 캐시 무효화 기준)
+ *
+ * 키 파일 형식 (Properties)
+ * <pre>
+ * active=2025-02
+ * keys.2025-02=...
+ * keys.2025-01=...   # 이전 키: 기존 토큰 만료 시까지 검증용으로 유지
+ * </pre>
+ */
+public class JwtKeyRing {
+
+    private static final String ACTIVE = "active";
+    private static final String KEY_PREFIX = "keys.";
+
+    private final SecretKey defaultKey;
+    private final boolean allowKidless;
+    private final Path file;
+    private volatile Snapshot snapshot;
+    private volatile long keyRevision;
+    private FileTime lastModified;
+
+    private JwtKeyRing(SecretKey defaultKey, boolean allowKidless, Path file) {
+        this.defaultKey = defaultKey;
+        this.allowKidless = allowKidless;
+        this.file = file;
+        this.snapshot = new Snapshot(null, defaultKey, Collections.emptyMap());
+    }
+
+    /**
+     * 단일 키 (kid 없이 서명/검증, 기존 동작과 동일)
+     */
+    public static JwtKeyRing ofSecret(String secret) {
+        return new JwtKeyRing(hmacKey(secret), true, null);
+    }
+
+    /**
+     * 키 파일 기반 키 목록
+     *
+     * @param file 키 파일 경로
+     * @param defaultSecret kid 없는 토큰 검증용 기본 시크릿
+     * @throws IOException 파일을 읽을 수 없는 경우
+     * @throws IllegalArgumentException 활성 키가 없거나 시크릿이 너무 짧은 경우
+     */
+    public static JwtKeyRing fromFile(Path file, String defaultSecret) throws IOException {
+        return fromFile(file, defaultSecret, true);
+    }
+
+    /**
+     * 키 파일 기반 키 목록
+     *
+     * @param file 키 파일 경로
+     * @param defaultSecret kid 없는 토큰 검증용 기본 시크릿
+     * @param allowKidless false면 kid 없는 토큰을 기본 키로 검증하지 않고 거부 (이전 토큰 만료 후 사용)
+     * @throws IOException 파일을 읽을 수 없는 경우
+     * @throws IllegalArgumentException 활성 키가 없거나 시크릿이 너무 짧은 경우
+     */
+    public static JwtKeyRing fromFile(Path file, String defaultSecret, boolean allowKidless) throws IOException {
+        JwtKeyRing keyRing = new JwtKeyRing(hmacKey(defaultSecret), allowKidless, file);
+        keyRing.reloadIfModified();
+        return keyRing;
+    }
+
+    /**
+     * 키 파일이 변경된 경우 다시 읽기
+     * - 파일 내용이 잘못되면 예외를 던지고 기존 키 목록 유지
+     *
+     * @return 키 목록이 교체되었으면 true
+     */
+    public synchronized boolean reloadIfModified() throws IOException {
+        if (file == null) {
+            return false;
+        }
+        FileTime modified = Files.getLastModifiedTime(file);
+        if (modified.equals(lastModified)) {
+            return false;
+        }
+
+        Properties properties = new Properties();
+        try (Reader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+            properties.load(reader);
+        }
+        Map<String, String> secrets = new HashMap<>();
+        for (String name : properties.stringPropertyNames()) {
+            if (name.startsWith(KEY_PREFIX)) {
+                secrets.put(name.substring(KEY_PREFIX.length()), properties.getProperty(name).trim());
+            }
+        }
+        update(properties.getProperty(ACTIVE, "").trim(), secrets);
+        lastModified = modified;
+        return true;
+    }
+
+    /**
+     * 키 목록 교체
+     * - 시크릿이 바뀌지 않은 kid는 기존 키 인스턴스 재사용
+     * - 기존 kid가 빠지거나 다른 키로 바뀌면 키 리비전 증가
+     */
+    public synchronized void update(String activeKid, Map<String, String> secrets) {
+        if (!secrets.containsKey(activeKid)) {
+            throw new IllegalArgumentException("활성 키가 키 목록에 없습니다: " + activeKid);
+        }
+
+        Map<String, SecretKey> current = snapshot.keys;
+        Map<String, SecretKey> keys = new HashMap<>();
+        secrets.forEach((kid, secret) -> {
+            SecretKey existing = current.get(kid);
+            byte[] bytes = secret.getBytes(StandardCharsets.UTF_8);
+            keys.put(kid, existing != null && MessageDigest.isEqual(existing.getEncoded(), bytes)
+                    ? existing
+                    : Keys.hmacShaKeyFor(bytes));
+        });
+
+        boolean retired = current.entrySet().stream()
+                .anyMatch(entry -> keys.get(entry.getKey()) != entry.getValue());
+        snapshot = new Snapshot(activeKid, keys.get(activeKid), Collections.unmodifiableMap(keys));
+        if (retired) {
+            keyRevision++;
+        }
+    }
+
+    /**
+     * 서명용 활성 kid (단일 키 모드면 null)
+     */
+    public String getActiveKid() {
+        return snapshot.activeKid;
+    }
+
+    /**
+     * 서명용 활성 키
+     */
+    public SecretKey getActiveKey() {
+        return snapshot.activeKey;
+    }
+
+    /**
+     * 등록된 kid 목록
+     */
+    public Set<String> getKeyIds() {
+        return snapshot.keys.keySet();
+    }
+
+    /**
+     * 키 리비전 (기존 키가 제거/변경될 때마다 증가, 추가만 된 경우는 그대로)
+     */
+    public long getKeyRevision() {
+        return keyRevision;
+    }
+
+    /**
+     * 검증용 키 조회
+     *
+     * @throws JwtException 등록되지 않은 kid이거나 kid 없는 토큰이 허용되지 않는 경우
+     */
+    SecretKey find(String kid) {
+        if (kid == null) {
+            if (!allowKidless) {
+                throw new JwtException("키 ID가 없는 토큰은 허용되지 않습니다.");
+            }
+            return defaultKey;
+        }
+        SecretKey key = snapshot.keys.get(kid);
+        if (key == null) {
+            throw new JwtException("등록되지 않은 키 ID입니다: " + kid);
+        }
+        return key;
+    }
+
+    private static SecretKey hmacKey(String secret) {
+        return Keys.hmacShaKeyFor(secret.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * 불변 키 목록 (교체 시 통째로 바꿈)
+     */
+    private static final class Snapshot {
+        private final String activeKid;
+        private final SecretKey activeKey;
+        private final Map<String, SecretKey> keys;
+
+        private Snapshot(String activeKid, SecretKey activeKey, Map<String, SecretKey> keys) {
+            this.activeKid = activeKid;
+            this.activeKey = activeKey;
+            this.keys = keys;
+        }
+    }
+}
@@ -1,11 +1,16 @@
 package com.unibooker.common.util;
 
 import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwsHeader;
+import io.jsonwebtoken.JwtBuilder;
+import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.LocatorAdapter;
 import io.jsonwebtoken.SignatureAlgorithm;
-import io.jsonwebtoken.security.Keys;
 
 import java.security.Key;
+import java.time.Instant;
 import java.util.Date;
 import java.util.HashMap;
 import java.util.Map;
@@ -14,24 +19,51 @@ import java.util.Map;
  * JWT 토큰 생성 및 검증 유틸리티
  * - Access Token 생성
  * - Refresh Token 생성
- * - 토큰 검증
+ * - 토큰 검증 (kid 헤더로 키 선택, JwtKeyRing 참고)
  * - Claims 추출
  */
 public class JwtUtil {
 
-    private final Key key;
+    /**
+     * 발급 시각 (epoch 밀리초) Claim
+     * - 표준 iat는 초 단위 → 같은 초 안의 폐기/재발급 순서를 구분하기 위해 함께 기록
+     */
+    public static final String ISSUED_AT_MILLIS_CLAIM = "iatMillis";
+
+    private final JwtKeyRing keyRing;
+    /** 생성 시 한 번만 만드는 파서 (불변, 스레드 안전, kid로 키 조회) */
+    private final JwtParser parser;
     private final long accessTokenValidityTime;
     private final long refreshTokenValidityTime;
 
     /**
-     * JwtUtil 생성자
+     * JwtUtil 생성자 (단일 키)
      *
      * @param secretKey JWT 시크릿 키
      * @param accessTokenValidityTime Access Token 유효 시간 (밀리초)
      * @param refreshTokenValidityTime Refresh Token 유효 시간 (밀리초)
      */
     public JwtUtil(String secretKey, long accessTokenValidityTime, long refreshTokenValidityTime) {
-        this.key = Keys.hmacShaKeyFor(secretKey.getBytes());
+        this(JwtKeyRing.ofSecret(secretKey), accessTokenValidityTime, refreshTokenValidityTime);
+    }
+
+    /**
+     * JwtUtil 생성자 (키 목록, 무중단 키 교체용)
+     *
+     * @param keyRing kid별 서명 키 목록
+     * @param accessTokenValidityTime Access Token 유효 시간 (밀리초)
+     * @param refreshTokenValidityTime Refresh Token 유효 시간 (밀리초)
+     */
+    public JwtUtil(JwtKeyRing keyRing, long accessTokenValidityTime, long refreshTokenValidityTime) {
+        this.keyRing = keyRing;
+        this.parser = Jwts.parser()
+                .keyLocator(new LocatorAdapter<Key>() {
+                    @Override
+                    protected Key locate(JwsHeader header) {
+                        return keyRing.find(header.getKeyId());
+                    }
+                })
+                .build();
         this.accessTokenValidityTime = accessTokenValidityTime;
         this.refreshTokenValidityTime = refreshTokenValidityTime;
     }
@@ -68,22 +100,47 @@ public class JwtUtil {
         Date now = new Date();
         Date validity = new Date(now.getTime() + validityTime);
 
-        return Jwts.builder()
+        JwtBuilder builder = Jwts.builder();
+        String kid = keyRing.getActiveKid();
+        if (kid != null) {
+            builder = builder.header().keyId(kid).and();
+        }
+
+        claims.put(ISSUED_AT_MILLIS_CLAIM, now.getTime());
+
+        return builder
                 .setClaims(claims)
                 .setSubject(subject)
                 .setIssuedAt(now)
                 .setExpiration(validity)
-                .signWith(key, SignatureAlgorithm.HS256)
+                .signWith(keyRing.getActiveKey(), SignatureAlgorithm.HS256)
                 .compact();
     }
 
+    /**
+     * 토큰을 한 번만 파싱/서명 검증하여 검증된 토큰 정보 반환
+     * - 요청당 토큰 정보가 여러 개 필요하면 getXxx() 대신 이 메서드 사용
+     *
+     * @throws JwtException 서명 불일치, 만료, 형식 오류 등 검증 실패 시
+     * @throws IllegalArgumentException 토큰이 null 또는 빈 문자열인 경우
+     */
+    public VerifiedToken parseAndVerify(String token) {
+        Claims claims = getClaims(token);
+        return new VerifiedToken(
+                toLong(claims.get("userId")),
+                claims.getSubject(),
+                claims.get("role", String.class),
+                toLong(claims.get("companyId")),
+                issuedAt(claims),
+                toInstant(claims.getExpiration())
+        );
+    }
+
     /**
      * 토큰에서 Claims 추출
      */
     public Claims getClaims(String token) {
-        return Jwts.parser()
-                .setSigningKey(key)
-                .build()
+        return parser
                 .parseClaimsJws(token)
                 .getBody();
     }
@@ -92,12 +149,7 @@ public class JwtUtil {
      * 토큰에서 사용자 ID 추출
      */
     public Long getUserId(String token) {
-        Claims claims = getClaims(token);
-        Object userId = claims.get("userId");
-        if (userId instanceof Integer) {
-            return ((Integer) userId).longValue();
-        }
-        return (Long) userId;
+        return toLong(getClaims(token).get("userId"));
     }
 
     /**
@@ -118,15 +170,7 @@ public class JwtUtil {
      * 토큰에서 기업 ID 추출
      */
     public Long getCompanyId(String token) {
-        Claims claims = getClaims(token);
-        Object companyId = claims.get("companyId");
-        if (companyId == null) {
-            return null;
-        }
-        if (companyId instanceof Integer) {
-            return ((Integer) companyId).longValue();
-        }
-        return (Long) companyId;
+        return toLong(getClaims(token).get("companyId"));
     }
 
     /**
@@ -152,4 +196,29 @@ public class JwtUtil {
             return true;
         }
     }
+
+    /**
+     * 숫자 Claim → Long 변환 (JSON 역직렬화 시 Integer로 들어오는 경우 처리)
+     */
+    private static Long toLong(Object value) {
+        if (value == null) {
+            return null;
+        }
+        if (value instanceof Integer) {
+            return ((Integer) value).longValue();
+        }
+        return (Long) value;
+    }
+
+    /**
+     * 발급 시각 (iatMillis가 없는 이전 토큰은 초 단위 iat)
+     */
+    private static Instant issuedAt(Claims claims) {
+        Long issuedAtMillis = toLong(claims.get(ISSUED_AT_MILLIS_CLAIM));
+        return issuedAtMillis != null ? Instant.ofEpochMilli(issuedAtMillis) : toInstant(claims.getIssuedAt());
+    }
+
+    private static Instant toInstant(Date date) {
+        return date != null ? date.toInstant() : null;
+    }
 }
\ No newline at end of file
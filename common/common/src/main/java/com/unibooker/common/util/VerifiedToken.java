@@ -0,0 +1,49 @@
+package com.unibooker.common.util;
+
+import lombok.Getter;
+
+import java.time.Instant;
+
+/**
+ * 서명 검증이 끝난 JWT의 Claims
+ * - JwtUtil.parseAndVerify()로만 생성
+ * - 불변 객체이므로 스레드 간 공유 및 캐싱 가능
+ */
+@Getter
+public final class VerifiedToken {
+
+    /** 사용자 ID */
+    private final Long userId;
+
+    /** 이메일 (subject) */
+    private final String email;
+
+    /** 권한 (Refresh Token은 null) */
+    private final String role;
+
+    /** 기업 ID (nullable) */
+    private final Long companyId;
+
+    /** 발급 시각 */
+    private final Instant issuedAt;
+
+    /** 만료 시각 */
+    private final Instant expiresAt;
+
+    VerifiedToken(Long userId, String email, String role, Long companyId,
+                  Instant issuedAt, Instant expiresAt) {
+        this.userId = userId;
+        this.email = email;
+        this.role = role;
+        this.companyId = companyId;
+        this.issuedAt = issuedAt;
+        this.expiresAt = expiresAt;
+    }
+
+    /**
+     * 기준 시각에 만료되었는지 확인
+     */
+    public boolean isExpiredAt(Instant now) {
+        return expiresAt != null && !now.isBefore(expiresAt);
+    }
+}
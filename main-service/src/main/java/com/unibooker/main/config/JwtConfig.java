@@ -1,9 +1,14 @@
 package com.unibooker.main.config;
 
+import com.unibooker.common.util.JwtKeyRing;
 import com.unibooker.common.util.JwtUtil;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.util.StringUtils;
+
+import java.io.IOException;
+import java.nio.file.Path;
 
 /**
  * JWT 설정
@@ -20,8 +25,30 @@ public class JwtConfig {
     @Value("${jwt.refresh-token-validity}")
     private long refreshTokenValidity;
 
+    @Value("${jwt.keyring.file:}")
+    private String keyRingFile;
+
+    @Value("${jwt.keyring.allow-kidless:true}")
+    private boolean allowKidless;
+
+    /**
+     * 서명 키 목록
+     * - jwt.keyring.file 미설정: jwt.secret 단일 키 (kid 없음)
+     * - 설정 시: 파일의 활성 키로 서명, kid 없는 기존 토큰은 jwt.secret으로 검증 (jwt.keyring.allow-kidless=false면 거부)
+     */
+    @Bean
+    public JwtKeyRing jwtKeyRing() throws IOException {
+        if (!StringUtils.hasText(keyRingFile)) {
+            return JwtKeyRing.ofSecret(secretKey);
+        }
+        return JwtKeyRing.fromFile(Path.of(keyRingFile), secretKey, allowKidless);
+    }
+
+    /**
+     * JwtUtil Bean 생성
+     */
     @Bean
-    public JwtUtil jwtUtil() {
-        return new JwtUtil(secretKey, accessTokenValidity, refreshTokenValidity);
+    public JwtUtil jwtUtil(JwtKeyRing jwtKeyRing) {
+        return new JwtUtil(jwtKeyRing, accessTokenValidity, refreshTokenValidity);
     }
 }
\ No newline at end of file
@@ -0,0 +1,32 @@
+package com.unibooker.main.config;
+
+import com.unibooker.common.util.JwtKeyRing;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * JWT 키 파일 변경 감지 (재시작 없이 키 교체)
+ * - jwt.keyring.file 설정 시에만 동작
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnExpression("'${jwt.keyring.file:}' != ''")
+public class JwtKeyRingReloader {
+
+    private final JwtKeyRing jwtKeyRing;
+
+    @Scheduled(fixedDelayString = "${jwt.keyring.reload-interval:PT10S}")
+    public void reload() {
+        try {
+            if (jwtKeyRing.reloadIfModified()) {
+                log.info("JWT 키 갱신 - active: {}, keys: {}", jwtKeyRing.getActiveKid(), jwtKeyRing.getKeyIds());
+            }
+        } catch (Exception e) {
+            log.warn("JWT 키 파일 갱신 실패 - 기존 키 유지: {}", e.getMessage());
+        }
+    }
+}
@@ -1,5 +1,6 @@
 package com.unibooker.main.domain.company.model.entity;
 
+import com.unibooker.common.dto.TokenRevocationDto;
 import com.unibooker.common.entity.BaseEntity;
 import com.unibooker.main.domain.company.model.CompanyStatus;
 import jakarta.persistence.*;
@@ -8,6 +9,7 @@ import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 
+import java.time.Instant;
 import java.time.LocalDateTime;
 
 /**
@@ -50,6 +52,10 @@ public class Companies extends BaseEntity {
     @Column(length = 500)
     private String rejectionReason;
 
+    /** 소속 사용자 토큰 폐기 시각 (epoch 밀리초, 기업 정지 시 기록, 이전 발급 토큰 거부) */
+    @Column(name = "tokens_revoked_at")
+    private Long tokensRevokedAt;
+
     @Builder
     public Companies(String businessNumber, String companyName, String companySlug,
                      String logoUrl, CompanyStatus status) {
@@ -77,6 +83,15 @@ public class Companies extends BaseEntity {
         this.status = CompanyStatus.SUSPENDED;
     }
 
+    /**
+     * 소속 사용자 토큰 폐기 시각 기록 (기존 값보다 이후인 경우에만 갱신)
+     */
+    public void revokeTokens(long revokedAt) {
+        if (this.tokensRevokedAt == null || this.tokensRevokedAt < revokedAt) {
+            this.tokensRevokedAt = revokedAt;
+        }
+    }
+
     /**
      * 기업 서비스 재개
      */
@@ -142,4 +157,11 @@ public class Companies extends BaseEntity {
     public boolean isRejected() {
         return this.status == CompanyStatus.REJECTED;
     }
-}
\ No newline at end of file
+
+    /**
+     * 정지 시각 이전에 발급된 소속 사용자 토큰인지 확인
+     */
+    public boolean isTokenRevoked(Instant issuedAt) {
+        return TokenRevocationDto.isRevoked(issuedAt, this.tokensRevokedAt);
+    }
+}
@@ -1,11 +1,14 @@
 package com.unibooker.main.domain.company.service;
 
+import com.unibooker.common.dto.CacheInvalidationDto;
+import com.unibooker.common.dto.TokenRevocationDto;
 import com.unibooker.main.domain.company.model.dto.CompanyDto;
 import com.unibooker.main.domain.company.model.entity.Companies;
 import com.unibooker.main.domain.company.model.CompanyStatus;
 import com.unibooker.main.domain.company.repository.CompanyRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -22,6 +25,7 @@ import java.util.stream.Collectors;
 public class CompanyService {
 
     private final CompanyRepository companyRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
     /**
      * 기업 조회
@@ -76,6 +80,8 @@ public class CompanyService {
 
         company.approve(approvedBy);
 
+        invalidateLandingCache(company);
+
         return convertToResponse(company);
     }
 
@@ -95,6 +101,8 @@ public class CompanyService {
 
         company.reject(rejectionReason);
         company.softDelete(); // 하드 삭제 대신 소프트 삭제
+
+        invalidateLandingCache(company);
     }
 
     /**
@@ -110,6 +118,8 @@ public class CompanyService {
         if (request.getCompanyName() != null) company.updateCompanyName(request.getCompanyName());
         if (request.getLogoUrl() != null) company.updateLogoUrl(request.getLogoUrl());
 
+        invalidateLandingCache(company);
+
         return convertToResponse(company);
     }
 
@@ -125,6 +135,13 @@ public class CompanyService {
 
         company.suspend();
 
+        // 소속 사용자의 기존 토큰 폐기 (Refresh Token은 DB 기록으로, Access Token은 커밋 후 게이트웨이로 전달)
+        TokenRevocationDto revocation = TokenRevocationDto.company(companyId, "COMPANY_SUSPENDED");
+        company.revokeTokens(revocation.getRevokedAt());
+        eventPublisher.publishEvent(revocation);
+
+        invalidateLandingCache(company);
+
         return convertToResponse(company);
     }
 
@@ -140,9 +157,18 @@ public class CompanyService {
 
         company.activate();
 
+        invalidateLandingCache(company);
+
         return convertToResponse(company);
     }
 
+    /**
+     * 게이트웨이에 캐시된 기업 랜딩 조회 응답 무효화 (커밋 후 전달)
+     */
+    private void invalidateLandingCache(Companies company) {
+        eventPublisher.publishEvent(CacheInvalidationDto.of("/api/companies/slug/" + company.getCompanySlug()));
+    }
+
     /**
      * Entity -> Response DTO 변환
      */
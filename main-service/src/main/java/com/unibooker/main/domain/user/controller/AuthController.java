@@ -58,4 +58,14 @@ public class AuthController {
         AuthDto.LoginResponse response = authService.refreshToken(request.getRefreshToken());
         return ResponseEntity.ok(response);
     }
+
+    /**
+     * 로그아웃 (게이트웨이 인증 필요, X-User-Id 헤더)
+     */
+    @PostMapping("/logout")
+    public ResponseEntity<Void> logout(@RequestHeader("X-User-Id") Long userId) {
+        log.info("POST /api/auth/logout - 로그아웃: {}", userId);
+        authService.logout(userId);
+        return ResponseEntity.ok().build();
+    }
 }
\ No newline at end of file
@@ -4,9 +4,12 @@ import com.unibooker.common.entity.BaseEntity;
 import com.unibooker.main.domain.user.model.Gender;
 import com.unibooker.main.domain.user.model.UserRole;
 import com.unibooker.main.domain.user.model.UserStatus;
+import com.unibooker.common.dto.TokenRevocationDto;
 import jakarta.persistence.*;
 import lombok.*;
 
+import java.time.Instant;
+
 /**
  * 사용자 엔티티
  * - 일반 사용자, 관리자, 매니저, 슈퍼관리자 모두 포함
@@ -72,6 +75,10 @@ public class Users extends BaseEntity {
     @Column(nullable = false)
     private Boolean suspendedByCompany = false;
 
+    /** 토큰 폐기 시각 (epoch 밀리초, 로그아웃/비밀번호 변경/탈퇴 시 기록, 이전 발급 토큰 거부) */
+    @Column(name = "tokens_revoked_at")
+    private Long tokensRevokedAt;
+
     // ========== 비즈니스 로직 메서드 ==========
 
     /**
@@ -183,6 +190,15 @@ public class Users extends BaseEntity {
         this.isFirstLogin = true;
     }
 
+    /**
+     * 토큰 폐기 시각 기록 (기존 값보다 이후인 경우에만 갱신)
+     */
+    public void revokeTokens(long revokedAt) {
+        if (this.tokensRevokedAt == null || this.tokensRevokedAt < revokedAt) {
+            this.tokensRevokedAt = revokedAt;
+        }
+    }
+
     /**
      * 첫 로그인 완료 처리
      */
@@ -220,6 +236,13 @@ public class Users extends BaseEntity {
         return this.status == UserStatus.DELETED || this.getDeletedAt() != null;
     }
 
+    /**
+     * 폐기 시각 이전에 발급된 토큰인지 확인
+     */
+    public boolean isTokenRevoked(Instant issuedAt) {
+        return TokenRevocationDto.isRevoked(issuedAt, this.tokensRevokedAt);
+    }
+
     // ========== 권한 확인 메서드 ==========
 
     /**
@@ -1,6 +1,9 @@
 package com.unibooker.main.domain.user.service;
 
+import com.unibooker.common.dto.TokenRevocationDto;
 import com.unibooker.common.util.JwtUtil;
+import com.unibooker.common.util.VerifiedToken;
+import io.jsonwebtoken.JwtException;
 import com.unibooker.main.domain.company.model.CompanyStatus;
 import com.unibooker.main.domain.company.model.entity.Companies;
 import com.unibooker.main.domain.user.model.Gender;
@@ -11,6 +14,7 @@ import com.unibooker.main.domain.company.repository.CompanyRepository;
 import com.unibooker.main.domain.user.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -28,6 +32,7 @@ public class AuthService {
     private final CompanyRepository companyRepository;
     private final PasswordEncoder passwordEncoder;
     private final JwtUtil jwtUtil;
+    private final ApplicationEventPublisher eventPublisher;
 
     /**
      * 로그인
@@ -45,10 +50,8 @@ public class AuthService {
             throw new IllegalArgumentException("비밀번호가 일치하지 않습니다.");
         }
 
-        // 계정 상태 확인
-        if (!user.isActive()) {
-            throw new IllegalArgumentException("활성화되지 않은 계정입니다.");
-        }
+        // 계정/기업 상태 확인
+        validateAccount(user);
 
         // JWT 토큰 생성 (수정된 부분)
         String accessToken = jwtUtil.createAccessToken(
@@ -178,18 +181,27 @@ public class AuthService {
     public AuthDto.LoginResponse refreshToken(String refreshToken) {
         log.info("토큰 갱신");
 
-        // Refresh Token 검증
-        if (!jwtUtil.validateToken(refreshToken)) {
+        // Refresh Token 검증 (1회 파싱)
+        VerifiedToken token;
+        try {
+            token = jwtUtil.parseAndVerify(refreshToken);
+        } catch (JwtException | IllegalArgumentException e) {
             throw new IllegalArgumentException("유효하지 않은 Refresh Token입니다.");
         }
 
-        // 사용자 ID 추출 (수정된 부분)
-        Long userId = jwtUtil.getUserId(refreshToken);
-
         // 사용자 조회
-        Users user = userRepository.findByIdAndDeletedAtIsNull(userId)
+        Users user = userRepository.findByIdAndDeletedAtIsNull(token.getUserId())
                 .orElseThrow(() -> new IllegalArgumentException("사용자를 찾을 수 없습니다."));
 
+        // 로그인과 같은 계정/기업 상태 확인
+        Companies company = validateAccount(user);
+
+        // 로그아웃/비밀번호 변경/기업 정지 이전에 발급된 토큰 거부
+        if (user.isTokenRevoked(token.getIssuedAt())
+                || (company != null && company.isTokenRevoked(token.getIssuedAt()))) {
+            throw new IllegalArgumentException("폐기된 Refresh Token입니다. 다시 로그인해주세요.");
+        }
+
         // 새 토큰 생성 (수정된 부분)
         String newAccessToken = jwtUtil.createAccessToken(
                 user.getId(),
@@ -209,4 +221,39 @@ public class AuthService {
                 .companyId(user.getCompanyId())
                 .build();
     }
+
+    /**
+     * 로그아웃
+     * - 지금까지 발급된 Access Token 폐기 (게이트웨이에서 차단)
+     * - 지금까지 발급된 Refresh Token 폐기 (폐기 시각 기록, 토큰 갱신 시 거부)
+     */
+    @Transactional
+    public void logout(Long userId) {
+        log.info("로그아웃: {}", userId);
+
+        TokenRevocationDto revocation = TokenRevocationDto.user(userId, "LOGOUT");
+        userRepository.findByIdAndDeletedAtIsNull(userId)
+                .ifPresent(user -> user.revokeTokens(revocation.getRevokedAt()));
+        eventPublisher.publishEvent(revocation);
+    }
+
+    /**
+     * 계정/기업 상태 확인 (로그인, 토큰 갱신 공통)
+     *
+     * @return 소속 기업 (SUPER 등 기업 없는 사용자는 null)
+     */
+    private Companies validateAccount(Users user) {
+        if (!user.isActive()) {
+            throw new IllegalArgumentException("활성화되지 않은 계정입니다.");
+        }
+        if (user.getCompanyId() == null) {
+            return null;
+        }
+        Companies company = companyRepository.findByIdAndDeletedAtIsNull(user.getCompanyId())
+                .orElseThrow(() -> new IllegalArgumentException("기업을 찾을 수 없습니다."));
+        if (company.isSuspended()) {
+            throw new IllegalArgumentException("서비스가 정지된 기업입니다.");
+        }
+        return company;
+    }
 }
\ No newline at end of file
@@ -1,10 +1,12 @@
 package com.unibooker.main.domain.user.service;
 
+import com.unibooker.common.dto.TokenRevocationDto;
 import com.unibooker.main.domain.user.model.dto.UserDto;
 import com.unibooker.main.domain.user.model.entity.Users;
 import com.unibooker.main.domain.user.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -20,6 +22,7 @@ public class UserService {
 
     private final UserRepository userRepository;
     private final PasswordEncoder passwordEncoder;
+    private final ApplicationEventPublisher eventPublisher;
 
     /**
      * 사용자 조회
@@ -69,6 +72,11 @@ public class UserService {
         // 새 비밀번호 암호화 후 저장
         String encodedPassword = passwordEncoder.encode(request.getNewPassword());
         user.updatePassword(encodedPassword);
+
+        // 기존 토큰 폐기 (Refresh Token은 DB 기록으로, Access Token은 커밋 후 게이트웨이로 전달)
+        TokenRevocationDto revocation = TokenRevocationDto.user(userId, "PASSWORD_CHANGED");
+        user.revokeTokens(revocation.getRevokedAt());
+        eventPublisher.publishEvent(revocation);
     }
 
     /**
@@ -82,6 +90,10 @@ public class UserService {
                 .orElseThrow(() -> new IllegalArgumentException("사용자를 찾을 수 없습니다: " + userId));
 
         user.delete();
+
+        TokenRevocationDto revocation = TokenRevocationDto.user(userId, "DELETED");
+        user.revokeTokens(revocation.getRevokedAt());
+        eventPublisher.publishEvent(revocation);
     }
 
     /**
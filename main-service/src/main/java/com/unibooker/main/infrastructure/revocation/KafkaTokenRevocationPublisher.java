@@ -0,0 +1,39 @@
+package com.unibooker.main.infrastructure.revocation;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.unibooker.common.dto.TokenRevocationDto;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * Kafka 토큰 폐기 이벤트 발행
+ * - 키: scope:targetId (같은 대상 이벤트는 같은 파티션 → 순서 보장)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "token-revocation.feed", havingValue = "kafka", matchIfMissing = true)
+public class KafkaTokenRevocationPublisher implements TokenRevocationPublisher {
+
+    private final KafkaTemplate<String, String> kafkaTemplate;
+    private final ObjectMapper objectMapper;
+
+    @Override
+    public void publish(TokenRevocationDto revocation) {
+        String key = revocation.getScope() + ":" + revocation.getTargetId();
+        try {
+            kafkaTemplate.send(TokenRevocationDto.TOPIC, key, objectMapper.writeValueAsString(revocation))
+                    .whenComplete((result, e) -> {
+                        if (e != null) {
+                            log.error("❌ 토큰 폐기 이벤트 발행 실패 - {}", key, e);
+                        }
+                    });
+        } catch (JsonProcessingException e) {
+            log.error("❌ 토큰 폐기 이벤트 직렬화 실패 - {}", key, e);
+        }
+    }
+}
@@ -0,0 +1,21 @@
+package com.unibooker.main.infrastructure.revocation;
+
+import com.unibooker.common.dto.TokenRevocationDto;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+/**
+ * 로컬 개발용 토큰 폐기 이벤트 발행 (Kafka 없이 로그만 기록)
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "token-revocation.feed", havingValue = "local")
+public class LocalTokenRevocationPublisher implements TokenRevocationPublisher {
+
+    @Override
+    public void publish(TokenRevocationDto revocation) {
+        log.info("토큰 폐기 (local) - scope: {}, targetId: {}, reason: {}",
+                revocation.getScope(), revocation.getTargetId(), revocation.getReason());
+    }
+}
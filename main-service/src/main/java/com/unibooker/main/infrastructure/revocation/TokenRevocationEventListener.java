@@ -0,0 +1,24 @@
+package com.unibooker.main.infrastructure.revocation;
+
+import com.unibooker.common.dto.TokenRevocationDto;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * 토큰 폐기 이벤트 → 발행기 전달
+ * - 서비스에서 ApplicationEventPublisher로 TokenRevocationDto 발행
+ * - 트랜잭션 커밋 후에만 전달 (롤백된 정지/탈퇴는 폐기하지 않음)
+ */
+@Component
+@RequiredArgsConstructor
+public class TokenRevocationEventListener {
+
+    private final TokenRevocationPublisher tokenRevocationPublisher;
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void handle(TokenRevocationDto revocation) {
+        tokenRevocationPublisher.publish(revocation);
+    }
+}
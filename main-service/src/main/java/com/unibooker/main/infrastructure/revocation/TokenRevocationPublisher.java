@@ -0,0 +1,13 @@
+package com.unibooker.main.infrastructure.revocation;
+
+import com.unibooker.common.dto.TokenRevocationDto;
+
+/**
+ * 토큰 폐기 이벤트 발행 (게이트웨이 폐기 목록으로 전달)
+ * - 기본: Kafka (token-revoked 토픽)
+ * - 로컬: token-revocation.feed=local 이면 로그만 남김
+ */
+public interface TokenRevocationPublisher {
+
+    void publish(TokenRevocationDto revocation);
+}
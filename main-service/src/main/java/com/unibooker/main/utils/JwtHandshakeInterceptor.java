@@ -1,6 +1,7 @@
 package com.unibooker.main.utils;
 
 import com.unibooker.common.util.JwtUtil;
+import io.jsonwebtoken.JwtException;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.server.ServerHttpRequest;
@@ -29,11 +30,13 @@ public class JwtHandshakeInterceptor implements HandshakeInterceptor {
         if (query != null && query.contains("token=")) {
             String token = query.split("token=")[1].split("&")[0];
 
-            if (jwtUtil.validateToken(token)) {
-                Long userId = jwtUtil.getUserId(token);
+            try {
+                Long userId = jwtUtil.parseAndVerify(token).getUserId();
                 attributes.put("userId", userId);
                 log.info("✅ WebSocket 인증 성공 - userId: {}", userId);
                 return true;
+            } catch (JwtException | IllegalArgumentException e) {
+                log.debug("WebSocket 토큰 검증 실패: {}", e.getMessage());
             }
         }
 
@@ -0,0 +1,156 @@
+package com.unibooker.main.domain.user.service;
+
+import com.unibooker.common.util.JwtUtil;
+import com.unibooker.main.domain.company.model.CompanyStatus;
+import com.unibooker.main.domain.company.model.entity.Companies;
+import com.unibooker.main.domain.company.repository.CompanyRepository;
+import com.unibooker.main.domain.user.model.UserRole;
+import com.unibooker.main.domain.user.model.dto.AuthDto;
+import com.unibooker.main.domain.user.model.dto.UserDto;
+import com.unibooker.main.domain.user.model.entity.Users;
+import com.unibooker.main.domain.user.repository.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+class AuthServiceTest {
+
+    private static final String SECRET = "auth-service-test-secret-0123456789abcdef";
+    private static final Long USER_ID = 1L;
+    private static final Long COMPANY_ID = 10L;
+
+    @Mock
+    private UserRepository userRepository;
+    @Mock
+    private CompanyRepository companyRepository;
+    @Mock
+    private PasswordEncoder passwordEncoder;
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    private final JwtUtil jwtUtil = new JwtUtil(SECRET, 60_000, 600_000);
+
+    private AuthService authService;
+    private UserService userService;
+    private Users user;
+    private Companies company;
+
+    @BeforeEach
+    void setUp() {
+        authService = new AuthService(userRepository, companyRepository, passwordEncoder, jwtUtil, eventPublisher);
+        userService = new UserService(userRepository, passwordEncoder, eventPublisher);
+
+        company = Companies.builder()
+                .businessNumber("123-45-67890")
+                .companyName("테스트 기업")
+                .companySlug("test")
+                .status(CompanyStatus.ACTIVE)
+                .build();
+        company.setId(COMPANY_ID);
+        user = Users.createWithCompany("user@test.com", "encoded", "사용자", COMPANY_ID, UserRole.USER);
+        user.setId(USER_ID);
+
+        when(userRepository.findByIdAndDeletedAtIsNull(USER_ID)).thenReturn(Optional.of(user));
+        when(companyRepository.findByIdAndDeletedAtIsNull(COMPANY_ID)).thenReturn(Optional.of(company));
+        when(passwordEncoder.matches(anyString(), anyString())).thenReturn(true);
+        when(passwordEncoder.encode(anyString())).thenReturn("encoded-new");
+    }
+
+    @Test
+    void refreshIssuesNewTokens() {
+        AuthDto.LoginResponse response = authService.refreshToken(refreshToken());
+
+        assertThat(response.getUserId()).isEqualTo(USER_ID);
+        assertThat(jwtUtil.parseAndVerify(response.getAccessToken()).getCompanyId()).isEqualTo(COMPANY_ID);
+    }
+
+    @Test
+    void refreshAfterLogoutIsRejected() {
+        String refreshToken = refreshToken();
+
+        authService.logout(USER_ID);
+
+        assertThatThrownBy(() -> authService.refreshToken(refreshToken))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("폐기된");
+    }
+
+    @Test
+    void refreshAfterPasswordChangeIsRejected() {
+        String refreshToken = refreshToken();
+
+        userService.changePassword(USER_ID, new UserDto.PasswordChangeRequest("old", "new"));
+
+        assertThatThrownBy(() -> authService.refreshToken(refreshToken))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("폐기된");
+    }
+
+    @Test
+    void refreshWhileCompanySuspendedIsRejected() {
+        String refreshToken = refreshToken();
+
+        company.suspend();
+        company.revokeTokens(System.currentTimeMillis());
+
+        assertThatThrownBy(() -> authService.refreshToken(refreshToken))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("정지된 기업");
+
+        // 기업이 재개되어도 정지 이전에 발급된 토큰은 계속 거부
+        company.activate();
+        assertThatThrownBy(() -> authService.refreshToken(refreshToken))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("폐기된");
+    }
+
+    @Test
+    void refreshForSuspendedUserIsRejected() {
+        String refreshToken = refreshToken();
+
+        user.suspend();
+
+        assertThatThrownBy(() -> authService.refreshToken(refreshToken))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("활성화되지 않은 계정");
+    }
+
+    @Test
+    void tokenIssuedAfterRevocationIsAccepted() {
+        // 이전 로그아웃 (현재 토큰보다 앞선 초)
+        user.revokeTokens(System.currentTimeMillis() - 2_000);
+
+        assertThat(authService.refreshToken(refreshToken()).getUserId()).isEqualTo(USER_ID);
+    }
+
+    @Test
+    void reloginRightAfterLogoutIsAccepted() {
+        long loggedOutAt = System.currentTimeMillis();
+        user.revokeTokens(loggedOutAt);
+        while (System.currentTimeMillis() <= loggedOutAt) {
+            Thread.onSpinWait();
+        }
+
+        // 로그아웃과 같은 초에 발급된 새 토큰도 로그아웃 이후 발급분이면 통과
+        assertThat(authService.refreshToken(refreshToken()).getUserId()).isEqualTo(USER_ID);
+    }
+
+    private String refreshToken() {
+        return jwtUtil.createRefreshToken(USER_ID, user.getEmail());
+    }
+}
@@ -0,0 +1,109 @@
+package com.unibooker.resource.availability;
+
+import com.unibooker.resource.entity.DayOfWeek;
+import com.unibooker.resource.entity.ResourceTimeSlots;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 예약 가능 슬롯 엔진 (리소스 10,000개 × 90일)
+ * - findAvailable: 기간 내 매일 특정 시간대가 열린 리소스 (word 단위 AND, 첫 닫힌 날에서 중단)
+ * - countOpenSlots: 기간 내 열린 슬롯 총합 (bitCount)
+ * - availability: 리소스 1개 × 90일 슬롯 목록 응답 생성
+ * - recompileOne / recompileAll: 변경된 리소스 1개만 다시 컴파일 vs 전체 다시 컴파일
+ * - interval: 슬롯 간격 (분, 10분이면 하루 144비트 = word 3개)
+ * - 실행: ./gradlew jmh -Pjmh.includes=AvailabilityEngineBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class AvailabilityEngineBenchmark {
+
+    private static final int RESOURCES = 10_000;
+    private static final int DAYS = 90;
+    private static final LocalDate FROM = LocalDate.of(2025, 3, 3);
+    private static final LocalDate TO = FROM.plusDays(DAYS - 1);
+
+    @Param({"30", "10"})
+    public int interval;
+
+    private AvailabilityEngine engine;
+    private List<Long> resourceIds;
+    private List<List<ResourceTimeSlots>> slots;
+
+    @Setup
+    public void setUp() {
+        // 모든 리소스가 미리 컴파일되어 있으므로 저장소 조회 없음
+        engine = new AvailabilityEngine(null, 92);
+        resourceIds = new ArrayList<>(RESOURCES);
+        slots = new ArrayList<>(RESOURCES);
+        Random random = new Random(42);
+        for (long id = 1; id <= RESOURCES; id++) {
+            List<ResourceTimeSlots> weekly = new ArrayList<>();
+            for (DayOfWeek day : DayOfWeek.values()) {
+                // 평일 위주, 오전/오후 운영 (일부 리소스는 점심 휴무)
+                if (day.ordinal() >= 5 && random.nextInt(3) != 0) {
+                    continue;
+                }
+                int open = 7 + random.nextInt(4);
+                int close = 17 + random.nextInt(6);
+                if (random.nextInt(4) == 0) {
+                    weekly.add(slot(day, open, 12));
+                    weekly.add(slot(day, 13, close));
+                } else {
+                    weekly.add(slot(day, open, close));
+                }
+            }
+            slots.add(weekly);
+            resourceIds.add(id);
+            engine.put(compile(id, weekly));
+        }
+    }
+
+    @Benchmark
+    public List<Long> findAvailable() {
+        return engine.findAvailable(resourceIds, FROM, TO, LocalTime.of(11, 0), LocalTime.of(14, 0));
+    }
+
+    @Benchmark
+    public long countOpenSlots() {
+        return engine.countOpenSlots(resourceIds, FROM, TO);
+    }
+
+    @Benchmark
+    public Object availability() {
+        return engine.availability(5_000L, FROM, TO);
+    }
+
+    @Benchmark
+    public void recompileOne() {
+        engine.put(compile(5_000L, slots.get(4_999)));
+    }
+
+    @Benchmark
+    public void recompileAll(Blackhole bh) {
+        for (int i = 0; i < RESOURCES; i++) {
+            bh.consume(compile(i + 1L, slots.get(i)));
+        }
+    }
+
+    private WeeklyAvailability compile(long id, List<ResourceTimeSlots> weekly) {
+        return WeeklyAvailability.compile(id, interval, null, null, true, weekly);
+    }
+
+    private static ResourceTimeSlots slot(DayOfWeek day, int startHour, int endHour) {
+        return ResourceTimeSlots.builder()
+                .dayOfWeek(day)
+                .startTime(LocalTime.of(startHour, 0))
+                .endTime(LocalTime.of(endHour, 0))
+                .isActive(true)
+                .build();
+    }
+}
@@ -0,0 +1,192 @@
+package com.unibooker.resource.capacity;
+
+import com.unibooker.resource.availability.AvailabilityEngine;
+import com.unibooker.resource.availability.WeeklyAvailability;
+import com.unibooker.resource.entity.DayOfWeek;
+import com.unibooker.resource.entity.ResourceTimeSlots;
+import com.unibooker.resource.repository.ResourceReservationRepository;
+import org.openjdk.jmh.annotations.*;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+import static org.mockito.Mockito.mock;
+
+/**
+ * 리소스 1개 × 슬롯 1개에 예약자 1,000명 동시 몰림 (수용 인원 500, 1인당 1명)
+ * - optimisticLock: 행 조회 → version 조건 UPDATE (+ 예약 INSERT) 트랜잭션, 충돌 시 다시 조회 (최대 retries회)
+ *   DB 왕복마다 dbLatencyMicros 대기, UPDATE 조건 판정은 AtomicLong CAS로 모사
+ * - capacityEngine: CapacityEngine 선점(메모리 CAS) → 확정 (ReservationJournal 묶음 INSERT, 묶음당 왕복 1회)
+ * - 1회 실행 = 1,000명이 모두 끝날 때까지의 시간, conflicts = 버전 충돌로 다시 시도한 횟수
+ * - 실행: ./gradlew jmh -Pjmh.includes=CapacityRushBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5)
+@Measurement(iterations = 10)
+public class CapacityRushBenchmark {
+
+    private static final int BOOKERS = 1_000;
+    private static final int CAPACITY = 500;
+    private static final int RETRIES = 10;
+    /** 2025-01-06 = 월요일 */
+    private static final LocalDateTime SLOT = LocalDateTime.of(2025, 1, 6, 10, 0);
+
+    @Param({"500"})
+    public int dbLatencyMicros;
+
+    private ExecutorService bookers;
+    private AvailabilityEngine availabilityEngine;
+    private ResourceReservationRepository reservationRepository;
+
+    /** optimisticLock: 상위 32비트 version, 하위 32비트 예약 인원 */
+    private AtomicLong row;
+
+    private ReservationJournal journal;
+    private CapacityEngine engine;
+
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class Outcome {
+        public long booked;
+        public long soldOut;
+        public long conflicts;
+
+        @Setup(Level.Iteration)
+        public void reset() {
+            booked = 0;
+            soldOut = 0;
+            conflicts = 0;
+        }
+    }
+
+    @Setup(Level.Trial)
+    public void setUpTrial() {
+        bookers = Executors.newFixedThreadPool(BOOKERS);
+        availabilityEngine = new AvailabilityEngine(null, 92);
+        availabilityEngine.put(WeeklyAvailability.compile(1L, 60, null, null, true, List.of(
+                ResourceTimeSlots.builder()
+                        .dayOfWeek(DayOfWeek.MON)
+                        .startTime(LocalTime.of(9, 0))
+                        .endTime(LocalTime.of(18, 0))
+                        .isActive(true)
+                        .build())).withCapacity(CAPACITY));
+        reservationRepository = mock(ResourceReservationRepository.class);
+    }
+
+    @Setup(Level.Invocation)
+    public void setUpInvocation() {
+        row = new AtomicLong();
+        journal = new ReservationJournal(batch -> roundTrip(), 500, 100_000,
+                Duration.ofMillis(1), Duration.ofSeconds(10));
+        engine = new CapacityEngine(availabilityEngine, reservationRepository, journal, Duration.ofMinutes(5), 8,
+                Duration.ofDays(90), Clock.fixed(SLOT.minusDays(1).toInstant(ZoneOffset.UTC), ZoneOffset.UTC));
+    }
+
+    @TearDown(Level.Invocation)
+    public void tearDownInvocation() throws InterruptedException {
+        journal.shutdown();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDownTrial() {
+        bookers.shutdownNow();
+    }
+
+    @Benchmark
+    public void optimisticLock(Outcome outcome) throws InterruptedException {
+        rush(outcome, this::bookOptimistic);
+    }
+
+    @Benchmark
+    public void capacityEngine(Outcome outcome) throws InterruptedException {
+        rush(outcome, this::bookWithEngine);
+    }
+
+    /**
+     * 1,000명 동시 시작 → 모두 끝날 때까지 대기 (수용 인원 초과 예약이면 실패)
+     */
+    private void rush(Outcome outcome, Booker booker) throws InterruptedException {
+        CountDownLatch start = new CountDownLatch(1);
+        CountDownLatch done = new CountDownLatch(BOOKERS);
+        AtomicInteger booked = new AtomicInteger();
+        AtomicInteger soldOut = new AtomicInteger();
+        AtomicInteger conflicts = new AtomicInteger();
+        for (int i = 0; i < BOOKERS; i++) {
+            long userId = i;
+            bookers.execute(() -> {
+                try {
+                    start.await();
+                    if (booker.book(userId, conflicts)) {
+                        booked.incrementAndGet();
+                    } else {
+                        soldOut.incrementAndGet();
+                    }
+                } catch (Exception e) {
+                    soldOut.incrementAndGet();
+                } finally {
+                    done.countDown();
+                }
+            });
+        }
+        start.countDown();
+        done.await();
+        if (booked.get() > CAPACITY) {
+            throw new IllegalStateException("수용 인원 초과 예약: " + booked.get());
+        }
+        outcome.booked += booked.get();
+        outcome.soldOut += soldOut.get();
+        outcome.conflicts += conflicts.get();
+    }
+
+    /**
+     * SELECT → UPDATE ... WHERE version = ? (+ INSERT, 같은 왕복으로 간주), 0행이면 다시 조회
+     */
+    private boolean bookOptimistic(long userId, AtomicInteger conflicts) {
+        for (int attempt = 0; attempt <= RETRIES; attempt++) {
+            roundTrip();
+            long current = row.get();
+            int count = (int) current;
+            if (count >= CAPACITY) {
+                return false;
+            }
+            roundTrip();
+            long next = ((current >>> 32) + 1) << 32 | (count + 1);
+            if (row.compareAndSet(current, next)) {
+                return true;
+            }
+            conflicts.incrementAndGet();
+        }
+        return false;
+    }
+
+    private boolean bookWithEngine(long userId, AtomicInteger conflicts) throws Exception {
+        CapacityHold hold = engine.hold(1L, SLOT, 1, userId);
+        if (hold == null) {
+            return false;
+        }
+        engine.confirm(hold.id()).get();
+        return true;
+    }
+
+    private void roundTrip() {
+        LockSupport.parkNanos(dbLatencyMicros * 1_000L);
+    }
+
+    @FunctionalInterface
+    private interface Booker {
+        boolean book(long userId, AtomicInteger conflicts) throws Exception;
+    }
+}
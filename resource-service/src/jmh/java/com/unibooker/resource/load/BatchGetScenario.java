@@ -0,0 +1,195 @@
+package com.unibooker.resource.load;
+
+import com.unibooker.resource.ResourceServiceApplication;
+import com.unibooker.resource.entity.ResourceGroups;
+import com.unibooker.resource.entity.ResourceStatus;
+import com.unibooker.resource.entity.Resources;
+import com.unibooker.resource.entity.ServiceCategory;
+import com.unibooker.resource.repository.ResourceGroupRepository;
+import com.unibooker.resource.repository.ResourceRepository;
+import org.HdrHistogram.Histogram;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.stream.Collectors;
+
+/**
+ * 묶음 조회 지연 비교 (리소스 N개: 단건 GET N회 vs POST /api/resources/batch-get 1회)
+ * - 실제 애플리케이션을 인메모리 H2로 기동 (Eureka/Kafka 없이), 리소스 resources개 적재
+ * - 호출자 1명이 HTTP/1.1 keep-alive 연결로 순차 호출 (대시보드/예약 서비스가 목록을 채우는 경우)
+ * - N마다 warmup회 후 iterations회 측정, 1회 = 임의 ID N개 조회 완료까지
+ * - DB가 같은 프로세스에 있어 차이는 대부분 요청당 처리 비용 (실제 DB 왕복이 있으면 단건 쪽이 더 느려짐)
+ * - 실행: ./gradlew loadTest -Pload.n=1,10,50,100 -Pload.iterations=200
+ */
+public final class BatchGetScenario {
+
+    private BatchGetScenario() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        Settings settings = Settings.fromSystemProperties();
+        System.out.println("[묶음 조회 시나리오] " + settings);
+
+        ConfigurableApplicationContext context = startService();
+        try {
+            List<Long> ids = seed(context, settings.resources());
+            int port = ((WebServerApplicationContext) context).getWebServer().getPort();
+            Caller caller = new Caller("http://localhost:" + port + "/api/resources/");
+            Random random = new Random(settings.seed());
+
+            System.out.printf("%n%6s | %-26s | %-26s | %s%n", "N", "단건 × N (p50 / p99 ms)", "batch-get (p50 / p99 ms)",
+                    "p50 비율");
+            for (int n : settings.sizes()) {
+                Histogram single = new Histogram(3);
+                Histogram batch = new Histogram(3);
+                for (int i = 0; i < settings.warmup() + settings.iterations(); i++) {
+                    List<Long> sample = sample(ids, n, random);
+                    boolean measured = i >= settings.warmup();
+                    long singleNanos = caller.singles(sample);
+                    long batchNanos = caller.batch(sample);
+                    if (measured) {
+                        single.recordValue(singleNanos / 1_000);
+                        batch.recordValue(batchNanos / 1_000);
+                    }
+                }
+                double singleP50 = single.getValueAtPercentile(50) / 1000.0;
+                double batchP50 = batch.getValueAtPercentile(50) / 1000.0;
+                System.out.printf("%6d | %10.2f / %-13.2f | %10.2f / %-13.2f | %.1fx%n", n,
+                        singleP50, single.getValueAtPercentile(99) / 1000.0,
+                        batchP50, batch.getValueAtPercentile(99) / 1000.0,
+                        singleP50 / batchP50);
+            }
+        } finally {
+            context.close();
+        }
+    }
+
+    private static ConfigurableApplicationContext startService() {
+        Map<String, Object> properties = new LinkedHashMap<>();
+        properties.put("server.port", 0);
+        properties.put("spring.datasource.url", "jdbc:h2:mem:batch-get-scenario;MODE=MariaDB;NON_KEYWORDS=ROW");
+        properties.put("spring.datasource.driver-class-name", "org.h2.Driver");
+        properties.put("spring.datasource.username", "sa");
+        properties.put("spring.datasource.password", "");
+        properties.put("spring.jpa.hibernate.ddl-auto", "create-drop");
+        properties.put("spring.jpa.show-sql", false);
+        properties.put("spring.jpa.properties.hibernate.dialect", "org.hibernate.dialect.H2Dialect");
+        properties.put("cache-invalidation.feed", "local");
+        properties.put("eureka.client.enabled", false);
+        properties.put("logging.level.root", "WARN");
+        properties.put("logging.level.com.unibooker.resource", "WARN");
+        properties.put("logging.level.org.hibernate.SQL", "WARN");
+        // 기본 속성(properties)은 application.yml보다 우선순위가 낮으므로 명령행 인자로 전달
+        String[] args = properties.entrySet().stream()
+                .map(entry -> "--" + entry.getKey() + "=" + entry.getValue())
+                .toArray(String[]::new);
+        return new SpringApplicationBuilder(ResourceServiceApplication.class).run(args);
+    }
+
+    private static List<Long> seed(ConfigurableApplicationContext context, int count) {
+        ResourceGroups group = context.getBean(ResourceGroupRepository.class).save(ResourceGroups.builder()
+                .name("스터디룸")
+                .category(ServiceCategory.RESERVATION)
+                .companyId(1L)
+                .build());
+        List<Resources> resources = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            resources.add(Resources.builder()
+                    .name("스터디룸 " + i)
+                    .description("최대 8인 수용, 화이트보드 구비")
+                    .capacity(8)
+                    .timeInterval(60)
+                    .status(ResourceStatus.IN_PROGRESS)
+                    .resourceGroup(group)
+                    .build());
+        }
+        return context.getBean(ResourceRepository.class).saveAll(resources).stream()
+                .map(Resources::getId)
+                .toList();
+    }
+
+    private static List<Long> sample(List<Long> ids, int n, Random random) {
+        List<Long> shuffled = new ArrayList<>(ids);
+        Collections.shuffle(shuffled, random);
+        return shuffled.subList(0, Math.min(n, shuffled.size()));
+    }
+
+    /**
+     * 실행 설정 (시스템 속성 load.*)
+     */
+    record Settings(int[] sizes, int warmup, int iterations, int resources, long seed) {
+
+        static Settings fromSystemProperties() {
+            return new Settings(
+                    Arrays.stream(System.getProperty("load.n", "1,10,50,100").split(","))
+                            .map(String::trim)
+                            .mapToInt(Integer::parseInt)
+                            .toArray(),
+                    Integer.getInteger("load.warmup", 100),
+                    Integer.getInteger("load.iterations", 200),
+                    Integer.getInteger("load.resources", 1_000),
+                    Long.getLong("load.seed", 42L));
+        }
+
+        @Override
+        public String toString() {
+            return "N=" + Arrays.toString(sizes) + ", warmup=" + warmup + ", iterations=" + iterations
+                    + ", resources=" + resources + ", seed=" + seed;
+        }
+    }
+
+    /**
+     * 호출자 (단건 GET N회 / batch-get 1회, 소요 시간 ns 반환)
+     */
+    private static final class Caller {
+
+        private final HttpClient client = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofSeconds(5))
+                .build();
+        private final String baseUrl;
+
+        Caller(String baseUrl) {
+            this.baseUrl = baseUrl;
+        }
+
+        long singles(List<Long> ids) throws IOException, InterruptedException {
+            long start = System.nanoTime();
+            for (Long id : ids) {
+                send(HttpRequest.newBuilder(URI.create(baseUrl + id)).GET().build());
+            }
+            return System.nanoTime() - start;
+        }
+
+        long batch(List<Long> ids) throws IOException, InterruptedException {
+            String body = ids.stream().map(String::valueOf).collect(Collectors.joining(",", "{\"ids\":[", "]}"));
+            long start = System.nanoTime();
+            send(HttpRequest.newBuilder(URI.create(baseUrl + "batch-get"))
+                    .header("Content-Type", "application/json")
+                    .POST(HttpRequest.BodyPublishers.ofString(body))
+                    .build());
+            return System.nanoTime() - start;
+        }
+
+        private void send(HttpRequest request) throws IOException, InterruptedException {
+            HttpResponse<byte[]> response = client.send(request, HttpResponse.BodyHandlers.ofByteArray());
+            if (response.statusCode() != 200) {
+                throw new IllegalStateException("응답 코드 " + response.statusCode() + ": " + request.uri());
+            }
+        }
+    }
+}
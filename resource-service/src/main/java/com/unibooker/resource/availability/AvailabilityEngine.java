@@ -0,0 +1,194 @@
+package com.unibooker.resource.availability;
+
+import com.unibooker.resource.dto.AvailabilityDto;
+import com.unibooker.resource.entity.DayOfWeek;
+import com.unibooker.resource.entity.Resources;
+import com.unibooker.resource.repository.ResourceRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 예약 가능 슬롯 엔진
+ * - 리소스별 주간 타임 슬롯을 WeeklyAvailability 비트셋으로 컴파일해 메모리에 보관
+ * - 처음 조회 시 타임 슬롯을 fetch join으로 읽어 컴파일 (여러 리소스는 IN 쿼리 1회)
+ * - 리소스/타임 슬롯 변경 시 커밋 후 해당 리소스만 폐기 (ResourceScheduleChangedEvent)
+ * - 여러 리소스 × 여러 날 조회는 날짜별(= 요일) 비트셋에 word 단위 AND, 슬롯 수는 컴파일 시 bitCount
+ * - 조회 기간은 availability.max-days 이내
+ */
+@Slf4j
+@Component
+public class AvailabilityEngine {
+
+    private final ResourceRepository resourceRepository;
+
+    private final int maxDays;
+
+    private final Map<Long, WeeklyAvailability> compiled = new ConcurrentHashMap<>();
+
+    /** 폐기 횟수 (컴파일 중 폐기된 리소스는 저장하지 않기 위해 비교) */
+    private final AtomicLong evictions = new AtomicLong();
+
+    public AvailabilityEngine(ResourceRepository resourceRepository,
+                              @Value("${availability.max-days:92}") int maxDays) {
+        this.resourceRepository = resourceRepository;
+        this.maxDays = maxDays;
+    }
+
+    /**
+     * 리소스 비트셋 조회 (없으면 컴파일, 삭제된 리소스면 null)
+     */
+    public WeeklyAvailability get(Long resourceId) {
+        WeeklyAvailability availability = compiled.get(resourceId);
+        if (availability != null) {
+            return availability;
+        }
+        long before = evictions.get();
+        return resourceRepository.findWithTimeSlotsById(resourceId)
+                .map(resource -> store(WeeklyAvailability.compile(resource), before))
+                .orElse(null);
+    }
+
+    /**
+     * 여러 리소스 비트셋 조회 (없는 것만 한 번에 컴파일, 삭제된 리소스는 제외)
+     */
+    public List<WeeklyAvailability> getAll(Collection<Long> resourceIds) {
+        List<WeeklyAvailability> result = new ArrayList<>(resourceIds.size());
+        List<Long> missing = new ArrayList<>();
+        for (Long resourceId : resourceIds) {
+            WeeklyAvailability availability = compiled.get(resourceId);
+            if (availability != null) {
+                result.add(availability);
+            } else {
+                missing.add(resourceId);
+            }
+        }
+        if (!missing.isEmpty()) {
+            long before = evictions.get();
+            for (Resources resource : resourceRepository.findAllWithTimeSlotsByIdIn(missing)) {
+                result.add(store(WeeklyAvailability.compile(resource), before));
+            }
+        }
+        return result;
+    }
+
+    /**
+     * 컴파일된 비트셋 등록 (대량 적재/테스트용)
+     */
+    public void put(WeeklyAvailability availability) {
+        compiled.put(availability.getResourceId(), availability);
+    }
+
+    /**
+     * 리소스 비트셋 폐기 (다음 조회 시 다시 컴파일)
+     */
+    public void evict(Long resourceId) {
+        evictions.incrementAndGet();
+        compiled.remove(resourceId);
+    }
+
+    /**
+     * 일정 변경 커밋 후 폐기
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onScheduleChanged(ResourceScheduleChangedEvent event) {
+        log.debug("예약 가능 슬롯 비트셋 폐기 - resourceId: {}", event.resourceId());
+        evict(event.resourceId());
+    }
+
+    /**
+     * 리소스의 기간별 예약 가능 슬롯
+     */
+    public AvailabilityDto.Response availability(Long resourceId, LocalDate from, LocalDate to) {
+        validateRange(from, to);
+        WeeklyAvailability availability = get(resourceId);
+        if (availability == null) {
+            throw new IllegalArgumentException("리소스를 찾을 수 없습니다: " + resourceId);
+        }
+
+        int interval = availability.getIntervalMinutes();
+        List<AvailabilityDto.Day> days = new ArrayList<>();
+        for (LocalDate date = from; !date.isAfter(to); date = date.plusDays(1)) {
+            List<AvailabilityDto.Slot> slots = new ArrayList<>();
+            int offset = availability.dayOffset(date);
+            if (offset >= 0) {
+                for (int slot = availability.nextOpen(offset, 0); slot >= 0; slot = availability.nextOpen(offset, slot + 1)) {
+                    LocalTime start = availability.slotStart(slot);
+                    slots.add(new AvailabilityDto.Slot(start, start.plusMinutes(interval)));
+                }
+            }
+            days.add(new AvailabilityDto.Day(date, DayOfWeek.fromJava(date.getDayOfWeek()), slots));
+        }
+        return AvailabilityDto.Response.builder()
+                .resourceId(resourceId)
+                .from(from)
+                .to(to)
+                .timeInterval(interval)
+                .days(days)
+                .build();
+    }
+
+    /**
+     * 기간 내 모든 날짜에 [start, end) 시간대가 열려 있는 리소스 ID
+     */
+    public List<Long> findAvailable(Collection<Long> resourceIds, LocalDate from, LocalDate to,
+                                    LocalTime start, LocalTime end) {
+        validateRange(from, to);
+        List<Long> result = new ArrayList<>();
+        for (WeeklyAvailability availability : getAll(resourceIds)) {
+            if (availability.isOpenEveryDay(from, to, availability.windowMask(start, end))) {
+                result.add(availability.getResourceId());
+            }
+        }
+        return result;
+    }
+
+    /**
+     * 기간 내 열린 슬롯 총합
+     */
+    public long countOpenSlots(Collection<Long> resourceIds, LocalDate from, LocalDate to) {
+        validateRange(from, to);
+        long count = 0;
+        for (WeeklyAvailability availability : getAll(resourceIds)) {
+            count += availability.countOpen(from, to);
+        }
+        return count;
+    }
+
+    private void validateRange(LocalDate from, LocalDate to) {
+        if (from == null || to == null) {
+            throw new IllegalArgumentException("조회 시작일과 종료일은 필수입니다.");
+        }
+        if (to.isBefore(from)) {
+            throw new IllegalArgumentException("종료일은 시작일보다 빠를 수 없습니다.");
+        }
+        if (ChronoUnit.DAYS.between(from, to) >= maxDays) {
+            throw new IllegalArgumentException("조회 기간은 최대 " + maxDays + "일입니다.");
+        }
+    }
+
+    /**
+     * 컴파일 결과 저장 (컴파일 도중 폐기가 있었으면 저장하지 않음, 저장 직후 폐기되면 되돌림)
+     */
+    private WeeklyAvailability store(WeeklyAvailability availability, long evictionsBefore) {
+        Long resourceId = availability.getResourceId();
+        if (evictions.get() == evictionsBefore
+                && compiled.putIfAbsent(resourceId, availability) == null
+                && evictions.get() != evictionsBefore) {
+            compiled.remove(resourceId, availability);
+        }
+        return availability;
+    }
+}
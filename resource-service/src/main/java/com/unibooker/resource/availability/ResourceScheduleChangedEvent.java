@@ -0,0 +1,8 @@
+package com.unibooker.resource.availability;
+
+/**
+ * 리소스 운영 일정 변경 이벤트 (리소스 수정/삭제, 타임 슬롯 변경)
+ * - 커밋 후 AvailabilityEngine이 해당 리소스 비트셋만 폐기 → 다음 조회 시 다시 컴파일
+ */
+public record ResourceScheduleChangedEvent(Long resourceId) {
+}
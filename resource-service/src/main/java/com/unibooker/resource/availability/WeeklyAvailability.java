@@ -0,0 +1,321 @@
+package com.unibooker.resource.availability;
+
+import com.unibooker.resource.entity.DayOfWeek;
+import com.unibooker.resource.entity.ResourceTimeSlots;
+import com.unibooker.resource.entity.Resources;
+import lombok.Getter;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.Collection;
+
+/**
+ * 리소스 1개의 주간 운영 슬롯 비트셋 (불변, 스레드 안전)
+ * - 하루를 timeInterval(분) 단위로 나눈 슬롯 i → 비트 i ([i × 간격, (i + 1) × 간격) 구간)
+ * - 요일별 비트셋 7개를 long[] 하나에 연속 저장 (요일 × wordsPerDay)
+ * - 날짜 D의 비트셋 = D의 요일 비트셋 (예약 기간/활성화 밖이면 빈 날) → 날짜별 조회 O(1), 추가 저장 없음
+ * - 타임 슬롯은 간격 단위로 완전히 포함되는 슬롯만 열림 (09:10~10:00, 30분 간격 → 09:30 슬롯만)
+ * - 종료 시간 00:00은 자정(24:00)으로 해석, 자정을 넘기는 슬롯은 무시
+ */
+public final class WeeklyAvailability {
+
+    private static final int MINUTES_PER_DAY = 24 * 60;
+    private static final int DAYS_PER_WEEK = 7;
+
+    /** 간격 미설정 리소스의 기본 슬롯 간격 (분) */
+    static final int DEFAULT_INTERVAL_MINUTES = 60;
+
+    /** 리소스 ID */
+    @Getter
+    private final Long resourceId;
+
+    /** 슬롯 간격 (분) */
+    @Getter
+    private final int intervalMinutes;
+
+    /** 하루 슬롯 수 */
+    @Getter
+    private final int slotsPerDay;
+
+    /** 하루 비트셋 word 수 */
+    @Getter
+    private final int wordsPerDay;
+
+    /** 예약 시작일 (null이면 제한 없음) */
+    @Getter
+    private final LocalDate startDate;
+
+    /** 예약 종료일 (null이면 제한 없음) */
+    @Getter
+    private final LocalDate endDate;
+
+    /** 리소스 활성화 여부 (비활성이면 모든 날 닫힘) */
+    @Getter
+    private final boolean active;
+
+    /** 슬롯당 수용 인원 (미설정이면 0) */
+    @Getter
+    private final int capacity;
+
+    /** 요일(DayOfWeek.ordinal) × wordsPerDay */
+    private final long[] bits;
+
+    /** 요일별 열린 슬롯 수 (컴파일 시 bitCount) */
+    private final int[] openCounts;
+
+    private WeeklyAvailability(Long resourceId, int intervalMinutes, LocalDate startDate, LocalDate endDate,
+                               boolean active, int capacity, long[] bits) {
+        this.resourceId = resourceId;
+        this.intervalMinutes = intervalMinutes;
+        this.slotsPerDay = MINUTES_PER_DAY / intervalMinutes;
+        this.wordsPerDay = wordsFor(slotsPerDay);
+        this.startDate = startDate;
+        this.endDate = endDate;
+        this.active = active;
+        this.capacity = capacity;
+        this.bits = bits;
+        this.openCounts = new int[DAYS_PER_WEEK];
+        for (int day = 0; day < DAYS_PER_WEEK; day++) {
+            for (int w = 0; w < wordsPerDay; w++) {
+                openCounts[day] += Long.bitCount(bits[day * wordsPerDay + w]);
+            }
+        }
+    }
+
+    /**
+     * 리소스 엔티티 → 비트셋 컴파일 (운영 중이고 삭제되지 않은 타임 슬롯만)
+     */
+    public static WeeklyAvailability compile(Resources resource) {
+        WeeklyAvailability availability = compile(resource.getId(), resource.getTimeInterval(),
+                resource.getStartDate(), resource.getEndDate(),
+                Boolean.TRUE.equals(resource.getIsActive()) && resource.getDeletedAt() == null,
+                resource.getTimeSlots());
+        int capacity = resource.getCapacity() != null ? resource.getCapacity() : 0;
+        return availability.withCapacity(capacity);
+    }
+
+    /**
+     * 비트셋 컴파일 (간격 미설정/범위 밖이면 기본 간격)
+     */
+    public static WeeklyAvailability compile(Long resourceId, Integer timeInterval, LocalDate startDate,
+                                             LocalDate endDate, boolean active,
+                                             Collection<ResourceTimeSlots> timeSlots) {
+        int interval = timeInterval != null && timeInterval > 0 && timeInterval <= MINUTES_PER_DAY
+                ? timeInterval : DEFAULT_INTERVAL_MINUTES;
+        int slotsPerDay = MINUTES_PER_DAY / interval;
+        int wordsPerDay = wordsFor(slotsPerDay);
+        long[] bits = new long[DAYS_PER_WEEK * wordsPerDay];
+
+        for (ResourceTimeSlots slot : timeSlots) {
+            if (!Boolean.TRUE.equals(slot.getIsActive()) || slot.getDeletedAt() != null
+                    || slot.getDayOfWeek() == null || slot.getStartTime() == null || slot.getEndTime() == null) {
+                continue;
+            }
+            int startMinute = minuteOfDay(slot.getStartTime());
+            int endMinute = minuteOfDay(slot.getEndTime());
+            if (endMinute == 0) {
+                endMinute = MINUTES_PER_DAY;
+            }
+            // 간격 단위로 완전히 포함되는 슬롯만 (시작 올림, 종료 내림)
+            int from = (startMinute + interval - 1) / interval;
+            int to = Math.min(endMinute / interval, slotsPerDay);
+            if (from < to) {
+                setRange(bits, slot.getDayOfWeek().ordinal() * wordsPerDay, from, to);
+            }
+        }
+        return new WeeklyAvailability(resourceId, interval, startDate, endDate, active, 0, bits);
+    }
+
+    /**
+     * 수용 인원만 바꾼 사본 (비트셋 공유)
+     */
+    public WeeklyAvailability withCapacity(int capacity) {
+        return new WeeklyAvailability(resourceId, intervalMinutes, startDate, endDate, active, capacity, bits);
+    }
+
+    /**
+     * 날짜의 비트셋 시작 오프셋 (bits 배열 기준, 닫힌 날이면 -1)
+     */
+    public int dayOffset(LocalDate date) {
+        if (!active || (startDate != null && date.isBefore(startDate)) || (endDate != null && date.isAfter(endDate))) {
+            return -1;
+        }
+        return DayOfWeek.fromJava(date.getDayOfWeek()).ordinal() * wordsPerDay;
+    }
+
+    /**
+     * 날짜의 열린 슬롯 수
+     */
+    public int countOpen(LocalDate date) {
+        int offset = dayOffset(date);
+        return offset < 0 ? 0 : openCounts[offset / wordsPerDay];
+    }
+
+    /**
+     * 기간 [from, to] 의 열린 슬롯 총합 (날짜 객체 없이 epoch day 순회)
+     */
+    public long countOpen(LocalDate from, LocalDate to) {
+        long first = firstOpenDay(from);
+        long last = lastOpenDay(to);
+        long count = 0;
+        int day = weekday(first);
+        for (long epochDay = first; epochDay <= last; epochDay++) {
+            count += openCounts[day];
+            if (++day == DAYS_PER_WEEK) {
+                day = 0;
+            }
+        }
+        return count;
+    }
+
+    /**
+     * 기간 [from, to] 의 모든 날짜에 mask의 슬롯이 열려 있는지
+     * - 날짜 비트셋은 요일 비트셋이므로 기간 내 요일별로 한 번만 검사 (최대 7회)
+     */
+    public boolean isOpenEveryDay(LocalDate from, LocalDate to, long[] mask) {
+        long first = firstOpenDay(from);
+        long last = lastOpenDay(to);
+        if (first != from.toEpochDay() || last != to.toEpochDay()) {
+            return false;
+        }
+        long distinctDays = Math.min(last - first + 1, DAYS_PER_WEEK);
+        int day = weekday(first);
+        for (int i = 0; i < distinctDays; i++) {
+            int offset = day * wordsPerDay;
+            for (int w = 0; w < wordsPerDay; w++) {
+                if ((bits[offset + w] & mask[w]) != mask[w]) {
+                    return false;
+                }
+            }
+            if (++day == DAYS_PER_WEEK) {
+                day = 0;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * 날짜에 mask의 슬롯이 모두 열려 있는지 (mask는 windowMask로 생성)
+     */
+    public boolean isOpen(LocalDate date, long[] mask) {
+        int offset = dayOffset(date);
+        if (offset < 0) {
+            return false;
+        }
+        for (int w = 0; w < wordsPerDay; w++) {
+            if ((bits[offset + w] & mask[w]) != mask[w]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * start에 시작하는 슬롯이 열려 있는지 (간격 경계가 아니면 false)
+     */
+    public boolean isOpenSlot(LocalDate date, LocalTime start) {
+        int minute = minuteOfDay(start);
+        if (start.getSecond() != 0 || start.getNano() != 0 || minute % intervalMinutes != 0) {
+            return false;
+        }
+        int offset = dayOffset(date);
+        int slot = minute / intervalMinutes;
+        return offset >= 0 && (bits[offset + (slot >>> 6)] & (1L << slot)) != 0;
+    }
+
+    /**
+     * 시간 구간 [start, end) 을 덮는 슬롯 마스크 (구간에 걸치는 슬롯 모두 포함, 종료 00:00은 자정)
+     */
+    public long[] windowMask(LocalTime start, LocalTime end) {
+        int endMinute = minuteOfDay(end);
+        if (endMinute == 0) {
+            endMinute = MINUTES_PER_DAY;
+        }
+        long[] mask = new long[wordsPerDay];
+        int from = minuteOfDay(start) / intervalMinutes;
+        int to = Math.min((endMinute + intervalMinutes - 1) / intervalMinutes, slotsPerDay);
+        if (from < to) {
+            setRange(mask, 0, from, to);
+        }
+        return mask;
+    }
+
+    /**
+     * 날짜의 다음 열린 슬롯 인덱스 (fromSlot 포함, 없으면 -1)
+     */
+    public int nextOpen(int dayOffset, int fromSlot) {
+        if (fromSlot >= slotsPerDay) {
+            return -1;
+        }
+        int w = fromSlot >>> 6;
+        long word = bits[dayOffset + w] & (-1L << fromSlot);
+        while (true) {
+            if (word != 0) {
+                int slot = (w << 6) + Long.numberOfTrailingZeros(word);
+                return slot < slotsPerDay ? slot : -1;
+            }
+            if (++w == wordsPerDay) {
+                return -1;
+            }
+            word = bits[dayOffset + w];
+        }
+    }
+
+    /**
+     * 슬롯 인덱스 → 시작 시각
+     */
+    public LocalTime slotStart(int slot) {
+        return LocalTime.MIN.plusMinutes((long) slot * intervalMinutes);
+    }
+
+    /**
+     * 열린 첫 날 (epoch day, 예약 시작일/비활성 반영, 닫혀 있으면 Long.MAX_VALUE)
+     */
+    private long firstOpenDay(LocalDate from) {
+        if (!active) {
+            return Long.MAX_VALUE;
+        }
+        return startDate != null ? Math.max(from.toEpochDay(), startDate.toEpochDay()) : from.toEpochDay();
+    }
+
+    /**
+     * 열린 마지막 날 (epoch day, 예약 종료일 반영)
+     */
+    private long lastOpenDay(LocalDate to) {
+        return endDate != null ? Math.min(to.toEpochDay(), endDate.toEpochDay()) : to.toEpochDay();
+    }
+
+    /**
+     * epoch day → DayOfWeek.ordinal (1970-01-01 = 목요일)
+     */
+    private static int weekday(long epochDay) {
+        return (int) Math.floorMod(epochDay + 3, DAYS_PER_WEEK);
+    }
+
+    private static int minuteOfDay(LocalTime time) {
+        return time.getHour() * 60 + time.getMinute();
+    }
+
+    private static int wordsFor(int slots) {
+        return (slots + 63) >>> 6;
+    }
+
+    /**
+     * [from, to) 비트 설정 (word 단위)
+     */
+    private static void setRange(long[] bits, int offset, int from, int to) {
+        int firstWord = from >>> 6;
+        int lastWord = (to - 1) >>> 6;
+        long firstMask = -1L << from;
+        long lastMask = -1L >>> -to;
+        if (firstWord == lastWord) {
+            bits[offset + firstWord] |= firstMask & lastMask;
+            return;
+        }
+        bits[offset + firstWord] |= firstMask;
+        for (int w = firstWord + 1; w < lastWord; w++) {
+            bits[offset + w] = -1L;
+        }
+        bits[offset + lastWord] |= lastMask;
+    }
+}
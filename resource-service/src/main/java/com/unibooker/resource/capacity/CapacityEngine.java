@@ -0,0 +1,280 @@
+package com.unibooker.resource.capacity;
+
+import com.unibooker.resource.availability.AvailabilityEngine;
+import com.unibooker.resource.availability.ResourceScheduleChangedEvent;
+import com.unibooker.resource.availability.WeeklyAvailability;
+import com.unibooker.resource.repository.ResourceReservationRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 수용 인원(Resources.capacity) 선점 엔진
+ * - 리소스 × 슬롯 시작 일시마다 StripedCapacity 카운터 (처음 선점 시 capacity - 확정 인원 합계로 생성)
+ * - 잔여 인원 조회는 카운터가 없으면 DB 합계로 계산만 하고 카운터는 만들지 않음
+ * - 지금부터 capacity.max-horizon 이후의 슬롯은 선점/조회 거절 (카운터 수 상한)
+ * - 선점/해제는 메모리 카운터 CAS만 (DB 왕복 없음), 선점은 capacity.hold-ttl 후 만료
+ * - 확정은 ReservationJournal에 추가 → 묶음 INSERT 커밋 시 CompletableFuture 완료 (기록 실패 시 인원 반환)
+ * - 리소스 수정 커밋 후 수용 인원 변경분만큼 카운터 조정, 지난 슬롯 카운터는 만료 정리 시 폐기
+ * - 카운터는 인스턴스 메모리에만 존재 → 같은 리소스 선점은 한 인스턴스로 라우팅되어야 함
+ */
+@Slf4j
+@Component
+public class CapacityEngine {
+
+    private final AvailabilityEngine availabilityEngine;
+
+    private final ResourceReservationRepository reservationRepository;
+
+    private final ReservationJournal journal;
+
+    private final Duration holdTtl;
+
+    private final int stripes;
+
+    private final Duration maxHorizon;
+
+    private final Clock clock;
+
+    private final Map<SlotKey, SlotCounter> counters = new ConcurrentHashMap<>();
+
+    /** 진행 중인 선점 (선점 ID → 선점) */
+    private final Map<String, CapacityHold> holds = new ConcurrentHashMap<>();
+
+    @Autowired
+    public CapacityEngine(AvailabilityEngine availabilityEngine,
+                          ResourceReservationRepository reservationRepository,
+                          ReservationJournal journal,
+                          @Value("${capacity.hold-ttl:PT5M}") Duration holdTtl,
+                          @Value("${capacity.stripes:8}") int stripes,
+                          @Value("${capacity.max-horizon:P90D}") Duration maxHorizon) {
+        this(availabilityEngine, reservationRepository, journal, holdTtl, stripes, maxHorizon,
+                Clock.systemDefaultZone());
+    }
+
+    CapacityEngine(AvailabilityEngine availabilityEngine, ResourceReservationRepository reservationRepository,
+                   ReservationJournal journal, Duration holdTtl, int stripes, Duration maxHorizon, Clock clock) {
+        this.availabilityEngine = availabilityEngine;
+        this.reservationRepository = reservationRepository;
+        this.journal = journal;
+        this.holdTtl = holdTtl;
+        this.stripes = stripes;
+        this.maxHorizon = maxHorizon;
+        this.clock = clock;
+    }
+
+    /**
+     * 슬롯 인원 선점 (잔여 인원이 부족하면 null)
+     * - 없는 리소스, 닫힌 슬롯, 지난 슬롯, max-horizon 이후 슬롯, 수용 인원 미설정이면 IllegalArgumentException
+     */
+    public CapacityHold hold(Long resourceId, LocalDateTime slotStart, int quantity, Long userId) {
+        if (quantity <= 0) {
+            throw new IllegalArgumentException("선점 인원은 1 이상이어야 합니다.");
+        }
+        SlotCounter counter = counter(resourceId, slotStart);
+        int[] taken = counter.remaining.tryAcquire(quantity);
+        if (taken == null) {
+            log.debug("수용 인원 부족 - resourceId: {}, slotStart: {}, quantity: {}", resourceId, slotStart, quantity);
+            return null;
+        }
+        CapacityHold hold = new CapacityHold(UUID.randomUUID().toString(), counter.key, quantity, userId,
+                clock.instant().plus(holdTtl), taken);
+        holds.put(hold.id(), hold);
+        return hold;
+    }
+
+    /**
+     * 선점 확정 (기록 커밋 시 완료되는 future 반환)
+     * - 없거나 만료된 선점이면 IllegalArgumentException, 기록 대기가 많으면 IllegalStateException (선점 반환)
+     * - 기록이 실패하면 future가 예외로 완료되고 선점 인원 반환
+     */
+    public CompletableFuture<ConfirmedReservation> confirm(String holdId) {
+        CapacityHold hold = holds.remove(holdId);
+        if (hold == null) {
+            throw new IllegalArgumentException("선점을 찾을 수 없거나 만료되었습니다: " + holdId);
+        }
+        if (!hold.expiresAt().isAfter(clock.instant())) {
+            giveBack(hold);
+            throw new IllegalArgumentException("선점을 찾을 수 없거나 만료되었습니다: " + holdId);
+        }
+        ConfirmedReservation reservation = new ConfirmedReservation(hold.id(), hold.key().resourceId(),
+                hold.key().slotStart(), hold.quantity(), hold.userId(), LocalDateTime.now(clock));
+        try {
+            return journal.append(reservation)
+                    .whenComplete((done, e) -> {
+                        if (e != null) {
+                            giveBack(hold);
+                        }
+                    })
+                    .thenApply(done -> reservation);
+        } catch (IllegalStateException e) {
+            giveBack(hold);
+            throw e;
+        }
+    }
+
+    /**
+     * 선점 해제 (없거나 이미 해제/확정/만료되었으면 null)
+     */
+    public CapacityHold release(String holdId) {
+        CapacityHold hold = holds.remove(holdId);
+        if (hold != null) {
+            giveBack(hold);
+        }
+        return hold;
+    }
+
+    /**
+     * 선점 조회 (없으면 null)
+     */
+    public CapacityHold getHold(String holdId) {
+        return holds.get(holdId);
+    }
+
+    /**
+     * 슬롯 잔여 인원 (카운터가 없으면 capacity - 확정 인원 합계, 카운터는 만들지 않음)
+     */
+    public int available(Long resourceId, LocalDateTime slotStart) {
+        WeeklyAvailability availability = validate(resourceId, slotStart);
+        SlotCounter counter = counters.get(new SlotKey(resourceId, slotStart));
+        if (counter != null) {
+            return Math.max(0, counter.remaining.available());
+        }
+        long confirmed = reservationRepository.sumQuantity(resourceId, slotStart);
+        return (int) Math.max(0, availability.getCapacity() - confirmed);
+    }
+
+    public int activeHolds() {
+        return holds.size();
+    }
+
+    /**
+     * 만료된 선점 해제 + 지난 슬롯 카운터 폐기
+     */
+    @Scheduled(fixedDelayString = "${capacity.sweep-interval:PT5S}")
+    public void releaseExpired() {
+        Instant now = clock.instant();
+        int released = 0;
+        for (CapacityHold hold : holds.values()) {
+            if (!hold.expiresAt().isAfter(now) && holds.remove(hold.id(), hold)) {
+                giveBack(hold);
+                released++;
+            }
+        }
+        LocalDateTime current = LocalDateTime.now(clock);
+        counters.keySet().removeIf(key -> key.slotStart().isBefore(current));
+        if (released > 0) {
+            log.debug("만료된 수용 인원 선점 해제 - 건수: {}", released);
+        }
+    }
+
+    /**
+     * 리소스 변경 커밋 후 수용 인원 변경분 반영 (삭제/비활성이면 0으로)
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onResourceChanged(ResourceScheduleChangedEvent event) {
+        boolean tracked = counters.keySet().stream().anyMatch(key -> key.resourceId().equals(event.resourceId()));
+        if (!tracked) {
+            return;
+        }
+        // 리스너 실행 순서가 정해져 있지 않으므로 직접 폐기 후 다시 컴파일
+        availabilityEngine.evict(event.resourceId());
+        WeeklyAvailability availability = availabilityEngine.get(event.resourceId());
+        int capacity = availability != null && availability.isActive() ? availability.getCapacity() : 0;
+        counters.forEach((key, counter) -> {
+            if (key.resourceId().equals(event.resourceId())) {
+                counter.resize(capacity);
+            }
+        });
+        log.info("수용 인원 카운터 조정 - resourceId: {}, capacity: {}", event.resourceId(), capacity);
+    }
+
+    private void giveBack(CapacityHold hold) {
+        SlotCounter counter = counters.get(hold.key());
+        if (counter != null) {
+            counter.remaining.release(hold.taken());
+        }
+    }
+
+    /**
+     * 슬롯 카운터 (없으면 확정 인원 합계를 읽어 생성)
+     * - 슬롯 검증은 매번 (AvailabilityEngine 메모리 비트셋 조회)
+     */
+    private SlotCounter counter(Long resourceId, LocalDateTime slotStart) {
+        WeeklyAvailability availability = validate(resourceId, slotStart);
+        SlotKey key = new SlotKey(resourceId, slotStart);
+        SlotCounter counter = counters.get(key);
+        if (counter != null) {
+            return counter;
+        }
+        int capacity = availability.getCapacity();
+        long confirmed = reservationRepository.sumQuantity(resourceId, slotStart);
+        SlotCounter created = new SlotCounter(key, capacity,
+                new StripedCapacity((int) Math.max(0, capacity - confirmed), stripes));
+        counter = counters.putIfAbsent(key, created);
+        return counter != null ? counter : created;
+    }
+
+    /**
+     * 슬롯 검증 (지난 슬롯, max-horizon 이후 슬롯, 없는 리소스, 닫힌 슬롯, 수용 인원 미설정이면 IllegalArgumentException)
+     */
+    private WeeklyAvailability validate(Long resourceId, LocalDateTime slotStart) {
+        if (slotStart == null) {
+            throw new IllegalArgumentException("슬롯 시작 일시는 필수입니다.");
+        }
+        LocalDateTime now = LocalDateTime.now(clock);
+        if (slotStart.isBefore(now)) {
+            throw new IllegalArgumentException("지난 슬롯은 예약할 수 없습니다: " + slotStart);
+        }
+        if (slotStart.isAfter(now.plus(maxHorizon))) {
+            throw new IllegalArgumentException("예약 가능 기간을 벗어난 슬롯입니다: " + slotStart);
+        }
+        WeeklyAvailability availability = availabilityEngine.get(resourceId);
+        if (availability == null) {
+            throw new IllegalArgumentException("리소스를 찾을 수 없습니다: " + resourceId);
+        }
+        if (!availability.isOpenSlot(slotStart.toLocalDate(), slotStart.toLocalTime())) {
+            throw new IllegalArgumentException("예약할 수 없는 슬롯입니다: " + slotStart);
+        }
+        if (availability.getCapacity() <= 0) {
+            throw new IllegalArgumentException("수용 인원이 설정되지 않은 리소스입니다: " + resourceId);
+        }
+        return availability;
+    }
+
+    /**
+     * 슬롯 잔여 인원 카운터 + 반영된 수용 인원 (조정 시 차이만큼 증감)
+     */
+    private static final class SlotCounter {
+
+        private final SlotKey key;
+
+        private final StripedCapacity remaining;
+
+        private int total;
+
+        private SlotCounter(SlotKey key, int total, StripedCapacity remaining) {
+            this.key = key;
+            this.total = total;
+            this.remaining = remaining;
+        }
+
+        private synchronized void resize(int newTotal) {
+            remaining.adjust(newTotal - total);
+            total = newTotal;
+        }
+    }
+}
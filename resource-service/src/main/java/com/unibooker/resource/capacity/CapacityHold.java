@@ -0,0 +1,10 @@
+package com.unibooker.resource.capacity;
+
+import java.time.Instant;
+
+/**
+ * 수용 인원 선점 (미확정)
+ * - taken: 스트라이프별로 가져간 인원 (해제 시 같은 스트라이프로 반환, 수정 금지)
+ */
+public record CapacityHold(String id, SlotKey key, int quantity, Long userId, Instant expiresAt, int[] taken) {
+}
@@ -0,0 +1,10 @@
+package com.unibooker.resource.capacity;
+
+import java.time.LocalDateTime;
+
+/**
+ * 확정된 예약 (ReservationJournal 기록 단위)
+ */
+public record ConfirmedReservation(String holdId, Long resourceId, LocalDateTime slotStart, int quantity,
+                                   Long userId, LocalDateTime confirmedAt) {
+}
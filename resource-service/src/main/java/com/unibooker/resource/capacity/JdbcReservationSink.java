@@ -0,0 +1,66 @@
+package com.unibooker.resource.capacity;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.util.List;
+
+/**
+ * 확정 예약 JDBC 묶음 저장
+ * - JPA saveAll은 IDENTITY 키 때문에 건별 INSERT → JdbcTemplate batchUpdate로 한 번에 전송
+ * - 묶음 하나 = 트랜잭션 하나
+ * - 이전 시도가 커밋되었지만 결과를 못 받은 경우(중복 hold_id) 없는 행만 건별로 다시 기록
+ */
+@Component
+@RequiredArgsConstructor
+public class JdbcReservationSink implements ReservationSink {
+
+    private static final String INSERT_SQL = "insert into resource_reservations "
+            + "(resource_id, slot_start, quantity, hold_id, user_id, created_at, updated_at) "
+            + "values (?, ?, ?, ?, ?, ?, ?)";
+
+    private static final String EXISTS_SQL = "select count(*) from resource_reservations where hold_id = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    private final TransactionTemplate transactionTemplate;
+
+    @Override
+    public void write(List<ConfirmedReservation> batch) {
+        try {
+            transactionTemplate.executeWithoutResult(status ->
+                    jdbcTemplate.batchUpdate(INSERT_SQL, batch, batch.size(), JdbcReservationSink::bind));
+        } catch (DuplicateKeyException e) {
+            transactionTemplate.executeWithoutResult(status -> {
+                for (ConfirmedReservation reservation : batch) {
+                    Integer count = jdbcTemplate.queryForObject(EXISTS_SQL, Integer.class, reservation.holdId());
+                    if (count == null || count == 0) {
+                        jdbcTemplate.update(INSERT_SQL, statement -> bind(statement, reservation));
+                    }
+                }
+            });
+        }
+    }
+
+    private static void bind(PreparedStatement statement, ConfirmedReservation reservation) throws SQLException {
+        Timestamp confirmedAt = Timestamp.valueOf(reservation.confirmedAt());
+        statement.setLong(1, reservation.resourceId());
+        statement.setTimestamp(2, Timestamp.valueOf(reservation.slotStart()));
+        statement.setInt(3, reservation.quantity());
+        statement.setString(4, reservation.holdId());
+        if (reservation.userId() != null) {
+            statement.setLong(5, reservation.userId());
+        } else {
+            statement.setNull(5, Types.BIGINT);
+        }
+        statement.setTimestamp(6, confirmedAt);
+        statement.setTimestamp(7, confirmedAt);
+    }
+}
@@ -0,0 +1,175 @@
+package com.unibooker.resource.capacity;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 확정 예약 write-behind 기록기 (그룹 커밋)
+ * - 요청 스레드: 큐에 추가 후 CompletableFuture 반환 (DB 대기 없음, 기다릴지는 호출자가 결정)
+ * - 기록 스레드(reservation-journal): 첫 항목이 오면 쌓인 것을 batch-size까지 모아 ReservationSink에 한 번에 기록
+ *   → 부하가 클수록 묶음이 커지고, 한가할 때는 지연 없이 1건씩 기록
+ * - 일시 장애(ReservationSink.isTransient)는 같은 묶음을 retry-backoff(최대 ×32)로 재시도
+ * - 영구 오류는 건별로 다시 기록해 실패한 건의 future만 실패 처리 (호출자가 선점 인원 반환)
+ * - 대기 건수가 max-backlog를 넘으면 추가 거절 (IllegalStateException)
+ * - 종료 시 남은 항목을 shutdown-timeout까지 계속 기록, 넘으면 재시도를 멈추고 남은 건을 실패 처리 + hold_id 로그
+ */
+@Slf4j
+@Component
+public class ReservationJournal {
+
+    private final ReservationSink sink;
+    private final BlockingQueue<Pending> queue = new LinkedBlockingQueue<>();
+    private final int batchSize;
+    private final int maxBacklog;
+    private final long retryBackoffMillis;
+    private final Duration shutdownTimeout;
+    private final Thread thread;
+    private volatile boolean running = true;
+    private volatile long shutdownDeadline;
+
+    public ReservationJournal(ReservationSink sink,
+                              @Value("${capacity.journal.batch-size:500}") int batchSize,
+                              @Value("${capacity.journal.max-backlog:100000}") int maxBacklog,
+                              @Value("${capacity.journal.retry-backoff:PT0.1S}") Duration retryBackoff,
+                              @Value("${capacity.journal.shutdown-timeout:PT10S}") Duration shutdownTimeout) {
+        this.sink = sink;
+        this.batchSize = batchSize;
+        this.maxBacklog = maxBacklog;
+        this.retryBackoffMillis = retryBackoff.toMillis();
+        this.shutdownTimeout = shutdownTimeout;
+        this.thread = new Thread(this::run, "reservation-journal");
+        this.thread.setDaemon(true);
+        this.thread.start();
+        log.info("예약 확정 기록 시작 - batch: {}, maxBacklog: {}", batchSize, maxBacklog);
+    }
+
+    /**
+     * 확정 예약 추가 (기록 커밋 시 완료)
+     */
+    public CompletableFuture<Void> append(ConfirmedReservation reservation) {
+        if (!running) {
+            throw new IllegalStateException("예약 확정 기록기가 종료되었습니다.");
+        }
+        if (queue.size() >= maxBacklog) {
+            throw new IllegalStateException("예약 확정 대기 건수가 많습니다. 잠시 후 다시 시도해주세요.");
+        }
+        Pending pending = new Pending(reservation, new CompletableFuture<>());
+        queue.add(pending);
+        return pending.done();
+    }
+
+    public int backlog() {
+        return queue.size();
+    }
+
+    @PreDestroy
+    public void shutdown() throws InterruptedException {
+        shutdownDeadline = System.nanoTime() + shutdownTimeout.toNanos();
+        running = false;
+        thread.join(shutdownTimeout.toMillis());
+        if (thread.isAlive()) {
+            // 재시도 대기 중이면 깨워서 기록 중인 묶음을 실패 처리
+            thread.interrupt();
+            thread.join(1000);
+        }
+        List<Pending> remaining = new ArrayList<>();
+        queue.drainTo(remaining);
+        if (!remaining.isEmpty()) {
+            fail(remaining, new IllegalStateException("예약 확정 기록기가 종료되었습니다."));
+        }
+    }
+
+    private void run() {
+        List<Pending> batch = new ArrayList<>(batchSize);
+        while (running || !queue.isEmpty()) {
+            try {
+                Pending first = queue.poll(100, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+                queue.drainTo(batch, batchSize - 1);
+                write(batch);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                fail(batch, new IllegalStateException("예약 확정 기록기가 종료되었습니다.", e));
+                return;
+            } finally {
+                batch.clear();
+            }
+        }
+    }
+
+    /**
+     * 묶음 기록 (영구 오류면 건별로 다시 기록해 실패한 건만 실패 처리)
+     */
+    private void write(List<Pending> batch) throws InterruptedException {
+        List<ConfirmedReservation> reservations = new ArrayList<>(batch.size());
+        for (Pending pending : batch) {
+            reservations.add(pending.reservation());
+        }
+        try {
+            writeWithRetry(reservations);
+        } catch (RuntimeException e) {
+            if (batch.size() == 1) {
+                fail(batch, e);
+                return;
+            }
+            log.warn("예약 확정 묶음 기록 실패 - {}건, 건별로 다시 기록: {}", batch.size(), e.getMessage());
+            for (Pending pending : batch) {
+                write(List.of(pending));
+            }
+            return;
+        }
+        for (Pending pending : batch) {
+            pending.done().complete(null);
+        }
+        log.debug("예약 확정 기록 - {}건", reservations.size());
+    }
+
+    /**
+     * 일시 장애는 성공할 때까지 재시도 (종료 중이면 shutdown-timeout까지), 영구 오류는 그대로 던짐
+     */
+    private void writeWithRetry(List<ConfirmedReservation> reservations) throws InterruptedException {
+        long backoff = retryBackoffMillis;
+        while (true) {
+            try {
+                sink.write(reservations);
+                return;
+            } catch (RuntimeException e) {
+                if (!sink.isTransient(e) || shutdownExpired()) {
+                    throw e;
+                }
+                log.error("예약 확정 기록 실패 - {}건, {}ms 후 재시도: {}", reservations.size(), backoff, e.getMessage());
+                Thread.sleep(backoff);
+                backoff = Math.min(backoff * 2, retryBackoffMillis * 32);
+            }
+        }
+    }
+
+    private boolean shutdownExpired() {
+        return !running && System.nanoTime() - shutdownDeadline >= 0;
+    }
+
+    private static void fail(List<Pending> pendings, Exception cause) {
+        for (Pending pending : pendings) {
+            log.error("예약 확정 기록 실패 - holdId: {}, resourceId: {}, slotStart: {}: {}",
+                    pending.reservation().holdId(), pending.reservation().resourceId(),
+                    pending.reservation().slotStart(), cause.getMessage());
+            pending.done().completeExceptionally(cause);
+        }
+    }
+
+    private record Pending(ConfirmedReservation reservation, CompletableFuture<Void> done) {
+    }
+}
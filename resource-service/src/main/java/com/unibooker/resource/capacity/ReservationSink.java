@@ -0,0 +1,27 @@
+package com.unibooker.resource.capacity;
+
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.dao.RecoverableDataAccessException;
+import org.springframework.dao.TransientDataAccessException;
+import org.springframework.transaction.CannotCreateTransactionException;
+
+import java.util.List;
+
+/**
+ * 확정 예약 묶음 저장소 (ReservationJournal 기록 스레드에서만 호출)
+ * - 묶음 전체가 저장되거나 전체가 실패해야 함 (일시 장애면 같은 묶음으로 재시도, 영구 오류면 건별로 다시 기록)
+ */
+public interface ReservationSink {
+
+    void write(List<ConfirmedReservation> batch);
+
+    /**
+     * 다시 시도하면 성공할 수 있는 오류인지 (연결 실패, 타임아웃, 락 경합 등)
+     */
+    default boolean isTransient(RuntimeException e) {
+        return e instanceof TransientDataAccessException
+                || e instanceof RecoverableDataAccessException
+                || e instanceof DataAccessResourceFailureException
+                || e instanceof CannotCreateTransactionException;
+    }
+}
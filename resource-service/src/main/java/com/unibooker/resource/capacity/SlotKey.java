@@ -0,0 +1,9 @@
+package com.unibooker.resource.capacity;
+
+import java.time.LocalDateTime;
+
+/**
+ * 수용 인원 카운터 키 (리소스 + 슬롯 시작 일시)
+ */
+public record SlotKey(Long resourceId, LocalDateTime slotStart) {
+}
@@ -0,0 +1,141 @@
+package com.unibooker.resource.capacity;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+
+/**
+ * 슬롯 1개의 잔여 인원 카운터 (스트라이프 분할)
+ * - 잔여 인원을 스트라이프 N개에 나눠 담고, 선점은 임의 스트라이프부터 CAS로 차감 → 단일 카운터 CAS 경합 분산
+ * - 스트라이프마다 64바이트(int 16개) 간격 → 서로 다른 캐시 라인 (false sharing 방지)
+ * - 한 스트라이프로 부족하면 다음 스트라이프에서 이어서 차감, 전체가 부족하면 차감한 것을 돌려놓고 실패
+ * - 차감 위치(taken)를 선점에 보관 → 해제 시 같은 스트라이프로 반환 (스트라이프 간 편중 없음)
+ * - 수용 인원이 선점 중인 인원보다 많이 줄면 부족분을 스트라이프 0에 음수로 기록 → 이후 반환분으로 먼저 상환 (초과 선점 불가)
+ */
+public final class StripedCapacity {
+
+    /** 스트라이프 간격 (int 16개 = 64바이트) */
+    private static final int PAD = 16;
+
+    private final int stripes;
+
+    private final AtomicIntegerArray cells;
+
+    public StripedCapacity(int available, int stripes) {
+        if (available < 0) {
+            throw new IllegalArgumentException("잔여 인원은 0 이상이어야 합니다.");
+        }
+        this.stripes = Math.max(1, Math.min(stripes, Math.max(available, 1)));
+        this.cells = new AtomicIntegerArray(this.stripes * PAD);
+        for (int i = 0; i < this.stripes; i++) {
+            cells.set(i * PAD, available / this.stripes + (i < available % this.stripes ? 1 : 0));
+        }
+    }
+
+    public int stripes() {
+        return stripes;
+    }
+
+    /**
+     * quantity만큼 차감 (스트라이프별 차감량 반환, 부족하면 null)
+     * - 스트라이프를 도는 동안 다른 스레드의 해제로 잔여가 생겼을 수 있으므로 합계가 충분하면 한 번 더 시도
+     */
+    public int[] tryAcquire(int quantity) {
+        if (quantity <= 0) {
+            throw new IllegalArgumentException("선점 인원은 1 이상이어야 합니다.");
+        }
+        int[] taken = acquire(quantity);
+        if (taken == null && available() >= quantity) {
+            taken = acquire(quantity);
+        }
+        return taken;
+    }
+
+    /**
+     * 차감분 반환 (tryAcquire 결과 그대로)
+     */
+    public void release(int[] taken) {
+        for (int i = 0; i < taken.length; i++) {
+            int amount = taken[i] != 0 ? repay(taken[i]) : 0;
+            if (amount != 0) {
+                cells.getAndAdd(i * PAD, amount);
+            }
+        }
+    }
+
+    /**
+     * 잔여 인원 (동시 변경 중에는 근사치)
+     */
+    public int available() {
+        int sum = 0;
+        for (int i = 0; i < stripes; i++) {
+            sum += cells.get(i * PAD);
+        }
+        return sum;
+    }
+
+    /**
+     * 수용 인원 변경 반영 (줄어든 만큼 스트라이프에서 차감, 잔여보다 많이 줄면 부족분은 스트라이프 0에 음수로)
+     */
+    public void adjust(int delta) {
+        if (delta >= 0) {
+            cells.getAndAdd(0, delta);
+            return;
+        }
+        int remaining = -delta;
+        for (int i = 0; i < stripes && remaining > 0; i++) {
+            remaining -= take(i * PAD, remaining);
+        }
+        if (remaining > 0) {
+            cells.getAndAdd(0, -remaining);
+        }
+    }
+
+    private int[] acquire(int quantity) {
+        int[] taken = new int[stripes];
+        int remaining = quantity;
+        int start = stripes == 1 ? 0 : ThreadLocalRandom.current().nextInt(stripes);
+        for (int n = 0; n < stripes && remaining > 0; n++) {
+            int stripe = start + n < stripes ? start + n : start + n - stripes;
+            int got = take(stripe * PAD, remaining);
+            taken[stripe] = got;
+            remaining -= got;
+        }
+        if (remaining > 0) {
+            release(taken);
+            return null;
+        }
+        return taken;
+    }
+
+    /**
+     * 스트라이프 0의 부족분(음수)부터 상환 (남은 반환량 반환)
+     */
+    private int repay(int amount) {
+        while (true) {
+            int current = cells.get(0);
+            if (current >= 0) {
+                return amount;
+            }
+            int paid = Math.min(-current, amount);
+            if (cells.compareAndSet(0, current, current + paid)) {
+                return amount - paid;
+            }
+        }
+    }
+
+    /**
+     * 셀에서 최대 want만큼 차감 (실제 차감량 반환)
+     */
+    private int take(int index, int want) {
+        while (true) {
+            int current = cells.get(index);
+            if (current <= 0) {
+                return 0;
+            }
+            int got = Math.min(current, want);
+            if (cells.compareAndSet(index, current, current - got)) {
+                return got;
+            }
+        }
+    }
+}
@@ -0,0 +1,42 @@
+package com.unibooker.resource.controller;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.unibooker.resource.dto.BatchGetDto;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+/**
+ * ID 묶음 조회 응답 스트리밍
+ * - {"items": [...], "missingIds": [...]} 를 항목별로 바로 출력 (전체 JSON을 메모리에 만들지 않음)
+ * - 직렬화 설정은 애플리케이션 ObjectMapper 그대로 (날짜 형식 등 단건 조회와 동일)
+ */
+final class BatchGetResponses {
+
+    private BatchGetResponses() {
+    }
+
+    static <T> ResponseEntity<StreamingResponseBody> stream(ObjectMapper objectMapper, BatchGetDto.Result<T> result) {
+        StreamingResponseBody body = out -> {
+            try (JsonGenerator generator = objectMapper.createGenerator(out)) {
+                generator.configure(JsonGenerator.Feature.AUTO_CLOSE_TARGET, false);
+                generator.writeStartObject();
+                generator.writeArrayFieldStart("items");
+                for (T item : result.getItems()) {
+                    generator.writeObject(item);
+                }
+                generator.writeEndArray();
+                generator.writeArrayFieldStart("missingIds");
+                for (Long id : result.getMissingIds()) {
+                    generator.writeNumber(id);
+                }
+                generator.writeEndArray();
+                generator.writeEndObject();
+            }
+        };
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(body);
+    }
+}
@@ -0,0 +1,78 @@
+package com.unibooker.resource.controller;
+
+import com.unibooker.resource.dto.CapacityDto;
+import com.unibooker.resource.service.CapacityService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * 수용 인원 선점/확정 컨트롤러 (capacity가 설정된 리소스의 슬롯 단위 예약)
+ */
+@Slf4j
+@RestController
+@RequestMapping("/api/resources/{resourceId}")
+@RequiredArgsConstructor
+public class CapacityController {
+
+    private final CapacityService capacityService;
+
+    /**
+     * 슬롯 잔여 인원
+     */
+    @GetMapping("/capacity")
+    public ResponseEntity<CapacityDto.AvailableResponse> getAvailable(
+            @PathVariable Long resourceId,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime slotStart) {
+        log.debug("GET /api/resources/{}/capacity - 잔여 인원 조회 ({})", resourceId, slotStart);
+        return ResponseEntity.ok(capacityService.getAvailable(resourceId, slotStart));
+    }
+
+    /**
+     * 수용 인원 선점 (잔여 인원 부족 시 409)
+     */
+    @PostMapping("/holds")
+    public ResponseEntity<CapacityDto.HoldResponse> hold(
+            @PathVariable Long resourceId,
+            @RequestHeader("X-User-Id") Long userId,
+            @RequestBody CapacityDto.HoldRequest request) {
+        log.info("POST /api/resources/{}/holds - 수용 인원 선점", resourceId);
+        CapacityDto.HoldResponse response = capacityService.hold(resourceId, request, userId);
+        if (response == null) {
+            return ResponseEntity.status(HttpStatus.CONFLICT).build();
+        }
+        return ResponseEntity.status(HttpStatus.CREATED).body(response);
+    }
+
+    /**
+     * 선점 확정 (저장 완료 200, 기록 대기 중 202)
+     */
+    @PostMapping("/holds/{holdId}/confirm")
+    public ResponseEntity<CapacityDto.ConfirmResponse> confirm(
+            @PathVariable Long resourceId,
+            @PathVariable String holdId,
+            @RequestHeader("X-User-Id") Long userId) {
+        log.info("POST /api/resources/{}/holds/{}/confirm - 선점 확정", resourceId, holdId);
+        CapacityDto.ConfirmResponse response = capacityService.confirm(resourceId, holdId, userId);
+        return Boolean.TRUE.equals(response.getPersisted())
+                ? ResponseEntity.ok(response)
+                : ResponseEntity.status(HttpStatus.ACCEPTED).body(response);
+    }
+
+    /**
+     * 선점 해제
+     */
+    @DeleteMapping("/holds/{holdId}")
+    public ResponseEntity<Void> release(@PathVariable Long resourceId, @PathVariable String holdId,
+                                        @RequestHeader("X-User-Id") Long userId) {
+        log.info("DELETE /api/resources/{}/holds/{} - 선점 해제", resourceId, holdId);
+        return capacityService.release(resourceId, holdId, userId)
+                ? ResponseEntity.noContent().build()
+                : ResponseEntity.notFound().build();
+    }
+}
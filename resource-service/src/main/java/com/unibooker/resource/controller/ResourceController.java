@@ -1,13 +1,19 @@
 package com.unibooker.resource.controller;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.unibooker.resource.dto.AvailabilityDto;
+import com.unibooker.resource.dto.BatchGetDto;
 import com.unibooker.resource.dto.ResourceDto;
 import com.unibooker.resource.service.ResourceService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.time.LocalDate;
 import java.util.List;
 
 /**
@@ -21,6 +27,8 @@ public class ResourceController {
 
     private final ResourceService resourceService;
 
+    private final ObjectMapper objectMapper;
+
     /**
      * 리소스 생성
      */
@@ -42,6 +50,28 @@ public class ResourceController {
         return ResponseEntity.ok(response);
     }
 
+    /**
+     * 리소스 묶음 조회 (요청 순서, 못 찾은 ID는 missingIds)
+     */
+    @PostMapping("/batch-get")
+    public ResponseEntity<StreamingResponseBody> getResources(@RequestBody BatchGetDto.Request request) {
+        log.info("POST /api/resources/batch-get - 리소스 묶음 조회");
+        return BatchGetResponses.stream(objectMapper, resourceService.getResources(request.getIds()));
+    }
+
+    /**
+     * 리소스 기간별 예약 가능 슬롯 조회
+     */
+    @GetMapping("/{id}/availability")
+    public ResponseEntity<AvailabilityDto.Response> getAvailability(
+            @PathVariable Long id,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to) {
+        log.info("GET /api/resources/{}/availability - 예약 가능 슬롯 조회 ({} ~ {})", id, from, to);
+        AvailabilityDto.Response response = resourceService.getAvailability(id, from, to);
+        return ResponseEntity.ok(response);
+    }
+
     /**
      * 리소스 그룹별 리소스 목록 조회
      */
@@ -1,5 +1,7 @@
 package com.unibooker.resource.controller;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.unibooker.resource.dto.BatchGetDto;
 import com.unibooker.resource.dto.ResourceGroupDto;
 import com.unibooker.resource.service.ResourceGroupService;
 import lombok.RequiredArgsConstructor;
@@ -7,6 +9,7 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.util.List;
 
@@ -21,6 +24,8 @@ public class ResourceGroupController {
 
     private final ResourceGroupService resourceGroupService;
 
+    private final ObjectMapper objectMapper;
+
     /**
      * 리소스 그룹 생성
      */
@@ -42,6 +47,15 @@ public class ResourceGroupController {
         return ResponseEntity.ok(response);
     }
 
+    /**
+     * 리소스 그룹 묶음 조회 (요청 순서, 못 찾은 ID는 missingIds)
+     */
+    @PostMapping("/batch-get")
+    public ResponseEntity<StreamingResponseBody> getResourceGroups(@RequestBody BatchGetDto.Request request) {
+        log.info("POST /api/resource-groups/batch-get - 리소스 그룹 묶음 조회");
+        return BatchGetResponses.stream(objectMapper, resourceGroupService.getResourceGroups(request.getIds()));
+    }
+
     /**
      * 회사별 리소스 그룹 목록 조회
      */
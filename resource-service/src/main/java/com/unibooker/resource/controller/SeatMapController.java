@@ -0,0 +1,87 @@
+package com.unibooker.resource.controller;
+
+import com.unibooker.resource.dto.SeatMapDto;
+import com.unibooker.resource.service.SeatMapService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+/**
+ * 좌석 배치도 컨트롤러 (SEAT 카테고리 리소스)
+ * - 스냅샷/변경 피드는 Accept: application/octet-stream이면 바이너리 (SeatMapCodec)
+ */
+@Slf4j
+@RestController
+@RequestMapping("/api/resources/{resourceId}/seats")
+@RequiredArgsConstructor
+public class SeatMapController {
+
+    private final SeatMapService seatMapService;
+
+    /**
+     * 좌석 배치도 스냅샷
+     */
+    @GetMapping(produces = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<SeatMapDto.SnapshotResponse> getSnapshot(@PathVariable Long resourceId) {
+        log.debug("GET /api/resources/{}/seats - 좌석 배치도 조회", resourceId);
+        return ResponseEntity.ok(seatMapService.getSnapshot(resourceId));
+    }
+
+    @GetMapping(produces = MediaType.APPLICATION_OCTET_STREAM_VALUE)
+    public ResponseEntity<byte[]> getSnapshotBinary(@PathVariable Long resourceId) {
+        log.debug("GET /api/resources/{}/seats - 좌석 배치도 조회 (바이너리)", resourceId);
+        return ResponseEntity.ok(seatMapService.getSnapshotBinary(resourceId));
+    }
+
+    /**
+     * since 버전 이후 변경 목록
+     */
+    @GetMapping(value = "/changes", produces = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<SeatMapDto.ChangesResponse> getChanges(
+            @PathVariable Long resourceId,
+            @RequestParam long since) {
+        log.debug("GET /api/resources/{}/seats/changes - 좌석 변경 조회 (since: {})", resourceId, since);
+        return ResponseEntity.ok(seatMapService.getChanges(resourceId, since));
+    }
+
+    @GetMapping(value = "/changes", produces = MediaType.APPLICATION_OCTET_STREAM_VALUE)
+    public ResponseEntity<byte[]> getChangesBinary(
+            @PathVariable Long resourceId,
+            @RequestParam long since) {
+        log.debug("GET /api/resources/{}/seats/changes - 좌석 변경 조회 (바이너리, since: {})", resourceId, since);
+        return ResponseEntity.ok(seatMapService.getChangesBinary(resourceId, since));
+    }
+
+    /**
+     * 좌석 묶음 선점 (이미 선점된 좌석이 있으면 409)
+     */
+    @PostMapping("/holds")
+    public ResponseEntity<SeatMapDto.HoldResponse> hold(
+            @PathVariable Long resourceId,
+            @RequestHeader("X-User-Id") Long userId,
+            @RequestBody SeatMapDto.HoldRequest request) {
+        log.info("POST /api/resources/{}/seats/holds - 좌석 선점", resourceId);
+        SeatMapDto.HoldResponse response = seatMapService.hold(resourceId, request, userId);
+        if (response == null) {
+            return ResponseEntity.status(HttpStatus.CONFLICT).build();
+        }
+        return ResponseEntity.status(HttpStatus.CREATED).body(response);
+    }
+
+    /**
+     * 좌석 선점 해제 (선점한 사용자만)
+     */
+    @DeleteMapping("/holds/{holdId}")
+    public ResponseEntity<Void> release(
+            @PathVariable Long resourceId,
+            @PathVariable String holdId,
+            @RequestHeader("X-User-Id") Long userId) {
+        log.info("DELETE /api/resources/{}/seats/holds/{} - 좌석 선점 해제", resourceId, holdId);
+        return seatMapService.release(resourceId, holdId, userId)
+                ? ResponseEntity.noContent().build()
+                : ResponseEntity.notFound().build();
+    }
+}
@@ -0,0 +1,57 @@
+package com.unibooker.resource.dto;
+
+import com.unibooker.resource.entity.DayOfWeek;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.List;
+
+/**
+ * 리소스 예약 가능 슬롯 DTO
+ */
+public class AvailabilityDto {
+
+    /**
+     * 기간별 예약 가능 슬롯 응답
+     */
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Response {
+        private Long resourceId;
+        private LocalDate from;
+        private LocalDate to;
+        private Integer timeInterval;
+        private List<Day> days;
+    }
+
+    /**
+     * 날짜별 예약 가능 슬롯 (닫힌 날은 빈 목록)
+     */
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Day {
+        private LocalDate date;
+        private DayOfWeek dayOfWeek;
+        private List<Slot> slots;
+    }
+
+    /**
+     * 슬롯 (timeInterval 단위)
+     */
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Slot {
+        private LocalTime startTime;
+        private LocalTime endTime;
+    }
+}
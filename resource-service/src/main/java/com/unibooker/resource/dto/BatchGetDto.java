@@ -0,0 +1,39 @@
+package com.unibooker.resource.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * ID 묶음 조회 DTO (POST .../batch-get)
+ */
+public class BatchGetDto {
+
+    /**
+     * ID 묶음 조회 요청 (최대 batch-get.max-ids개, 중복은 한 번만)
+     */
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Request {
+        private List<Long> ids;
+    }
+
+    /**
+     * ID 묶음 조회 결과
+     * - items: 요청한 ID 순서대로 (없거나 삭제된 ID는 제외)
+     * - missingIds: 찾지 못한 ID (요청 순서)
+     */
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Result<T> {
+        private List<T> items;
+        private List<Long> missingIds;
+    }
+}
@@ -0,0 +1,70 @@
+package com.unibooker.resource.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+
+/**
+ * 수용 인원 선점/확정 DTO
+ */
+public class CapacityDto {
+
+    /**
+     * 수용 인원 선점 요청 (slotStart: 슬롯 시작 일시, 슬롯 간격 경계)
+     */
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class HoldRequest {
+        private LocalDateTime slotStart;
+        private Integer quantity;
+    }
+
+    /**
+     * 수용 인원 선점 응답
+     */
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class HoldResponse {
+        private String holdId;
+        private Long resourceId;
+        private LocalDateTime slotStart;
+        private Integer quantity;
+        private Instant expiresAt;
+    }
+
+    /**
+     * 선점 확정 응답 (persisted=false면 기록 대기 중, 곧 저장됨)
+     */
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class ConfirmResponse {
+        private String holdId;
+        private Long resourceId;
+        private LocalDateTime slotStart;
+        private Integer quantity;
+        private Boolean persisted;
+    }
+
+    /**
+     * 슬롯 잔여 인원 응답
+     */
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class AvailableResponse {
+        private Long resourceId;
+        private LocalDateTime slotStart;
+        private Integer available;
+    }
+}
@@ -0,0 +1,88 @@
+package com.unibooker.resource.dto;
+
+import com.unibooker.resource.seat.SeatChange;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * 좌석 배치도 DTO
+ */
+public class SeatMapDto {
+
+    /**
+     * 좌석 선점 요청 (좌석 번호 = 행 × 열 개수 + 열, 0부터)
+     */
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class HoldRequest {
+        private List<Integer> seats;
+    }
+
+    /**
+     * 좌석 선점 응답
+     */
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class HoldResponse {
+        private String holdId;
+        private Long resourceId;
+        private List<Integer> seats;
+        private Instant expiresAt;
+        private Long version;
+    }
+
+    /**
+     * 좌석 배치도 스냅샷 응답
+     * - held: 선점 비트 Base64 (좌석 i → i / 8번째 바이트의 i % 8번째 비트, 하위 비트부터)
+     */
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class SnapshotResponse {
+        private Long resourceId;
+        private Integer rows;
+        private Integer cols;
+        private Long version;
+        private String held;
+    }
+
+    /**
+     * 변경 피드 응답
+     * - reset = true: since가 너무 오래되었거나 다른 배치도 버전 → snapshot부터 다시 적용
+     */
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class ChangesResponse {
+        private Long resourceId;
+        private Long since;
+        private Long version;
+        private Boolean reset;
+        private List<Change> changes;
+        private SnapshotResponse snapshot;
+    }
+
+    /**
+     * 변경 1건 (순서대로 적용, HOLD = 비트 설정 / RELEASE = 비트 해제)
+     */
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Change {
+        private Long version;
+        private SeatChange.Type type;
+        private int[] seats;
+    }
+}
@@ -0,0 +1,45 @@
+package com.unibooker.resource.entity;
+
+import com.unibooker.common.entity.BaseEntity;
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 리소스 예약 확정 엔티티
+ * - 타임 슬롯(slotStart) 단위 수용 인원 점유
+ * - CapacityEngine 선점 확정 시 ReservationJournal이 묶음으로 기록 (holdId로 중복 방지)
+ */
+@Getter
+@Entity
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Table(name = "resource_reservations",
+        indexes = @Index(name = "idx_resource_reservations_slot", columnList = "resource_id, slot_start"))
+public class ResourceReservations extends BaseEntity {
+
+    /** 리소스 */
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "resource_id", nullable = false)
+    private Resources resource;
+
+    /** 슬롯 시작 일시 */
+    @Column(nullable = false)
+    private LocalDateTime slotStart;
+
+    /** 인원 */
+    @Column(nullable = false)
+    private Integer quantity;
+
+    /** 선점 ID */
+    @Column(nullable = false, unique = true, length = 36)
+    private String holdId;
+
+    /** 예약자 ID */
+    private Long userId;
+}
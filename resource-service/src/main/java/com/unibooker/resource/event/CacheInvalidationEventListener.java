@@ -0,0 +1,23 @@
+package com.unibooker.resource.event;
+
+import com.unibooker.common.dto.CacheInvalidationDto;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * 캐시 무효화 이벤트 → 발행기 전달
+ * - 트랜잭션 커밋 후에만 전달 (커밋 전 무효화 시 이전 값이 다시 캐시될 수 있음)
+ */
+@Component
+@RequiredArgsConstructor
+public class CacheInvalidationEventListener {
+
+    private final CacheInvalidationPublisher cacheInvalidationPublisher;
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void handle(CacheInvalidationDto invalidation) {
+        cacheInvalidationPublisher.publish(invalidation);
+    }
+}
@@ -0,0 +1,13 @@
+package com.unibooker.resource.event;
+
+import com.unibooker.common.dto.CacheInvalidationDto;
+
+/**
+ * 게이트웨이 응답 캐시 무효화 이벤트 발행
+ * - 기본: Kafka (gateway-cache-invalidation 토픽)
+ * - 로컬: cache-invalidation.feed=local 이면 로그만 남김 (게이트웨이 캐시는 TTL로만 만료)
+ */
+public interface CacheInvalidationPublisher {
+
+    void publish(CacheInvalidationDto invalidation);
+}
@@ -0,0 +1,37 @@
+package com.unibooker.resource.event;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.unibooker.common.dto.CacheInvalidationDto;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * Kafka 응답 캐시 무효화 이벤트 발행
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "cache-invalidation.feed", havingValue = "kafka", matchIfMissing = true)
+public class KafkaCacheInvalidationPublisher implements CacheInvalidationPublisher {
+
+    private final KafkaTemplate<String, String> kafkaTemplate;
+    private final ObjectMapper objectMapper;
+
+    @Override
+    public void publish(CacheInvalidationDto invalidation) {
+        try {
+            kafkaTemplate.send(CacheInvalidationDto.TOPIC, objectMapper.writeValueAsString(invalidation))
+                    .whenComplete((result, e) -> {
+                        if (e != null) {
+                            log.error("❌ 캐시 무효화 이벤트 발행 실패 - {}", invalidation.getPaths(), e);
+                        }
+                    });
+        } catch (JsonProcessingException e) {
+            log.error("❌ 캐시 무효화 이벤트 직렬화 실패 - {}", invalidation.getPaths(), e);
+        }
+    }
+}
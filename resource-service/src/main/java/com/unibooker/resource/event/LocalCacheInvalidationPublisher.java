@@ -0,0 +1,20 @@
+package com.unibooker.resource.event;
+
+import com.unibooker.common.dto.CacheInvalidationDto;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+/**
+ * 로컬 개발용 응답 캐시 무효화 이벤트 발행 (Kafka 없이 로그만 기록)
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "cache-invalidation.feed", havingValue = "local")
+public class LocalCacheInvalidationPublisher implements CacheInvalidationPublisher {
+
+    @Override
+    public void publish(CacheInvalidationDto invalidation) {
+        log.info("캐시 무효화 (local) - paths: {}", invalidation.getPaths());
+    }
+}
@@ -1,9 +1,13 @@
 package com.unibooker.resource.repository;
 
+import com.unibooker.resource.dto.ResourceGroupDto;
 import com.unibooker.resource.entity.ResourceGroups;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -13,6 +17,12 @@ import java.util.Optional;
 @Repository
 public interface ResourceGroupRepository extends JpaRepository<ResourceGroups, Long> {
 
+    /** 응답 DTO 생성자 식 (리소스 컬렉션 로딩 없음) */
+    String RESPONSE = "select new com.unibooker.resource.dto.ResourceGroupDto$Response("
+            + "g.id, g.name, g.groupCode, g.description, g.thumbnail, g.category, g.isAlwaysAvailable, "
+            + "g.isActive, g.viewCount, g.companyId, g.createdAt, g.updatedAt) "
+            + "from ResourceGroups g ";
+
     /**
      * 회사별 리소스 그룹 조회
      */
@@ -32,4 +42,22 @@ public interface ResourceGroupRepository extends JpaRepository<ResourceGroups, L
      * ID로 조회 (삭제되지 않은 것만)
      */
     Optional<ResourceGroups> findByIdAndDeletedAtIsNull(Long id);
-}
\ No newline at end of file
+
+    /**
+     * 회사별 활성화된 리소스 그룹 응답 조회 (목록 조회용, 쿼리 1회)
+     */
+    @Query(RESPONSE + "where g.companyId = :companyId and g.isActive = true and g.deletedAt is null")
+    List<ResourceGroupDto.Response> findResponsesByCompanyId(@Param("companyId") Long companyId);
+
+    /**
+     * ID로 리소스 그룹 응답 조회 (삭제되지 않은 것만, 단건 조회용)
+     */
+    @Query(RESPONSE + "where g.id = :id and g.deletedAt is null")
+    Optional<ResourceGroupDto.Response> findResponseById(@Param("id") Long id);
+
+    /**
+     * 여러 ID로 리소스 그룹 응답 조회 (삭제되지 않은 것만, 묶음 조회용 IN 쿼리 1회)
+     */
+    @Query(RESPONSE + "where g.id in :ids and g.deletedAt is null")
+    List<ResourceGroupDto.Response> findResponsesByIdIn(@Param("ids") Collection<Long> ids);
+}
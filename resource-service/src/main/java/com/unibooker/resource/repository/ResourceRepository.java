@@ -1,9 +1,13 @@
 package com.unibooker.resource.repository;
 
+import com.unibooker.resource.dto.ResourceDto;
 import com.unibooker.resource.entity.Resources;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -13,6 +17,12 @@ import java.util.Optional;
 @Repository
 public interface ResourceRepository extends JpaRepository<Resources, Long> {
 
+    /** 응답 DTO 생성자 식 (그룹 ID는 외래키 컬럼 → 그룹 조인/프록시 없음) */
+    String RESPONSE = "select new com.unibooker.resource.dto.ResourceDto$Response("
+            + "r.id, r.name, r.description, r.resourceImage, r.isActive, r.startDate, r.endDate, "
+            + "r.timeInterval, r.capacity, r.row, r.col, r.status, r.resourceGroup.id, r.createdAt, r.updatedAt) "
+            + "from Resources r ";
+
     /**
      * 리소스 그룹별 리소스 조회
      */
@@ -27,4 +37,40 @@ public interface ResourceRepository extends JpaRepository<Resources, Long> {
      * ID로 조회 (삭제되지 않은 것만)
      */
     Optional<Resources> findByIdAndDeletedAtIsNull(Long id);
-}
\ No newline at end of file
+
+    /**
+     * ID로 타임 슬롯과 함께 조회 (삭제되지 않은 것만, 예약 가능 슬롯 컴파일용)
+     */
+    @Query("select r from Resources r left join fetch r.timeSlots where r.id = :id and r.deletedAt is null")
+    Optional<Resources> findWithTimeSlotsById(@Param("id") Long id);
+
+    /**
+     * 여러 ID를 타임 슬롯과 함께 조회 (삭제되지 않은 것만, 예약 가능 슬롯 컴파일용)
+     */
+    @Query("select distinct r from Resources r left join fetch r.timeSlots where r.id in :ids and r.deletedAt is null")
+    List<Resources> findAllWithTimeSlotsByIdIn(@Param("ids") Collection<Long> ids);
+
+    /**
+     * ID로 리소스 그룹과 함께 조회 (삭제되지 않은 것만, 좌석 배치도 생성용)
+     */
+    @Query("select r from Resources r join fetch r.resourceGroup where r.id = :id and r.deletedAt is null")
+    Optional<Resources> findWithResourceGroupById(@Param("id") Long id);
+
+    /**
+     * 리소스 그룹별 활성화된 리소스 응답 조회 (목록 조회용, 쿼리 1회)
+     */
+    @Query(RESPONSE + "where r.resourceGroup.id = :resourceGroupId and r.isActive = true and r.deletedAt is null")
+    List<ResourceDto.Response> findResponsesByResourceGroupId(@Param("resourceGroupId") Long resourceGroupId);
+
+    /**
+     * ID로 리소스 응답 조회 (삭제되지 않은 것만, 단건 조회용)
+     */
+    @Query(RESPONSE + "where r.id = :id and r.deletedAt is null")
+    Optional<ResourceDto.Response> findResponseById(@Param("id") Long id);
+
+    /**
+     * 여러 ID로 리소스 응답 조회 (삭제되지 않은 것만, 묶음 조회용 IN 쿼리 1회)
+     */
+    @Query(RESPONSE + "where r.id in :ids and r.deletedAt is null")
+    List<ResourceDto.Response> findResponsesByIdIn(@Param("ids") Collection<Long> ids);
+}
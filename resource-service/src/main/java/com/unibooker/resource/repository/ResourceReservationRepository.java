@@ -0,0 +1,23 @@
+package com.unibooker.resource.repository;
+
+import com.unibooker.resource.entity.ResourceReservations;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+
+/**
+ * 리소스 예약 확정 레포지토리
+ */
+@Repository
+public interface ResourceReservationRepository extends JpaRepository<ResourceReservations, Long> {
+
+    /**
+     * 슬롯의 확정 인원 합계 (삭제되지 않은 것만)
+     */
+    @Query("select coalesce(sum(r.quantity), 0) from ResourceReservations r " +
+            "where r.resource.id = :resourceId and r.slotStart = :slotStart and r.deletedAt is null")
+    long sumQuantity(@Param("resourceId") Long resourceId, @Param("slotStart") LocalDateTime slotStart);
+}
@@ -0,0 +1,16 @@
+package com.unibooker.resource.seat;
+
+/**
+ * 좌석 배치도 변경 1건 (변경 피드 단위)
+ * - seats: 정렬된 좌석 번호 (공유되므로 수정 금지)
+ */
+public record SeatChange(long version, Type type, int[] seats) {
+
+    public enum Type {
+        /** 선점 */
+        HOLD,
+
+        /** 해제 (선점 해제/만료/충돌 되돌림) */
+        RELEASE
+    }
+}
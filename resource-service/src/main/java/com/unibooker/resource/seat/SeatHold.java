@@ -0,0 +1,12 @@
+package com.unibooker.resource.seat;
+
+import java.time.Instant;
+
+/**
+ * 좌석 선점
+ * - userId: 선점한 사용자 (해제는 본인만)
+ * - seats: 정렬된 좌석 번호 (공유되므로 수정 금지)
+ * - version: 선점이 기록된 배치도 버전
+ */
+public record SeatHold(String id, Long resourceId, Long userId, int[] seats, Instant expiresAt, long version) {
+}
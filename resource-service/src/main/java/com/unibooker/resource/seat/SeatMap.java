@@ -0,0 +1,278 @@
+package com.unibooker.resource.seat;
+
+import lombok.Getter;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * 리소스 1개의 좌석 배치도 (좌석 점유 비트셋)
+ * - 좌석 번호 = 행 × 열 개수 + 열 (0부터), 비트 1 = 선점 중
+ * - AtomicLongArray에 64좌석씩 압축 (5만 석 = long 782개, 약 6KB)
+ * - 선점: 좌석 묶음을 word 순서대로 CAS, 하나라도 점유 중이면 이미 잡은 word를 되돌리고 실패 (전부 또는 없음)
+ * - 해제/되돌림은 변경 로그 잠금 안에서 비트 해제 + 기록 → 같은 좌석의 변경 순서와 로그 순서가 일치
+ * - 선점은 CAS 후 로그 기록 (선점 ID는 기록 후 반환되므로 해제가 선점 기록보다 앞설 수 없음)
+ * - 변경 로그는 최근 logCapacity건 링 버퍼, 그보다 오래된 버전은 스냅샷부터 다시 받아야 함
+ * - 스냅샷은 버전을 먼저 읽고 비트를 복사 → 스냅샷 + 이후 변경 재적용 결과가 항상 최신 상태와 같음
+ * - 버전은 생성 시각(ms) × 1024부터 시작 → 재시작/재생성 전 버전은 항상 범위 밖(스냅샷부터 다시)으로 판정
+ */
+public final class SeatMap {
+
+    /** 리소스 ID */
+    @Getter
+    private final Long resourceId;
+
+    /** 행 개수 */
+    @Getter
+    private final int rows;
+
+    /** 열 개수 */
+    @Getter
+    private final int cols;
+
+    /** 좌석 수 (행 × 열) */
+    @Getter
+    private final int seatCount;
+
+    private final AtomicLongArray held;
+
+    /** 진행 중인 선점 (선점 ID → 선점) */
+    private final Map<String, SeatHold> holds = new ConcurrentHashMap<>();
+
+    /** 최근 변경 링 버퍼 (버전 % 크기), log 잠금으로 보호 */
+    private final SeatChange[] log;
+
+    /** 마지막 변경 버전 (쓰기는 log 잠금 안에서만) */
+    private volatile long version;
+
+    public SeatMap(Long resourceId, int rows, int cols, int logCapacity) {
+        if (rows <= 0 || cols <= 0) {
+            throw new IllegalArgumentException("좌석 행/열 개수는 1 이상이어야 합니다.");
+        }
+        this.resourceId = resourceId;
+        this.rows = rows;
+        this.cols = cols;
+        this.seatCount = Math.multiplyExact(rows, cols);
+        this.held = new AtomicLongArray((seatCount + 63) >>> 6);
+        this.log = new SeatChange[logCapacity];
+        this.version = System.currentTimeMillis() << 10;
+    }
+
+    public long getVersion() {
+        return version;
+    }
+
+    /**
+     * 좌석 묶음 선점 (전부 비어 있으면 선점, 하나라도 점유 중이면 null)
+     * - 좌석 번호 범위 밖이면 IllegalArgumentException
+     */
+    public SeatHold hold(int[] seats, Long userId, Instant expiresAt) {
+        int[] sorted = normalize(seats);
+        int[] words = new int[sorted.length];
+        long[] masks = new long[sorted.length];
+        int count = toMasks(sorted, words, masks);
+
+        for (int i = 0; i < count; i++) {
+            int word = words[i];
+            long mask = masks[i];
+            while (true) {
+                long current = held.get(word);
+                if ((current & mask) != 0) {
+                    rollback(words, masks, i, sorted);
+                    return null;
+                }
+                if (held.compareAndSet(word, current, current | mask)) {
+                    break;
+                }
+            }
+        }
+
+        long changed;
+        synchronized (log) {
+            changed = append(SeatChange.Type.HOLD, sorted);
+        }
+        SeatHold hold = new SeatHold(UUID.randomUUID().toString(), resourceId, userId, sorted, expiresAt, changed);
+        holds.put(hold.id(), hold);
+        return hold;
+    }
+
+    /**
+     * 선점 해제 (없거나 이미 해제된 선점이면 null)
+     */
+    public SeatHold release(String holdId) {
+        SeatHold hold = holds.remove(holdId);
+        if (hold == null) {
+            return null;
+        }
+        int[] seats = hold.seats();
+        int[] words = new int[seats.length];
+        long[] masks = new long[seats.length];
+        int count = toMasks(seats, words, masks);
+        synchronized (log) {
+            clear(words, masks, count);
+            append(SeatChange.Type.RELEASE, seats);
+        }
+        return hold;
+    }
+
+    /**
+     * 만료된 선점 일괄 해제
+     */
+    public int releaseExpired(Instant now) {
+        int released = 0;
+        for (SeatHold hold : holds.values()) {
+            if (!hold.expiresAt().isAfter(now) && release(hold.id()) != null) {
+                released++;
+            }
+        }
+        return released;
+    }
+
+    /**
+     * 선점 조회 (없으면 null)
+     */
+    public SeatHold getHold(String holdId) {
+        return holds.get(holdId);
+    }
+
+    public int activeHolds() {
+        return holds.size();
+    }
+
+    public boolean isHeld(int seat) {
+        checkSeat(seat);
+        return (held.get(seat >>> 6) & (1L << seat)) != 0;
+    }
+
+    /**
+     * 선점된 좌석 수
+     */
+    public int heldCount() {
+        int count = 0;
+        for (int w = 0; w < held.length(); w++) {
+            count += Long.bitCount(held.get(w));
+        }
+        return count;
+    }
+
+    /**
+     * 렌더링용 스냅샷 (버전 → 비트 순서로 읽음, 이후 변경은 changesSince(버전)으로 재적용)
+     */
+    public SeatSnapshot snapshot() {
+        long snapshotVersion = version;
+        long[] words = new long[held.length()];
+        for (int w = 0; w < words.length; w++) {
+            words[w] = held.get(w);
+        }
+        return new SeatSnapshot(resourceId, rows, cols, snapshotVersion, words);
+    }
+
+    /**
+     * since 이후 변경 목록 (링 버퍼에 없거나 이 배치도의 버전이 아니면 null → 스냅샷부터 다시)
+     */
+    public List<SeatChange> changesSince(long since) {
+        synchronized (log) {
+            long current = version;
+            if (since > current || current - since > log.length) {
+                return null;
+            }
+            List<SeatChange> changes = new ArrayList<>((int) (current - since));
+            for (long v = since + 1; v <= current; v++) {
+                changes.add(log[(int) (v % log.length)]);
+            }
+            return changes;
+        }
+    }
+
+    /**
+     * 충돌 시 이미 잡은 word 되돌림
+     * - 잡은 비트가 있으면 해제 기록을 남김 (그 사이 찍힌 스냅샷에 보였을 수 있으므로)
+     */
+    private void rollback(int[] words, long[] masks, int acquired, int[] seats) {
+        if (acquired == 0) {
+            return;
+        }
+        synchronized (log) {
+            clear(words, masks, acquired);
+            append(SeatChange.Type.RELEASE, acquiredSeats(seats, words[acquired - 1]));
+        }
+    }
+
+    private void clear(int[] words, long[] masks, int count) {
+        for (int i = 0; i < count; i++) {
+            int word = words[i];
+            long mask = masks[i];
+            while (true) {
+                long current = held.get(word);
+                if (held.compareAndSet(word, current, current & ~mask)) {
+                    break;
+                }
+            }
+        }
+    }
+
+    /** log 잠금 안에서 호출 */
+    private long append(SeatChange.Type type, int[] seats) {
+        long next = version + 1;
+        log[(int) (next % log.length)] = new SeatChange(next, type, seats);
+        version = next;
+        return next;
+    }
+
+    /**
+     * 정렬된 좌석 → word별 마스크 (반환값: word 개수)
+     */
+    private static int toMasks(int[] sorted, int[] words, long[] masks) {
+        int count = 0;
+        for (int seat : sorted) {
+            int word = seat >>> 6;
+            if (count == 0 || words[count - 1] != word) {
+                words[count++] = word;
+            }
+            masks[count - 1] |= 1L << seat;
+        }
+        return count;
+    }
+
+    /**
+     * 되돌린 좌석 (lastWord 이하 word에 속한 좌석)
+     */
+    private static int[] acquiredSeats(int[] sorted, int lastWord) {
+        int end = 0;
+        while (end < sorted.length && (sorted[end] >>> 6) <= lastWord) {
+            end++;
+        }
+        return Arrays.copyOf(sorted, end);
+    }
+
+    /**
+     * 정렬 + 중복 제거 + 범위 검사 (word 오름차순 CAS로 교착 없이 충돌 판정)
+     */
+    private int[] normalize(int[] seats) {
+        if (seats == null || seats.length == 0) {
+            throw new IllegalArgumentException("선점할 좌석이 없습니다.");
+        }
+        int[] sorted = seats.clone();
+        Arrays.sort(sorted);
+        int distinct = 0;
+        for (int i = 0; i < sorted.length; i++) {
+            checkSeat(sorted[i]);
+            if (distinct == 0 || sorted[distinct - 1] != sorted[i]) {
+                sorted[distinct++] = sorted[i];
+            }
+        }
+        return distinct == sorted.length ? sorted : Arrays.copyOf(sorted, distinct);
+    }
+
+    private void checkSeat(int seat) {
+        if (seat < 0 || seat >= seatCount) {
+            throw new IllegalArgumentException("좌석 번호가 범위를 벗어났습니다: " + seat);
+        }
+    }
+}
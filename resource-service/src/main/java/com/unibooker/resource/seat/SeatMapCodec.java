@@ -0,0 +1,52 @@
+package com.unibooker.resource.seat;
+
+import java.nio.ByteBuffer;
+import java.util.List;
+
+/**
+ * 좌석 배치도 바이너리 인코딩 (application/octet-stream, big-endian)
+ * - 공통: byte kind (0 = 변경 목록, 1 = 스냅샷), long version
+ * - 변경 목록: long since, int count, 변경마다 [long version][byte type (0 = HOLD, 1 = RELEASE)][int n][int seat × n]
+ * - 스냅샷: int rows, int cols, int length, byte × length (SeatSnapshot.toBytes 형식)
+ */
+public final class SeatMapCodec {
+
+    public static final byte KIND_CHANGES = 0;
+    public static final byte KIND_SNAPSHOT = 1;
+
+    private SeatMapCodec() {
+    }
+
+    public static byte[] encodeSnapshot(SeatSnapshot snapshot) {
+        byte[] held = snapshot.toBytes();
+        ByteBuffer buffer = ByteBuffer.allocate(1 + 8 + 4 + 4 + 4 + held.length);
+        buffer.put(KIND_SNAPSHOT)
+                .putLong(snapshot.version())
+                .putInt(snapshot.rows())
+                .putInt(snapshot.cols())
+                .putInt(held.length)
+                .put(held);
+        return buffer.array();
+    }
+
+    public static byte[] encodeChanges(long since, long version, List<SeatChange> changes) {
+        int size = 1 + 8 + 8 + 4;
+        for (SeatChange change : changes) {
+            size += 8 + 1 + 4 + 4 * change.seats().length;
+        }
+        ByteBuffer buffer = ByteBuffer.allocate(size);
+        buffer.put(KIND_CHANGES)
+                .putLong(version)
+                .putLong(since)
+                .putInt(changes.size());
+        for (SeatChange change : changes) {
+            buffer.putLong(change.version())
+                    .put((byte) change.type().ordinal())
+                    .putInt(change.seats().length);
+            for (int seat : change.seats()) {
+                buffer.putInt(seat);
+            }
+        }
+        return buffer.array();
+    }
+}
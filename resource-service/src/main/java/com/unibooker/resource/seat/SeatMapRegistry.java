@@ -0,0 +1,159 @@
+package com.unibooker.resource.seat;
+
+import com.unibooker.resource.availability.ResourceScheduleChangedEvent;
+import com.unibooker.resource.entity.Resources;
+import com.unibooker.resource.entity.ServiceCategory;
+import com.unibooker.resource.repository.ResourceRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 좌석 배치도 저장소 (리소스별 SeatMap, 메모리 보관)
+ * - SEAT 카테고리 그룹에 속하고 행/열이 설정된 리소스만 (첫 조회 시 생성)
+ * - 선점은 seat-map.hold-ttl 후 만료 (seat-map.sweep-interval 주기로 해제)
+ * - 선점 1건당 좌석 수는 seat-map.max-seats-per-hold 이하, 해제는 선점한 사용자만
+ * - 리소스 수정/삭제 커밋 후: 삭제되었거나 행/열이 바뀌면 배치도 폐기 (진행 중인 선점도 함께 사라짐)
+ * - 인스턴스 메모리에만 존재 → 좌석 예매 리소스는 한 인스턴스로 라우팅되어야 함
+ */
+@Slf4j
+@Component
+public class SeatMapRegistry {
+
+    private final ResourceRepository resourceRepository;
+
+    private final Duration holdTtl;
+
+    private final int logCapacity;
+
+    private final int maxSeats;
+
+    private final int maxSeatsPerHold;
+
+    private final Clock clock;
+
+    private final Map<Long, SeatMap> seatMaps = new ConcurrentHashMap<>();
+
+    @Autowired
+    public SeatMapRegistry(ResourceRepository resourceRepository,
+                           @Value("${seat-map.hold-ttl:PT10M}") Duration holdTtl,
+                           @Value("${seat-map.log-capacity:1024}") int logCapacity,
+                           @Value("${seat-map.max-seats:100000}") int maxSeats,
+                           @Value("${seat-map.max-seats-per-hold:10}") int maxSeatsPerHold) {
+        this(resourceRepository, holdTtl, logCapacity, maxSeats, maxSeatsPerHold, Clock.systemUTC());
+    }
+
+    SeatMapRegistry(ResourceRepository resourceRepository, Duration holdTtl, int logCapacity, int maxSeats,
+                    int maxSeatsPerHold, Clock clock) {
+        this.resourceRepository = resourceRepository;
+        this.holdTtl = holdTtl;
+        this.logCapacity = logCapacity;
+        this.maxSeats = maxSeats;
+        this.maxSeatsPerHold = maxSeatsPerHold;
+        this.clock = clock;
+    }
+
+    /**
+     * 리소스 좌석 배치도 (없으면 생성, 좌석 예매 리소스가 아니면 IllegalArgumentException)
+     */
+    public SeatMap get(Long resourceId) {
+        SeatMap seatMap = seatMaps.get(resourceId);
+        if (seatMap != null) {
+            return seatMap;
+        }
+        Resources resource = resourceRepository.findWithResourceGroupById(resourceId)
+                .orElseThrow(() -> new IllegalArgumentException("리소스를 찾을 수 없습니다: " + resourceId));
+        if (resource.getResourceGroup().getCategory() != ServiceCategory.SEAT) {
+            throw new IllegalArgumentException("좌석 예매 리소스가 아닙니다: " + resourceId);
+        }
+        Integer rows = resource.getRow();
+        Integer cols = resource.getCol();
+        if (rows == null || cols == null || rows <= 0 || cols <= 0) {
+            throw new IllegalArgumentException("좌석 행/열 개수가 설정되지 않았습니다: " + resourceId);
+        }
+        if ((long) rows * cols > maxSeats) {
+            throw new IllegalArgumentException("좌석 수는 최대 " + maxSeats + "석입니다: " + resourceId);
+        }
+        return seatMaps.computeIfAbsent(resourceId, id -> new SeatMap(id, rows, cols, logCapacity));
+    }
+
+    /**
+     * 좌석 묶음 선점 (충돌 시 null)
+     * - 좌석이 없거나 max-seats-per-hold를 넘으면 IllegalArgumentException
+     */
+    public SeatHold hold(Long resourceId, Long userId, int[] seats) {
+        if (userId == null) {
+            throw new IllegalArgumentException("선점할 사용자 정보가 없습니다.");
+        }
+        if (seats.length == 0 || seats.length > maxSeatsPerHold) {
+            throw new IllegalArgumentException("한 번에 선점할 수 있는 좌석은 1~" + maxSeatsPerHold + "석입니다.");
+        }
+        SeatHold hold = get(resourceId).hold(seats, userId, clock.instant().plus(holdTtl));
+        if (hold == null) {
+            log.debug("좌석 선점 충돌 - resourceId: {}, seats: {}", resourceId, seats.length);
+        }
+        return hold;
+    }
+
+    /**
+     * 선점 해제 (없거나 이미 해제/만료되었으면 null)
+     * - 다른 사용자의 선점이면 IllegalArgumentException
+     */
+    public SeatHold release(Long resourceId, String holdId, Long userId) {
+        SeatMap seatMap = get(resourceId);
+        SeatHold hold = seatMap.getHold(holdId);
+        if (hold == null) {
+            return null;
+        }
+        if (!hold.userId().equals(userId)) {
+            throw new IllegalArgumentException("본인의 선점이 아닙니다: " + holdId);
+        }
+        return seatMap.release(holdId);
+    }
+
+    /**
+     * 만료된 선점 해제
+     */
+    @Scheduled(fixedDelayString = "${seat-map.sweep-interval:PT5S}")
+    public void releaseExpired() {
+        Instant now = clock.instant();
+        for (SeatMap seatMap : seatMaps.values()) {
+            int released = seatMap.releaseExpired(now);
+            if (released > 0) {
+                log.debug("만료된 좌석 선점 해제 - resourceId: {}, 건수: {}", seatMap.getResourceId(), released);
+            }
+        }
+    }
+
+    /**
+     * 리소스 변경 커밋 후 배치도 유지 여부 확인 (삭제되었거나 행/열이 바뀌면 폐기)
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onResourceChanged(ResourceScheduleChangedEvent event) {
+        SeatMap seatMap = seatMaps.get(event.resourceId());
+        if (seatMap == null) {
+            return;
+        }
+        Optional<Resources> resource = resourceRepository.findWithResourceGroupById(event.resourceId());
+        boolean unchanged = resource
+                .filter(r -> r.getResourceGroup().getCategory() == ServiceCategory.SEAT)
+                .filter(r -> Integer.valueOf(seatMap.getRows()).equals(r.getRow())
+                        && Integer.valueOf(seatMap.getCols()).equals(r.getCol()))
+                .isPresent();
+        if (!unchanged) {
+            seatMaps.remove(event.resourceId(), seatMap);
+            log.info("좌석 배치도 폐기 - resourceId: {}, 진행 중인 선점: {}", event.resourceId(), seatMap.activeHolds());
+        }
+    }
+}
@@ -0,0 +1,20 @@
+package com.unibooker.resource.seat;
+
+/**
+ * 좌석 배치도 스냅샷
+ * - words: 64좌석씩 압축한 선점 비트 (좌석 i → words[i / 64]의 i % 64번째 비트)
+ */
+public record SeatSnapshot(Long resourceId, int rows, int cols, long version, long[] words) {
+
+    /**
+     * 압축 바이트 (좌석 i → i / 8번째 바이트의 i % 8번째 비트, 하위 비트부터)
+     */
+    public byte[] toBytes() {
+        int seatCount = rows * cols;
+        byte[] bytes = new byte[(seatCount + 7) >>> 3];
+        for (int i = 0; i < bytes.length; i++) {
+            bytes[i] = (byte) (words[i >>> 3] >>> ((i & 7) << 3));
+        }
+        return bytes;
+    }
+}
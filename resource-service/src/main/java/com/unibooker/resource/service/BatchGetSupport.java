@@ -0,0 +1,72 @@
+package com.unibooker.resource.service;
+
+import com.unibooker.resource.dto.BatchGetDto;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * ID 묶음 조회 공통 처리
+ * - 요청 ID 검증/중복 제거 (batch-get.max-ids 이내)
+ * - IN 쿼리 결과를 요청 순서로 재정렬하고 못 찾은 ID 수집
+ */
+@Component
+public class BatchGetSupport {
+
+    private final int maxIds;
+
+    public BatchGetSupport(@Value("${batch-get.max-ids:200}") int maxIds) {
+        this.maxIds = maxIds;
+    }
+
+    /**
+     * 요청 ID 검증 + 중복 제거 (요청 순서 유지)
+     */
+    public Collection<Long> distinctIds(List<Long> ids) {
+        if (ids == null || ids.isEmpty()) {
+            throw new IllegalArgumentException("조회할 ID가 없습니다.");
+        }
+        LinkedHashSet<Long> distinct = new LinkedHashSet<>(ids.size() * 2);
+        for (Long id : ids) {
+            if (id == null) {
+                throw new IllegalArgumentException("ID는 null일 수 없습니다.");
+            }
+            distinct.add(id);
+        }
+        if (distinct.size() > maxIds) {
+            throw new IllegalArgumentException("한 번에 조회할 수 있는 ID는 최대 " + maxIds + "개입니다.");
+        }
+        return distinct;
+    }
+
+    /**
+     * 조회 결과를 요청 순서로 정렬
+     */
+    public <T> BatchGetDto.Result<T> ordered(Collection<Long> ids, List<T> found, Function<T, Long> idOf) {
+        Map<Long, T> byId = new HashMap<>(found.size() * 2);
+        for (T item : found) {
+            byId.put(idOf.apply(item), item);
+        }
+        List<T> items = new ArrayList<>(found.size());
+        List<Long> missingIds = new ArrayList<>();
+        for (Long id : ids) {
+            T item = byId.get(id);
+            if (item != null) {
+                items.add(item);
+            } else {
+                missingIds.add(id);
+            }
+        }
+        return BatchGetDto.Result.<T>builder()
+                .items(items)
+                .missingIds(missingIds)
+                .build();
+    }
+}
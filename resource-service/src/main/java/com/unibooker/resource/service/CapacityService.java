@@ -0,0 +1,133 @@
+package com.unibooker.resource.service;
+
+import com.unibooker.resource.capacity.CapacityEngine;
+import com.unibooker.resource.capacity.CapacityHold;
+import com.unibooker.resource.capacity.ConfirmedReservation;
+import com.unibooker.resource.dto.CapacityDto;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * 수용 인원 선점/확정 서비스
+ * - 선점/해제는 CapacityEngine 메모리 카운터에서 처리 (DB 트랜잭션 없음)
+ * - 확정은 묶음 기록 커밋을 capacity.confirm-timeout까지 기다림 (넘으면 기록 대기 중으로 응답)
+ */
+@Slf4j
+@Service
+public class CapacityService {
+
+    private final CapacityEngine capacityEngine;
+
+    private final Duration confirmTimeout;
+
+    public CapacityService(CapacityEngine capacityEngine,
+                           @Value("${capacity.confirm-timeout:PT2S}") Duration confirmTimeout) {
+        this.capacityEngine = capacityEngine;
+        this.confirmTimeout = confirmTimeout;
+    }
+
+    /**
+     * 수용 인원 선점 (잔여 인원 부족 시 null)
+     */
+    public CapacityDto.HoldResponse hold(Long resourceId, CapacityDto.HoldRequest request, Long userId) {
+        if (userId == null) {
+            throw new IllegalArgumentException("사용자 ID는 필수입니다.");
+        }
+        if (request == null || request.getSlotStart() == null) {
+            throw new IllegalArgumentException("슬롯 시작 일시는 필수입니다.");
+        }
+        int quantity = request.getQuantity() != null ? request.getQuantity() : 1;
+        CapacityHold hold = capacityEngine.hold(resourceId, request.getSlotStart(), quantity, userId);
+        return hold != null ? convertToResponse(hold) : null;
+    }
+
+    /**
+     * 선점 확정 (기록 완료 또는 confirm-timeout까지 대기, 본인 선점만)
+     */
+    public CapacityDto.ConfirmResponse confirm(Long resourceId, String holdId, Long userId) {
+        CapacityHold hold = capacityEngine.getHold(holdId);
+        if (hold == null) {
+            throw new IllegalArgumentException("선점을 찾을 수 없거나 만료되었습니다: " + holdId);
+        }
+        checkResource(resourceId, hold);
+        checkOwner(userId, hold);
+        CompletableFuture<ConfirmedReservation> future = capacityEngine.confirm(holdId);
+        try {
+            future.get(confirmTimeout.toMillis(), TimeUnit.MILLISECONDS);
+            return convertToResponse(hold, true);
+        } catch (TimeoutException e) {
+            log.warn("예약 확정 기록 대기 시간 초과 - holdId: {}", holdId);
+            return convertToResponse(hold, false);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("예약 확정 대기 중 중단되었습니다.", e);
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("예약 확정 기록에 실패했습니다.", e.getCause());
+        }
+    }
+
+    /**
+     * 선점 해제 (없거나 이미 해제/확정/만료되었으면 false, 본인 선점만)
+     */
+    public boolean release(Long resourceId, String holdId, Long userId) {
+        CapacityHold hold = capacityEngine.getHold(holdId);
+        if (hold == null) {
+            return false;
+        }
+        checkResource(resourceId, hold);
+        checkOwner(userId, hold);
+        return capacityEngine.release(holdId) != null;
+    }
+
+    /**
+     * 슬롯 잔여 인원
+     */
+    public CapacityDto.AvailableResponse getAvailable(Long resourceId, LocalDateTime slotStart) {
+        return CapacityDto.AvailableResponse.builder()
+                .resourceId(resourceId)
+                .slotStart(slotStart)
+                .available(capacityEngine.available(resourceId, slotStart))
+                .build();
+    }
+
+    private void checkResource(Long resourceId, CapacityHold hold) {
+        if (!hold.key().resourceId().equals(resourceId)) {
+            throw new IllegalArgumentException("해당 리소스의 선점이 아닙니다: " + hold.id());
+        }
+    }
+
+    private void checkOwner(Long userId, CapacityHold hold) {
+        if (userId == null || !Objects.equals(hold.userId(), userId)) {
+            throw new IllegalArgumentException("본인의 선점이 아닙니다: " + hold.id());
+        }
+    }
+
+    private CapacityDto.HoldResponse convertToResponse(CapacityHold hold) {
+        return CapacityDto.HoldResponse.builder()
+                .holdId(hold.id())
+                .resourceId(hold.key().resourceId())
+                .slotStart(hold.key().slotStart())
+                .quantity(hold.quantity())
+                .expiresAt(hold.expiresAt())
+                .build();
+    }
+
+    private CapacityDto.ConfirmResponse convertToResponse(CapacityHold hold, boolean persisted) {
+        return CapacityDto.ConfirmResponse.builder()
+                .holdId(hold.id())
+                .resourceId(hold.key().resourceId())
+                .slotStart(hold.key().slotStart())
+                .quantity(hold.quantity())
+                .persisted(persisted)
+                .build();
+    }
+}
@@ -1,17 +1,20 @@
 package com.unibooker.resource.service;
 
+import com.unibooker.common.dto.CacheInvalidationDto;
+import com.unibooker.resource.dto.BatchGetDto;
 import com.unibooker.resource.dto.ResourceGroupDto;
 import com.unibooker.resource.entity.ResourceGroups;
 import com.unibooker.resource.entity.ResourceStatus;
 import com.unibooker.resource.repository.ResourceGroupRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
-import java.util.stream.Collectors;
 
 /**
  * 리소스 그룹 서비스
@@ -23,6 +26,8 @@ import java.util.stream.Collectors;
 public class ResourceGroupService {
 
     private final ResourceGroupRepository resourceGroupRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final BatchGetSupport batchGetSupport;
 
     /**
      * 리소스 그룹 생성
@@ -45,6 +50,7 @@ public class ResourceGroupService {
                 .build();
 
         ResourceGroups saved = resourceGroupRepository.save(resourceGroup);
+        eventPublisher.publishEvent(CacheInvalidationDto.of(companyPath(saved)));
         return convertToResponse(saved);
     }
 
@@ -54,11 +60,20 @@ public class ResourceGroupService {
     public ResourceGroupDto.Response getResourceGroup(Long id) {
         log.info("리소스 그룹 조회: {}", id);
 
-        ResourceGroups resourceGroup = resourceGroupRepository
-                .findByIdAndDeletedAtIsNull(id)
+        return resourceGroupRepository
+                .findResponseById(id)
                 .orElseThrow(() -> new IllegalArgumentException("리소스 그룹을 찾을 수 없습니다: " + id));
+    }
 
-        return convertToResponse(resourceGroup);
+    /**
+     * 리소스 그룹 묶음 조회 (IN 쿼리 1회, 요청 순서 유지, 못 찾은 ID 포함)
+     */
+    public BatchGetDto.Result<ResourceGroupDto.Response> getResourceGroups(List<Long> ids) {
+        Collection<Long> distinct = batchGetSupport.distinctIds(ids);
+        log.info("리소스 그룹 묶음 조회: {}건", distinct.size());
+
+        return batchGetSupport.ordered(distinct, resourceGroupRepository.findResponsesByIdIn(distinct),
+                ResourceGroupDto.Response::getId);
     }
 
     /**
@@ -67,12 +82,7 @@ public class ResourceGroupService {
     public List<ResourceGroupDto.Response> getResourceGroupsByCompany(Long companyId) {
         log.info("회사별 리소스 그룹 목록 조회: {}", companyId);
 
-        List<ResourceGroups> resourceGroups = resourceGroupRepository
-                .findByCompanyIdAndIsActiveTrueAndDeletedAtIsNull(companyId);
-
-        return resourceGroups.stream()
-                .map(this::convertToResponse)
-                .collect(Collectors.toList());
+        return resourceGroupRepository.findResponsesByCompanyId(companyId);
     }
 
     /**
@@ -95,6 +105,7 @@ public class ResourceGroupService {
                 request.getIsAlwaysAvailable(),
                 request.getUpdatedBy()
         );
+        eventPublisher.publishEvent(CacheInvalidationDto.of(companyPath(resourceGroup)));
 
         return convertToResponse(resourceGroup);
     }
@@ -111,6 +122,18 @@ public class ResourceGroupService {
                 .orElseThrow(() -> new IllegalArgumentException("리소스 그룹을 찾을 수 없습니다: " + id));
 
         resourceGroup.softDelete();
+        eventPublisher.publishEvent(CacheInvalidationDto.of(companyPath(resourceGroup), groupPath(resourceGroup)));
+    }
+
+    /**
+     * 게이트웨이 캐시 대상 경로 (회사별 그룹 목록 / 그룹별 리소스 목록)
+     */
+    private String companyPath(ResourceGroups resourceGroup) {
+        return "/api/resource-groups/company/" + resourceGroup.getCompanyId();
+    }
+
+    private String groupPath(ResourceGroups resourceGroup) {
+        return "/api/resources/group/" + resourceGroup.getId();
     }
 
     /**
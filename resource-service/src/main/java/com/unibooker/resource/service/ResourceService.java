@@ -1,5 +1,10 @@
 package com.unibooker.resource.service;
 
+import com.unibooker.common.dto.CacheInvalidationDto;
+import com.unibooker.resource.availability.AvailabilityEngine;
+import com.unibooker.resource.availability.ResourceScheduleChangedEvent;
+import com.unibooker.resource.dto.AvailabilityDto;
+import com.unibooker.resource.dto.BatchGetDto;
 import com.unibooker.resource.dto.ResourceDto;
 import com.unibooker.resource.entity.ResourceGroups;
 import com.unibooker.resource.entity.ResourceStatus;
@@ -8,12 +13,13 @@ import com.unibooker.resource.repository.ResourceGroupRepository;
 import com.unibooker.resource.repository.ResourceRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
-import java.util.stream.Collectors;
 
 /**
  * 리소스 서비스
@@ -26,6 +32,9 @@ public class ResourceService {
 
     private final ResourceRepository resourceRepository;
     private final ResourceGroupRepository resourceGroupRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final AvailabilityEngine availabilityEngine;
+    private final BatchGetSupport batchGetSupport;
 
     /**
      * 리소스 생성
@@ -65,6 +74,7 @@ public class ResourceService {
                 .build();
 
         Resources saved = resourceRepository.save(resource);
+        invalidateGroupCache(saved);
         return convertToResponse(saved);
     }
 
@@ -74,11 +84,28 @@ public class ResourceService {
     public ResourceDto.Response getResource(Long id) {
         log.info("리소스 조회: {}", id);
 
-        Resources resource = resourceRepository
-                .findByIdAndDeletedAtIsNull(id)
+        return resourceRepository
+                .findResponseById(id)
                 .orElseThrow(() -> new IllegalArgumentException("리소스를 찾을 수 없습니다: " + id));
+    }
 
-        return convertToResponse(resource);
+    /**
+     * 리소스 묶음 조회 (IN 쿼리 1회, 요청 순서 유지, 못 찾은 ID 포함)
+     */
+    public BatchGetDto.Result<ResourceDto.Response> getResources(List<Long> ids) {
+        Collection<Long> distinct = batchGetSupport.distinctIds(ids);
+        log.info("리소스 묶음 조회: {}건", distinct.size());
+
+        return batchGetSupport.ordered(distinct, resourceRepository.findResponsesByIdIn(distinct),
+                ResourceDto.Response::getId);
+    }
+
+    /**
+     * 리소스 기간별 예약 가능 슬롯 조회 (주간 타임 슬롯 비트셋 기준)
+     */
+    public AvailabilityDto.Response getAvailability(Long id, LocalDate from, LocalDate to) {
+        log.info("리소스 예약 가능 슬롯 조회: {} ({} ~ {})", id, from, to);
+        return availabilityEngine.availability(id, from, to);
     }
 
     /**
@@ -87,12 +114,7 @@ public class ResourceService {
     public List<ResourceDto.Response> getResourcesByGroup(Long resourceGroupId) {
         log.info("리소스 그룹별 리소스 목록 조회: {}", resourceGroupId);
 
-        List<Resources> resources = resourceRepository
-                .findByResourceGroupIdAndIsActiveTrueAndDeletedAtIsNull(resourceGroupId);
-
-        return resources.stream()
-                .map(this::convertToResponse)
-                .collect(Collectors.toList());
+        return resourceRepository.findResponsesByResourceGroupId(resourceGroupId);
     }
 
     /**
@@ -117,6 +139,8 @@ public class ResourceService {
                 request.getCol(),
                 request.getUpdatedBy()
         );
+        invalidateGroupCache(resource);
+        eventPublisher.publishEvent(new ResourceScheduleChangedEvent(id));
 
         return convertToResponse(resource);
     }
@@ -133,6 +157,15 @@ public class ResourceService {
                 .orElseThrow(() -> new IllegalArgumentException("리소스를 찾을 수 없습니다: " + id));
 
         resource.softDelete();
+        invalidateGroupCache(resource);
+        eventPublisher.publishEvent(new ResourceScheduleChangedEvent(id));
+    }
+
+    /**
+     * 게이트웨이에 캐시된 그룹별 리소스 목록 응답 무효화 (커밋 후 전달)
+     */
+    private void invalidateGroupCache(Resources resource) {
+        eventPublisher.publishEvent(CacheInvalidationDto.of("/api/resources/group/" + resource.getResourceGroup().getId()));
     }
 
     /**
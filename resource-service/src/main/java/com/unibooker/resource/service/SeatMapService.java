@@ -0,0 +1,123 @@
+package com.unibooker.resource.service;
+
+import com.unibooker.resource.dto.SeatMapDto;
+import com.unibooker.resource.seat.SeatChange;
+import com.unibooker.resource.seat.SeatHold;
+import com.unibooker.resource.seat.SeatMap;
+import com.unibooker.resource.seat.SeatMapCodec;
+import com.unibooker.resource.seat.SeatMapRegistry;
+import com.unibooker.resource.seat.SeatSnapshot;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.List;
+
+/**
+ * 좌석 배치도 서비스
+ * - 선점/해제는 SeatMapRegistry의 메모리 비트셋에서 처리 (DB 트랜잭션 없음)
+ * - 변경 피드: 클라이언트는 스냅샷 버전 이후 변경만 받아 적용
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class SeatMapService {
+
+    private final SeatMapRegistry seatMapRegistry;
+
+    /**
+     * 좌석 묶음 선점 (충돌 시 null)
+     */
+    public SeatMapDto.HoldResponse hold(Long resourceId, SeatMapDto.HoldRequest request, Long userId) {
+        if (request == null || request.getSeats() == null) {
+            throw new IllegalArgumentException("선점할 좌석이 없습니다.");
+        }
+        int[] seats = request.getSeats().stream().mapToInt(Integer::intValue).toArray();
+        SeatHold hold = seatMapRegistry.hold(resourceId, userId, seats);
+        return hold != null ? convertToResponse(hold) : null;
+    }
+
+    /**
+     * 선점 해제 (없거나 이미 해제/만료되었으면 false, 본인 선점만)
+     */
+    public boolean release(Long resourceId, String holdId, Long userId) {
+        return seatMapRegistry.release(resourceId, holdId, userId) != null;
+    }
+
+    /**
+     * 좌석 배치도 스냅샷
+     */
+    public SeatMapDto.SnapshotResponse getSnapshot(Long resourceId) {
+        return convertToResponse(seatMapRegistry.get(resourceId).snapshot());
+    }
+
+    public byte[] getSnapshotBinary(Long resourceId) {
+        return SeatMapCodec.encodeSnapshot(seatMapRegistry.get(resourceId).snapshot());
+    }
+
+    /**
+     * since 이후 변경 목록 (오래된 버전이면 스냅샷 포함 reset 응답)
+     */
+    public SeatMapDto.ChangesResponse getChanges(Long resourceId, long since) {
+        SeatMap seatMap = seatMapRegistry.get(resourceId);
+        List<SeatChange> changes = seatMap.changesSince(since);
+        if (changes == null) {
+            SeatSnapshot snapshot = seatMap.snapshot();
+            return SeatMapDto.ChangesResponse.builder()
+                    .resourceId(resourceId)
+                    .since(since)
+                    .version(snapshot.version())
+                    .reset(true)
+                    .changes(List.of())
+                    .snapshot(convertToResponse(snapshot))
+                    .build();
+        }
+        return SeatMapDto.ChangesResponse.builder()
+                .resourceId(resourceId)
+                .since(since)
+                .version(lastVersion(since, changes))
+                .reset(false)
+                .changes(changes.stream()
+                        .map(change -> new SeatMapDto.Change(change.version(), change.type(), change.seats()))
+                        .toList())
+                .build();
+    }
+
+    /**
+     * since 이후 변경 목록 (바이너리, 오래된 버전이면 스냅샷)
+     */
+    public byte[] getChangesBinary(Long resourceId, long since) {
+        SeatMap seatMap = seatMapRegistry.get(resourceId);
+        List<SeatChange> changes = seatMap.changesSince(since);
+        if (changes == null) {
+            return SeatMapCodec.encodeSnapshot(seatMap.snapshot());
+        }
+        return SeatMapCodec.encodeChanges(since, lastVersion(since, changes), changes);
+    }
+
+    private static long lastVersion(long since, List<SeatChange> changes) {
+        return changes.isEmpty() ? since : changes.get(changes.size() - 1).version();
+    }
+
+    private SeatMapDto.HoldResponse convertToResponse(SeatHold hold) {
+        return SeatMapDto.HoldResponse.builder()
+                .holdId(hold.id())
+                .resourceId(hold.resourceId())
+                .seats(Arrays.stream(hold.seats()).boxed().toList())
+                .expiresAt(hold.expiresAt())
+                .version(hold.version())
+                .build();
+    }
+
+    private SeatMapDto.SnapshotResponse convertToResponse(SeatSnapshot snapshot) {
+        return SeatMapDto.SnapshotResponse.builder()
+                .resourceId(snapshot.resourceId())
+                .rows(snapshot.rows())
+                .cols(snapshot.cols())
+                .version(snapshot.version())
+                .held(Base64.getEncoder().encodeToString(snapshot.toBytes()))
+                .build();
+    }
+}
@@ -0,0 +1,144 @@
+package com.unibooker.resource.availability;
+
+import com.unibooker.resource.dto.AvailabilityDto;
+import com.unibooker.resource.entity.DayOfWeek;
+import com.unibooker.resource.entity.ResourceStatus;
+import com.unibooker.resource.entity.ResourceTimeSlots;
+import com.unibooker.resource.entity.Resources;
+import com.unibooker.resource.repository.ResourceRepository;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class AvailabilityEngineTest {
+
+    /** 2025-01-06 = 월요일 */
+    private static final LocalDate MONDAY = LocalDate.of(2025, 1, 6);
+
+    private final ResourceRepository resourceRepository = mock(ResourceRepository.class);
+    private final AvailabilityEngine engine = new AvailabilityEngine(resourceRepository, 92);
+
+    @Test
+    void weeklySlotsCompileToIntervalBitsWithinTheReservationPeriod() {
+        Resources resource = resource(1L, 30, MONDAY, MONDAY.plusDays(13),
+                slot(DayOfWeek.MON, "09:10", "11:00", true),
+                slot(DayOfWeek.MON, "23:00", "00:00", true),
+                slot(DayOfWeek.TUE, "09:00", "10:00", false),
+                slot(DayOfWeek.WED, "22:00", "02:00", true));
+        WeeklyAvailability availability = WeeklyAvailability.compile(resource);
+
+        assertThat(availability.getSlotsPerDay()).isEqualTo(48);
+        // 09:10~11:00 → 09:30, 10:00, 10:30 / 23:00~00:00 → 23:00, 23:30
+        assertThat(availability.countOpen(MONDAY)).isEqualTo(5);
+        assertThat(availability.countOpen(MONDAY.plusDays(1))).isZero();
+        assertThat(availability.countOpen(MONDAY.plusDays(2))).isZero();
+        assertThat(availability.countOpen(MONDAY.plusDays(7))).isEqualTo(5);
+        assertThat(availability.countOpen(MONDAY.plusDays(14))).isZero();
+        assertThat(availability.countOpen(MONDAY.minusDays(7))).isZero();
+        assertThat(availability.countOpen(MONDAY.minusDays(7), MONDAY.plusDays(20))).isEqualTo(10);
+
+        long[] morning = availability.windowMask(LocalTime.of(9, 30), LocalTime.of(11, 0));
+        assertThat(availability.isOpen(MONDAY, morning)).isTrue();
+        assertThat(availability.isOpen(MONDAY, availability.windowMask(LocalTime.of(9, 0), LocalTime.of(10, 0)))).isFalse();
+        assertThat(availability.isOpenEveryDay(MONDAY, MONDAY, morning)).isTrue();
+        assertThat(availability.isOpenEveryDay(MONDAY, MONDAY.plusDays(1), morning)).isFalse();
+        assertThat(availability.isOpenEveryDay(MONDAY.minusDays(7), MONDAY, morning)).isFalse();
+
+        // 1분 간격 → 하루 1440슬롯 (word 23개)
+        WeeklyAvailability fine = WeeklyAvailability.compile(2L, 1, null, null, true,
+                List.of(slot(DayOfWeek.MON, "00:00", "00:00", true)));
+        assertThat(fine.getWordsPerDay()).isEqualTo(23);
+        assertThat(fine.countOpen(MONDAY)).isEqualTo(1440);
+        assertThat(fine.nextOpen(fine.dayOffset(MONDAY), 1439)).isEqualTo(1439);
+    }
+
+    @Test
+    void engineAnswersRangeQueriesAcrossResources() {
+        engine.put(WeeklyAvailability.compile(resource(1L, 60, null, null,
+                slot(DayOfWeek.MON, "10:00", "12:00", true),
+                slot(DayOfWeek.TUE, "10:00", "12:00", true))));
+        engine.put(WeeklyAvailability.compile(resource(2L, 60, null, null,
+                slot(DayOfWeek.MON, "09:00", "18:00", true))));
+
+        AvailabilityDto.Response response = engine.availability(1L, MONDAY, MONDAY.plusDays(2));
+        assertThat(response.getTimeInterval()).isEqualTo(60);
+        assertThat(response.getDays()).hasSize(3);
+        assertThat(response.getDays().get(0).getSlots()).containsExactly(
+                new AvailabilityDto.Slot(LocalTime.of(10, 0), LocalTime.of(11, 0)),
+                new AvailabilityDto.Slot(LocalTime.of(11, 0), LocalTime.of(12, 0)));
+        assertThat(response.getDays().get(2).getDayOfWeek()).isEqualTo(DayOfWeek.WED);
+        assertThat(response.getDays().get(2).getSlots()).isEmpty();
+
+        List<Long> ids = List.of(1L, 2L);
+        assertThat(engine.findAvailable(ids, MONDAY, MONDAY, LocalTime.of(10, 0), LocalTime.of(12, 0)))
+                .containsExactly(1L, 2L);
+        assertThat(engine.findAvailable(ids, MONDAY, MONDAY.plusDays(1), LocalTime.of(10, 30), LocalTime.of(11, 0)))
+                .containsExactly(1L);
+        assertThat(engine.countOpenSlots(ids, MONDAY, MONDAY.plusDays(13))).isEqualTo(2 * (2 + 2 + 9));
+
+        assertThatThrownBy(() -> engine.availability(1L, MONDAY, MONDAY.plusDays(92)))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> engine.availability(1L, MONDAY, MONDAY.minusDays(1)))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void changedResourceIsRecompiledOnNextRead() {
+        Resources before = resource(1L, 60, null, null, slot(DayOfWeek.MON, "10:00", "12:00", true));
+        Resources after = resource(1L, 60, null, null, slot(DayOfWeek.MON, "10:00", "15:00", true));
+        when(resourceRepository.findWithTimeSlotsById(1L))
+                .thenReturn(Optional.of(before))
+                .thenReturn(Optional.of(after));
+        when(resourceRepository.findAllWithTimeSlotsByIdIn(anyCollection())).thenReturn(List.of());
+
+        assertThat(engine.get(1L).countOpen(MONDAY)).isEqualTo(2);
+        assertThat(engine.get(1L).countOpen(MONDAY)).isEqualTo(2);
+        verify(resourceRepository, times(1)).findWithTimeSlotsById(1L);
+
+        engine.onScheduleChanged(new ResourceScheduleChangedEvent(1L));
+        assertThat(engine.get(1L).countOpen(MONDAY)).isEqualTo(5);
+        verify(resourceRepository, times(2)).findWithTimeSlotsById(1L);
+
+        // 삭제/없는 리소스는 결과에서 제외
+        assertThat(engine.getAll(List.of(1L, 99L))).hasSize(1);
+        assertThatThrownBy(() -> engine.availability(99L, MONDAY, MONDAY))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private static Resources resource(Long id, int interval, LocalDate startDate, LocalDate endDate,
+                                      ResourceTimeSlots... slots) {
+        Resources resource = Resources.builder()
+                .name("room-" + id)
+                .timeInterval(interval)
+                .startDate(startDate)
+                .endDate(endDate)
+                .capacity(4)
+                .status(ResourceStatus.IN_PROGRESS)
+                .build();
+        resource.setId(id);
+        for (ResourceTimeSlots slot : slots) {
+            resource.addTimeSlot(slot);
+        }
+        return resource;
+    }
+
+    private static ResourceTimeSlots slot(DayOfWeek day, String start, String end, boolean active) {
+        return ResourceTimeSlots.builder()
+                .dayOfWeek(day)
+                .startTime(LocalTime.parse(start))
+                .endTime(LocalTime.parse(end))
+                .isActive(active)
+                .build();
+    }
+}
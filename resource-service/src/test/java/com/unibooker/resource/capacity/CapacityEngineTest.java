@@ -0,0 +1,334 @@
+package com.unibooker.resource.capacity;
+
+import com.unibooker.resource.availability.AvailabilityEngine;
+import com.unibooker.resource.availability.ResourceScheduleChangedEvent;
+import com.unibooker.resource.availability.WeeklyAvailability;
+import com.unibooker.resource.entity.DayOfWeek;
+import com.unibooker.resource.entity.ResourceStatus;
+import com.unibooker.resource.entity.ResourceTimeSlots;
+import com.unibooker.resource.entity.Resources;
+import com.unibooker.resource.repository.ResourceReservationRepository;
+import com.unibooker.resource.repository.ResourceRepository;
+import com.unibooker.resource.service.CapacityService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.TransientDataAccessResourceException;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class CapacityEngineTest {
+
+    /** 2025-01-06 = 월요일 */
+    private static final LocalDateTime SLOT = LocalDateTime.of(2025, 1, 6, 10, 0);
+
+    private final ResourceRepository resourceRepository = mock(ResourceRepository.class);
+    private final ResourceReservationRepository reservationRepository = mock(ResourceReservationRepository.class);
+    private final AvailabilityEngine availabilityEngine = new AvailabilityEngine(resourceRepository, 92);
+    private final MutableClock clock = new MutableClock(SLOT.minusHours(2).toInstant(ZoneOffset.UTC));
+    private final List<List<ConfirmedReservation>> written = new CopyOnWriteArrayList<>();
+    private final ReservationJournal journal = new ReservationJournal(written::add, 100, 10_000,
+            Duration.ofMillis(1), Duration.ofSeconds(5));
+    private final CapacityEngine engine = new CapacityEngine(availabilityEngine, reservationRepository, journal,
+            Duration.ofMinutes(5), 8, Duration.ofDays(90), clock);
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        journal.shutdown();
+    }
+
+    @Test
+    void concurrentHoldsNeverExceedRemainingCapacity() throws Exception {
+        availabilityEngine.put(availability(1L, 100));
+        when(reservationRepository.sumQuantity(1L, SLOT)).thenReturn(20L);
+        int threads = 8;
+        ExecutorService workers = Executors.newFixedThreadPool(threads);
+        CountDownLatch done = new CountDownLatch(threads);
+        List<CapacityHold> kept = new CopyOnWriteArrayList<>();
+        AtomicInteger soldOut = new AtomicInteger();
+
+        for (int t = 0; t < threads; t++) {
+            workers.execute(() -> {
+                ThreadLocalRandom random = ThreadLocalRandom.current();
+                List<CapacityHold> mine = new ArrayList<>();
+                try {
+                    for (int i = 0; i < 5_000; i++) {
+                        CapacityHold hold = engine.hold(1L, SLOT, 1 + random.nextInt(3), 7L);
+                        if (hold == null) {
+                            soldOut.incrementAndGet();
+                        } else {
+                            mine.add(hold);
+                        }
+                        if (!mine.isEmpty() && random.nextInt(3) == 0) {
+                            engine.release(mine.remove(random.nextInt(mine.size())).id());
+                        }
+                    }
+                    kept.addAll(mine);
+                } finally {
+                    done.countDown();
+                }
+            });
+        }
+        assertThat(done.await(60, TimeUnit.SECONDS)).isTrue();
+        workers.shutdown();
+
+        int held = kept.stream().mapToInt(CapacityHold::quantity).sum();
+        assertThat(soldOut.get()).isPositive();
+        assertThat(held).isLessThanOrEqualTo(80);
+        assertThat(held + engine.available(1L, SLOT)).isEqualTo(80);
+        assertThat(engine.activeHolds()).isEqualTo(kept.size());
+
+        kept.forEach(hold -> engine.release(hold.id()));
+        assertThat(engine.available(1L, SLOT)).isEqualTo(80);
+    }
+
+    @Test
+    void expiredHoldsReturnCapacityAndCapacityCutsAreRepaidByReleases() {
+        availabilityEngine.put(availability(1L, 5));
+        when(reservationRepository.sumQuantity(1L, SLOT)).thenReturn(0L);
+
+        CapacityHold hold = engine.hold(1L, SLOT, 5, 7L);
+        assertThat(hold).isNotNull();
+        assertThat(engine.hold(1L, SLOT, 1, 8L)).isNull();
+
+        clock.advance(Duration.ofMinutes(6));
+        engine.releaseExpired();
+        assertThat(engine.available(1L, SLOT)).isEqualTo(5);
+        assertThatThrownBy(() -> engine.confirm(hold.id())).isInstanceOf(IllegalArgumentException.class);
+
+        // 4명 선점 중 수용 인원 5 → 2: 잔여 1을 차감하고 부족분 2는 반환 시 상환
+        CapacityHold four = engine.hold(1L, SLOT, 4, 7L);
+        Resources resized = resource(1L, 2);
+        when(resourceRepository.findWithTimeSlotsById(1L)).thenReturn(Optional.of(resized));
+        engine.onResourceChanged(new ResourceScheduleChangedEvent(1L));
+        assertThat(engine.available(1L, SLOT)).isZero();
+        assertThat(engine.hold(1L, SLOT, 1, 8L)).isNull();
+
+        engine.release(four.id());
+        assertThat(engine.available(1L, SLOT)).isEqualTo(2);
+        assertThat(engine.hold(1L, SLOT, 3, 8L)).isNull();
+        assertThat(engine.hold(1L, SLOT, 2, 8L)).isNotNull();
+
+        assertThatThrownBy(() -> engine.hold(1L, SLOT.withHour(3), 1, 7L))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> engine.hold(1L, SLOT.plusMinutes(30), 1, 7L))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void journalGroupsConfirmationsIntoBatchesAndRetriesFailedWrites() throws Exception {
+        CountDownLatch firstWrite = new CountDownLatch(1);
+        CountDownLatch unblock = new CountDownLatch(1);
+        AtomicInteger failures = new AtomicInteger();
+        List<Integer> batchSizes = new CopyOnWriteArrayList<>();
+        ReservationJournal blocking = new ReservationJournal(batch -> {
+            firstWrite.countDown();
+            try {
+                unblock.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            if (batch.size() > 1 && failures.compareAndSet(0, 1)) {
+                throw new TransientDataAccessResourceException("일시 장애");
+            }
+            batchSizes.add(batch.size());
+        }, 20, 10_000, Duration.ofMillis(1), Duration.ofSeconds(5));
+        try {
+            List<CompletableFuture<Void>> futures = new ArrayList<>();
+            futures.add(blocking.append(reservation(0)));
+            assertThat(firstWrite.await(5, TimeUnit.SECONDS)).isTrue();
+            for (int i = 1; i <= 50; i++) {
+                futures.add(blocking.append(reservation(i)));
+            }
+            assertThat(futures.get(1)).isNotDone();
+
+            unblock.countDown();
+            CompletableFuture.allOf(futures.toArray(CompletableFuture[]::new)).get(5, TimeUnit.SECONDS);
+            assertThat(batchSizes).containsExactly(1, 20, 20, 10);
+            assertThat(failures.get()).isEqualTo(1);
+        } finally {
+            blocking.shutdown();
+        }
+    }
+
+    @Test
+    void availableDoesNotCacheCountersAndRejectsSlotsBeyondHorizon() {
+        availabilityEngine.put(availability(1L, 10));
+        when(reservationRepository.sumQuantity(1L, SLOT)).thenReturn(3L).thenReturn(4L);
+
+        // 카운터가 없으면 매번 DB 합계로 계산 (조회만으로 카운터를 만들지 않음)
+        assertThat(engine.available(1L, SLOT)).isEqualTo(7);
+        assertThat(engine.available(1L, SLOT)).isEqualTo(6);
+        verify(reservationRepository, times(2)).sumQuantity(1L, SLOT);
+
+        // 선점 후에는 카운터에서 응답
+        assertThat(engine.hold(1L, SLOT, 2, 7L)).isNotNull();
+        assertThat(engine.available(1L, SLOT)).isEqualTo(4);
+        verify(reservationRepository, times(3)).sumQuantity(1L, SLOT);
+
+        LocalDateTime farSlot = SLOT.plusWeeks(13);
+        assertThatThrownBy(() -> engine.available(1L, farSlot)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> engine.hold(1L, farSlot, 1, 7L)).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void permanentWriteFailureFailsOnlyThatReservationAndReturnsCapacity() throws Exception {
+        ReservationJournal failing = new ReservationJournal(batch -> {
+            if (batch.stream().anyMatch(reservation -> reservation.userId() == 8L)) {
+                throw new DataIntegrityViolationException("영구 오류");
+            }
+            written.add(batch);
+        }, 100, 10_000, Duration.ofMillis(1), Duration.ofSeconds(5));
+        CapacityEngine failingEngine = new CapacityEngine(availabilityEngine, reservationRepository, failing,
+                Duration.ofMinutes(5), 8, Duration.ofDays(90), clock);
+        try {
+            availabilityEngine.put(availability(1L, 5));
+            when(reservationRepository.sumQuantity(1L, SLOT)).thenReturn(0L);
+            CapacityHold good = failingEngine.hold(1L, SLOT, 2, 7L);
+            CapacityHold bad = failingEngine.hold(1L, SLOT, 3, 8L);
+
+            CompletableFuture<ConfirmedReservation> ok = failingEngine.confirm(good.id());
+            CompletableFuture<ConfirmedReservation> failed = failingEngine.confirm(bad.id());
+
+            assertThat(ok.get(5, TimeUnit.SECONDS).holdId()).isEqualTo(good.id());
+            assertThatThrownBy(() -> failed.get(5, TimeUnit.SECONDS))
+                    .isInstanceOf(ExecutionException.class)
+                    .hasCauseInstanceOf(DataIntegrityViolationException.class);
+            assertThat(failingEngine.available(1L, SLOT)).isEqualTo(3);
+        } finally {
+            failing.shutdown();
+        }
+    }
+
+    @Test
+    void shutdownDrainsBacklogAndFailsWhatCannotBePersisted() throws Exception {
+        List<Integer> persisted = new CopyOnWriteArrayList<>();
+        ReservationJournal slow = new ReservationJournal(batch -> {
+            sleep(5);
+            persisted.add(batch.size());
+        }, 5, 10_000, Duration.ofMillis(1), Duration.ofSeconds(5));
+        List<CompletableFuture<Void>> drained = new ArrayList<>();
+        for (int i = 0; i < 30; i++) {
+            drained.add(slow.append(reservation(i)));
+        }
+        slow.shutdown();
+        assertThat(drained).allMatch(future -> future.isDone() && !future.isCompletedExceptionally());
+        assertThat(persisted.stream().mapToInt(Integer::intValue).sum()).isEqualTo(30);
+        assertThatThrownBy(() -> slow.append(reservation(30))).isInstanceOf(IllegalStateException.class);
+
+        // 저장소가 계속 일시 장애면 shutdown-timeout 후 재시도를 멈추고 남은 건을 실패 처리
+        ReservationJournal down = new ReservationJournal(batch -> {
+            throw new TransientDataAccessResourceException("연결 실패");
+        }, 5, 10_000, Duration.ofMillis(10), Duration.ofMillis(300));
+        List<CompletableFuture<Void>> lost = new ArrayList<>();
+        for (int i = 0; i < 20; i++) {
+            lost.add(down.append(reservation(i)));
+        }
+        long started = System.nanoTime();
+        down.shutdown();
+        assertThat(Duration.ofNanos(System.nanoTime() - started)).isLessThan(Duration.ofSeconds(3));
+        assertThat(lost).allMatch(CompletableFuture::isCompletedExceptionally);
+    }
+
+    @Test
+    void onlyHoldOwnerCanConfirmOrRelease() throws Exception {
+        availabilityEngine.put(availability(1L, 5));
+        when(reservationRepository.sumQuantity(1L, SLOT)).thenReturn(0L);
+        CapacityService service = new CapacityService(engine, Duration.ofSeconds(5));
+        CapacityHold hold = engine.hold(1L, SLOT, 2, 7L);
+
+        assertThatThrownBy(() -> service.release(1L, hold.id(), 8L)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> service.confirm(1L, hold.id(), 8L)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> service.confirm(1L, hold.id(), null)).isInstanceOf(IllegalArgumentException.class);
+        assertThat(engine.getHold(hold.id())).isNotNull();
+
+        assertThat(service.confirm(1L, hold.id(), 7L).getPersisted()).isTrue();
+        assertThat(engine.available(1L, SLOT)).isEqualTo(3);
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static ConfirmedReservation reservation(int i) {
+        return new ConfirmedReservation("hold-" + i, 1L, SLOT, 1, (long) i, SLOT.minusHours(1));
+    }
+
+    private static WeeklyAvailability availability(Long id, int capacity) {
+        return WeeklyAvailability.compile(resource(id, capacity));
+    }
+
+    private static Resources resource(Long id, int capacity) {
+        Resources resource = Resources.builder()
+                .name("room-" + id)
+                .timeInterval(60)
+                .capacity(capacity)
+                .status(ResourceStatus.IN_PROGRESS)
+                .build();
+        resource.setId(id);
+        resource.addTimeSlot(ResourceTimeSlots.builder()
+                .dayOfWeek(DayOfWeek.MON)
+                .startTime(LocalTime.of(9, 0))
+                .endTime(LocalTime.of(18, 0))
+                .isActive(true)
+                .build());
+        return resource;
+    }
+
+    private static final class MutableClock extends Clock {
+
+        private volatile Instant now;
+
+        private MutableClock(Instant now) {
+            this.now = now;
+        }
+
+        void advance(Duration duration) {
+            now = now.plus(duration);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return now;
+        }
+    }
+}
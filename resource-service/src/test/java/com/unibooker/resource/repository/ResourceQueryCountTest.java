@@ -0,0 +1,150 @@
+package com.unibooker.resource.repository;
+
+import com.unibooker.resource.availability.AvailabilityEngine;
+import com.unibooker.resource.dto.BatchGetDto;
+import com.unibooker.resource.dto.ResourceDto;
+import com.unibooker.resource.dto.ResourceGroupDto;
+import com.unibooker.resource.entity.DayOfWeek;
+import com.unibooker.resource.entity.ResourceGroups;
+import com.unibooker.resource.entity.ResourceStatus;
+import com.unibooker.resource.entity.ResourceTimeSlots;
+import com.unibooker.resource.entity.Resources;
+import com.unibooker.resource.entity.ServiceCategory;
+import com.unibooker.resource.service.BatchGetSupport;
+import com.unibooker.resource.service.ResourceGroupService;
+import com.unibooker.resource.service.ResourceService;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 조회 경로 쿼리 수 (목록/단건 모두 SQL 1회, N+1 회귀 방지)
+ */
+@DataJpaTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:resource-query-count;MODE=MariaDB;NON_KEYWORDS=ROW",
+        "spring.datasource.driver-class-name=org.h2.Driver",
+        "spring.datasource.username=sa",
+        "spring.datasource.password=",
+        "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+        "spring.jpa.properties.hibernate.generate_statistics=true",
+        "spring.jpa.show-sql=false"
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import({ResourceService.class, ResourceGroupService.class, AvailabilityEngine.class, BatchGetSupport.class})
+class ResourceQueryCountTest {
+
+    private static final long COMPANY_ID = 10L;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private ResourceService resourceService;
+
+    @Autowired
+    private ResourceGroupService resourceGroupService;
+
+    private final List<Long> groupIds = new ArrayList<>();
+    private final List<Long> resourceIds = new ArrayList<>();
+    private Long groupId;
+    private Long resourceId;
+
+    @BeforeEach
+    void setUp() {
+        for (int g = 0; g < 3; g++) {
+            ResourceGroups group = ResourceGroups.builder()
+                    .name("group-" + g)
+                    .category(ServiceCategory.RESERVATION)
+                    .companyId(COMPANY_ID)
+                    .build();
+            entityManager.persist(group);
+            for (int r = 0; r < 5; r++) {
+                Resources resource = Resources.builder()
+                        .name("room-" + g + "-" + r)
+                        .capacity(4)
+                        .timeInterval(60)
+                        .status(ResourceStatus.IN_PROGRESS)
+                        .resourceGroup(group)
+                        .build();
+                resource.addTimeSlot(ResourceTimeSlots.builder()
+                        .dayOfWeek(DayOfWeek.MON)
+                        .startTime(LocalTime.of(9, 0))
+                        .endTime(LocalTime.of(18, 0))
+                        .isActive(true)
+                        .build());
+                entityManager.persist(resource);
+                resourceId = resource.getId();
+                resourceIds.add(resourceId);
+            }
+            groupId = group.getId();
+            groupIds.add(groupId);
+        }
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    @Test
+    void resourceReadPathsRunOneStatement() {
+        List<ResourceDto.Response> resources = countQueries(1, () -> resourceService.getResourcesByGroup(groupId));
+        assertThat(resources).hasSize(5);
+        assertThat(resources).allSatisfy(resource -> assertThat(resource.getResourceGroupId()).isEqualTo(groupId));
+
+        ResourceDto.Response resource = countQueries(1, () -> resourceService.getResource(resourceId));
+        assertThat(resource.getName()).isEqualTo("room-2-4");
+        assertThat(resource.getResourceGroupId()).isEqualTo(groupId);
+        assertThat(resource.getCapacity()).isEqualTo(4);
+    }
+
+    @Test
+    void resourceGroupReadPathsRunOneStatement() {
+        List<ResourceGroupDto.Response> groups = countQueries(1,
+                () -> resourceGroupService.getResourceGroupsByCompany(COMPANY_ID));
+        assertThat(groups).hasSize(3);
+
+        ResourceGroupDto.Response group = countQueries(1, () -> resourceGroupService.getResourceGroup(groupId));
+        assertThat(group.getName()).isEqualTo("group-2");
+        assertThat(group.getCompanyId()).isEqualTo(COMPANY_ID);
+    }
+
+    @Test
+    void batchReadsRunOneInQueryAndKeepRequestOrder() {
+        List<Long> ids = List.of(resourceIds.get(7), 999L, resourceIds.get(0), resourceIds.get(7), resourceIds.get(14));
+        BatchGetDto.Result<ResourceDto.Response> resources = countQueries(1, () -> resourceService.getResources(ids));
+        assertThat(resources.getItems()).extracting(ResourceDto.Response::getId)
+                .containsExactly(resourceIds.get(7), resourceIds.get(0), resourceIds.get(14));
+        assertThat(resources.getMissingIds()).containsExactly(999L);
+
+        List<Long> groups = List.of(groupIds.get(2), groupIds.get(0), -1L);
+        BatchGetDto.Result<ResourceGroupDto.Response> found = countQueries(1,
+                () -> resourceGroupService.getResourceGroups(groups));
+        assertThat(found.getItems()).extracting(ResourceGroupDto.Response::getName)
+                .containsExactly("group-2", "group-0");
+        assertThat(found.getMissingIds()).containsExactly(-1L);
+    }
+
+    private <T> T countQueries(long expected, Supplier<T> read) {
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        entityManager.clear();
+        statistics.clear();
+        T result = read.get();
+        assertThat(statistics.getPrepareStatementCount()).as("실행된 SQL 수").isEqualTo(expected);
+        return result;
+    }
+}
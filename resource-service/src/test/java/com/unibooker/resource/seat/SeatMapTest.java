@@ -0,0 +1,230 @@
+package com.unibooker.resource.seat;
+
+import com.unibooker.resource.availability.ResourceScheduleChangedEvent;
+import com.unibooker.resource.entity.ResourceGroups;
+import com.unibooker.resource.entity.ResourceStatus;
+import com.unibooker.resource.entity.Resources;
+import com.unibooker.resource.entity.ServiceCategory;
+import com.unibooker.resource.repository.ResourceRepository;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class SeatMapTest {
+
+    private static final Instant NOW = Instant.parse("2025-03-01T10:00:00Z");
+    private static final Long USER_ID = 7L;
+
+    @Test
+    void contendedHoldsOnLargeVenueNeverOverlapAndFeedReplaysToFinalState() throws Exception {
+        // 250 × 200 = 50,000석, 앞쪽 1,000석에 선점 집중
+        SeatMap seatMap = new SeatMap(1L, 250, 200, 1024);
+        int threads = 8;
+        ExecutorService workers = Executors.newFixedThreadPool(threads + 1);
+        CountDownLatch done = new CountDownLatch(threads);
+        ConcurrentLinkedQueue<SeatHold> active = new ConcurrentLinkedQueue<>();
+        AtomicInteger conflicts = new AtomicInteger();
+        AtomicBoolean running = new AtomicBoolean(true);
+
+        for (int t = 0; t < threads; t++) {
+            workers.execute(() -> {
+                ThreadLocalRandom random = ThreadLocalRandom.current();
+                List<SeatHold> mine = new ArrayList<>();
+                try {
+                    for (int i = 0; i < 20_000; i++) {
+                        int start = random.nextInt(random.nextInt(10) == 0 ? 49_900 : 990);
+                        int[] block = {start, start + 1, start + 2, start + 3, start + 64};
+                        SeatHold hold = seatMap.hold(block, USER_ID, NOW);
+                        if (hold == null) {
+                            conflicts.incrementAndGet();
+                        } else {
+                            mine.add(hold);
+                        }
+                        if (mine.size() > 20 || (!mine.isEmpty() && random.nextInt(3) == 0)) {
+                            assertThat(seatMap.release(mine.remove(random.nextInt(mine.size())).id())).isNotNull();
+                        }
+                    }
+                    active.addAll(mine);
+                } finally {
+                    done.countDown();
+                }
+            });
+        }
+
+        // 스냅샷 + 변경 피드를 따라가는 클라이언트
+        BitSet replica = new BitSet();
+        long[] replicaVersion = new long[1];
+        AtomicInteger resets = new AtomicInteger();
+        CountDownLatch readerDone = new CountDownLatch(1);
+        resetFromSnapshot(seatMap, replica, replicaVersion);
+        workers.execute(() -> {
+            while (running.get()) {
+                follow(seatMap, replica, replicaVersion, resets);
+            }
+            readerDone.countDown();
+        });
+
+        assertThat(done.await(60, TimeUnit.SECONDS)).isTrue();
+        running.set(false);
+        assertThat(readerDone.await(10, TimeUnit.SECONDS)).isTrue();
+        workers.shutdown();
+        follow(seatMap, replica, replicaVersion, resets);
+
+        // 진행 중인 선점끼리 좌석이 겹치지 않고, 비트셋과 정확히 일치
+        BitSet expected = new BitSet();
+        int expectedCount = 0;
+        for (SeatHold hold : active) {
+            for (int seat : hold.seats()) {
+                assertThat(expected.get(seat)).isFalse();
+                expected.set(seat);
+                expectedCount++;
+            }
+        }
+        assertThat(conflicts.get()).isPositive();
+        assertThat(seatMap.activeHolds()).isEqualTo(active.size());
+        assertThat(seatMap.heldCount()).isEqualTo(expectedCount);
+        assertThat(BitSet.valueOf(seatMap.snapshot().words())).isEqualTo(expected);
+        assertThat(replica).isEqualTo(expected);
+    }
+
+    @Test
+    void expiredHoldsAreReleasedAndStaleVersionsReset() {
+        SeatMap seatMap = new SeatMap(1L, 10, 10, 4);
+        long initial = seatMap.getVersion();
+        SeatHold first = seatMap.hold(new int[]{5, 3, 3, 4}, USER_ID, NOW);
+        assertThat(first.seats()).containsExactly(3, 4, 5);
+        assertThat(seatMap.hold(new int[]{1, 2, 3}, USER_ID, NOW.plusSeconds(60))).isNull();
+        // 충돌 전에 잡은 word가 없으면 기록도 없음
+        assertThat(seatMap.getVersion()).isEqualTo(initial + 1);
+        SeatHold second = seatMap.hold(new int[]{1, 2, 99}, USER_ID, NOW.plusSeconds(60));
+        assertThat(second).isNotNull();
+        assertThatThrownBy(() -> seatMap.hold(new int[]{100}, USER_ID, NOW)).isInstanceOf(IllegalArgumentException.class);
+
+        assertThat(seatMap.releaseExpired(NOW)).isEqualTo(1);
+        assertThat(seatMap.release(first.id())).isNull();
+        assertThat(seatMap.isHeld(3)).isFalse();
+        assertThat(seatMap.isHeld(99)).isTrue();
+
+        List<SeatChange> changes = seatMap.changesSince(initial);
+        assertThat(changes).extracting(SeatChange::type)
+                .containsExactly(SeatChange.Type.HOLD, SeatChange.Type.HOLD, SeatChange.Type.RELEASE);
+        assertThat(seatMap.changesSince(seatMap.getVersion())).isEmpty();
+
+        seatMap.release(second.id());
+        seatMap.hold(new int[]{7}, USER_ID, NOW);
+        // 링 버퍼(4건)보다 오래된 버전 / 다른 배치도 버전
+        assertThat(seatMap.changesSince(initial)).isNull();
+        assertThat(seatMap.changesSince(seatMap.getVersion() + 1)).isNull();
+
+        byte[] held = seatMap.snapshot().toBytes();
+        assertThat(held).hasSize(13);
+        assertThat(held[0]).isEqualTo((byte) 0x80);
+    }
+
+    @Test
+    void registryOnlyServesSeatResourcesAndDropsMapWhenLayoutChanges() {
+        ResourceRepository repository = mock(ResourceRepository.class);
+        SeatMapRegistry registry = new SeatMapRegistry(repository, Duration.ofMinutes(10), 1024, 100_000, 4,
+                Clock.fixed(NOW, ZoneOffset.UTC));
+        when(repository.findWithResourceGroupById(1L)).thenReturn(Optional.of(resource(1L, ServiceCategory.SEAT, 250, 200)));
+        when(repository.findWithResourceGroupById(2L)).thenReturn(Optional.of(resource(2L, ServiceCategory.RESERVATION, 5, 5)));
+        when(repository.findWithResourceGroupById(3L)).thenReturn(Optional.of(resource(3L, ServiceCategory.SEAT, 1000, 1000)));
+
+        SeatHold hold = registry.hold(1L, USER_ID, new int[]{0, 1});
+        assertThat(hold.expiresAt()).isEqualTo(NOW.plus(Duration.ofMinutes(10)));
+        assertThat(registry.get(1L).getSeatCount()).isEqualTo(50_000);
+        assertThatThrownBy(() -> registry.get(2L)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> registry.get(3L)).isInstanceOf(IllegalArgumentException.class);
+
+        // 행/열 그대로면 유지, 바뀌면 폐기
+        registry.onResourceChanged(new ResourceScheduleChangedEvent(1L));
+        assertThat(registry.get(1L).getHold(hold.id())).isNotNull();
+        when(repository.findWithResourceGroupById(1L)).thenReturn(Optional.of(resource(1L, ServiceCategory.SEAT, 100, 100)));
+        registry.onResourceChanged(new ResourceScheduleChangedEvent(1L));
+        assertThat(registry.get(1L).getSeatCount()).isEqualTo(10_000);
+        assertThat(registry.get(1L).getHold(hold.id())).isNull();
+    }
+
+    @Test
+    void registryChecksHoldOwnerAndSeatsPerHold() {
+        ResourceRepository repository = mock(ResourceRepository.class);
+        SeatMapRegistry registry = new SeatMapRegistry(repository, Duration.ofMinutes(10), 1024, 100_000, 4,
+                Clock.fixed(NOW, ZoneOffset.UTC));
+        when(repository.findWithResourceGroupById(1L)).thenReturn(Optional.of(resource(1L, ServiceCategory.SEAT, 10, 10)));
+
+        assertThatThrownBy(() -> registry.hold(1L, USER_ID, new int[]{0, 1, 2, 3, 4}))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> registry.hold(1L, USER_ID, new int[0]))
+                .isInstanceOf(IllegalArgumentException.class);
+
+        SeatHold hold = registry.hold(1L, USER_ID, new int[]{0, 1, 2, 3});
+        assertThat(hold.userId()).isEqualTo(USER_ID);
+        assertThatThrownBy(() -> registry.release(1L, hold.id(), USER_ID + 1))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThat(registry.get(1L).isHeld(0)).isTrue();
+
+        assertThat(registry.release(1L, hold.id(), USER_ID)).isNotNull();
+        assertThat(registry.release(1L, hold.id(), USER_ID)).isNull();
+        assertThat(registry.get(1L).heldCount()).isZero();
+    }
+
+    private static void follow(SeatMap seatMap, BitSet replica, long[] version, AtomicInteger resets) {
+        List<SeatChange> changes = seatMap.changesSince(version[0]);
+        if (changes == null) {
+            resets.incrementAndGet();
+            resetFromSnapshot(seatMap, replica, version);
+            return;
+        }
+        for (SeatChange change : changes) {
+            for (int seat : change.seats()) {
+                replica.set(seat, change.type() == SeatChange.Type.HOLD);
+            }
+            version[0] = change.version();
+        }
+    }
+
+    private static void resetFromSnapshot(SeatMap seatMap, BitSet replica, long[] version) {
+        SeatSnapshot snapshot = seatMap.snapshot();
+        replica.clear();
+        replica.or(BitSet.valueOf(snapshot.words()));
+        version[0] = snapshot.version();
+    }
+
+    private static Resources resource(Long id, ServiceCategory category, int rows, int cols) {
+        ResourceGroups group = ResourceGroups.builder()
+                .name("venue")
+                .category(category)
+                .companyId(7L)
+                .build();
+        Resources resource = Resources.builder()
+                .name("hall-" + id)
+                .capacity(rows * cols)
+                .row(rows)
+                .col(cols)
+                .status(ResourceStatus.IN_PROGRESS)
+                .resourceGroup(group)
+                .build();
+        resource.setId(id);
+        return resource;
+    }
+}